@@ -0,0 +1,193 @@
+package com.swiftevents.benchmark;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.api.hooks.HookManager;
+import com.swiftevents.chat.ChatManager;
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.events.Event;
+import com.swiftevents.hud.HUDManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Shared fixtures for the JMH benchmarks. Mirrors the mocking approach used by the unit tests so
+ * that managers can be constructed without a running server.
+ */
+public final class BenchmarkSupport {
+
+    private static final Logger QUIET_LOGGER = Logger.getLogger("SwiftEvents-Benchmark");
+
+    static {
+        QUIET_LOGGER.setLevel(Level.OFF);
+        QUIET_LOGGER.setUseParentHandlers(false);
+    }
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Installs a mocked {@link Server} into {@link Bukkit} so static Bukkit calls made by the
+     * managers resolve to no-ops. Safe to call more than once.
+     */
+    public static Server installServer() {
+        try {
+            Field serverField = Bukkit.class.getDeclaredField("server");
+            serverField.setAccessible(true);
+            Object current = serverField.get(null);
+            if (current instanceof Server server) {
+                return server;
+            }
+
+            Server server = mock(Server.class, withSettings().lenient());
+            BukkitScheduler scheduler = mock(BukkitScheduler.class, withSettings().lenient());
+            PluginManager pluginManager = mock(PluginManager.class, withSettings().lenient());
+            when(server.getScheduler()).thenReturn(scheduler);
+            when(server.getPluginManager()).thenReturn(pluginManager);
+            when(server.getLogger()).thenReturn(QUIET_LOGGER);
+
+            // Run main-thread tasks inline, as the unit tests do, so loads complete synchronously
+            when(scheduler.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation -> {
+                invocation.getArgument(1, Runnable.class).run();
+                return null;
+            });
+
+            serverField.set(null, server);
+            return server;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install mocked server", e);
+        }
+    }
+
+    public static Logger quietLogger() {
+        return QUIET_LOGGER;
+    }
+
+    /**
+     * Creates a plugin mock wired to a mocked {@link ConfigManager}, hooks, HUD and chat. The
+     * database manager is a mock whose futures complete immediately, so storage cost is excluded;
+     * {@code storedEvents} is what it hands back from {@code loadAllEvents()} and {@code streamAllEvents}.
+     */
+    public static SwiftEventsPlugin mockPlugin(List<Event> storedEvents) {
+        SwiftEventsPlugin plugin = mock(SwiftEventsPlugin.class, withSettings().lenient());
+        ConfigManager configManager = mock(ConfigManager.class, withSettings().lenient());
+        DatabaseManager databaseManager = mock(DatabaseManager.class, withSettings().lenient());
+        HookManager hookManager = mock(HookManager.class, withSettings().lenient());
+        HUDManager hudManager = mock(HUDManager.class, withSettings().lenient());
+        ChatManager chatManager = mock(ChatManager.class, withSettings().lenient());
+
+        when(plugin.getConfigManager()).thenReturn(configManager);
+        when(plugin.getDatabaseManager()).thenReturn(databaseManager);
+        when(plugin.getHookManager()).thenReturn(hookManager);
+        when(plugin.getHUDManager()).thenReturn(hudManager);
+        when(plugin.getChatManager()).thenReturn(chatManager);
+        when(plugin.getLogger()).thenReturn(QUIET_LOGGER);
+
+        when(configManager.isDatabaseEnabled()).thenReturn(false);
+        when(configManager.getAutoSaveInterval()).thenReturn(300);
+        when(configManager.getMaxConcurrentEvents()).thenReturn(Integer.MAX_VALUE);
+        when(configManager.getMaxEventsPerPlayer()).thenReturn(Integer.MAX_VALUE);
+        when(configManager.getPlayerCooldown()).thenReturn(0);
+        when(configManager.getPrefix()).thenReturn("");
+
+        when(hookManager.callEventPreStart(any(Event.class))).thenReturn(true);
+
+        when(databaseManager.loadAllEvents()).thenReturn(CompletableFuture.completedFuture(new ArrayList<>(storedEvents)));
+        when(databaseManager.streamAllEvents(any(), anyLong())).thenAnswer(invocation -> {
+            Consumer<List<Event>> batchConsumer = invocation.getArgument(0);
+            batchConsumer.accept(new ArrayList<>(storedEvents));
+            return CompletableFuture.completedFuture(storedEvents.size());
+        });
+        when(databaseManager.saveEvent(any(Event.class))).thenReturn(CompletableFuture.completedFuture(true));
+        when(databaseManager.saveEvents(any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(databaseManager.deleteEvent(anyString())).thenReturn(CompletableFuture.completedFuture(true));
+        return plugin;
+    }
+
+    /**
+     * Builds a deterministic population of events with a realistic mix of types, statuses,
+     * participants, rewards and metadata.
+     */
+    public static List<Event> createEvents(int count, List<UUID> players, long seed) {
+        Random random = new Random(seed);
+        Event.EventType[] types = Event.EventType.values();
+        Event.EventStatus[] statuses = Event.EventStatus.values();
+        long now = System.currentTimeMillis();
+
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event("Benchmark Event " + i, "Synthetic event number " + i + " used for benchmarking",
+                    types[random.nextInt(types.length)], players.isEmpty() ? null : players.get(random.nextInt(players.size())));
+            event.setStatus(statuses[random.nextInt(statuses.length)]);
+            event.setMaxParticipants(random.nextBoolean() ? -1 : 20 + random.nextInt(200));
+            event.setStartTime(now - random.nextInt(3_600_000));
+            event.setEndTime(now + random.nextInt(7_200_000));
+            if (random.nextInt(3) == 0) {
+                event.setLocation("world", random.nextInt(2000) - 1000, 64, random.nextInt(2000) - 1000);
+            }
+            int participantCount = players.isEmpty() ? 0 : random.nextInt(Math.min(16, players.size()) + 1);
+            for (int p = 0; p < participantCount; p++) {
+                event.addParticipant(players.get(random.nextInt(players.size())));
+            }
+            event.addReward("give {player} diamond " + (1 + random.nextInt(5)));
+            event.addMetadata("preset", "preset_" + random.nextInt(8));
+            event.addMetadata("round", String.valueOf(random.nextInt(10)));
+            events.add(event);
+        }
+        return events;
+    }
+
+    public static List<UUID> createPlayers(int count, long seed) {
+        Random random = new Random(seed);
+        List<UUID> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return players;
+    }
+
+    public static Path createTempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create temporary directory", e);
+        }
+    }
+
+    public static void deleteRecursively(Path root) {
+        if (root == null || !Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            // Best effort cleanup of benchmark scratch data
+        }
+    }
+}
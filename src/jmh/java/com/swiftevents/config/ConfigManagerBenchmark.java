@@ -0,0 +1,56 @@
+package com.swiftevents.config;
+
+import com.swiftevents.benchmark.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message templating, which runs for every chat announcement, staging notification and HUD line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+
+    private ConfigManager configManager;
+    private String message;
+    private Map<String, String> placeholders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        configManager = new ConfigManager(BenchmarkSupport.mockPlugin(List.of()));
+        message = "&e{player} &7joined &6{event_name}&7! (&a{current_participants}&7/&a{max_participants}&7)";
+        placeholders = new HashMap<>();
+        placeholders.put("player", "Notch");
+        placeholders.put("event_name", "Friday Night PvP Tournament");
+        placeholders.put("current_participants", "17");
+        placeholders.put("max_participants", "32");
+    }
+
+    @Benchmark
+    public String replacePlaceholders() {
+        return configManager.replacePlaceholders(message, placeholders);
+    }
+
+    @Benchmark
+    public String replaceSinglePlaceholder() {
+        return configManager.replacePlaceholder(message, "event_name", "Friday Night PvP Tournament");
+    }
+}
@@ -0,0 +1,65 @@
+package com.swiftevents.database;
+
+import com.swiftevents.benchmark.BenchmarkSupport;
+import com.swiftevents.events.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch persistence through {@link DatabaseManager#saveEvents}, the path used by auto-save and
+ * shutdown. Each invocation upserts the same batch, matching how auto-save rewrites live events.
+ * The "h2" backend runs the MySQL code path against the embedded database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseManagerBenchmark {
+
+    @Param({"json", "h2"})
+    public String backend;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private Path dataFolder;
+    private DatabaseManager databaseManager;
+    private List<Event> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.installServer();
+        dataFolder = BenchmarkSupport.createTempDirectory("swiftevents-db-bench");
+
+        databaseManager = StorageLoadGenerator.createDatabaseManager(backend, dataFolder.toFile());
+        batch = BenchmarkSupport.createEvents(batchSize, BenchmarkSupport.createPlayers(256, 11L), 13L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        databaseManager.closeConnections();
+        BenchmarkSupport.deleteRecursively(dataFolder);
+    }
+
+    @Benchmark
+    public boolean saveEvents() {
+        return databaseManager.saveEvents(batch).join();
+    }
+}
@@ -0,0 +1,102 @@
+package com.swiftevents.database;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.swiftevents.benchmark.BenchmarkSupport;
+import com.swiftevents.events.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storage encoding of a single {@link Event}: compact JSON through {@link EventJsonAdapters}
+ * (the JSON file format) against {@link EventBinaryCodec}, plus a whole-archive round trip as
+ * used by backups. The encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    @Param({"0", "32"})
+    public int participants;
+
+    private Event event;
+    private List<Event> archive;
+    private Gson gson;
+    private String eventJson;
+    private byte[] eventBinary;
+    private byte[] archiveBinary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        archive = BenchmarkSupport.createEvents(100, BenchmarkSupport.createPlayers(Math.max(1, participants), 1L), 3L);
+        if (participants == 0) {
+            archive.forEach(e -> e.setParticipants(null));
+        }
+        event = archive.get(0);
+        event.setLocation("world", 120.5, 64, -340.25);
+        event.addMetadata("arena", "north");
+
+        gson = EventJsonAdapters.register(new GsonBuilder())
+                .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .disableHtmlEscaping()
+                .create();
+        eventJson = gson.toJson(event);
+        eventBinary = EventBinaryCodec.encode(event);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EventBinaryCodec.writeAll(out, archive);
+        archiveBinary = out.toByteArray();
+
+        System.out.printf("%nEvent size: json=%d bytes, binary=%d bytes; archive of %d: json=%d bytes, binary=%d bytes%n",
+                eventJson.getBytes(StandardCharsets.UTF_8).length, eventBinary.length, archive.size(),
+                gson.toJson(archive).getBytes(StandardCharsets.UTF_8).length, archiveBinary.length);
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return gson.toJson(event);
+    }
+
+    @Benchmark
+    public Event jsonDecode() {
+        return gson.fromJson(eventJson, Event.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() throws IOException {
+        return EventBinaryCodec.encode(event);
+    }
+
+    @Benchmark
+    public Event binaryDecode() throws IOException {
+        return EventBinaryCodec.decode(eventBinary);
+    }
+
+    @Benchmark
+    public int binaryArchiveRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(archiveBinary.length);
+        EventBinaryCodec.writeAll(out, archive);
+        return EventBinaryCodec.readAll(new ByteArrayInputStream(out.toByteArray())).size();
+    }
+}
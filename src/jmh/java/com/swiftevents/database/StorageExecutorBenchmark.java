@@ -0,0 +1,96 @@
+package com.swiftevents.database;
+
+import com.swiftevents.benchmark.BenchmarkSupport;
+import com.swiftevents.events.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed platform pool versus virtual threads for storage I/O. Each invocation issues a burst of
+ * independent single-event saves and loads, the way joins, leaves and GUI lookups reach
+ * {@link DatabaseManager} during play, and waits for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageExecutorBenchmark {
+
+    @Param({"json", "h2"})
+    public String backend;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"64"})
+    public int burstSize;
+
+    private Path dataFolder;
+    private DatabaseManager databaseManager;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.installServer();
+        dataFolder = BenchmarkSupport.createTempDirectory("swiftevents-executor-bench");
+
+        databaseManager = StorageLoadGenerator.createDatabaseManager(backend, dataFolder.toFile(), virtualThreads);
+        events = BenchmarkSupport.createEvents(burstSize, BenchmarkSupport.createPlayers(256, 17L), 19L);
+        databaseManager.saveEvents(events).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        databaseManager.closeConnections();
+        BenchmarkSupport.deleteRecursively(dataFolder);
+    }
+
+    @Benchmark
+    public int concurrentSaves() {
+        List<CompletableFuture<Boolean>> saves = new ArrayList<>(events.size());
+        for (Event event : events) {
+            saves.add(databaseManager.saveEvent(event));
+        }
+        int saved = 0;
+        for (CompletableFuture<Boolean> save : saves) {
+            if (save.join()) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public int concurrentLoads() {
+        List<CompletableFuture<Event>> loads = new ArrayList<>(events.size());
+        for (Event event : events) {
+            loads.add(databaseManager.loadEvent(event.getId()));
+        }
+        int loaded = 0;
+        for (CompletableFuture<Event> load : loads) {
+            if (load.join() != null) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,92 @@
+package com.swiftevents.events;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.swiftevents.benchmark.BenchmarkSupport;
+import com.swiftevents.database.EventJsonAdapters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event costs: the remaining-time string used by the HUD and GUI, and Gson round trips of a
+ * single {@link Event} - reflective and pretty-printed as storage used to be, against the compact
+ * streaming adapters {@code DatabaseManager} now registers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private Event event;
+    private Gson gson;
+    private String eventJson;
+    private Gson adapterGson;
+    private String adapterJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Event> events = BenchmarkSupport.createEvents(1, BenchmarkSupport.createPlayers(32, 1L), 3L);
+        event = events.get(0);
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setEndTime(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2));
+
+        gson = new GsonBuilder()
+                .setPrettyPrinting()
+                .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .disableHtmlEscaping()
+                .create();
+        eventJson = gson.toJson(event);
+        adapterGson = EventJsonAdapters.register(new GsonBuilder())
+                .setDateFormat("yyyy-MM-dd HH:mm:ss")
+                .disableHtmlEscaping()
+                .create();
+        adapterJson = adapterGson.toJson(event);
+    }
+
+    @Benchmark
+    public String formattedRemainingTimeCached() {
+        return event.getFormattedRemainingTime();
+    }
+
+    @Benchmark
+    public String formattedRemainingTimeUncached() {
+        // Changing the end time invalidates the one-second cache, forcing a reformat
+        event.setEndTime(event.getEndTime());
+        return event.getFormattedRemainingTime();
+    }
+
+    @Benchmark
+    public String gsonSerialize() {
+        return gson.toJson(event);
+    }
+
+    @Benchmark
+    public Event gsonDeserialize() {
+        return gson.fromJson(eventJson, Event.class);
+    }
+
+    @Benchmark
+    public String adapterSerialize() {
+        return adapterGson.toJson(event);
+    }
+
+    @Benchmark
+    public Event adapterDeserialize() {
+        return adapterGson.fromJson(adapterJson, Event.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.swiftevents.events;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.benchmark.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the player-facing {@link EventManager} paths that scan {@code allEvents}: joining,
+ * leaving and the per-player lookups used by commands, GUI and HUD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventManagerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int eventCount;
+
+    private EventManager eventManager;
+    private List<UUID> players;
+    private String[] joinableIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.installServer();
+        players = BenchmarkSupport.createPlayers(Math.max(64, eventCount / 4), 42L);
+        List<Event> events = BenchmarkSupport.createEvents(eventCount, players, 7L);
+
+        // Every benchmark join targets an active, unlimited event so the full join path runs
+        joinableIds = new String[Math.max(1, eventCount / 10)];
+        for (int i = 0; i < joinableIds.length; i++) {
+            Event event = events.get(i);
+            event.setStatus(Event.EventStatus.ACTIVE);
+            event.setMaxParticipants(-1);
+            joinableIds[i] = event.getId();
+        }
+
+        SwiftEventsPlugin plugin = BenchmarkSupport.mockPlugin(events);
+        eventManager = new EventManager(plugin);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventManager.shutdown();
+    }
+
+    private UUID nextPlayer() {
+        return players.get((cursor++ & Integer.MAX_VALUE) % players.size());
+    }
+
+    private String nextEventId() {
+        return joinableIds[(cursor & Integer.MAX_VALUE) % joinableIds.length];
+    }
+
+    @Benchmark
+    public boolean joinThenLeave() {
+        // A fresh UUID avoids the "already a participant" short-circuit
+        UUID playerId = UUID.randomUUID();
+        String eventId = nextEventId();
+        cursor++;
+        boolean joined = eventManager.joinEvent(eventId, playerId);
+        return eventManager.leaveEvent(eventId, playerId) && joined;
+    }
+
+    @Benchmark
+    public List<Event> getPlayerEvents() {
+        return eventManager.getPlayerEvents(nextPlayer());
+    }
+
+    @Benchmark
+    public boolean isPlayerInEvent() {
+        return eventManager.isPlayerInEvent(nextPlayer());
+    }
+
+    @Benchmark
+    public void getEventsByStatus(Blackhole blackhole) {
+        blackhole.consume(eventManager.getEventsByStatus(Event.EventStatus.ACTIVE));
+    }
+}
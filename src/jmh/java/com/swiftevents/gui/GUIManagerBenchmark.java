@@ -0,0 +1,70 @@
+package com.swiftevents.gui;
+
+import com.swiftevents.benchmark.BenchmarkSupport;
+import com.swiftevents.events.Event;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The filter and sort passes {@link GUIManager} runs every time the events GUI is opened or paged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GUIManagerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int eventCount;
+
+    @Param({"ALL", "JOINABLE", "PARTICIPATING"})
+    public EventFilter filter;
+
+    @Param({"NAME", "PARTICIPANTS"})
+    public EventSort sort;
+
+    private GUIManager guiManager;
+    private List<Event> events;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.installServer();
+        List<UUID> players = BenchmarkSupport.createPlayers(Math.max(64, eventCount / 4), 42L);
+        events = BenchmarkSupport.createEvents(eventCount, players, 7L);
+        guiManager = new GUIManager(BenchmarkSupport.mockPlugin(List.of()));
+
+        // A regular player without admin rights, so every event goes through the per-type check
+        player = mock(Player.class, withSettings().lenient());
+        when(player.getUniqueId()).thenReturn(players.get(0));
+        when(player.hasPermission(anyString())).thenAnswer(invocation ->
+                !invocation.getArgument(0, String.class).startsWith("swiftevents.admin"));
+    }
+
+    @Benchmark
+    public List<Event> filterAndSort() {
+        return guiManager.sortEvents(guiManager.filterEvents(events, filter, player), sort);
+    }
+}
@@ -0,0 +1,139 @@
+package com.swiftevents.utils;
+
+import com.swiftevents.events.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Input validation as done for every event name and description: the single-pass
+ * {@link InputScanner} against the regex and {@code contains} chain it replaced, kept here as the
+ * baseline. The {@code event*} benchmarks use {@link Event}'s pattern set, the {@code security*}
+ * ones that of {@link SecurityUtils}; {@code eventSetDescription} is the real setter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputScannerBenchmark {
+
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern SCRIPT_PATTERN = Pattern.compile("(?i)(script|javascript|vbscript|data:)");
+    private static final Pattern XSS_PATTERN = Pattern.compile("(?i)(onload|onerror|onclick|onmouseover|onfocus|onblur)");
+
+    // Same pattern sets as Event and SecurityUtils
+    private static final InputScanner EVENT_SCANNER = InputScanner.builder()
+        .reject("<script", "</script>", "javascript:", "data:text/html", "vbscript:",
+            "onload=", "onerror=", "onclick=", "onmouseover=",
+            "document.cookie", "window.location", "document.write", "innerhtml", "outerhtml",
+            "expression(", "url(javascript:", "@import", "\\x")
+        .removeElement("script")
+        .remove("javascript:", "data:", "vbscript:")
+        .removeAssignments("on")
+        .build();
+    private static final InputScanner SECURITY_SCANNER = InputScanner.builder()
+        .removeTags()
+        .remove("script", "javascript", "vbscript", "data:")
+        .remove("onload", "onerror", "onclick", "onmouseover", "onfocus", "onblur")
+        .removeControlCharacters()
+        .reject("script", "javascript", "vbscript", "data:")
+        .reject("onload", "onerror", "onclick", "onmouseover", "onfocus", "onblur")
+        .reject("eval(", "document.", "window.", "alert(", "confirm(", "prompt(", "localstorage.", "sessionstorage.")
+        .rejectOnOutput()
+        .build();
+
+    @Param({"name", "description"})
+    public String field;
+
+    private String input;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (field.equals("name")) {
+            input = "Saturday Night Spleef Tournament";
+        } else {
+            StringBuilder description = new StringBuilder();
+            while (description.length() < 600) {
+                description.append("Last team standing wins! Bring your own gear, ")
+                    .append("no ender pearls; rewards: 500 coins & a diamond sword. ");
+            }
+            input = description.toString();
+        }
+        event = new Event("Benchmark", "Benchmark", Event.EventType.CUSTOM);
+    }
+
+    @Benchmark
+    public String eventRegex() {
+        if (containsEventInjectionPattern(input)) {
+            throw new IllegalArgumentException();
+        }
+        String sanitized = input
+            .replaceAll("(?i)<script[^>]*>.*?</script>", "")
+            .replaceAll("(?i)javascript:", "")
+            .replaceAll("(?i)data:", "")
+            .replaceAll("(?i)vbscript:", "")
+            .replaceAll("(?i)on\\w+\\s*=", "")
+            .trim();
+        return sanitized.isEmpty() ? null : sanitized;
+    }
+
+    @Benchmark
+    public String eventScanner() {
+        return EVENT_SCANNER.scan(input).getText();
+    }
+
+    @Benchmark
+    public String eventSetDescription() {
+        event.setDescription(input);
+        return event.getDescription();
+    }
+
+    @Benchmark
+    public String securityRegex() {
+        String sanitized = HTML_TAG_PATTERN.matcher(input).replaceAll("");
+        sanitized = SCRIPT_PATTERN.matcher(sanitized).replaceAll("");
+        sanitized = XSS_PATTERN.matcher(sanitized).replaceAll("");
+        sanitized = sanitized.replaceAll("[\\x00-\\x1F\\x7F]", "").trim();
+        String lowerInput = sanitized.toLowerCase();
+        if (SCRIPT_PATTERN.matcher(lowerInput).find() || XSS_PATTERN.matcher(lowerInput).find() ||
+            lowerInput.contains("eval(") || lowerInput.contains("document.") || lowerInput.contains("window.") ||
+            lowerInput.contains("alert(") || lowerInput.contains("confirm(") || lowerInput.contains("prompt(") ||
+            lowerInput.contains("localstorage.") || lowerInput.contains("sessionstorage.")) {
+            throw new SecurityException();
+        }
+        return sanitized;
+    }
+
+    @Benchmark
+    public String securityScanner() {
+        return SECURITY_SCANNER.scan(input).getText();
+    }
+
+    private static boolean containsEventInjectionPattern(String input) {
+        String lowerInput = input.toLowerCase();
+        return lowerInput.contains("<script") || lowerInput.contains("</script>") ||
+               lowerInput.contains("javascript:") || lowerInput.contains("data:text/html") ||
+               lowerInput.contains("vbscript:") || lowerInput.contains("onload=") ||
+               lowerInput.contains("onerror=") || lowerInput.contains("onclick=") ||
+               lowerInput.contains("onmouseover=") || lowerInput.contains("document.cookie") ||
+               lowerInput.contains("window.location") || lowerInput.contains("document.write") ||
+               lowerInput.contains("innerhtml") || lowerInput.contains("outerhtml") ||
+               lowerInput.contains("expression(") || lowerInput.contains("url(javascript:") ||
+               lowerInput.contains("@import") || lowerInput.contains("\\x");
+    }
+}
@@ -27,6 +27,7 @@ import com.swiftevents.chat.ChatManager;
 import com.swiftevents.admin.BackupManager;
 import com.swiftevents.admin.BulkOperationsManager;
 import com.swiftevents.admin.PerformanceMonitor;
+import com.swiftevents.utils.RateLimits;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class SwiftEventsPlugin extends JavaPlugin {
@@ -53,6 +54,7 @@ public class SwiftEventsPlugin extends JavaPlugin {
     private BackupManager backupManager;
     private BulkOperationsManager bulkOperationsManager;
     private PerformanceMonitor performanceMonitor;
+    private RateLimits rateLimits;
     
     @Override
     public void onEnable() {
@@ -75,9 +77,9 @@ public class SwiftEventsPlugin extends JavaPlugin {
     
     @Override
     public void onDisable() {
-        // Save any pending data
+        // Save any pending data and stop event tasks
         if (eventManager != null) {
-            eventManager.saveAllEvents();
+            eventManager.shutdown();
         }
         
         // Stop event tasker
@@ -113,6 +115,9 @@ public class SwiftEventsPlugin extends JavaPlugin {
         configManager = new ConfigManager(this);
         configManager.loadConfig();
         
+        // Per-player rate limits shared by commands, GUIs, the API and teleports
+        rateLimits = new RateLimits(configManager);
+        
         // Initialize location manager
         locationManager = new LocationManager(this);
         
@@ -248,4 +253,8 @@ public class SwiftEventsPlugin extends JavaPlugin {
     public PerformanceMonitor getPerformanceMonitor() {
         return performanceMonitor;
     }
+    
+    public RateLimits getRateLimits() {
+        return rateLimits;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.swiftevents.admin;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Persistent list of the backups in the backup directory, so listing backups never has to open
+ * an archive. Entries are added when a backup is written and removed when it is deleted; the
+ * catalog file is rewritten atomically after every change.
+ */
+class BackupCatalog {
+
+    static final String CATALOG_FILE = "backup_catalog.json";
+
+    private final File catalogFile;
+    private final Gson gson;
+    private final Logger logger;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    BackupCatalog(File backupDirectory, Gson gson, Logger logger) {
+        this.catalogFile = new File(backupDirectory, CATALOG_FILE);
+        this.gson = gson;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads the catalog file. Returns false when it is missing or unreadable, in which case the
+     * catalog starts empty and has to be rebuilt from the archives.
+     */
+    synchronized boolean load() {
+        entries.clear();
+        if (!catalogFile.exists()) {
+            return false;
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(catalogFile), StandardCharsets.UTF_8))) {
+            CatalogData data = gson.fromJson(reader, CatalogData.class);
+            if (data != null && data.backups != null) {
+                for (Entry entry : data.backups) {
+                    if (entry != null && entry.getName() != null) {
+                        entries.put(entry.getName(), entry);
+                    }
+                }
+            }
+            return true;
+        } catch (IOException | JsonParseException e) {
+            logger.warning("Backup catalog is unreadable and will be rebuilt: " + e.getMessage());
+            entries.clear();
+            return false;
+        }
+    }
+
+    synchronized void put(Entry entry) {
+        entries.put(entry.getName(), entry);
+        save();
+    }
+
+    synchronized void remove(String name) {
+        if (entries.remove(name) != null) {
+            save();
+        }
+    }
+
+    /**
+     * Drops entries whose backup no longer exists and adds backups the catalog did not know about.
+     */
+    synchronized void reconcile(Set<String> presentNames, List<Entry> discovered) {
+        boolean changed = entries.keySet().retainAll(presentNames);
+        for (Entry entry : discovered) {
+            changed |= entries.put(entry.getName(), entry) == null;
+        }
+        if (changed || !catalogFile.exists()) {
+            save();
+        }
+    }
+
+    synchronized boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    synchronized Entry get(String name) {
+        return entries.get(name);
+    }
+
+    // Newest first
+    synchronized List<Entry> list() {
+        List<Entry> list = new ArrayList<>(entries.values());
+        list.sort(Comparator.comparingLong(Entry::getCreatedAt).reversed().thenComparing(Entry::getName, Comparator.reverseOrder()));
+        return list;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void save() {
+        CatalogData data = new CatalogData();
+        data.backups = list();
+        File tempFile = new File(catalogFile.getParentFile(), CATALOG_FILE + ".tmp");
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+                gson.toJson(data, writer);
+            }
+            try {
+                Files.move(tempFile.toPath(), catalogFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), catalogFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save backup catalog: " + e.getMessage());
+        }
+    }
+
+    private static class CatalogData {
+        private int version = 1;
+        private List<Entry> backups;
+    }
+
+    /**
+     * What the backup GUI shows for one backup. The checksum is the SHA-256 of the archive and is
+     * null for uncompressed directory backups; the parent is set for incremental backups.
+     */
+    static class Entry {
+        private String name;
+        private BackupManager.BackupType type;
+        private long createdAt;
+        private int eventCount;
+        private long size;
+        private String checksum;
+        private String parent;
+
+        Entry(String name, BackupManager.BackupType type, long createdAt, int eventCount, long size, String checksum, String parent) {
+            this.name = name;
+            this.type = type;
+            this.createdAt = createdAt;
+            this.eventCount = eventCount;
+            this.size = size;
+            this.checksum = checksum;
+            this.parent = parent;
+        }
+
+        public String getName() { return name; }
+        public BackupManager.BackupType getType() { return type; }
+        public long getCreatedAt() { return createdAt; }
+        public int getEventCount() { return eventCount; }
+        public long getSize() { return size; }
+        public String getChecksum() { return checksum; }
+        public String getParent() { return parent; }
+
+        public boolean isCompressed() {
+            return name.endsWith(".zip");
+        }
+
+        public boolean isIncremental() {
+            return parent != null;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.swiftevents.admin;
 
 import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.database.EventBinaryCodec;
+import com.swiftevents.database.EventJsonAdapters;
 import com.swiftevents.events.Event;
 import com.swiftevents.permissions.Permissions;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -15,14 +21,25 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.nio.file.*;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -34,28 +51,65 @@ public class BackupManager {
     private final File backupDirectory;
     private final Gson gson;
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+    private final ExecutorService backupExecutor;
+    private final BackupCatalog catalog;
     private BukkitTask autoBackupTask;
     
+    private static final String EVENTS_JSON_ENTRY = "events.json";
+    private static final String EVENTS_BINARY_ENTRY = "events" + EventBinaryCodec.FILE_EXTENSION;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String MANIFEST_ENTRY = "backup_manifest.json";
+    private static final String INDEX_ENTRY = "backup_index.json";
+    private static final String[] CONFIG_FILES = {"config.yml", "messages_en.yml"};
+    private static final int RESTORE_BATCH_SIZE = 500;
+    
+    // Content hashing for incremental backups (SHA-256 truncated to 128 bits)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(BackupManager::newSha256);
+    
+    // Newest archive per backup type - the parent for the next incremental backup
+    private final Map<BackupType, ChainHead> chainHeads = new EnumMap<>(BackupType.class);
+    
     // Backup settings
     private boolean autoBackupEnabled = true;
     private int autoBackupInterval = 6; // hours
     private int maxBackupRetention = 10; // number of backups to keep
     private boolean compressBackups = true;
+    private boolean incrementalBackups = true;
+    private int maxChainLength = 12; // incremental backups before the next full base
+    
+    private volatile RestoreReport lastRestoreReport;
     
     public BackupManager(SwiftEventsPlugin plugin) {
         this.plugin = plugin;
         this.backupDirectory = new File(plugin.getDataFolder(), "backups");
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.gson = EventJsonAdapters.register(new GsonBuilder()).setPrettyPrinting().create();
+        // Single low-priority thread: backups never compete with the server or each other
+        this.backupExecutor = Executors.newSingleThreadExecutor(new BackupThreadFactory());
         
         // Create backup directory
         if (!backupDirectory.exists()) {
             backupDirectory.mkdirs();
         }
         
+        // Listing backups reads the catalog; the archives are only scanned to repair it, off the main thread
+        this.catalog = new BackupCatalog(backupDirectory, gson, plugin.getLogger());
+        catalog.load();
+        backupExecutor.execute(this::reconcileCatalog);
+        
         loadBackupSettings();
         startAutoBackup();
     }
     
+    private static class BackupThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "SwiftEvents-Backup");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    }
+    
     /**
      * Open the backup management GUI
      */
@@ -216,22 +270,22 @@ public class BackupManager {
     }
     
     private void addBackupList(Inventory gui) {
-        File[] backupFiles = getBackupFiles();
+        List<BackupCatalog.Entry> backups = catalog.list();
         int slot = 36;
         
-        for (int i = 0; i < Math.min(backupFiles.length, 9); i++) {
-            File backup = backupFiles[i];
-            BackupInfo info = getBackupInfo(backup);
+        for (int i = 0; i < Math.min(backups.size(), 9); i++) {
+            BackupCatalog.Entry backup = backups.get(i);
             
             ItemStack backupItem = new ItemStack(Material.WRITTEN_BOOK);
             ItemMeta backupMeta = backupItem.getItemMeta();
             backupMeta.setDisplayName("§f" + backup.getName());
             
             List<String> lore = new ArrayList<>();
-            lore.add("§7Created: §f" + info.getFormattedDate());
-            lore.add("§7Size: §f" + formatFileSize(backup.length()));
-            lore.add("§7Type: §f" + info.getBackupType());
-            lore.add("§7Events: §f" + info.getEventCount());
+            lore.add("§7Created: §f" + new SimpleDateFormat("yyyy-MM-dd HH:mm").format(new Date(backup.getCreatedAt())));
+            lore.add("§7Size: §f" + formatFileSize(backup.getSize()));
+            lore.add("§7Type: §f" + (backup.getType() != null ? backup.getType() : "Unknown")
+                + (backup.isIncremental() ? " (incremental)" : ""));
+            lore.add("§7Events: §f" + backup.getEventCount());
             lore.add("");
             lore.add("§eLeft-click: Restore from this backup");
             lore.add("§eRight-click: View backup details");
@@ -243,9 +297,9 @@ public class BackupManager {
         }
         
         // Show more button if there are more backups
-        if (backupFiles.length > 9) {
+        if (backups.size() > 9) {
             gui.setItem(45, createItem(Material.ARROW, "§7View More Backups",
-                "§7Showing 9 of " + backupFiles.length + " backups",
+                "§7Showing 9 of " + backups.size() + " backups",
                 "",
                 "§eClick to view all backups"));
         }
@@ -269,84 +323,224 @@ public class BackupManager {
      * Create a full backup of all SwiftEvents data
      */
     public CompletableFuture<Boolean> createFullBackup() {
+        // Snapshot on the calling thread so the backup reflects a single point in time
+        List<Event> residentSnapshot = snapshotEvents();
+        Set<String> coldEventIds = plugin.getEventManager().getColdEventIds();
         return CompletableFuture.supplyAsync(() -> {
             try {
-                String timestamp = dateFormat.format(new Date());
-                String backupName = "full_backup_" + timestamp;
-                File backupFile = new File(backupDirectory, backupName + (compressBackups ? ".zip" : ""));
+                File backupFile = newBackupFile("full_backup_");
+                List<Event> snapshot = withColdEvents(residentSnapshot, coldEventIds);
                 
                 if (compressBackups) {
-                    return createCompressedBackup(backupFile, BackupType.FULL);
+                    return createCompressedBackup(backupFile, BackupType.FULL, snapshot);
                 } else {
-                    return createUncompressedBackup(backupFile, BackupType.FULL);
+                    return createUncompressedBackup(backupFile, BackupType.FULL, snapshot);
                 }
             } catch (Exception e) {
                 plugin.getLogger().severe("Failed to create full backup: " + e.getMessage());
                 return false;
             }
-        });
+        }, backupExecutor);
     }
     
     /**
      * Create a backup of only event data
      */
     public CompletableFuture<Boolean> createEventBackup() {
+        List<Event> residentSnapshot = snapshotEvents();
+        Set<String> coldEventIds = plugin.getEventManager().getColdEventIds();
         return CompletableFuture.supplyAsync(() -> {
             try {
-                String timestamp = dateFormat.format(new Date());
-                String backupName = "events_backup_" + timestamp;
-                File backupFile = new File(backupDirectory, backupName + (compressBackups ? ".zip" : ""));
+                File backupFile = newBackupFile("events_backup_");
+                List<Event> snapshot = withColdEvents(residentSnapshot, coldEventIds);
                 
                 if (compressBackups) {
-                    return createCompressedBackup(backupFile, BackupType.EVENTS_ONLY);
+                    return createCompressedBackup(backupFile, BackupType.EVENTS_ONLY, snapshot);
                 } else {
-                    return createUncompressedBackup(backupFile, BackupType.EVENTS_ONLY);
+                    return createUncompressedBackup(backupFile, BackupType.EVENTS_ONLY, snapshot);
                 }
             } catch (Exception e) {
                 plugin.getLogger().severe("Failed to create event backup: " + e.getMessage());
                 return false;
             }
-        });
+        }, backupExecutor);
     }
     
-    private boolean createCompressedBackup(File backupFile, BackupType type) {
-        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(backupFile))) {
-            // Create backup manifest
-            BackupManifest manifest = new BackupManifest();
-            manifest.setTimestamp(System.currentTimeMillis());
-            manifest.setType(type);
-            manifest.setVersion(plugin.getDescription().getVersion());
-            manifest.setEventCount(plugin.getEventManager().getAllEvents().size());
+    // Two backups in the same second must not overwrite each other - later increments may build on the first
+    private File newBackupFile(String prefix) {
+        String backupName = prefix + dateFormat.format(new Date());
+        String extension = compressBackups ? ".zip" : "";
+        File backupFile = new File(backupDirectory, backupName + extension);
+        for (int i = 1; backupFile.exists(); i++) {
+            backupFile = new File(backupDirectory, backupName + "_" + i + extension);
+        }
+        return backupFile;
+    }
+    
+    /**
+     * Detached copies of all resident events. Copies share their strings with the live events, so
+     * this costs a few small collections per event rather than a serialized copy of the dataset.
+     */
+    private List<Event> snapshotEvents() {
+        List<Event> events = plugin.getEventManager().getAllEvents();
+        List<Event> snapshot = new ArrayList<>(events.size());
+        for (Event event : events) {
+            snapshot.add(event.copy());
+        }
+        return snapshot;
+    }
+    
+    // Cold-tier events are finished and only change in storage, so they are read on the backup thread
+    private List<Event> withColdEvents(List<Event> snapshot, Set<String> coldEventIds) {
+        if (coldEventIds != null && !coldEventIds.isEmpty()) {
+            snapshot.addAll(plugin.getDatabaseManager().withPriority(DatabaseManager.Priority.BULK,
+                () -> plugin.getDatabaseManager().loadEvents(coldEventIds)).join());
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Writes a zip backup. When incremental backups are enabled and a previous archive of the
+     * same type exists, only events and config files whose content hash changed are stored,
+     * together with the full hash index needed to rebuild this point in time from the chain.
+     */
+    private boolean createCompressedBackup(File backupFile, BackupType type, List<Event> snapshot) {
+        try {
+            boolean includeEvents = type == BackupType.FULL || type == BackupType.EVENTS_ONLY;
+            boolean includeConfig = type == BackupType.FULL || type == BackupType.CONFIG_ONLY;
             
-            // Add manifest to zip
-            ZipEntry manifestEntry = new ZipEntry("backup_manifest.json");
-            zos.putNextEntry(manifestEntry);
-            zos.write(gson.toJson(manifest).getBytes());
-            zos.closeEntry();
+            // Hash current state first so we know what changed since the parent
+            BackupIndex index = new BackupIndex();
+            if (includeEvents) {
+                for (Event event : snapshot) {
+                    index.getEvents().put(event.getId(), contentHash(EventBinaryCodec.encode(event)));
+                }
+            }
+            if (includeConfig) {
+                for (String name : CONFIG_FILES) {
+                    File file = new File(plugin.getDataFolder(), name);
+                    if (file.exists()) {
+                        index.getFiles().put(name, contentHash(Files.readAllBytes(file.toPath())));
+                    }
+                }
+            }
             
-            // Backup events
-            if (type == BackupType.FULL || type == BackupType.EVENTS_ONLY) {
-                backupEvents(zos);
+            ChainHead parent = incrementalBackups ? findChainHead(type) : null;
+            if (parent != null && parent.chainLength >= maxChainLength) {
+                parent = null; // Start a new base so restores never replay very long chains
             }
             
-            // Backup configuration
-            if (type == BackupType.FULL || type == BackupType.CONFIG_ONLY) {
-                backupConfiguration(zos);
+            List<Event> changedEvents = new ArrayList<>();
+            for (Event event : snapshot) {
+                String hash = index.getEvents().get(event.getId());
+                if (includeEvents && (parent == null || !hash.equals(parent.index.getEvents().get(event.getId())))) {
+                    changedEvents.add(event);
+                }
+            }
+            Set<String> changedFiles = new HashSet<>();
+            for (Map.Entry<String, String> file : index.getFiles().entrySet()) {
+                if (parent == null || !file.getValue().equals(parent.index.getFiles().get(file.getKey()))) {
+                    changedFiles.add(file.getKey());
+                }
             }
             
-            // Backup custom presets
-            if (type == BackupType.FULL) {
-                backupCustomPresets(zos);
+            BackupManifest manifest = new BackupManifest();
+            manifest.setTimestamp(System.currentTimeMillis());
+            manifest.setType(type);
+            manifest.setVersion(plugin.getDescription().getVersion());
+            manifest.setEventCount(snapshot.size());
+            manifest.setParent(parent != null ? parent.name : null);
+            manifest.setChainLength(parent != null ? parent.chainLength + 1 : 0);
+            manifest.setChangedEvents(changedEvents.size());
+            
+            MessageDigest archiveDigest = newSha256();
+            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(
+                    new DigestOutputStream(new FileOutputStream(backupFile), archiveDigest), STREAM_BUFFER_SIZE))) {
+                zos.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+                zos.write(gson.toJson(manifest).getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+                
+                zos.putNextEntry(new ZipEntry(INDEX_ENTRY));
+                Writer indexWriter = new BufferedWriter(new OutputStreamWriter(zos, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+                gson.toJson(index, indexWriter);
+                indexWriter.flush();
+                zos.closeEntry();
+                
+                // Backup events
+                if (includeEvents) {
+                    backupEvents(zos, changedEvents);
+                }
+                
+                // Backup configuration
+                if (includeConfig) {
+                    backupConfiguration(zos, changedFiles);
+                }
+                
+                // Backup custom presets
+                if (type == BackupType.FULL) {
+                    backupCustomPresets(zos);
+                }
             }
             
+            chainHeads.put(type, new ChainHead(backupFile.getName(), index, manifest.getChainLength()));
+            catalog.put(new BackupCatalog.Entry(backupFile.getName(), type, manifest.getTimestamp(), snapshot.size(),
+                backupFile.length(), HexFormat.of().formatHex(archiveDigest.digest()), manifest.getParent()));
+            if (parent != null) {
+                plugin.getLogger().info("Incremental backup " + backupFile.getName() + ": " + changedEvents.size() +
+                    " of " + snapshot.size() + " events changed (chain length " + manifest.getChainLength() + ")");
+            }
             return true;
         } catch (IOException e) {
             plugin.getLogger().severe("Failed to create compressed backup: " + e.getMessage());
+            if (backupFile.exists() && !backupFile.delete()) {
+                plugin.getLogger().warning("Could not remove incomplete backup " + backupFile.getName());
+            }
             return false;
         }
     }
     
-    private boolean createUncompressedBackup(File backupDir, BackupType type) {
+    // Parent for the next incremental backup: cached, else the newest archive of the same type with an index
+    private ChainHead findChainHead(BackupType type) {
+        ChainHead cached = chainHeads.get(type);
+        if (cached != null && new File(backupDirectory, cached.name).exists()) {
+            return cached;
+        }
+        
+        for (BackupCatalog.Entry entry : catalog.list()) {
+            if (!entry.isCompressed() || entry.getType() != type) {
+                continue;
+            }
+            File file = new File(backupDirectory, entry.getName());
+            BackupManifest manifest = readManifest(file);
+            if (manifest == null) {
+                continue;
+            }
+            // Archives written before incremental backups have no index and cannot be a parent
+            BackupIndex index = readIndex(file);
+            if (index == null) {
+                return null;
+            }
+            ChainHead head = new ChainHead(file.getName(), index, manifest.getChainLength());
+            chainHeads.put(type, head);
+            return head;
+        }
+        return null;
+    }
+    
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private static String contentHash(byte[] data) {
+        byte[] digest = SHA256.get().digest(data);
+        return HexFormat.of().formatHex(digest, 0, 16);
+    }
+    
+    private boolean createUncompressedBackup(File backupDir, BackupType type, List<Event> snapshot) {
         try {
             if (!backupDir.exists()) {
                 backupDir.mkdirs();
@@ -357,17 +551,17 @@ public class BackupManager {
             manifest.setTimestamp(System.currentTimeMillis());
             manifest.setType(type);
             manifest.setVersion(plugin.getDescription().getVersion());
-            manifest.setEventCount(plugin.getEventManager().getAllEvents().size());
+            manifest.setEventCount(snapshot.size());
             
             // Save manifest
-            File manifestFile = new File(backupDir, "backup_manifest.json");
+            File manifestFile = new File(backupDir, MANIFEST_ENTRY);
             try (FileWriter writer = new FileWriter(manifestFile)) {
                 gson.toJson(manifest, writer);
             }
             
             // Backup components based on type
             if (type == BackupType.FULL || type == BackupType.EVENTS_ONLY) {
-                backupEventsToDirectory(backupDir);
+                backupEventsToDirectory(backupDir, snapshot);
             }
             
             if (type == BackupType.FULL || type == BackupType.CONFIG_ONLY) {
@@ -378,6 +572,8 @@ public class BackupManager {
                 backupCustomPresetsToDirectory(backupDir);
             }
             
+            catalog.put(new BackupCatalog.Entry(backupDir.getName(), type, manifest.getTimestamp(), snapshot.size(),
+                directorySize(backupDir), null, null));
             return true;
         } catch (IOException e) {
             plugin.getLogger().severe("Failed to create uncompressed backup: " + e.getMessage());
@@ -385,41 +581,83 @@ public class BackupManager {
         }
     }
     
-    private void backupEvents(ZipOutputStream zos) throws IOException {
-        List<Event> events = plugin.getEventManager().getAllEvents();
-        
-        ZipEntry eventsEntry = new ZipEntry("events.json");
-        zos.putNextEntry(eventsEntry);
-        zos.write(gson.toJson(events).getBytes());
+    private void backupEvents(ZipOutputStream zos, List<Event> snapshot) throws IOException {
+        zos.putNextEntry(new ZipEntry(isBinaryFormat() ? EVENTS_BINARY_ENTRY : EVENTS_JSON_ENTRY));
+        writeEvents(zos, snapshot);
         zos.closeEntry();
     }
     
-    private void backupEventsToDirectory(File backupDir) throws IOException {
-        List<Event> events = plugin.getEventManager().getAllEvents();
-        File eventsFile = new File(backupDir, "events.json");
+    private void backupEventsToDirectory(File backupDir, List<Event> snapshot) throws IOException {
+        File eventsFile = new File(backupDir, isBinaryFormat() ? EVENTS_BINARY_ENTRY : EVENTS_JSON_ENTRY);
+        try (OutputStream out = new FileOutputStream(eventsFile)) {
+            writeEvents(out, snapshot);
+        }
+    }
+    
+    // Streams one event at a time through a bounded buffer; leaves the stream open
+    private void writeEvents(OutputStream out, List<Event> snapshot) throws IOException {
+        if (isBinaryFormat()) {
+            EventBinaryCodec.writeAll(new BufferedOutputStream(out, STREAM_BUFFER_SIZE), snapshot);
+            return;
+        }
         
-        try (FileWriter writer = new FileWriter(eventsFile)) {
-            gson.toJson(events, writer);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginArray();
+        for (Event event : snapshot) {
+            gson.toJson(event, Event.class, jsonWriter);
         }
+        jsonWriter.endArray();
+        jsonWriter.flush();
     }
     
-    private void backupConfiguration(ZipOutputStream zos) throws IOException {
-        // Backup main config
-        File configFile = new File(plugin.getDataFolder(), "config.yml");
-        if (configFile.exists()) {
-            ZipEntry configEntry = new ZipEntry("config.yml");
-            zos.putNextEntry(configEntry);
-            Files.copy(configFile.toPath(), zos);
-            zos.closeEntry();
+    private boolean isBinaryFormat() {
+        return "binary".equalsIgnoreCase(plugin.getConfigManager().getStorageFormat());
+    }
+    
+    // Streams events one at a time from either archive format; leaves the stream open
+    private void streamEvents(InputStream in, boolean binary, Consumer<Event> sink) throws IOException {
+        if (binary) {
+            EventBinaryCodec.Reader reader = new EventBinaryCodec.Reader(new BufferedInputStream(in, STREAM_BUFFER_SIZE));
+            Event event;
+            while ((event = reader.next()) != null) {
+                sink.accept(event);
+            }
+            return;
         }
         
-        // Backup messages
-        File messagesFile = new File(plugin.getDataFolder(), "messages_en.yml");
-        if (messagesFile.exists()) {
-            ZipEntry messagesEntry = new ZipEntry("messages_en.yml");
-            zos.putNextEntry(messagesEntry);
-            Files.copy(messagesFile.toPath(), zos);
-            zos.closeEntry();
+        JsonReader jsonReader = gson.newJsonReader(
+            new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE));
+        try {
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                sink.accept(gson.fromJson(jsonReader, Event.class));
+            }
+            jsonReader.endArray();
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed events entry: " + e.getMessage(), e);
+        }
+    }
+    
+    // The events entry of an archive in either format; null when the backup has no event data
+    private static ZipEntry findEventsEntry(ZipFile zip) {
+        ZipEntry entry = zip.getEntry(EVENTS_BINARY_ENTRY);
+        return entry != null ? entry : zip.getEntry(EVENTS_JSON_ENTRY);
+    }
+    
+    private static boolean isEventsEntry(String name) {
+        return name.equals(EVENTS_JSON_ENTRY) || name.equals(EVENTS_BINARY_ENTRY);
+    }
+    
+    // Backup main config and messages - only the files that changed since the parent backup
+    private void backupConfiguration(ZipOutputStream zos, Set<String> changedFiles) throws IOException {
+        for (String name : CONFIG_FILES) {
+            File file = new File(plugin.getDataFolder(), name);
+            if (file.exists() && changedFiles.contains(name)) {
+                zos.putNextEntry(new ZipEntry(name));
+                Files.copy(file.toPath(), zos);
+                zos.closeEntry();
+            }
         }
     }
     
@@ -473,36 +711,39 @@ public class BackupManager {
     }
     
     private boolean restoreFromCompressedBackup(File backupFile, RestoreOptions options) {
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(backupFile))) {
-            ZipEntry entry;
+        try (ZipFile zip = new ZipFile(backupFile)) {
+            BackupManifest manifest = readManifest(backupFile);
+            if (manifest == null) {
+                plugin.getLogger().warning("Backup manifest not found, proceeding with caution");
+            }
             
-            // First, read the manifest
-            BackupManifest manifest = null;
-            Map<String, byte[]> fileContents = new HashMap<>();
+            if (manifest != null && manifest.getParent() != null) {
+                return restoreFromChain(backupFile, options);
+            }
             
-            while ((entry = zis.getNextEntry()) != null) {
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int len;
-                while ((len = zis.read(buffer)) > 0) {
-                    baos.write(buffer, 0, len);
+            // Config and preset entries are small; the events entry is streamed
+            Map<String, byte[]> fileContents = new HashMap<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || name.equals(MANIFEST_ENTRY) || name.equals(INDEX_ENTRY) || isEventsEntry(name)) {
+                    continue;
                 }
-                
-                if (entry.getName().equals("backup_manifest.json")) {
-                    manifest = gson.fromJson(baos.toString(), BackupManifest.class);
-                } else {
-                    fileContents.put(entry.getName(), baos.toByteArray());
+                try (InputStream in = zip.getInputStream(entry)) {
+                    fileContents.put(name, in.readAllBytes());
                 }
-                
-                zis.closeEntry();
             }
             
-            if (manifest == null) {
-                plugin.getLogger().warning("Backup manifest not found, proceeding with caution");
-            }
+            ZipEntry eventsEntry = findEventsEntry(zip);
+            EventSource eventSource = eventsEntry == null ? null : sink -> {
+                try (InputStream in = zip.getInputStream(eventsEntry)) {
+                    streamEvents(in, eventsEntry.getName().equals(EVENTS_BINARY_ENTRY), sink);
+                }
+            };
             
             // Restore components based on options
-            return performRestore(fileContents, options);
+            return performRestore(fileContents, eventSource, options);
             
         } catch (IOException e) {
             plugin.getLogger().severe("Failed to restore from compressed backup: " + e.getMessage());
@@ -511,12 +752,12 @@ public class BackupManager {
     }
     
     private boolean restoreFromUncompressedBackup(File backupDir, RestoreOptions options) {
-        try {
+        try (Stream<Path> paths = Files.walk(backupDir.toPath())) {
             Map<String, byte[]> fileContents = new HashMap<>();
             
-            // Read all files in backup directory
-            Files.walk(backupDir.toPath())
-                .filter(Files::isRegularFile)
+            // Read all files in backup directory except the event data, which is streamed
+            paths.filter(Files::isRegularFile)
+                .filter(path -> !isEventsEntry(path.getFileName().toString()))
                 .forEach(path -> {
                     try {
                         String relativePath = backupDir.toPath().relativize(path).toString();
@@ -526,7 +767,15 @@ public class BackupManager {
                     }
                 });
             
-            return performRestore(fileContents, options);
+            File binaryEvents = new File(backupDir, EVENTS_BINARY_ENTRY);
+            File eventsFile = binaryEvents.exists() ? binaryEvents : new File(backupDir, EVENTS_JSON_ENTRY);
+            EventSource eventSource = !eventsFile.exists() ? null : sink -> {
+                try (InputStream in = new FileInputStream(eventsFile)) {
+                    streamEvents(in, eventsFile == binaryEvents, sink);
+                }
+            };
+            
+            return performRestore(fileContents, eventSource, options);
             
         } catch (IOException e) {
             plugin.getLogger().severe("Failed to restore from uncompressed backup: " + e.getMessage());
@@ -534,28 +783,118 @@ public class BackupManager {
         }
     }
     
-    private boolean performRestore(Map<String, byte[]> fileContents, RestoreOptions options) {
+    /**
+     * Rebuilds the state of an incremental backup by replaying its chain newest first: the first
+     * copy of an event seen wins, and the target's index decides which events exist.
+     */
+    private boolean restoreFromChain(File target, RestoreOptions options) throws IOException {
+        LinkedList<File> chain = new LinkedList<>();
+        Set<String> visited = new HashSet<>();
+        File current = target;
+        while (current != null) {
+            if (!visited.add(current.getName())) {
+                plugin.getLogger().severe("Backup chain is broken: cycle at " + current.getName());
+                return false;
+            }
+            chain.addFirst(current);
+            BackupManifest manifest = readManifest(current);
+            if (manifest == null) {
+                plugin.getLogger().severe("Backup chain is broken: cannot read " + current.getName());
+                return false;
+            }
+            if (manifest.getParent() == null) {
+                break;
+            }
+            current = new File(backupDirectory, manifest.getParent());
+            if (!current.exists()) {
+                plugin.getLogger().severe("Backup chain is broken: missing " + manifest.getParent());
+                return false;
+            }
+        }
+        
+        BackupIndex targetIndex = readIndex(target);
+        if (targetIndex == null) {
+            plugin.getLogger().severe("Backup index not found in " + target.getName());
+            return false;
+        }
+        
+        // Config files deleted before the target point are absent from its index
+        Map<String, byte[]> fileContents = new HashMap<>();
+        for (Iterator<File> it = chain.descendingIterator(); it.hasNext(); ) {
+            try (ZipFile zip = new ZipFile(it.next())) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (entry.isDirectory() || name.equals(MANIFEST_ENTRY) || name.equals(INDEX_ENTRY) || isEventsEntry(name)
+                            || fileContents.containsKey(name) || (isConfigFile(name) && !targetIndex.getFiles().containsKey(name))) {
+                        continue;
+                    }
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        fileContents.put(name, in.readAllBytes());
+                    }
+                }
+            }
+        }
+        
+        // Only event ids are kept in memory while the archives are streamed
+        EventSource eventSource = sink -> {
+            Set<String> seen = new HashSet<>();
+            for (Iterator<File> it = chain.descendingIterator(); it.hasNext(); ) {
+                try (ZipFile zip = new ZipFile(it.next())) {
+                    ZipEntry eventsEntry = findEventsEntry(zip);
+                    if (eventsEntry == null) {
+                        continue;
+                    }
+                    try (InputStream in = zip.getInputStream(eventsEntry)) {
+                        streamEvents(in, eventsEntry.getName().equals(EVENTS_BINARY_ENTRY), event -> {
+                            if (event == null || event.getId() == null) {
+                                sink.accept(event); // Counted as invalid
+                            } else if (targetIndex.getEvents().containsKey(event.getId()) && seen.add(event.getId())) {
+                                sink.accept(event);
+                            }
+                        });
+                    }
+                }
+            }
+        };
+        
+        plugin.getLogger().info("Rebuilding " + target.getName() + " from a chain of " + chain.size() + " backups");
+        return performRestore(fileContents, eventSource, options);
+    }
+    
+    private static boolean isConfigFile(String name) {
+        for (String configFile : CONFIG_FILES) {
+            if (configFile.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean performRestore(Map<String, byte[]> fileContents, EventSource eventSource, RestoreOptions options) {
         try {
             // Restore events
-            if (options.restoreEvents && fileContents.containsKey("events.json")) {
-                String eventsJson = new String(fileContents.get("events.json"));
-                // This would restore events through the event manager
-                plugin.getLogger().info("Events restored from backup");
+            if (options.restoreEvents && eventSource != null) {
+                RestoreReport report = restoreEvents(eventSource, options.dryRun);
+                lastRestoreReport = report;
+                plugin.getLogger().info(report.toString());
+                if (report.getStorageFailures() > 0) {
+                    plugin.getLogger().warning(report.getStorageFailures() + " restored events could not be written to storage");
+                    return false;
+                }
             }
             
             // Restore configuration
             if (options.restoreConfig) {
-                if (fileContents.containsKey("config.yml")) {
-                    File configFile = new File(plugin.getDataFolder(), "config.yml");
-                    Files.write(configFile.toPath(), fileContents.get("config.yml"));
-                }
-                
-                if (fileContents.containsKey("messages_en.yml")) {
-                    File messagesFile = new File(plugin.getDataFolder(), "messages_en.yml");
-                    Files.write(messagesFile.toPath(), fileContents.get("messages_en.yml"));
+                for (String name : CONFIG_FILES) {
+                    if (fileContents.containsKey(name) && !options.dryRun) {
+                        Files.write(new File(plugin.getDataFolder(), name).toPath(), fileContents.get(name));
+                    }
                 }
                 
-                plugin.getLogger().info("Configuration restored from backup");
+                plugin.getLogger().info(options.dryRun ? "Dry run: configuration would be restored from backup"
+                    : "Configuration restored from backup");
             }
             
             // Restore custom presets
@@ -572,12 +911,59 @@ public class BackupManager {
         }
     }
     
+    /**
+     * Validates streamed events and loads them into the event manager and the active storage
+     * backend in batches of {@link #RESTORE_BATCH_SIZE}; a dry run only validates.
+     */
+    private RestoreReport restoreEvents(EventSource eventSource, boolean dryRun) throws IOException {
+        RestoreReport report = new RestoreReport(dryRun);
+        List<Event> batch = new ArrayList<>(RESTORE_BATCH_SIZE);
+        long start = System.nanoTime();
+        
+        eventSource.forEach(event -> {
+            report.eventsRead++;
+            if (!isRestorable(event)) {
+                report.invalidEvents++;
+                return;
+            }
+            batch.add(event);
+            if (batch.size() >= RESTORE_BATCH_SIZE) {
+                applyRestoreBatch(batch, report);
+            }
+        });
+        applyRestoreBatch(batch, report);
+        
+        report.durationNanos = System.nanoTime() - start;
+        return report;
+    }
+    
+    private void applyRestoreBatch(List<Event> batch, RestoreReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (!report.dryRun) {
+            plugin.getEventManager().restoreEvents(batch);
+            // Waiting on each batch keeps at most one batch queued behind the storage executor
+            if (!plugin.getDatabaseManager().saveEvents(batch).join()) {
+                report.storageFailures += batch.size();
+            }
+        }
+        report.eventsRestored += batch.size();
+        batch.clear();
+    }
+    
+    private static boolean isRestorable(Event event) {
+        return event != null && event.getId() != null && event.getName() != null
+            && event.getType() != null && event.getStatus() != null;
+    }
+    
     private void startAutoBackup() {
         if (!autoBackupEnabled) return;
         
         long intervalTicks = autoBackupInterval * 60 * 60 * 20L; // Convert hours to ticks
         
-        autoBackupTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        // Runs on the main thread only long enough to snapshot events; writing happens on the backup thread
+        autoBackupTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             plugin.getLogger().info("Starting automatic backup...");
             createFullBackup().thenAccept(success -> {
                 if (success) {
@@ -591,65 +977,135 @@ public class BackupManager {
     }
     
     private void cleanupOldBackups() {
-        File[] backupFiles = getBackupFiles();
-        if (backupFiles.length > maxBackupRetention) {
-            // Sort by modification time (oldest first)
-            Arrays.sort(backupFiles, Comparator.comparingLong(File::lastModified));
+        List<BackupCatalog.Entry> backups = catalog.list(); // Newest first
+        if (backups.size() > maxBackupRetention) {
+            // Archives that a retained incremental backup still builds on must stay
+            Set<String> required = new HashSet<>();
+            for (int i = 0; i < maxBackupRetention; i++) {
+                BackupCatalog.Entry current = backups.get(i);
+                while (current != null && required.add(current.getName())) {
+                    current = current.getParent() != null ? catalog.get(current.getParent()) : null;
+                }
+            }
             
             // Delete oldest backups
-            for (int i = 0; i < backupFiles.length - maxBackupRetention; i++) {
+            for (int i = backups.size() - 1; i >= maxBackupRetention; i--) {
+                String name = backups.get(i).getName();
+                if (required.contains(name)) {
+                    continue;
+                }
                 try {
-                    Files.delete(backupFiles[i].toPath());
-                    plugin.getLogger().info("Deleted old backup: " + backupFiles[i].getName());
+                    deleteRecursively(new File(backupDirectory, name).toPath());
+                    catalog.remove(name);
+                    plugin.getLogger().info("Deleted old backup: " + name);
                 } catch (IOException e) {
-                    plugin.getLogger().warning("Failed to delete old backup: " + backupFiles[i].getName());
+                    plugin.getLogger().warning("Failed to delete old backup: " + name);
                 }
             }
         }
     }
     
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+    
+    private static long directorySize(File directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+    
     private File[] getBackupFiles() {
         File[] files = backupDirectory.listFiles((dir, name) -> 
             name.endsWith(".zip") || new File(dir, name).isDirectory());
-        
-        if (files == null) return new File[0];
-        
-        // Sort by modification time (newest first)
-        Arrays.sort(files, (a, b) -> Long.compare(b.lastModified(), a.lastModified()));
-        return files;
-    }
-    
-    private BackupInfo getBackupInfo(File backupFile) {
-        BackupInfo info = new BackupInfo();
-        info.setFile(backupFile);
-        info.setDate(new Date(backupFile.lastModified()));
-        
-        // Try to read manifest for more details
-        if (backupFile.getName().endsWith(".zip")) {
-            try (ZipInputStream zis = new ZipInputStream(new FileInputStream(backupFile))) {
-                ZipEntry entry;
-                while ((entry = zis.getNextEntry()) != null) {
-                    if (entry.getName().equals("backup_manifest.json")) {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        byte[] buffer = new byte[1024];
-                        int len;
-                        while ((len = zis.read(buffer)) > 0) {
-                            baos.write(buffer, 0, len);
-                        }
-                        
-                        BackupManifest manifest = gson.fromJson(baos.toString(), BackupManifest.class);
-                        info.setBackupType(manifest.getType().toString());
-                        info.setEventCount(manifest.getEventCount());
-                        break;
-                    }
-                    zis.closeEntry();
+        return files != null ? files : new File[0];
+    }
+    
+    /**
+     * Brings the catalog in line with the backup directory: forgets deleted backups and describes
+     * any backup it has not seen, such as archives written before the catalog existed.
+     */
+    private void reconcileCatalog() {
+        Set<String> present = new HashSet<>();
+        List<BackupCatalog.Entry> discovered = new ArrayList<>();
+        for (File file : getBackupFiles()) {
+            present.add(file.getName());
+            if (!catalog.contains(file.getName())) {
+                try {
+                    discovered.add(describeBackup(file));
+                } catch (IOException e) {
+                    plugin.getLogger().warning("Failed to catalog backup " + file.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+        catalog.reconcile(present, discovered);
+        if (!discovered.isEmpty()) {
+            plugin.getLogger().info("Added " + discovered.size() + " existing backups to the backup catalog");
+        }
+    }
+    
+    private BackupCatalog.Entry describeBackup(File file) throws IOException {
+        if (file.isDirectory()) {
+            BackupManifest manifest = null;
+            File manifestFile = new File(file, MANIFEST_ENTRY);
+            if (manifestFile.exists()) {
+                try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8))) {
+                    manifest = gson.fromJson(reader, BackupManifest.class);
+                } catch (RuntimeException e) {
+                    plugin.getLogger().warning("Failed to read backup manifest: " + e.getMessage());
                 }
-            } catch (IOException e) {
-                plugin.getLogger().warning("Failed to read backup manifest: " + e.getMessage());
             }
+            return new BackupCatalog.Entry(file.getName(), manifest != null ? manifest.getType() : null,
+                manifest != null ? manifest.getTimestamp() : file.lastModified(),
+                manifest != null ? manifest.getEventCount() : 0, directorySize(file), null, null);
         }
         
-        return info;
+        BackupManifest manifest = readManifest(file);
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return new BackupCatalog.Entry(file.getName(), manifest != null ? manifest.getType() : null,
+            manifest != null ? manifest.getTimestamp() : file.lastModified(),
+            manifest != null ? manifest.getEventCount() : 0, file.length(),
+            HexFormat.of().formatHex(digest.digest()), manifest != null ? manifest.getParent() : null);
+    }
+    
+    private BackupManifest readManifest(File backupFile) {
+        try (ZipFile zip = new ZipFile(backupFile)) {
+            ZipEntry entry = zip.getEntry(MANIFEST_ENTRY);
+            if (entry == null) {
+                return null;
+            }
+            try (Reader reader = new InputStreamReader(zip.getInputStream(entry), StandardCharsets.UTF_8)) {
+                return gson.fromJson(reader, BackupManifest.class);
+            }
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().warning("Failed to read backup manifest: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private BackupIndex readIndex(File backupFile) {
+        try (ZipFile zip = new ZipFile(backupFile)) {
+            ZipEntry entry = zip.getEntry(INDEX_ENTRY);
+            if (entry == null) {
+                return null;
+            }
+            try (Reader reader = new BufferedReader(new InputStreamReader(zip.getInputStream(entry), StandardCharsets.UTF_8))) {
+                return gson.fromJson(reader, BackupIndex.class);
+            }
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().warning("Failed to read backup index: " + e.getMessage());
+            return null;
+        }
     }
     
     private void loadBackupSettings() {
@@ -657,6 +1113,8 @@ public class BackupManager {
         autoBackupInterval = plugin.getConfig().getInt("backup.interval_hours", 6);
         maxBackupRetention = plugin.getConfig().getInt("backup.max_retention", 10);
         compressBackups = plugin.getConfig().getBoolean("backup.compress", true);
+        incrementalBackups = plugin.getConfig().getBoolean("backup.incremental", true);
+        maxChainLength = Math.max(0, plugin.getConfig().getInt("backup.max_chain_length", 12));
     }
     
     public void saveBackupSettings() {
@@ -664,18 +1122,20 @@ public class BackupManager {
         plugin.getConfig().set("backup.interval_hours", autoBackupInterval);
         plugin.getConfig().set("backup.max_retention", maxBackupRetention);
         plugin.getConfig().set("backup.compress", compressBackups);
+        plugin.getConfig().set("backup.incremental", incrementalBackups);
+        plugin.getConfig().set("backup.max_chain_length", maxChainLength);
         plugin.saveConfig();
     }
     
     private String getBackupCount() {
-        return String.valueOf(getBackupFiles().length);
+        return String.valueOf(catalog.size());
     }
     
     private String getLastBackupTime() {
-        File[] backups = getBackupFiles();
-        if (backups.length == 0) return "Never";
+        List<BackupCatalog.Entry> backups = catalog.list();
+        if (backups.isEmpty()) return "Never";
         
-        Date lastBackup = new Date(backups[0].lastModified());
+        Date lastBackup = new Date(backups.get(0).getCreatedAt());
         return dateFormat.format(lastBackup);
     }
     
@@ -711,6 +1171,18 @@ public class BackupManager {
         if (autoBackupTask != null) {
             autoBackupTask.cancel();
         }
+        
+        // Let a running backup finish so the archive is not left truncated
+        backupExecutor.shutdown();
+        try {
+            if (!backupExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Backup still running at shutdown; it may be incomplete");
+                backupExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            backupExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
     
     // Getters and setters
@@ -723,15 +1195,23 @@ public class BackupManager {
     public int getMaxBackupRetention() { return maxBackupRetention; }
     public void setMaxBackupRetention(int retention) { this.maxBackupRetention = retention; }
     
+    public RestoreReport getLastRestoreReport() { return lastRestoreReport; }
+    
     public boolean isCompressBackups() { return compressBackups; }
     public void setCompressBackups(boolean compress) { this.compressBackups = compress; }
     
+    public boolean isIncrementalBackups() { return incrementalBackups; }
+    public void setIncrementalBackups(boolean incremental) { this.incrementalBackups = incremental; }
+    
     // Inner classes
     public static class BackupManifest {
         private long timestamp;
         private BackupType type;
         private String version;
         private int eventCount;
+        private String parent; // Previous archive for incremental backups, null for a base
+        private int chainLength;
+        private int changedEvents;
         
         // Getters and setters
         public long getTimestamp() { return timestamp; }
@@ -745,30 +1225,38 @@ public class BackupManager {
         
         public int getEventCount() { return eventCount; }
         public void setEventCount(int eventCount) { this.eventCount = eventCount; }
-    }
-    
-    public static class BackupInfo {
-        private File file;
-        private Date date;
-        private String backupType = "Unknown";
-        private int eventCount = 0;
         
-        public String getFormattedDate() {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm").format(date);
-        }
+        public String getParent() { return parent; }
+        public void setParent(String parent) { this.parent = parent; }
         
-        // Getters and setters
-        public File getFile() { return file; }
-        public void setFile(File file) { this.file = file; }
+        public int getChainLength() { return chainLength; }
+        public void setChainLength(int chainLength) { this.chainLength = chainLength; }
         
-        public Date getDate() { return date; }
-        public void setDate(Date date) { this.date = date; }
+        public int getChangedEvents() { return changedEvents; }
+        public void setChangedEvents(int changedEvents) { this.changedEvents = changedEvents; }
+    }
+    
+    /**
+     * Content hashes of everything a backup covers, keyed by event id and file name.
+     */
+    public static class BackupIndex {
+        private Map<String, String> events = new HashMap<>();
+        private Map<String, String> files = new HashMap<>();
         
-        public String getBackupType() { return backupType; }
-        public void setBackupType(String backupType) { this.backupType = backupType; }
+        public Map<String, String> getEvents() { return events; }
+        public Map<String, String> getFiles() { return files; }
+    }
+    
+    private static class ChainHead {
+        private final String name;
+        private final BackupIndex index;
+        private final int chainLength;
         
-        public int getEventCount() { return eventCount; }
-        public void setEventCount(int eventCount) { this.eventCount = eventCount; }
+        private ChainHead(String name, BackupIndex index, int chainLength) {
+            this.name = name;
+            this.index = index;
+            this.chainLength = chainLength;
+        }
     }
     
     public static class RestoreOptions {
@@ -776,6 +1264,47 @@ public class BackupManager {
         public boolean restoreConfig = false;
         public boolean restorePresets = true;
         public boolean createBackupBeforeRestore = true;
+        public boolean dryRun = false;
+    }
+    
+    /**
+     * Outcome of the event part of a restore: counts and throughput of the streamed events.
+     */
+    public static class RestoreReport {
+        private final boolean dryRun;
+        private int eventsRead;
+        private int eventsRestored;
+        private int invalidEvents;
+        private int storageFailures;
+        private long durationNanos;
+        
+        private RestoreReport(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+        
+        public boolean isDryRun() { return dryRun; }
+        public int getEventsRead() { return eventsRead; }
+        public int getEventsRestored() { return eventsRestored; }
+        public int getInvalidEvents() { return invalidEvents; }
+        public int getStorageFailures() { return storageFailures; }
+        public long getDurationMillis() { return TimeUnit.NANOSECONDS.toMillis(durationNanos); }
+        
+        public double getEventsPerSecond() {
+            return durationNanos > 0 ? eventsRestored * 1_000_000_000.0 / durationNanos : 0;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s %d events from backup in %d ms (%.0f events/s, %d invalid skipped)",
+                dryRun ? "Dry run validated" : "Restored", eventsRestored, getDurationMillis(),
+                getEventsPerSecond(), invalidEvents);
+        }
+    }
+    
+    // Supplies the events of a backup one at a time; may be read once per restore
+    @FunctionalInterface
+    private interface EventSource {
+        void forEach(Consumer<Event> sink) throws IOException;
     }
     
     public enum BackupType {
@@ -1,6 +1,7 @@
 package com.swiftevents.admin;
 
 import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.database.DatabaseManager;
 import com.swiftevents.events.Event;
 import com.swiftevents.permissions.Permissions;
 import org.bukkit.Bukkit;
@@ -284,7 +285,9 @@ public class BulkOperationsManager {
                 CompletableFuture.supplyAsync(() -> {
                     for (Event event : selectedEvents) {
                         try {
-                            boolean success = executeOperationOnEvent(event, operation);
+                            // Storage writes from a bulk run must not delay players' own saves
+                            boolean success = plugin.getDatabaseManager().withPriority(DatabaseManager.Priority.BULK,
+                                () -> executeOperationOnEvent(event, operation));
                             if (success) {
                                 successful.incrementAndGet();
                             }
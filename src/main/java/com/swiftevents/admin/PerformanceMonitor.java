@@ -1,6 +1,8 @@
 package com.swiftevents.admin;
 
 import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.events.ColdEventSummary;
 import com.swiftevents.events.Event;
 import com.swiftevents.permissions.Permissions;
 import org.bukkit.Bukkit;
@@ -137,6 +139,7 @@ public class PerformanceMonitor {
         perfLore.add("§7Average GUI Load Time: §f" + getAverageMetric("gui_load") + "ms");
         perfLore.add("");
         perfLore.add("§7Thread Pool Size: §f" + getThreadPoolInfo());
+        perfLore.add("§7Rate Limited Players: §f" + plugin.getRateLimits().describe());
         perfLore.add("");
         perfLore.add("§eClick for detailed performance metrics");
         
@@ -154,11 +157,19 @@ public class PerformanceMonitor {
         dbLore.add("§7Type: §f" + (plugin.getConfigManager().isDatabaseEnabled() ? "MySQL" : "JSON"));
         dbLore.add("§7Connection Status: " + getDatabaseStatus());
         dbLore.add("§7Total Queries: §f" + databaseQueries);
+        dbLore.add("§7Storage Threads: §f" + plugin.getDatabaseManager().getExecutorDescription());
+        dbLore.add("§7Interactive Queue: §f" + plugin.getDatabaseManager().getQueueStats(DatabaseManager.Priority.INTERACTIVE));
+        dbLore.add("§7Bulk Queue: §f" + plugin.getDatabaseManager().getQueueStats(DatabaseManager.Priority.BULK));
         dbLore.add("");
         
         if (plugin.getConfigManager().isDatabaseEnabled()) {
             dbLore.add("§7Average Query Time: §f" + getAverageMetric("db_query") + "ms");
             dbLore.add("§7Connection Pool: §f" + getDatabasePoolInfo());
+            dbLore.add("§7Batch Writes: §f" + plugin.getDatabaseManager().getBatchWriteStats());
+            dbLore.add("§7Write Conflicts: §f" + plugin.getDatabaseManager().getWriteConflictStats());
+            if (plugin.getEventManager().getReplication() != null) {
+                dbLore.add("§7Replication: §f" + plugin.getEventManager().getReplication().describe());
+            }
             dbLore.add("§7Failed Connections: §f" + getFailedConnections());
         } else {
             dbLore.add("§7File Operations: §f" + getFileOperations());
@@ -181,7 +192,8 @@ public class PerformanceMonitor {
         eventMeta.setDisplayName("§b§lEvent Processing Metrics");
         
         List<String> eventLore = new ArrayList<>();
-        eventLore.add("§7Total Events: §f" + allEvents.size());
+        eventLore.add("§7Total Events: §f" + plugin.getEventManager().getTotalEventCount()
+            + " §7(" + allEvents.size() + " in memory)");
         eventLore.add("§7Events per Hour: §f" + calculateEventsPerHour());
         eventLore.add("§7Average Event Duration: §f" + calculateAverageEventDuration());
         eventLore.add("");
@@ -400,12 +412,15 @@ public class PerformanceMonitor {
         List<Event> completedEvents = plugin.getEventManager().getAllEvents().stream()
             .filter(Event::isCompleted)
             .toList();
+        ColdEventSummary archived = plugin.getEventManager().getColdEventSummary();
+        int completedCount = completedEvents.size() + archived.getCount(Event.EventStatus.COMPLETED);
         
-        if (completedEvents.isEmpty()) return "N/A";
+        if (completedCount == 0) return "N/A";
         
-        double avgDuration = completedEvents.stream()
+        long totalDuration = completedEvents.stream()
             .mapToLong(e -> e.getEndTime() - e.getStartTime())
-            .average().orElse(0) / 1000.0 / 60.0; // Convert to minutes
+            .sum() + archived.getTotalCompletedDurationMillis();
+        double avgDuration = (double) totalDuration / completedCount / 1000.0 / 60.0; // Convert to minutes
         
         return df.format(avgDuration) + " min";
     }
@@ -3,6 +3,7 @@ package com.swiftevents.api;
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.api.hooks.SwiftEventsHook;
 import com.swiftevents.events.Event;
+import com.swiftevents.utils.RateLimits;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
@@ -146,20 +147,22 @@ public final class SwiftEventsAPI {
      * Make a player join an event
      * @param player The player
      * @param event The event to join
-     * @return True if successful
+     * @return True if successful; false as well when the player joins and leaves events too often
      */
     public static boolean joinEvent(Player player, Event event) {
-        return isAvailable() && plugin.getEventManager().joinEvent(event.getId(), player.getUniqueId());
+        return isAvailable() && plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player.getUniqueId())
+            && plugin.getEventManager().joinEvent(event.getId(), player.getUniqueId());
     }
     
     /**
      * Make a player leave an event
      * @param player The player
      * @param event The event to leave
-     * @return True if successful
+     * @return True if successful; false as well when the player joins and leaves events too often
      */
     public static boolean leaveEvent(Player player, Event event) {
-        return isAvailable() && plugin.getEventManager().leaveEvent(event.getId(), player.getUniqueId());
+        return isAvailable() && plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player.getUniqueId())
+            && plugin.getEventManager().leaveEvent(event.getId(), player.getUniqueId());
     }
     
     /**
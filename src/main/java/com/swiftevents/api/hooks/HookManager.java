@@ -2,6 +2,7 @@ package com.swiftevents.api.hooks;
 
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
+import com.swiftevents.utils.TickProfiler;
 import org.bukkit.entity.Player;
 
 import java.util.*;
@@ -102,88 +103,128 @@ public class HookManager {
     }
     
     public void callEventCreated(Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onEventCreated(event);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventCreated: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onEventCreated(event);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventCreated: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
     public boolean callEventPreStart(Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                if (!hook.onEventPreStart(event)) {
-                    return false;
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    if (!hook.onEventPreStart(event)) {
+                        return false;
+                    }
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventPreStart: " + e.getMessage());
                 }
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventPreStart: " + e.getMessage());
             }
+            return true;
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
-        return true;
     }
     
     public void callEventStarted(Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onEventStarted(event);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventStarted: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onEventStarted(event);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventStarted: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
     public void callEventEnded(Event event, String reason) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onEventEnded(event, reason);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventEnded: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onEventEnded(event, reason);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventEnded: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
     public boolean callPlayerPreJoin(Player player, Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                if (!hook.onPlayerPreJoin(player, event)) {
-                    return false;
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    if (!hook.onPlayerPreJoin(player, event)) {
+                        return false;
+                    }
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerPreJoin: " + e.getMessage());
                 }
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerPreJoin: " + e.getMessage());
             }
+            return true;
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
-        return true;
     }
     
     public void callPlayerJoined(Player player, Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onPlayerJoined(player, event);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerJoined: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onPlayerJoined(player, event);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerJoined: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
     public void callPlayerLeft(Player player, UUID playerId, Event event, String reason) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onPlayerLeft(player, playerId, event, reason);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerLeft: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onPlayerLeft(player, playerId, event, reason);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onPlayerLeft: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
     public void callEventUpdate(Event event) {
-        for (SwiftEventsHook hook : sortedHooks) {
-            try {
-                hook.onEventUpdate(event);
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventUpdate: " + e.getMessage());
+        TickProfiler.begin(TickProfiler.Subsystem.HOOKS);
+        try {
+            for (SwiftEventsHook hook : sortedHooks) {
+                try {
+                    hook.onEventUpdate(event);
+                } catch (Exception e) {
+                    plugin.getLogger().severe("Error in hook " + hook.getHookName() + " onEventUpdate: " + e.getMessage());
+                }
             }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HOOKS);
         }
     }
     
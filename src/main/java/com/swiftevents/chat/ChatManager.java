@@ -2,6 +2,8 @@ package com.swiftevents.chat;
 
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
+import com.swiftevents.utils.RateLimits;
+import com.swiftevents.utils.TickProfiler;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentBuilder;
@@ -35,10 +37,6 @@ public class ChatManager {
     private final Map<String, Long> cacheTimestamps = new ConcurrentHashMap<>();
     private static final long CACHE_DURATION = 30000; // 30 seconds
     
-    // Teleport requests - prevent spam
-    private final Map<UUID, Long> lastTeleportRequest = new ConcurrentHashMap<>();
-    private static final long TELEPORT_COOLDOWN = 5000; // 5 seconds
-    
     // Event type colors for visual consistency
     private final Map<Event.EventType, TextColor> eventTypeColors = Map.of(
         Event.EventType.PVP, TextColor.color(255, 85, 85),        // Red
@@ -69,41 +67,46 @@ public class ChatManager {
     }
     
     public void announceEvent(Event event, EventAnnouncement type, Audience audience) {
-        Component message = createEventAnnouncement(event, type);
+        TickProfiler.begin(TickProfiler.Subsystem.CHAT);
+        try {
+            Component message = createEventAnnouncement(event, type);
         
-        // Send different presentation based on announcement type
-        switch (type) {
-            case CREATED -> {
-                audience.sendMessage(message);
-                if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
-                    playAnnouncementSound(audience, "ui.toast.challenge_complete");
+            // Send different presentation based on announcement type
+            switch (type) {
+                case CREATED -> {
+                    audience.sendMessage(message);
+                    if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
+                        playAnnouncementSound(audience, "ui.toast.challenge_complete");
+                    }
                 }
-            }
-            case STARTING -> {
-                audience.sendMessage(message);
-                // Send title for starting events
-                Component title = Component.text("Event Starting!")
-                    .color(NamedTextColor.GOLD)
-                    .decorate(TextDecoration.BOLD);
-                Component subtitle = Component.text(event.getName())
-                    .color(getEventTypeColor(event.getType()));
+                case STARTING -> {
+                    audience.sendMessage(message);
+                    // Send title for starting events
+                    Component title = Component.text("Event Starting!")
+                        .color(NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD);
+                    Component subtitle = Component.text(event.getName())
+                        .color(getEventTypeColor(event.getType()));
                     
-                audience.showTitle(Title.title(title, subtitle, 
-                    Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(3), Duration.ofMillis(500))));
+                    audience.showTitle(Title.title(title, subtitle, 
+                        Title.Times.times(Duration.ofMillis(500), Duration.ofSeconds(3), Duration.ofMillis(500))));
                     
-                if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
-                    playAnnouncementSound(audience, "block.note_block.chime");
+                    if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
+                        playAnnouncementSound(audience, "block.note_block.chime");
+                    }
                 }
-            }
-            case ENDED -> {
-                audience.sendMessage(message);
-                if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
-                    playAnnouncementSound(audience, "entity.experience_orb.pickup");
+                case ENDED -> {
+                    audience.sendMessage(message);
+                    if (plugin.getConfigManager().getConfig().getBoolean("chat.sound_effects", true)) {
+                        playAnnouncementSound(audience, "entity.experience_orb.pickup");
+                    }
+                }
+                case REMINDER -> {
+                    audience.sendMessage(message);
                 }
             }
-            case REMINDER -> {
-                audience.sendMessage(message);
-            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.CHAT);
         }
     }
     
@@ -240,22 +243,9 @@ public class ChatManager {
     }
     
     /**
-     * Handles teleportation to event locations with cooldown
+     * Handles teleportation to event locations, rate limited per player
      */
     public boolean teleportToEvent(Player player, Event event) {
-        UUID playerId = player.getUniqueId();
-        
-        // Check cooldown
-        if (lastTeleportRequest.containsKey(playerId)) {
-            long lastRequest = lastTeleportRequest.get(playerId);
-            if (System.currentTimeMillis() - lastRequest < TELEPORT_COOLDOWN) {
-                long remaining = (TELEPORT_COOLDOWN - (System.currentTimeMillis() - lastRequest)) / 1000;
-                player.sendMessage(Component.text("Please wait " + remaining + " seconds before teleporting again!")
-                    .color(NamedTextColor.RED));
-                return false;
-            }
-        }
-        
         // Check if event has location
         if (event.getWorld() == null) {
             player.sendMessage(Component.text("This event doesn't have a set location!")
@@ -277,8 +267,9 @@ public class ChatManager {
             return false;
         }
         
-        // Update cooldown
-        lastTeleportRequest.put(playerId, System.currentTimeMillis());
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.TELEPORT, player)) {
+            return false;
+        }
         
         // Teleport with style
         Component teleportMessage = Component.text()
@@ -288,10 +279,12 @@ public class ChatManager {
             .build();
         
         player.sendMessage(teleportMessage);
-        player.teleport(eventLocation);
-        
-        // Play teleport sound
-        player.playSound(player.getLocation(), "entity.enderman.teleport", 1.0f, 1.0f);
+        plugin.getEventManager().getTeleportScheduler().schedule(player, event, arrived -> {
+            if (arrived) {
+                // Play teleport sound
+                player.playSound(player.getLocation(), "entity.enderman.teleport", 1.0f, 1.0f);
+            }
+        });
         
         return true;
     }
@@ -300,8 +293,13 @@ public class ChatManager {
      * Sends an event reminder to specific players
      */
     public void sendEventReminder(Event event, Collection<Player> players) {
-        Component reminder = createEventReminder(event);
-        players.forEach(player -> player.sendMessage(reminder));
+        TickProfiler.begin(TickProfiler.Subsystem.CHAT);
+        try {
+            Component reminder = createEventReminder(event);
+            players.forEach(player -> player.sendMessage(reminder));
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.CHAT);
+        }
     }
     
     private Component createEventReminder(Event event) {
@@ -343,7 +341,6 @@ public class ChatManager {
         }
         messageCache.clear();
         cacheTimestamps.clear();
-        lastTeleportRequest.clear();
     }
 }
  
\ No newline at end of file
@@ -4,12 +4,18 @@ import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
 import com.swiftevents.hud.HUDManager;
 import com.swiftevents.permissions.Permissions;
+import com.swiftevents.stats.Leaderboard;
+import com.swiftevents.stats.PlayerStat;
+import com.swiftevents.stats.PlayerStats;
+import com.swiftevents.stats.PlayerStatsManager;
 import com.swiftevents.tasker.EventTasker;
+import com.swiftevents.utils.RateLimits;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
 import java.util.ArrayList;
@@ -17,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class SwiftEventCommand implements CommandExecutor, TabCompleter {
@@ -29,6 +36,10 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (sender instanceof Player player && !plugin.getRateLimits().tryAcquire(RateLimits.Action.COMMAND, player)) {
+            return true;
+        }
+        
         if (args.length == 0) {
             if (sender instanceof Player) {
                 plugin.getGUIManager().openEventsGUI((Player) sender);
@@ -69,6 +80,12 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
             case "info":
                 handleInfo(player, args);
                 break;
+            case "stats":
+                handleStats(player);
+                break;
+            case "top":
+                handleTop(player, args);
+                break;
             case "teleport":
                 if (!player.hasPermission(Permissions.USER_TP)) {
                     player.sendMessage(plugin.getConfigManager().getPrefix() +
@@ -205,6 +222,10 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player)) {
+            return;
+        }
+
         boolean success = plugin.getEventManager().joinEvent(event.getId(), player.getUniqueId());
         if (success) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
@@ -247,6 +268,10 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player)) {
+            return;
+        }
+
         boolean success = plugin.getEventManager().leaveEvent(event.getId(), player.getUniqueId());
         if (success) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
@@ -315,13 +340,107 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
             event = findEventByName(eventIdentifier);
         }
 
-        if (event == null) {
+        if (event != null) {
+            showEventInfo(player, event);
+            return;
+        }
+
+        // Events that ended long ago are only in storage
+        plugin.getEventManager().getEventAsync(eventIdentifier).thenAccept(stored ->
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    if (stored == null) {
+                        player.sendMessage(plugin.getConfigManager().getPrefix() +
+                                "§cEvent not found: " + eventIdentifier);
+                    } else if (player.isOnline()) {
+                        showEventInfo(player, stored);
+                    }
+                }));
+    }
+
+    private void handleStats(Player player) {
+        if (!player.hasPermission(Permissions.USER_STATS)) {
             player.sendMessage(plugin.getConfigManager().getPrefix() +
-                    "§cEvent not found: " + eventIdentifier);
+                    plugin.getConfigManager().getMessage("no_permission"));
+            return;
+        }
+        PlayerStatsManager statsManager = plugin.getEventManager().getPlayerStats();
+        PlayerStats stats = statsManager.getStats(player.getUniqueId());
+        if (stats == null || stats.isEmpty()) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    "§7You have not taken part in any events yet.");
+            return;
+        }
+
+        player.sendMessage("§7" + "─".repeat(40));
+        player.sendMessage("§6Your Event Statistics");
+        player.sendMessage("§7" + "─".repeat(40));
+        for (PlayerStat stat : PlayerStat.values()) {
+            int rank = statsManager.getRank(player.getUniqueId(), stat);
+            player.sendMessage("§7" + getStatLabel(stat) + ": §f" + formatStat(stat, stat.valueOf(stats)) +
+                    (rank > 0 ? " §8(#" + rank + ")" : ""));
+        }
+        for (Event.EventType type : Event.EventType.values()) {
+            if (stats.getEventsJoined(type) > 0) {
+                player.sendMessage("  §e" + type.name() + "§7: §f" + stats.getEventsJoined(type) + " §7joined, §f" +
+                        stats.getEventsCompleted(type) + " §7completed, §f" + stats.getWins(type) + " §7wins");
+            }
+        }
+        player.sendMessage("§7" + "─".repeat(40));
+    }
+
+    private void handleTop(Player player, String[] args) {
+        if (!player.hasPermission(Permissions.USER_STATS)) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    plugin.getConfigManager().getMessage("no_permission"));
+            return;
+        }
+        PlayerStat stat = args.length > 1 ? PlayerStat.fromKey(args[1]) : PlayerStat.WINS;
+        if (stat == null) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    "§cUsage: /swiftevent top [joined|completed|wins|time]");
             return;
         }
 
-        showEventInfo(player, event);
+        PlayerStatsManager statsManager = plugin.getEventManager().getPlayerStats();
+        List<Leaderboard.Entry> top = statsManager.getTop(stat, statsManager.getLeaderboardSize());
+        if (top.isEmpty()) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() +
+                    "§7Nobody is on this leaderboard yet.");
+            return;
+        }
+
+        player.sendMessage("§7" + "─".repeat(40));
+        player.sendMessage("§6Top Players: §f" + getStatLabel(stat));
+        player.sendMessage("§7" + "─".repeat(40));
+        int rank = 1;
+        for (Leaderboard.Entry entry : top) {
+            String color = entry.playerId().equals(player.getUniqueId()) ? "§a" : "§f";
+            player.sendMessage("§e#" + rank++ + " " + color + getPlayerName(entry.playerId()) +
+                    " §7- §f" + formatStat(stat, entry.score()));
+        }
+        player.sendMessage("§7" + "─".repeat(40));
+    }
+
+    private String getStatLabel(PlayerStat stat) {
+        return switch (stat) {
+            case EVENTS_JOINED -> "Events joined";
+            case EVENTS_COMPLETED -> "Events completed";
+            case WINS -> "Wins";
+            case TIME_SPENT -> "Time in events";
+        };
+    }
+
+    private String formatStat(PlayerStat stat, long value) {
+        if (stat != PlayerStat.TIME_SPENT) {
+            return String.valueOf(value);
+        }
+        long minutes = value / 60_000;
+        return minutes >= 60 ? (minutes / 60) + "h " + (minutes % 60) + "m" : minutes + "m";
+    }
+
+    private String getPlayerName(UUID playerId) {
+        String name = Bukkit.getOfflinePlayer(playerId).getName();
+        return name != null ? name : playerId.toString().substring(0, 8);
     }
 
     private void handleTeleport(Player player, String[] args) {
@@ -398,6 +517,8 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e/swiftevent help §7- Shows this help message.");
         sender.sendMessage("§e/swiftevent list §7- Lists all available events.");
         sender.sendMessage("§e/swiftevent info <event> §7- Shows info about an event.");
+        sender.sendMessage("§e/swiftevent stats §7- Shows your event statistics.");
+        sender.sendMessage("§e/swiftevent top [joined|completed|wins|time] §7- Shows the leaderboard.");
         sender.sendMessage("§e/swiftevent teleport <event> §7- Teleports you to an event.");
         sender.sendMessage("§7" + "─".repeat(40));
     }
@@ -1006,7 +1127,7 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            List<String> completions = new ArrayList<>(Arrays.asList("join", "leave", "list", "info", "teleport", "gui", "help"));
+            List<String> completions = new ArrayList<>(Arrays.asList("join", "leave", "list", "info", "stats", "top", "teleport", "gui", "help"));
             if (sender.hasPermission(Permissions.ADMIN_BASE)) {
                 completions.add("admin");
             }
@@ -1015,6 +1136,13 @@ public class SwiftEventCommand implements CommandExecutor, TabCompleter {
                     .collect(Collectors.toList());
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("top")) {
+            return Arrays.stream(PlayerStat.values())
+                    .map(PlayerStat::getKey)
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
         if (args.length > 1 && args[0].equalsIgnoreCase("admin")) {
             if (!sender.hasPermission(Permissions.ADMIN_BASE)) {
                 return Collections.emptyList();
@@ -1,6 +1,7 @@
 package com.swiftevents.config;
 
 import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.utils.RateLimits;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -91,6 +92,16 @@ public class ConfigManager {
             validateDatabaseConfig();
         }
         
+        String storageFormat = config.getString("json.format", "json");
+        if (!"json".equalsIgnoreCase(storageFormat) && !"binary".equalsIgnoreCase(storageFormat)) {
+            validationErrors.add("json.format must be either 'json' or 'binary'");
+        }
+        
+        // Validate replication settings
+        if (config.getBoolean("replication.enabled", false)) {
+            validateReplicationConfig();
+        }
+        
         // Validate event settings
         validateEventConfig();
         
@@ -120,12 +131,33 @@ public class ConfigManager {
             validationErrors.add("database.max_connections must be between 1 and 50");
         }
         
+        String type = config.getString(DATABASE_PREFIX + "type", "mysql");
+        if (!"mysql".equalsIgnoreCase(type) && !"h2".equalsIgnoreCase(type)) {
+            validationErrors.add("database.type must be either 'mysql' or 'h2'");
+        }
+        
         String host = config.getString(DATABASE_PREFIX + "host", "localhost");
         if (host == null || host.trim().isEmpty()) {
             validationErrors.add("database.host cannot be empty");
         }
     }
     
+    private void validateReplicationConfig() {
+        if (!config.getBoolean("database.enabled", false) || !"mysql".equalsIgnoreCase(config.getString(DATABASE_PREFIX + "type", "mysql"))) {
+            validationErrors.add("replication.enabled requires database.enabled with database.type mysql");
+        }
+        
+        int pollInterval = config.getInt("replication.poll_interval_ms", 500);
+        if (pollInterval < 50 || pollInterval > 60000) {
+            validationErrors.add("replication.poll_interval_ms must be between 50 and 60000");
+        }
+        
+        int retention = config.getInt("replication.retention_minutes", 60);
+        if (retention < 1 || retention > 10080) {
+            validationErrors.add("replication.retention_minutes must be between 1 and 10080");
+        }
+    }
+    
     private void validateEventConfig() {
         int maxConcurrent = config.getInt(EVENTS_PREFIX + "max_concurrent", 5);
         if (maxConcurrent < 1 || maxConcurrent > 100) {
@@ -141,6 +173,46 @@ public class ConfigManager {
         if (maxEventsPerPlayer < 1 || maxEventsPerPlayer > 50) {
             validationErrors.add("events.max_events_per_player must be between 1 and 50");
         }
+        
+        if (config.getInt(EVENTS_PREFIX + "hot_retention_hours", 24) < 0) {
+            validationErrors.add("events.hot_retention_hours cannot be negative");
+        }
+        
+        if (config.getInt(EVENTS_PREFIX + "cold_cache_size", 128) < 1) {
+            validationErrors.add("events.cold_cache_size must be at least 1");
+        }
+        
+        if (config.getInt("player_stats.leaderboard_size", 10) < 1) {
+            validationErrors.add("player_stats.leaderboard_size must be at least 1");
+        }
+        
+        int teleportsPerTick = config.getInt(EVENTS_PREFIX + "teleports_per_tick", 8);
+        if (teleportsPerTick < 1 || teleportsPerTick > 100) {
+            validationErrors.add("events.teleports_per_tick must be between 1 and 100");
+        }
+        
+        if (config.getInt(EVENTS_PREFIX + "teleport_preload_seconds", 30) < 0) {
+            validationErrors.add("events.teleport_preload_seconds cannot be negative");
+        }
+        
+        int rewardBudget = config.getInt(EVENTS_PREFIX + "reward_tick_budget_micros", 2000);
+        if (rewardBudget < 100 || rewardBudget > 50000) {
+            validationErrors.add("events.reward_tick_budget_micros must be between 100 and 50000");
+        }
+        
+        int avoidRecent = config.getInt("event_tasker.selection.avoid_recent", 1);
+        if (avoidRecent < 0 || avoidRecent > 100) {
+            validationErrors.add("event_tasker.selection.avoid_recent must be between 0 and 100");
+        }
+        
+        String catchUp = config.getString("event_tasker.schedules.catch_up", "ONCE");
+        if (!catchUp.equalsIgnoreCase("SKIP") && !catchUp.equalsIgnoreCase("ONCE") && !catchUp.equalsIgnoreCase("ALL")) {
+            validationErrors.add("event_tasker.schedules.catch_up must be one of: SKIP, ONCE, ALL");
+        }
+        
+        if (config.getInt("event_tasker.schedules.catch_up_max_minutes", 60) < 1) {
+            validationErrors.add("event_tasker.schedules.catch_up_max_minutes must be at least 1");
+        }
     }
     
     private void validateHUDConfig() {
@@ -212,6 +284,18 @@ public class ConfigManager {
                 validationErrors.add("advanced.performance.batch_size must be between 1 and 1000");
             }
         }
+        
+        for (RateLimits.Action action : RateLimits.Action.values()) {
+            String prefix = "advanced.rate_limits." + action.getConfigKey();
+            int permits = config.getInt(prefix + ".permits", action.getDefaultPermits());
+            if (permits < 1 || permits > 1000) {
+                validationErrors.add(prefix + ".permits must be between 1 and 1000");
+            }
+            long windowMillis = config.getLong(prefix + ".window_ms", action.getDefaultWindowMillis());
+            if (windowMillis < 1 || windowMillis > 3600000) {
+                validationErrors.add(prefix + ".window_ms must be between 1 and 3600000");
+            }
+        }
     }
     
     public List<String> getValidationErrors() {
@@ -232,6 +316,7 @@ public class ConfigManager {
         
         // JSON storage defaults
         setDefaultIfMissing("json.folder", "events");
+        setDefaultIfMissing("json.format", "json");
         setDefaultIfMissing("json.auto_backup", true);
         setDefaultIfMissing("json.backup_interval", 3600);
         setDefaultIfMissing("json.max_backups", 5);
@@ -267,14 +352,31 @@ public class ConfigManager {
         setDefaultIfMissing("events.max_events_per_player", 3);
         setDefaultIfMissing("events.statistics_enabled", true);
         setDefaultIfMissing("events.auto_cancel_empty_after", 600);
+        setDefaultIfMissing("events.hot_retention_hours", 24);
+        setDefaultIfMissing("events.cold_cache_size", 128);
+        setDefaultIfMissing("events.teleports_per_tick", 8);
+        setDefaultIfMissing("events.teleport_preload_seconds", 30);
+        setDefaultIfMissing("events.reward_tick_budget_micros", 2000);
+        setDefaultIfMissing("player_stats.leaderboard_size", 10);
+        
+        // Replication defaults
+        setDefaultIfMissing("replication.enabled", false);
+        setDefaultIfMissing("replication.node_id", "");
+        setDefaultIfMissing("replication.poll_interval_ms", 500);
+        setDefaultIfMissing("replication.retention_minutes", 60);
         
         // Event Tasker defaults
         setDefaultIfMissing("event_tasker.enabled", false);
-        setDefaultIfMissing("event_tasker.check_interval", 60);
+        setDefaultIfMissing("event_tasker.check_interval", 600);
         setDefaultIfMissing("event_tasker.min_event_interval", 1800);
         setDefaultIfMissing("event_tasker.max_event_interval", 7200);
         setDefaultIfMissing("event_tasker.announce_upcoming", true);
         setDefaultIfMissing("event_tasker.announce_time", 300);
+        setDefaultIfMissing("event_tasker.selection.avoid_recent", 1);
+        setDefaultIfMissing("event_tasker.selection.population_aware", true);
+        setDefaultIfMissing("event_tasker.random_events", true);
+        setDefaultIfMissing("event_tasker.schedules.catch_up", "ONCE");
+        setDefaultIfMissing("event_tasker.schedules.catch_up_max_minutes", 60);
         
         // Localization defaults
         setDefaultIfMissing("localization.default_language", "en");
@@ -291,6 +393,13 @@ public class ConfigManager {
         setDefaultIfMissing("advanced.performance.async_operations", true);
         setDefaultIfMissing("advanced.performance.batch_operations", true);
         setDefaultIfMissing("advanced.performance.batch_size", 50);
+        setDefaultIfMissing("advanced.performance.virtual_threads", false);
+        
+        // Rate limits
+        for (RateLimits.Action action : RateLimits.Action.values()) {
+            setDefaultIfMissing("advanced.rate_limits." + action.getConfigKey() + ".permits", action.getDefaultPermits());
+            setDefaultIfMissing("advanced.rate_limits." + action.getConfigKey() + ".window_ms", action.getDefaultWindowMillis());
+        }
         
         // Integration settings
         setDefaultIfMissing("integrations.placeholder_api", true);
@@ -400,6 +509,10 @@ public class ConfigManager {
         return getCachedString("json.folder", "events");
     }
     
+    public String getStorageFormat() {
+        return getCachedString("json.format", "json");
+    }
+    
     public boolean isJsonAutoBackupEnabled() {
         return getCachedBoolean("json.auto_backup", true);
     }
@@ -512,12 +625,53 @@ public class ConfigManager {
         return getCachedInt("events.auto_cancel_empty_after", 600);
     }
     
+    public int getHotRetentionHours() {
+        return getCachedInt("events.hot_retention_hours", 24);
+    }
+    
+    public int getColdCacheSize() {
+        return getCachedInt("events.cold_cache_size", 128);
+    }
+    
+    public int getPlayerStatsLeaderboardSize() {
+        return getCachedInt("player_stats.leaderboard_size", 10);
+    }
+    
+    public int getTeleportsPerTick() {
+        return getCachedInt("events.teleports_per_tick", 8);
+    }
+    
+    public int getTeleportPreloadSeconds() {
+        return getCachedInt("events.teleport_preload_seconds", 30);
+    }
+    
+    public int getRewardTickBudgetMicros() {
+        return getCachedInt("events.reward_tick_budget_micros", 2000);
+    }
+    
+    // Replication settings; read at startup
+    public boolean isReplicationEnabled() {
+        return getCachedBoolean("replication.enabled", false);
+    }
+    
+    public String getReplicationNodeId() {
+        return getCachedString("replication.node_id", "");
+    }
+    
+    public int getReplicationPollIntervalMillis() {
+        return getCachedInt("replication.poll_interval_ms", 500);
+    }
+    
+    public int getReplicationRetentionMinutes() {
+        return getCachedInt("replication.retention_minutes", 60);
+    }
+    
     public boolean isEventTaskerEnabled() {
         return eventTaskerEnabled;
     }
     
     public int getTaskerCheckInterval() {
-        return getCachedInt("event_tasker.check_interval", 60);
+        return getCachedInt("event_tasker.check_interval", 600);
     }
     
     public int getMinEventInterval() {
@@ -536,6 +690,26 @@ public class ConfigManager {
         return getCachedInt("event_tasker.announce_time", 300);
     }
     
+    public int getTaskerAvoidRecent() {
+        return getCachedInt("event_tasker.selection.avoid_recent", 1);
+    }
+    
+    public boolean isTaskerPopulationAware() {
+        return getCachedBoolean("event_tasker.selection.population_aware", true);
+    }
+    
+    public boolean isTaskerRandomEvents() {
+        return getCachedBoolean("event_tasker.random_events", true);
+    }
+    
+    public String getTaskerCatchUp() {
+        return getCachedString("event_tasker.schedules.catch_up", "ONCE");
+    }
+    
+    public int getTaskerCatchUpMaxMinutes() {
+        return getCachedInt("event_tasker.schedules.catch_up_max_minutes", 60);
+    }
+    
     // Optimization: Return cached collection or empty list if not present
     @SuppressWarnings("unchecked")
     public List<String> getAutoJoinGroups() {
@@ -613,6 +787,20 @@ public class ConfigManager {
         return getCachedInt("advanced.performance.batch_size", 50);
     }
     
+    // Storage I/O on a virtual thread per task instead of the fixed database pool; read at startup
+    public boolean isVirtualThreadsEnabled() {
+        return getCachedBoolean("advanced.performance.virtual_threads", false);
+    }
+    
+    // Rate limits; read at startup
+    public int getRateLimitPermits(RateLimits.Action action) {
+        return getCachedInt("advanced.rate_limits." + action.getConfigKey() + ".permits", action.getDefaultPermits());
+    }
+    
+    public long getRateLimitWindowMillis(RateLimits.Action action) {
+        return getCachedInt("advanced.rate_limits." + action.getConfigKey() + ".window_ms", (int) action.getDefaultWindowMillis());
+    }
+    
     // Integration settings
     public boolean isPlaceholderAPIEnabled() {
         return getCachedBoolean("integrations.placeholder_api", true);
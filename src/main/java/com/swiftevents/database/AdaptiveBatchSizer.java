@@ -0,0 +1,64 @@
+package com.swiftevents.database;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks how many rows go into one multi-row upsert. Full statements that return well inside the
+ * target round trip grow the size by a quarter; any statement slower than the target halves it.
+ * Rows are also capped by payload, so a few events with large descriptions or metadata never
+ * produce a statement the server rejects. Records the throughput of every flush.
+ */
+class AdaptiveBatchSizer {
+
+    static final int MIN_ROWS = 10;
+    // 18 parameters per row; MySQL allows 65535 per statement
+    static final int MAX_ROWS = 1000;
+    static final int INITIAL_ROWS = 50;
+    // Well below MySQL's smallest default max_allowed_packet (4 MB)
+    static final int MAX_STATEMENT_BYTES = 1024 * 1024;
+    static final long TARGET_FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private int rowsPerStatement = INITIAL_ROWS;
+    private long flushCount;
+    private long rowsWritten;
+    private long bytesWritten;
+    private long flushNanos;
+    private double lastRowsPerSecond;
+
+    synchronized int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    synchronized void recordFlush(int rows, int payloadBytes, long elapsedNanos) {
+        flushCount++;
+        rowsWritten += rows;
+        bytesWritten += payloadBytes;
+        flushNanos += elapsedNanos;
+        lastRowsPerSecond = rows * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+
+        if (elapsedNanos > TARGET_FLUSH_NANOS) {
+            rowsPerStatement = Math.max(MIN_ROWS, Math.min(rowsPerStatement, rows) / 2);
+        } else if (rows >= rowsPerStatement && elapsedNanos < TARGET_FLUSH_NANOS / 2) {
+            // Only a full statement says the size itself is the limit
+            rowsPerStatement = Math.min(MAX_ROWS, rowsPerStatement + Math.max(1, rowsPerStatement / 4));
+        }
+    }
+
+    synchronized long getFlushCount() {
+        return flushCount;
+    }
+
+    synchronized double getAverageRowsPerSecond() {
+        return flushNanos > 0 ? rowsWritten * (double) TimeUnit.SECONDS.toNanos(1) / flushNanos : 0;
+    }
+
+    synchronized double getLastRowsPerSecond() {
+        return lastRowsPerSecond;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d rows/statement, %d flushes, %.0f rows/s (last %.0f), %d KB written",
+                rowsPerStatement, flushCount, getAverageRowsPerSecond(), lastRowsPerSecond, bytesWritten / 1024);
+    }
+}
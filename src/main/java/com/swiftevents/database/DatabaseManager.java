@@ -2,6 +2,7 @@ package com.swiftevents.database;
 
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
+import com.swiftevents.events.EventManager;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
@@ -11,86 +12,265 @@ import com.google.gson.JsonSerializer;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.sql.*;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class DatabaseManager {
     
     private final SwiftEventsPlugin plugin;
     private BasicDataSource dataSource;
-    private final Gson gson;
+    private final Gson gson; // Compact - event files and database columns
+    private final Gson prettyGson; // Human-readable backups
     private File jsonFolder;
+    private boolean binaryStorage;
     
     // Optimization: Dedicated thread pool for database operations with proper sizing
     private ExecutorService databaseExecutor;
+    private int platformThreadCount;
+    private VirtualThreadPinningMonitor pinningMonitor;
+    private final StorageWorkQueue workQueue;
+    
+    // Lets a caller run a sequence of operations at another priority, e.g. bulk admin actions
+    private static final ThreadLocal<Priority> PRIORITY_OVERRIDE = new ThreadLocal<>();
+    
+    /**
+     * Scheduling class of a storage operation. Interactive work runs first; bulk work waits at
+     * most {@code maxDelayMillis} behind interactive work submitted after it.
+     */
+    public enum Priority {
+        INTERACTIVE(0),
+        BULK(2000);
+        
+        private final long maxDelayNanos;
+        
+        Priority(long maxDelayMillis) {
+            this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        }
+        
+        long getMaxDelayNanos() {
+            return maxDelayNanos;
+        }
+    }
     
     // Optimization: Connection and performance settings
-    private static final int BATCH_SIZE = 50; // Reduced from 100 for better memory usage
     private static final int CONNECTION_TIMEOUT = 30000;
     private static final int STATEMENT_TIMEOUT = 15;
     private static final int MAX_POOL_SIZE = 8; // Reduced for memory efficiency
     
-    // Optimization: Pre-allocated buffers for batch operations
-    private static final ThreadLocal<List<Event>> BATCH_BUFFER = 
-        ThreadLocal.withInitial(() -> new ArrayList<>(BATCH_SIZE));
+    // Batch writes: multi-row upserts sized by measured round trips, committed every few thousand rows
+    private static final int MAX_ROWS_PER_TRANSACTION = 2000;
+    private static final int ROW_OVERHEAD_BYTES = 160;
+    private final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+    
+    // Optimistic concurrency: the row version each event was last written or read with
+    private final Map<String, Long> storedVersions = new ConcurrentHashMap<>();
+    private final LongAdder writeConflicts = new LongAdder();
+    private final LongAdder staleWrites = new LongAdder();
+    // Striped by event id: a JSON save checks the stored version and writes the file under one lock
+    private static final int JSON_LOCK_STRIPES = 64;
+    private final Object[] jsonLocks = new Object[JSON_LOCK_STRIPES];
     
     // Optimization: String builders for SQL generation
     private static final ThreadLocal<StringBuilder> SQL_BUILDER = 
         ThreadLocal.withInitial(() -> new StringBuilder(256));
     
+    // Bulk JSON loading: files are parsed in chunks on a bounded pool and handed over per chunk
+    private static final int LOAD_BATCH_SIZE = 256;
+    private static final int MAX_LOADER_THREADS = 4;
+    private static final int LOAD_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REPORTED_FAILURES = 20;
+    
+    // Per loader thread: a direct buffer for file reads and a char buffer for UTF-8 decoding, grown on demand
+    private static final ThreadLocal<ByteBuffer> LOAD_BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(LOAD_BUFFER_SIZE));
+    private static final ThreadLocal<CharBuffer> CHAR_BUFFER =
+        ThreadLocal.withInitial(() -> CharBuffer.allocate(LOAD_BUFFER_SIZE));
+    private static final ThreadLocal<CharsetDecoder> UTF8_DECODER =
+        ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    
+    private static final ForkJoinPool.ForkJoinWorkerThreadFactory LOADER_THREAD_FACTORY = pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("SwiftEvents-Loader-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    };
+    
     // Optimization: Reusable type reference for JSON operations
     private static final Type EVENT_LIST_TYPE = new TypeToken<List<Event>>(){}.getType();
     
     // SQL queries as constants to avoid repeated string creation
-    private static final String INSERT_EVENT_SQL = """
-        INSERT INTO events (id, name, description, type, status, max_participants, 
+    private static final int EVENT_COLUMN_COUNT = 19;
+    // The id goes last so the conditional update below can share the parameter order
+    private static final String INSERT_EVENT_PREFIX = """
+        INSERT INTO events (name, description, type, status, max_participants, 
                            current_participants, start_time, end_time, created_by, 
-                           created_at, world, x, y, z, rewards, requirements, metadata)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                           created_at, world, x, y, z, rewards, requirements, metadata, version, id)
+        VALUES""";
+    private static final String EVENT_ROW_PLACEHOLDERS = " (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Rows only move forward: an older version never overwrites a newer one. MySQL applies the
+    // assignments left to right, so version has to be the last one
+    private static final String UPSERT_EVENT_SUFFIX = """
+        
         ON DUPLICATE KEY UPDATE
-        name=VALUES(name), description=VALUES(description), status=VALUES(status),
-        max_participants=VALUES(max_participants), current_participants=VALUES(current_participants),
-        start_time=VALUES(start_time), end_time=VALUES(end_time),
-        world=VALUES(world), x=VALUES(x), y=VALUES(y), z=VALUES(z),
-        rewards=VALUES(rewards), requirements=VALUES(requirements), metadata=VALUES(metadata)
+        name = CASE WHEN VALUES(version) >= version THEN VALUES(name) ELSE name END,
+        description = CASE WHEN VALUES(version) >= version THEN VALUES(description) ELSE description END,
+        status = CASE WHEN VALUES(version) >= version THEN VALUES(status) ELSE status END,
+        max_participants = CASE WHEN VALUES(version) >= version THEN VALUES(max_participants) ELSE max_participants END,
+        current_participants = CASE WHEN VALUES(version) >= version THEN VALUES(current_participants) ELSE current_participants END,
+        start_time = CASE WHEN VALUES(version) >= version THEN VALUES(start_time) ELSE start_time END,
+        end_time = CASE WHEN VALUES(version) >= version THEN VALUES(end_time) ELSE end_time END,
+        world = CASE WHEN VALUES(version) >= version THEN VALUES(world) ELSE world END,
+        x = CASE WHEN VALUES(version) >= version THEN VALUES(x) ELSE x END,
+        y = CASE WHEN VALUES(version) >= version THEN VALUES(y) ELSE y END,
+        z = CASE WHEN VALUES(version) >= version THEN VALUES(z) ELSE z END,
+        rewards = CASE WHEN VALUES(version) >= version THEN VALUES(rewards) ELSE rewards END,
+        requirements = CASE WHEN VALUES(version) >= version THEN VALUES(requirements) ELSE requirements END,
+        metadata = CASE WHEN VALUES(version) >= version THEN VALUES(metadata) ELSE metadata END,
+        version = GREATEST(VALUES(version), version)
+        """;
+    private static final String INSERT_NEW_EVENT_SQL = INSERT_EVENT_PREFIX + EVENT_ROW_PLACEHOLDERS;
+    
+    // Single-event writes: only replaces the row version this server last saw
+    private static final String UPDATE_EVENT_SQL = """
+        UPDATE events SET name = ?, description = ?, type = ?, status = ?, max_participants = ?,
+                          current_participants = ?, start_time = ?, end_time = ?, created_by = ?,
+                          created_at = ?, world = ?, x = ?, y = ?, z = ?, rewards = ?, requirements = ?,
+                          metadata = ?, version = ?
+        WHERE id = ? AND version = ?
         """;
+    private static final String SELECT_VERSION_SQL = "SELECT version FROM events WHERE id = ?";
+    private static final int MAX_WRITE_ATTEMPTS = 3;
     
     private static final String SELECT_EVENT_SQL = """
         SELECT id, name, description, type, status, max_participants, current_participants,
                start_time, end_time, created_by, created_at, world, x, y, z,
-               rewards, requirements, metadata
+               rewards, requirements, metadata, version
         FROM events WHERE id = ?
         """;
     
-    private static final String SELECT_ALL_EVENTS_SQL = """
+    // Startup load: unfinished events and events finished since the cutoff, in full...
+    private static final String SELECT_HOT_EVENTS_SQL = """
         SELECT id, name, description, type, status, max_participants, current_participants,
                start_time, end_time, created_by, created_at, world, x, y, z,
-               rewards, requirements, metadata
-        FROM events ORDER BY created_at DESC
+               rewards, requirements, metadata, version
+        FROM events
+        WHERE status NOT IN ('COMPLETED', 'CANCELLED') OR COALESCE(end_time, created_at) >= ?
+        """;
+    
+    // ...and only the columns the cold tier summarizes for everything that finished earlier
+    private static final String SELECT_COLD_EVENT_SUMMARIES_SQL = """
+        SELECT id, name, type, status, current_participants, start_time, end_time, created_at, version
+        FROM events
+        WHERE status IN ('COMPLETED', 'CANCELLED') AND COALESCE(end_time, created_at) < ?
         """;
     
     private static final String DELETE_EVENT_SQL = "DELETE FROM events WHERE id = ?";
     
+    // Supported SQL backends; H2 runs in MySQL compatibility mode so the statements above are shared
+    private static final String MYSQL_DRIVER = "com.mysql.cj.jdbc.Driver";
+    private static final String H2_DRIVER = "org.h2.Driver";
+    private static final String MYSQL_TABLE_OPTIONS = " ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci";
+    
     public DatabaseManager(SwiftEventsPlugin plugin) {
         this.plugin = plugin;
-        this.gson = new GsonBuilder()
-                .setPrettyPrinting()
+        this.gson = EventJsonAdapters.register(new GsonBuilder())
                 .setDateFormat("yyyy-MM-dd HH:mm:ss")
                 .disableHtmlEscaping()
                 .create();
+        this.prettyGson = gson.newBuilder()
+                .setPrettyPrinting()
+                .create();
+        
+        this.databaseExecutor = createDatabaseExecutor();
+        this.workQueue = new StorageWorkQueue(databaseExecutor);
+        Arrays.setAll(jsonLocks, i -> new Object());
+    }
+    
+    private ExecutorService createDatabaseExecutor() {
+        if (plugin.getConfigManager().isVirtualThreadsEnabled()) {
+            // One virtual thread per task, never more running than there are pooled connections
+            if (plugin.getConfigManager().isDebugMode()) {
+                pinningMonitor = new VirtualThreadPinningMonitor(plugin.getLogger());
+                if (!pinningMonitor.start()) {
+                    pinningMonitor = null;
+                }
+            }
+            return new BoundedVirtualThreadExecutor("SwiftEvents-DB-V-", MAX_POOL_SIZE);
+        }
         
         // Initialize dedicated thread pool for database operations
-        int threadCount = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
-        this.databaseExecutor = Executors.newFixedThreadPool(threadCount, new DatabaseThreadFactory());
+        platformThreadCount = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        return Executors.newFixedThreadPool(platformThreadCount, new DatabaseThreadFactory());
+    }
+    
+    private Executor executorFor(Priority defaultPriority) {
+        Priority override = PRIORITY_OVERRIDE.get();
+        return workQueue.executor(override != null ? override : defaultPriority);
+    }
+    
+    /**
+     * Runs {@code action} with every storage operation it submits from this thread queued at
+     * {@code priority}, instead of the operation's usual class.
+     */
+    public <T> T withPriority(Priority priority, Supplier<T> action) {
+        Priority previous = PRIORITY_OVERRIDE.get();
+        PRIORITY_OVERRIDE.set(priority);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                PRIORITY_OVERRIDE.set(previous);
+            } else {
+                PRIORITY_OVERRIDE.remove();
+            }
+        }
+    }
+    
+    public StorageWorkQueue.Stats getQueueStats(Priority priority) {
+        return workQueue.getStats(priority);
+    }
+    
+    /**
+     * Which executor runs storage I/O and how busy it is, for the performance GUI
+     */
+    public String getExecutorDescription() {
+        if (databaseExecutor instanceof BoundedVirtualThreadExecutor virtualExecutor) {
+            String description = "virtual, " + virtualExecutor.getRunningCount() + "/" + virtualExecutor.getMaxConcurrency() +
+                " running, " + virtualExecutor.getWaitingCount() + " waiting";
+            return pinningMonitor != null ? description + ", " + pinningMonitor.getPinnedCount() + " pinned" : description;
+        }
+        return "platform, " + platformThreadCount + " threads";
     }
     
     // Custom thread factory for database operations with proper naming and daemon status
@@ -114,20 +294,59 @@ public class DatabaseManager {
         }
     }
     
+    /**
+     * Whether the SQL backend is the embedded H2 database rather than an external MySQL server
+     */
+    public boolean isEmbeddedDatabase() {
+        return "h2".equalsIgnoreCase(plugin.getConfigManager().getDatabaseType());
+    }
+    
+    /**
+     * Whether data is stored in the SQL backend rather than JSON files
+     */
+    public boolean isDatabaseActive() {
+        return plugin.getConfigManager().isDatabaseEnabled() && dataSource != null;
+    }
+    
+    /**
+     * A pooled connection to the SQL backend, for components that keep tables of their own
+     */
+    public Connection getConnection() throws SQLException {
+        if (dataSource == null) {
+            throw new SQLException("Database storage is not enabled");
+        }
+        return dataSource.getConnection();
+    }
+    
+    private String getDatabaseLabel() {
+        return isEmbeddedDatabase() ? "H2" : "MySQL";
+    }
+    
     private void initializeDatabase() {
         try {
             dataSource = new BasicDataSource();
-            dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
             
             StringBuilder urlBuilder = SQL_BUILDER.get();
             urlBuilder.setLength(0);
-            urlBuilder.append("jdbc:mysql://")
-                     .append(plugin.getConfigManager().getDatabaseHost())
-                     .append(":").append(plugin.getConfigManager().getDatabasePort())
-                     .append("/").append(plugin.getConfigManager().getDatabaseName())
-                     .append("?useSSL=false&allowPublicKeyRetrieval=true&useUnicode=true")
-                     .append("&characterEncoding=UTF-8&autoReconnect=true&failOverReadOnly=false")
-                     .append("&maxReconnects=3&serverTimezone=UTC");
+            if (isEmbeddedDatabase()) {
+                // File-backed database in the plugin folder, speaking the MySQL dialect
+                dataSource.setDriverClassName(H2_DRIVER);
+                File databaseFile = new File(plugin.getDataFolder(), plugin.getConfigManager().getDatabaseName());
+                urlBuilder.append("jdbc:h2:file:")
+                         .append(databaseFile.getAbsolutePath())
+                         .append(";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+            } else {
+                dataSource.setDriverClassName(MYSQL_DRIVER);
+                urlBuilder.append("jdbc:mysql://")
+                         .append(plugin.getConfigManager().getDatabaseHost())
+                         .append(":").append(plugin.getConfigManager().getDatabasePort())
+                         .append("/").append(plugin.getConfigManager().getDatabaseName())
+                         .append("?useSSL=false&allowPublicKeyRetrieval=true&useUnicode=true")
+                         .append("&characterEncoding=UTF-8&autoReconnect=true&failOverReadOnly=false")
+                         .append("&maxReconnects=3&serverTimezone=UTC")
+                         // Honour setFetchSize with a server-side cursor instead of buffering whole result sets
+                         .append("&useCursorFetch=true");
+            }
             
             dataSource.setUrl(urlBuilder.toString());
             dataSource.setUsername(plugin.getConfigManager().getDatabaseUsername());
@@ -156,10 +375,10 @@ public class DatabaseManager {
             // Create tables
             createTables();
             
-            plugin.getLogger().info("MySQL database initialized with optimized connection pool (" + MAX_POOL_SIZE + " max connections)");
+            plugin.getLogger().info(getDatabaseLabel() + " database initialized with optimized connection pool (" + MAX_POOL_SIZE + " max connections)");
             
         } catch (Exception e) {
-            plugin.getLogger().severe("Failed to initialize MySQL database: " + e.getMessage());
+            plugin.getLogger().severe("Failed to initialize " + getDatabaseLabel() + " database: " + e.getMessage());
             if (plugin.getConfigManager().isDebugMode()) {
                 e.printStackTrace();
             }
@@ -198,11 +417,16 @@ public class DatabaseManager {
             }
         }
 
-        plugin.getLogger().info("JSON storage initialized at: " + jsonFolder.getPath());
+        binaryStorage = "binary".equalsIgnoreCase(plugin.getConfigManager().getStorageFormat());
+        plugin.getLogger().info("JSON storage initialized at: " + jsonFolder.getPath() +
+            (binaryStorage ? " (binary format)" : ""));
     }
     
     // Optimized table creation with minimal memory usage
     private void createTables() throws SQLException {
+        // Storage engine and charset options are MySQL-specific; the embedded database doesn't need them
+        String tableOptions = isEmbeddedDatabase() ? "" : MYSQL_TABLE_OPTIONS;
+        
         try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
             
@@ -227,15 +451,23 @@ public class DatabaseManager {
                     rewards TEXT,
                     requirements TEXT,
                     metadata TEXT,
+                    version BIGINT NOT NULL DEFAULT 0,
                     INDEX idx_status (status),
                     INDEX idx_type (type),
                     INDEX idx_created_by (created_by),
                     INDEX idx_created_at (created_at)
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
-                """;
+                )""" + tableOptions;
             
             stmt.execute(createEventsTable);
             
+            // Tables created before versioned writes lack the version column
+            try (ResultSet columns = conn.getMetaData().getColumns(conn.getCatalog(), null, "events", "version")) {
+                if (!columns.next()) {
+                    stmt.execute("ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0");
+                    plugin.getLogger().info("Added the version column to the events table");
+                }
+            }
+            
             // Participants table for normalization and better performance
             String createParticipantsTable = """
                 CREATE TABLE IF NOT EXISTS event_participants (
@@ -247,33 +479,51 @@ public class DatabaseManager {
                     FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE,
                     INDEX idx_player_uuid (player_uuid),
                     INDEX idx_joined_at (joined_at)
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
-                """;
+                )""" + tableOptions;
             
             stmt.execute(createParticipantsTable);
         }
     }
     
     // Event CRUD operations with improved async handling and batching
+    /**
+     * Saves the event as it is now under its next version, which is set on the event. Saves of the
+     * same event may reach storage out of order; one whose version is already stored or outdated
+     * is skipped instead of rolling the row back.
+     */
     public CompletableFuture<Boolean> saveEvent(Event event) {
         if (event == null) {
             return CompletableFuture.completedFuture(false);
         }
+        event.setVersion(Math.max(event.getVersion(), getStoredVersion(event.getId())) + 1);
+        return saveEventAtVersion(event);
+    }
+    
+    /**
+     * Saves the event under the version already set on it, for callers that assign versions
+     * themselves. It is skipped like an outdated save unless it is above {@link #getStoredVersion}.
+     */
+    public CompletableFuture<Boolean> saveEventAtVersion(Event event) {
+        if (event == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // Later changes to the event must not leak into this save
+        Event snapshot = event.copy();
         return CompletableFuture.supplyAsync(() -> {
             try {
                 if (plugin.getConfigManager().isDatabaseEnabled() && dataSource != null) {
-                    return saveEventToDatabase(event);
+                    return saveEventToDatabase(snapshot);
                 } else {
-                    return saveEventToJson(event);
+                    return saveNewerEventToJson(snapshot);
                 }
             } catch (Exception e) {
-                plugin.getLogger().warning("Error saving event " + event.getId() + ": " + e.getMessage());
+                plugin.getLogger().warning("Error saving event " + snapshot.getId() + ": " + e.getMessage());
                 if (plugin.getConfigManager().isDebugMode()) {
                     e.printStackTrace();
                 }
                 return false;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.INTERACTIVE));
     }
     
     // Optimized batch save operation with better memory management
@@ -300,7 +550,7 @@ public class DatabaseManager {
                 }
                 return false;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.BULK));
     }
     
     public CompletableFuture<Event> loadEvent(String eventId) {
@@ -315,25 +565,68 @@ public class DatabaseManager {
                 plugin.getLogger().warning("Error loading event " + eventId + ": " + e.getMessage());
                 return null;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.INTERACTIVE));
+    }
+    
+    // Events that are not held in memory, e.g. the event manager's cold tier; missing ids are skipped
+    public CompletableFuture<List<Event>> loadEvents(Collection<String> eventIds) {
+        return CompletableFuture.supplyAsync(() -> loadEventsById(eventIds), executorFor(Priority.INTERACTIVE));
+    }
+    
+    private List<Event> loadEventsById(Collection<String> eventIds) {
+        List<Event> events = new ArrayList<>(eventIds.size());
+        boolean useDatabase = plugin.getConfigManager().isDatabaseEnabled() && dataSource != null;
+        for (String eventId : eventIds) {
+            try {
+                Event event = useDatabase ? loadEventFromDatabase(eventId) : loadEventFromJson(eventId);
+                if (event != null) {
+                    events.add(event);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error loading event " + eventId + ": " + e.getMessage());
+            }
+        }
+        return events;
     }
     
     public CompletableFuture<List<Event>> loadAllEvents() {
+        List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        return streamAllEvents(events::addAll).thenApply(count -> new ArrayList<>(events));
+    }
+    
+    /**
+     * Loads all events and hands them to {@code batchConsumer} batch by batch as they are read,
+     * so callers can use the first events before the rest are loaded. The consumer may be called
+     * from several loader threads at once. Completes with the number of events delivered.
+     */
+    public CompletableFuture<Integer> streamAllEvents(Consumer<List<Event>> batchConsumer) {
+        return streamAllEvents(batchConsumer, 0);
+    }
+    
+    /**
+     * Like {@link #streamAllEvents(Consumer)}, but completed and cancelled events that finished
+     * before {@code hotSince} may be delivered as summaries: id, name, type, status, participant
+     * count and timestamps only. The database backend uses this to skip the description, location
+     * and JSON columns of history the caller does not keep in memory. Pass 0 to load everything
+     * in full.
+     */
+    public CompletableFuture<Integer> streamAllEvents(Consumer<List<Event>> batchConsumer, long hotSince) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 if (plugin.getConfigManager().isDatabaseEnabled() && dataSource != null) {
-                    return loadAllEventsFromDatabase();
+                    return streamEventsFromDatabase(batchConsumer, hotSince);
                 } else {
-                    return loadAllEventsFromJson();
+                    return loadAllEventsFromJson(batchConsumer);
                 }
             } catch (Exception e) {
                 plugin.getLogger().warning("Error loading all events: " + e.getMessage());
-                return new ArrayList<>();
+                return 0;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.BULK));
     }
     
     public CompletableFuture<Boolean> deleteEvent(String eventId) {
+        storedVersions.remove(eventId);
         return CompletableFuture.supplyAsync(() -> {
             try {
                 if (plugin.getConfigManager().isDatabaseEnabled() && dataSource != null) {
@@ -348,7 +641,7 @@ public class DatabaseManager {
                 }
                 return false;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.INTERACTIVE));
     }
     
     public CompletableFuture<Boolean> backupData() {
@@ -368,17 +661,18 @@ public class DatabaseManager {
                 }
 
                 String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-                File backupFile = new File(backupDir, "backup-" + timestamp + ".json");
+                File backupFile = new File(backupDir, "backup-" + timestamp + getStorageExtension());
 
                 List<Event> allEvents = plugin.getEventManager().getAllEvents();
-                return saveEventsToJsonFile(allEvents, backupFile);
+                allEvents.addAll(loadEventsById(plugin.getEventManager().getColdEventIds()));
+                return binaryStorage ? saveEventsToBinaryFile(allEvents, backupFile) : saveEventsToJsonFile(allEvents, backupFile);
 
             } catch (Exception e) {
                 plugin.getLogger().severe("Failed to create backup: " + e.getMessage());
                 e.printStackTrace();
                 return false;
             }
-        }, databaseExecutor);
+        }, executorFor(Priority.BULK));
     }
     
     // Database operations with optimized memory usage
@@ -388,34 +682,45 @@ public class DatabaseManager {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
             
-            // Process in batches to avoid memory issues
-            List<Event> batch = BATCH_BUFFER.get();
-            batch.clear();
-            
-            try (PreparedStatement stmt = conn.prepareStatement(INSERT_EVENT_SQL)) {
-                stmt.setQueryTimeout(STATEMENT_TIMEOUT);
+            try {
+                List<EventRow> pending = new ArrayList<>();
+                int pendingBytes = 0;
+                int uncommittedRows = 0;
+                int rowLimit = batchSizer.getRowsPerStatement();
                 
-                int count = 0;
                 for (Event event : events) {
-                    setEventParameters(stmt, event);
-                    stmt.addBatch();
-                    count++;
-                    
-                    if (count % BATCH_SIZE == 0) {
-                        stmt.executeBatch();
-                        stmt.clearBatch();
+                    EventRow row = new EventRow(event);
+                    if (!pending.isEmpty() && (pending.size() >= rowLimit ||
+                            pendingBytes + row.payloadBytes > AdaptiveBatchSizer.MAX_STATEMENT_BYTES)) {
+                        uncommittedRows += flushRows(conn, pending, pendingBytes);
+                        pending.clear();
+                        pendingBytes = 0;
+                        rowLimit = batchSizer.getRowsPerStatement();
+                        
+                        // Bounded transactions keep lock time and undo log small on large saves
+                        if (uncommittedRows >= MAX_ROWS_PER_TRANSACTION) {
+                            conn.commit();
+                            uncommittedRows = 0;
+                        }
                     }
+                    pending.add(row);
+                    pendingBytes += row.payloadBytes;
                 }
-                
-                // Execute remaining batch
-                if (count % BATCH_SIZE != 0) {
-                    stmt.executeBatch();
+                if (!pending.isEmpty()) {
+                    flushRows(conn, pending, pendingBytes);
                 }
                 
                 conn.commit();
+                for (Event event : events) {
+                    recordStoredVersion(event.getId(), event.getVersion());
+                }
+                if (plugin.getConfigManager().isDebugMode()) {
+                    plugin.getLogger().info("Saved " + events.size() + " events in batches: " + batchSizer);
+                }
                 return true;
                 
             } catch (SQLException e) {
+                // Upserts are idempotent, so transactions committed before the failure can stay
                 conn.rollback();
                 throw e;
             }
@@ -426,72 +731,187 @@ public class DatabaseManager {
         }
     }
     
-    private void setEventParameters(PreparedStatement stmt, Event event) throws SQLException {
-        stmt.setString(1, event.getId());
-        stmt.setString(2, event.getName());
-        stmt.setString(3, event.getDescription());
-        stmt.setString(4, event.getType().name());
-        stmt.setString(5, event.getStatus().name());
-        stmt.setInt(6, event.getMaxParticipants());
-        stmt.setInt(7, event.getCurrentParticipants());
+    // One multi-row upsert; its round trip feeds the batch sizer
+    private int flushRows(Connection conn, List<EventRow> rows, int payloadBytes) throws SQLException {
+        StringBuilder sql = SQL_BUILDER.get();
+        sql.setLength(0);
+        sql.append(INSERT_EVENT_PREFIX).append(EVENT_ROW_PLACEHOLDERS);
+        for (int i = 1; i < rows.size(); i++) {
+            sql.append(',').append(EVENT_ROW_PLACEHOLDERS);
+        }
+        sql.append(UPSERT_EVENT_SUFFIX);
+        
+        long startTime = System.nanoTime();
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            stmt.setQueryTimeout(STATEMENT_TIMEOUT);
+            for (int i = 0; i < rows.size(); i++) {
+                setEventParameters(stmt, i * EVENT_COLUMN_COUNT, rows.get(i));
+            }
+            stmt.executeUpdate();
+        }
+        batchSizer.recordFlush(rows.size(), payloadBytes, System.nanoTime() - startTime);
+        return rows.size();
+    }
+    
+    /**
+     * How the batch writer is sizing its statements and the throughput it measured, for the performance GUI
+     */
+    public String getBatchWriteStats() {
+        return batchSizer.toString();
+    }
+    
+    /**
+     * An event with its JSON columns serialized, so the batch writer knows a row's size before
+     * adding it to a statement
+     */
+    private static class EventRow {
+        private final Event event;
+        private final String rewardsJson;
+        private final String requirementsJson;
+        private final String metadataJson;
+        private final int payloadBytes;
+        
+        EventRow(Event event) {
+            // JSON fields - minimize serialization overhead
+            List<String> rewards = event.getRewards();
+            Map<String, Object> requirements = event.getRequirements();
+            Map<String, Object> metadata = event.getMetadata();
+            this.event = event;
+            this.rewardsJson = rewards.isEmpty() ? null : EventJsonAdapters.REWARDS.toJson(rewards);
+            this.requirementsJson = requirements.isEmpty() ? null : EventJsonAdapters.VALUE_MAP.toJson(requirements);
+            this.metadataJson = metadata.isEmpty() ? null : EventJsonAdapters.VALUE_MAP.toJson(metadata);
+            this.payloadBytes = ROW_OVERHEAD_BYTES + length(event.getName()) + length(event.getDescription()) +
+                length(event.getWorld()) + length(rewardsJson) + length(requirementsJson) + length(metadataJson);
+        }
+        
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+    
+    private void setEventParameters(PreparedStatement stmt, int offset, EventRow row) throws SQLException {
+        Event event = row.event;
+        stmt.setString(offset + 1, event.getName());
+        stmt.setString(offset + 2, event.getDescription());
+        stmt.setString(offset + 3, event.getType().name());
+        stmt.setString(offset + 4, event.getStatus().name());
+        stmt.setInt(offset + 5, event.getMaxParticipants());
+        stmt.setInt(offset + 6, event.getCurrentParticipants());
         
         // Handle nullable timestamps
         if (event.getStartTime() > 0) {
-            stmt.setLong(8, event.getStartTime());
+            stmt.setLong(offset + 7, event.getStartTime());
         } else {
-            stmt.setNull(8, Types.BIGINT);
+            stmt.setNull(offset + 7, Types.BIGINT);
         }
         
         if (event.getEndTime() > 0) {
-            stmt.setLong(9, event.getEndTime());
+            stmt.setLong(offset + 8, event.getEndTime());
         } else {
-            stmt.setNull(9, Types.BIGINT);
+            stmt.setNull(offset + 8, Types.BIGINT);
         }
         
         if (event.getCreatedBy() != null) {
-            stmt.setString(10, event.getCreatedBy().toString());
+            stmt.setString(offset + 9, event.getCreatedBy().toString());
         } else {
-            stmt.setNull(10, Types.VARCHAR);
+            stmt.setNull(offset + 9, Types.VARCHAR);
         }
         
-        stmt.setLong(11, event.getCreatedAt());
+        stmt.setLong(offset + 10, event.getCreatedAt());
         
         // Location data
         if (event.hasLocation()) {
-            stmt.setString(12, event.getWorld());
-            stmt.setDouble(13, event.getX());
-            stmt.setDouble(14, event.getY());
-            stmt.setDouble(15, event.getZ());
+            stmt.setString(offset + 11, event.getWorld());
+            stmt.setDouble(offset + 12, event.getX());
+            stmt.setDouble(offset + 13, event.getY());
+            stmt.setDouble(offset + 14, event.getZ());
         } else {
-            stmt.setNull(12, Types.VARCHAR);
-            stmt.setNull(13, Types.DOUBLE);
-            stmt.setNull(14, Types.DOUBLE);
-            stmt.setNull(15, Types.DOUBLE);
+            stmt.setNull(offset + 11, Types.VARCHAR);
+            stmt.setNull(offset + 12, Types.DOUBLE);
+            stmt.setNull(offset + 13, Types.DOUBLE);
+            stmt.setNull(offset + 14, Types.DOUBLE);
         }
         
-        // JSON fields - minimize serialization overhead
-        stmt.setString(16, event.getRewards().isEmpty() ? null : gson.toJson(event.getRewards()));
-        stmt.setString(17, event.getRequirements().isEmpty() ? null : gson.toJson(event.getRequirements()));
-        stmt.setString(18, event.getMetadata().isEmpty() ? null : gson.toJson(event.getMetadata()));
+        // JSON fields, serialized with the row
+        stmt.setString(offset + 15, row.rewardsJson);
+        stmt.setString(offset + 16, row.requirementsJson);
+        stmt.setString(offset + 17, row.metadataJson);
+        
+        stmt.setLong(offset + 18, event.getVersion());
+        stmt.setString(offset + 19, event.getId());
     }
     
     private boolean saveEventsBatchToJson(Collection<Event> events) {
         for (Event event : events) {
-            if (!saveEventToJson(event)) {
-                return false;
+            synchronized (jsonLockFor(event.getId())) {
+                if (!saveEventToJson(event)) {
+                    return false;
+                }
+                recordStoredVersion(event.getId(), event.getVersion());
             }
         }
         return true;
     }
     
+    // The version check and the write happen under the event's lock, so two saves of the same
+    // event on different storage threads can never let the older one land last
+    private boolean saveNewerEventToJson(Event event) {
+        synchronized (jsonLockFor(event.getId())) {
+            if (isStale(event)) {
+                staleWrites.increment();
+                return true;
+            }
+            boolean saved = saveEventToJson(event);
+            if (saved) {
+                recordStoredVersion(event.getId(), event.getVersion());
+            }
+            return saved;
+        }
+    }
+    
+    private Object jsonLockFor(String eventId) {
+        return jsonLocks[Math.floorMod(eventId.hashCode(), JSON_LOCK_STRIPES)];
+    }
+    
+    /**
+     * Writes the row only if it still has the version last seen here. A newer version written by
+     * this server means the save is stale and is skipped. When another write got there first the
+     * stored version is read again: an older one is overwritten on the next attempt, while a newer
+     * one is a lost conflict - the save fails and the event in memory is reloaded from the row.
+     */
     private boolean saveEventToDatabase(Event event) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_EVENT_SQL)) {
-            
-            stmt.setQueryTimeout(STATEMENT_TIMEOUT);
-            setEventParameters(stmt, event);
-            
-            return stmt.executeUpdate() > 0;
+        String eventId = event.getId();
+        EventRow row = new EventRow(event);
+        try (Connection conn = dataSource.getConnection()) {
+            for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                Long known = storedVersions.get(eventId);
+                long stored = known != null ? known : readStoredVersion(conn, eventId);
+                if (stored >= event.getVersion()) {
+                    if (known != null) {
+                        staleWrites.increment();
+                        return true;
+                    }
+                    // Another server stored a newer row; a failed update above already counted it
+                    if (attempt == 0) {
+                        writeConflicts.increment();
+                    }
+                    reloadAfterConflict(eventId);
+                    return false;
+                }
+                if (known == null && stored >= 0) {
+                    recordStoredVersion(eventId, stored);
+                }
+                
+                boolean written = stored < 0 ? insertEventRow(conn, row) : updateEventRow(conn, row, stored);
+                if (written) {
+                    recordStoredVersion(eventId, event.getVersion());
+                    return true;
+                }
+                writeConflicts.increment();
+                storedVersions.remove(eventId, stored);
+            }
+            plugin.getLogger().warning("Gave up saving event " + eventId + " after " + MAX_WRITE_ATTEMPTS + " conflicting writes");
+            return false;
             
         } catch (SQLException e) {
             plugin.getLogger().warning("Failed to save event to database: " + e.getMessage());
@@ -499,6 +919,77 @@ public class DatabaseManager {
         }
     }
     
+    // The newer row replaces the event in memory, so the next change starts from it
+    private void reloadAfterConflict(String eventId) {
+        Event stored = loadEventFromDatabase(eventId);
+        EventManager eventManager = plugin.getEventManager();
+        if (stored != null && eventManager != null) {
+            eventManager.applyStoredState(stored);
+        }
+    }
+    
+    // The row's version, or -1 when there is no row yet
+    private long readStoredVersion(Connection conn, String eventId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_VERSION_SQL)) {
+            stmt.setQueryTimeout(STATEMENT_TIMEOUT);
+            stmt.setString(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1;
+            }
+        }
+    }
+    
+    private boolean insertEventRow(Connection conn, EventRow row) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_NEW_EVENT_SQL)) {
+            stmt.setQueryTimeout(STATEMENT_TIMEOUT);
+            setEventParameters(stmt, 0, row);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // Inserted concurrently by another save
+            return false;
+        }
+    }
+    
+    private boolean updateEventRow(Connection conn, EventRow row, long expectedVersion) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(UPDATE_EVENT_SQL)) {
+            stmt.setQueryTimeout(STATEMENT_TIMEOUT);
+            setEventParameters(stmt, 0, row);
+            stmt.setLong(EVENT_COLUMN_COUNT + 1, expectedVersion);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+    
+    private boolean isStale(Event event) {
+        Long stored = storedVersions.get(event.getId());
+        return stored != null && stored >= event.getVersion();
+    }
+    
+    private void recordStoredVersion(String eventId, long version) {
+        storedVersions.merge(eventId, version, Math::max);
+    }
+    
+    /**
+     * Drops the version kept for an event that moved out of memory; a later save reads it from
+     * storage again
+     */
+    public void forgetStoredVersion(String eventId) {
+        storedVersions.remove(eventId);
+    }
+    
+    /**
+     * The highest version known to be stored for an event, or 0
+     */
+    public long getStoredVersion(String eventId) {
+        return storedVersions.getOrDefault(eventId, 0L);
+    }
+    
+    /**
+     * Conditional write outcomes for the performance GUI
+     */
+    public String getWriteConflictStats() {
+        return writeConflicts.sum() + " conflicts, " + staleWrites.sum() + " stale saves skipped";
+    }
+    
     private Event loadEventFromDatabase(String eventId) {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_EVENT_SQL)) {
@@ -519,32 +1010,112 @@ public class DatabaseManager {
         return null;
     }
     
-    private List<Event> loadAllEventsFromDatabase() {
-        List<Event> events = new ArrayList<>();
+    private int streamEventsFromDatabase(Consumer<List<Event>> batchConsumer, long hotSince) throws SQLException {
+        long startTime = System.nanoTime();
+        AtomicInteger loadedCount = new AtomicInteger();
+        int parallelism = Math.max(1, Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors()));
+        // Bounds the rows waiting for hydration, so memory stays flat however large the table is
+        int maxChunksInFlight = parallelism * 2;
+        Semaphore chunksInFlight = new Semaphore(maxChunksInFlight);
+        ForkJoinPool hydrationPool = new ForkJoinPool(parallelism, LOADER_THREAD_FACTORY, null, false);
+        int summaryCount = 0;
         
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_EVENTS_SQL)) {
-            
-            stmt.setQueryTimeout(STATEMENT_TIMEOUT * 2); // Longer timeout for bulk operations
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    try {
-                        Event event = createEventFromResultSet(rs);
-                        if (event != null) {
-                            events.add(event);
+        try (Connection conn = dataSource.getConnection()) {
+            // Full rows are read here; their JSON columns are parsed on the loader threads
+            try (PreparedStatement stmt = prepareStreamingQuery(conn, SELECT_HOT_EVENTS_SQL)) {
+                stmt.setLong(1, hotSince);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    List<PendingEvent> chunk = new ArrayList<>(LOAD_BATCH_SIZE);
+                    while (rs.next()) {
+                        try {
+                            chunk.add(readPendingEvent(rs));
+                        } catch (RuntimeException e) {
+                            plugin.getLogger().warning("Error parsing event from database: " + e.getMessage());
                         }
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Error parsing event from database: " + e.getMessage());
+                        if (chunk.size() == LOAD_BATCH_SIZE) {
+                            submitHydration(chunk, hydrationPool, chunksInFlight, batchConsumer, loadedCount);
+                            chunk = new ArrayList<>(LOAD_BATCH_SIZE);
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        submitHydration(chunk, hydrationPool, chunksInFlight, batchConsumer, loadedCount);
                     }
                 }
             }
             
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to load events from database: " + e.getMessage());
+            if (hotSince > 0) {
+                // Summaries need no JSON parsing and are handed over from this thread
+                try (PreparedStatement stmt = prepareStreamingQuery(conn, SELECT_COLD_EVENT_SUMMARIES_SQL)) {
+                    stmt.setLong(1, hotSince);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        List<Event> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                        while (rs.next()) {
+                            try {
+                                batch.add(createEventSummaryFromResultSet(rs));
+                            } catch (RuntimeException e) {
+                                plugin.getLogger().warning("Error parsing event from database: " + e.getMessage());
+                            }
+                            if (batch.size() == LOAD_BATCH_SIZE) {
+                                summaryCount += deliverBatch(batch, batchConsumer, loadedCount);
+                                batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                            }
+                        }
+                        if (!batch.isEmpty()) {
+                            summaryCount += deliverBatch(batch, batchConsumer, loadedCount);
+                        }
+                    }
+                }
+            }
+        } finally {
+            // Wait for the last chunks before reporting the total
+            chunksInFlight.acquireUninterruptibly(maxChunksInFlight);
+            hydrationPool.shutdown();
         }
         
-        return events;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        plugin.getLogger().info("Read " + loadedCount.get() + " events (" + summaryCount + " as summaries) from the " +
+            getDatabaseLabel() + " database in " + elapsedMillis + " ms using " + parallelism + " loader threads");
+        return loadedCount.get();
+    }
+    
+    private PreparedStatement prepareStreamingQuery(Connection conn, String sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(LOAD_BATCH_SIZE);
+        stmt.setQueryTimeout(STATEMENT_TIMEOUT * 2); // Longer timeout for bulk operations
+        return stmt;
+    }
+    
+    private void submitHydration(List<PendingEvent> chunk, ForkJoinPool hydrationPool, Semaphore chunksInFlight,
+                                 Consumer<List<Event>> batchConsumer, AtomicInteger loadedCount) {
+        // Blocks the reading thread while the loader threads are behind
+        chunksInFlight.acquireUninterruptibly();
+        try {
+            hydrationPool.execute(() -> {
+                try {
+                    List<Event> batch = new ArrayList<>(chunk.size());
+                    for (PendingEvent pending : chunk) {
+                        batch.add(pending.hydrate());
+                    }
+                    deliverBatch(batch, batchConsumer, loadedCount);
+                } finally {
+                    chunksInFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            chunksInFlight.release();
+            throw e;
+        }
+    }
+    
+    private int deliverBatch(List<Event> batch, Consumer<List<Event>> batchConsumer, AtomicInteger loadedCount) {
+        try {
+            batchConsumer.accept(batch);
+            loadedCount.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Error handing over " + batch.size() + " loaded events: " + e.getMessage());
+            return 0;
+        }
     }
     
     private boolean deleteEventFromDatabase(String eventId) {
@@ -564,61 +1135,98 @@ public class DatabaseManager {
     
     // Optimized ResultSet parsing with reduced object allocation
     private Event createEventFromResultSet(ResultSet rs) throws SQLException {
+        return readPendingEvent(rs).hydrate();
+    }
+    
+    // Reads the plain columns; the JSON columns are kept as text until hydrate()
+    private PendingEvent readPendingEvent(ResultSet rs) throws SQLException {
         String id = rs.getString("id");
         String name = rs.getString("name");
         String description = rs.getString("description");
         Event.EventType type = Event.EventType.valueOf(rs.getString("type"));
         
-        Event event = new Event(id, name, description, type);
+        // Restore without re-validating and keep the stored creation time
+        Event event = Event.restore(id, name, description, type, rs.getLong("created_at"));
         
         event.setStatus(Event.EventStatus.valueOf(rs.getString("status")));
         event.setMaxParticipants(rs.getInt("max_participants"));
         event.setCurrentParticipants(rs.getInt("current_participants"));
-        
-        // Handle nullable timestamps
-        long startTime = rs.getLong("start_time");
-        if (!rs.wasNull()) {
-            event.setStartTime(startTime);
-        }
-        
-        long endTime = rs.getLong("end_time");
-        if (!rs.wasNull()) {
-            event.setEndTime(endTime);
-        }
+        readTimestamps(rs, event);
+        event.setVersion(rs.getLong("version"));
+        recordStoredVersion(id, event.getVersion());
         
         String createdByStr = rs.getString("created_by");
         if (createdByStr != null) {
             event.setCreatedBy(UUID.fromString(createdByStr));
         }
         
-        // Created at timestamp is handled internally by the Event class
-        
         // Location data
         String world = rs.getString("world");
         if (world != null) {
             event.setLocation(world, rs.getDouble("x"), rs.getDouble("y"), rs.getDouble("z"));
         }
         
-        // JSON fields with null checking
-        String rewardsJson = rs.getString("rewards");
-        if (rewardsJson != null && !rewardsJson.trim().isEmpty()) {
-            List<String> rewards = gson.fromJson(rewardsJson, new TypeToken<List<String>>(){}.getType());
-            event.setRewards(rewards);
+        return new PendingEvent(event, rs.getString("rewards"), rs.getString("requirements"), rs.getString("metadata"));
+    }
+    
+    private Event createEventSummaryFromResultSet(ResultSet rs) throws SQLException {
+        Event.EventType type = Event.EventType.valueOf(rs.getString("type"));
+        Event event = Event.restore(rs.getString("id"), rs.getString("name"), null, type, rs.getLong("created_at"));
+        event.setStatus(Event.EventStatus.valueOf(rs.getString("status")));
+        event.setCurrentParticipants(rs.getInt("current_participants"));
+        readTimestamps(rs, event);
+        // Summaries are for the cold tier, which keeps their version itself
+        event.setVersion(rs.getLong("version"));
+        return event;
+    }
+    
+    // Handle nullable timestamps
+    private static void readTimestamps(ResultSet rs, Event event) throws SQLException {
+        long startTime = rs.getLong("start_time");
+        if (!rs.wasNull()) {
+            event.setStartTime(startTime);
         }
         
-        String requirementsJson = rs.getString("requirements");
-        if (requirementsJson != null && !requirementsJson.trim().isEmpty()) {
-            Map<String, Object> requirements = gson.fromJson(requirementsJson, new TypeToken<Map<String, Object>>(){}.getType());
-            event.setRequirements(requirements);
+        long endTime = rs.getLong("end_time");
+        if (!rs.wasNull()) {
+            event.setEndTime(endTime);
         }
+    }
+    
+    /**
+     * A row whose plain columns are already on the event. Parsing the JSON columns is the costly
+     * part of a row, so bulk loads do it on the loader threads rather than the reading thread.
+     */
+    private class PendingEvent {
+        private final Event event;
+        private final String rewardsJson;
+        private final String requirementsJson;
+        private final String metadataJson;
         
-        String metadataJson = rs.getString("metadata");
-        if (metadataJson != null && !metadataJson.trim().isEmpty()) {
-            Map<String, Object> metadata = gson.fromJson(metadataJson, new TypeToken<Map<String, Object>>(){}.getType());
-            event.setMetadata(metadata);
+        PendingEvent(Event event, String rewardsJson, String requirementsJson, String metadataJson) {
+            this.event = event;
+            this.rewardsJson = rewardsJson;
+            this.requirementsJson = requirementsJson;
+            this.metadataJson = metadataJson;
         }
         
-        return event;
+        // JSON fields with null checking - streamed straight into the target collections
+        Event hydrate() {
+            try {
+                if (rewardsJson != null && !rewardsJson.trim().isEmpty()) {
+                    event.setRewards(EventJsonAdapters.REWARDS.fromJson(rewardsJson));
+                }
+                if (requirementsJson != null && !requirementsJson.trim().isEmpty()) {
+                    event.setRequirements(EventJsonAdapters.VALUE_MAP.fromJson(requirementsJson));
+                }
+                if (metadataJson != null && !metadataJson.trim().isEmpty()) {
+                    event.setMetadata(EventJsonAdapters.VALUE_MAP.fromJson(metadataJson));
+                }
+            } catch (IOException | RuntimeException e) {
+                plugin.getLogger().warning("Ignoring malformed JSON columns for event " + event.getId() + ": " + e.getMessage());
+            }
+            return event;
+        }
     }
     
     // JSON operations with optimized file handling
@@ -628,12 +1236,20 @@ public class DatabaseManager {
                 (jsonFolder != null ? jsonFolder.getPath() : "null"));
             return false;
         }
-        File eventFile = new File(jsonFolder, event.getId() + ".json");
-        return saveEventToJsonFile(event, eventFile);
+        File eventFile = new File(jsonFolder, event.getId() + getStorageExtension());
+        boolean saved = binaryStorage ? saveEventToBinaryFile(event, eventFile) : saveEventToJsonFile(event, eventFile);
+        if (saved) {
+            // Drop the copy in the other format so loads never see stale data
+            File staleFile = new File(jsonFolder, event.getId() + getOtherStorageExtension());
+            if (staleFile.exists() && !staleFile.delete()) {
+                plugin.getLogger().warning("Could not remove outdated event file " + staleFile.getName());
+            }
+        }
+        return saved;
     }
     
     private boolean saveEventToJsonFile(Event event, File file) {
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
             gson.toJson(event, writer);
             return true;
         } catch (IOException e) {
@@ -642,9 +1258,29 @@ public class DatabaseManager {
         }
     }
     
+    private boolean saveEventToBinaryFile(Event event, File file) {
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(EventBinaryCodec.encode(event));
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not save event to " + file.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+    
     private boolean saveEventsToJsonFile(List<Event> events, File file) {
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
-            gson.toJson(events, EVENT_LIST_TYPE, writer);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            prettyGson.toJson(events, EVENT_LIST_TYPE, writer);
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not save events to " + file.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+    
+    private boolean saveEventsToBinaryFile(List<Event> events, File file) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            EventBinaryCodec.writeAll(out, events);
             return true;
         } catch (IOException e) {
             plugin.getLogger().warning("Could not save events to " + file.getName() + ": " + e.getMessage());
@@ -657,57 +1293,214 @@ public class DatabaseManager {
             return null;
         }
         
-        File eventFile = new File(jsonFolder, eventId + ".json");
+        File jsonFile = new File(jsonFolder, eventId + ".json");
+        File binaryFile = new File(jsonFolder, eventId + EventBinaryCodec.FILE_EXTENSION);
+        File eventFile = newestExisting(jsonFile, binaryFile);
         
-        if (!eventFile.exists()) {
+        if (eventFile == null) {
             return null;
         }
         
-        try (Reader reader = new InputStreamReader(new FileInputStream(eventFile), StandardCharsets.UTF_8)) {
-            return gson.fromJson(reader, Event.class);
+        Event event = readEventFile(eventFile);
+        if (event != null) {
+            migrateEventFile(event, eventFile);
+        }
+        return event;
+    }
+    
+    private int loadAllEventsFromJson(Consumer<List<Event>> batchConsumer) {
+        if (jsonFolder == null || !jsonFolder.exists()) {
+            return 0;
+        }
+        long startTime = System.nanoTime();
+        
+        // If both formats exist for an event (interrupted migration), keep the newer file
+        Map<String, Path> filesById = new HashMap<>();
+        String glob = "*.{json," + EventBinaryCodec.FILE_EXTENSION.substring(1) + "}";
+        try (DirectoryStream<Path> directory = Files.newDirectoryStream(jsonFolder.toPath(), glob)) {
+            for (Path file : directory) {
+                String fileName = file.getFileName().toString();
+                String eventId = fileName.substring(0, fileName.lastIndexOf('.'));
+                filesById.merge(eventId, file, (first, second) -> {
+                    File newest = newestExisting(first.toFile(), second.toFile());
+                    return newest != null ? newest.toPath() : null;
+                });
+            }
         } catch (IOException e) {
-            plugin.getLogger().warning("Failed to load event from JSON: " + e.getMessage());
+            plugin.getLogger().warning("Error listing event files in " + jsonFolder.getPath() + ": " + e.getMessage());
+            return 0;
+        }
+        
+        List<Path> files = new ArrayList<>(filesById.values());
+        if (files.isEmpty()) {
+            return 0;
+        }
+        
+        AtomicInteger loadedCount = new AtomicInteger();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        int chunks = (files.size() + LOAD_BATCH_SIZE - 1) / LOAD_BATCH_SIZE;
+        int parallelism = Math.max(1, Math.min(chunks, Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors())));
+        ForkJoinPool loaderPool = new ForkJoinPool(parallelism, LOADER_THREAD_FACTORY, null, false);
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(chunks);
+            for (int from = 0; from < files.size(); from += LOAD_BATCH_SIZE) {
+                List<Path> chunk = files.subList(from, Math.min(from + LOAD_BATCH_SIZE, files.size()));
+                tasks.add(CompletableFuture.runAsync(() -> loadEventChunk(chunk, batchConsumer, loadedCount, failures), loaderPool));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            loaderPool.shutdown();
+        }
+        
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        plugin.getLogger().info("Read " + loadedCount.get() + " events from " + files.size() + " files in " +
+            elapsedMillis + " ms using " + parallelism + " loader threads");
+        if (!failures.isEmpty()) {
+            // One bad file never aborts the load; list the failures so they can be repaired
+            plugin.getLogger().warning(failures.size() + " event files could not be loaded:");
+            failures.entrySet().stream()
+                .limit(MAX_REPORTED_FAILURES)
+                .forEach(failure -> plugin.getLogger().warning("  " + failure.getKey() + ": " + failure.getValue()));
+            if (failures.size() > MAX_REPORTED_FAILURES) {
+                plugin.getLogger().warning("  ... and " + (failures.size() - MAX_REPORTED_FAILURES) + " more");
+            }
+        }
+        return loadedCount.get();
+    }
+    
+    private void loadEventChunk(List<Path> chunk, Consumer<List<Event>> batchConsumer,
+                                AtomicInteger loadedCount, Map<String, String> failures) {
+        List<Event> batch = new ArrayList<>(chunk.size());
+        for (Path file : chunk) {
+            String fileName = file.getFileName().toString();
+            try {
+                Event event = decodeEventFile(file);
+                if (event == null || event.getId() == null) {
+                    failures.put(fileName, "no event data");
+                    continue;
+                }
+                batch.add(event);
+                migrateEventFile(event, file.toFile());
+            } catch (IOException | RuntimeException e) {
+                failures.put(fileName, String.valueOf(e.getMessage()));
+            }
+        }
+        
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batchConsumer.accept(batch);
+            loadedCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Error handing over " + batch.size() + " loaded events: " + e.getMessage());
+        }
+    }
+    
+    private Event readEventFile(File eventFile) {
+        try {
+            return decodeEventFile(eventFile.toPath());
+        } catch (IOException e) {
+            plugin.getLogger().warning("Error loading event from " + eventFile.getName() + ": " + e.getMessage());
             return null;
         } catch (Exception e) {
-            // Handle JSON parsing exceptions (corrupted files)
-            plugin.getLogger().warning("Failed to parse event JSON from " + eventFile.getName() + ": " + e.getMessage());
+            // Handle parsing exceptions (corrupted files)
+            plugin.getLogger().warning("Error parsing event data from " + eventFile.getName() + ": " + e.getMessage());
             return null;
         }
     }
     
-    private List<Event> loadAllEventsFromJson() {
-        if (jsonFolder == null || !jsonFolder.exists()) {
-            return new ArrayList<>();
-        }
-
-        File[] eventFiles = jsonFolder.listFiles((dir, name) -> name.endsWith(".json"));
-        if (eventFiles == null) {
-            return new ArrayList<>();
+    private Event decodeEventFile(Path file) throws IOException {
+        ByteBuffer bytes = readFully(file);
+        if (file.getFileName().toString().endsWith(EventBinaryCodec.FILE_EXTENSION)) {
+            byte[] data = new byte[bytes.remaining()];
+            bytes.get(data);
+            return EventBinaryCodec.decode(data);
         }
-
-        List<Event> events = new ArrayList<>();
-        for (File eventFile : eventFiles) {
-            try (Reader reader = new InputStreamReader(new FileInputStream(eventFile), StandardCharsets.UTF_8)) {
-                Event event = gson.fromJson(reader, Event.class);
-                if (event != null && event.getId() != null) {
-                    events.add(event);
+        CharBuffer chars = decodeUtf8(bytes);
+        return gson.fromJson(new CharArrayReader(chars.array(), chars.arrayOffset(), chars.limit()), Event.class);
+    }
+    
+    // Reads a whole file into this thread's direct buffer, replacing it for unusually large files
+    private static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = LOAD_BUFFER.get();
+            if (buffer.capacity() < size) {
+                buffer = ByteBuffer.allocateDirect((int) size);
+                LOAD_BUFFER.set(buffer);
+            }
+            buffer.clear().limit((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break; // File shrank while being read
                 }
-            } catch (IOException e) {
-                plugin.getLogger().warning("Error loading event from " + eventFile.getName() + ": " + e.getMessage());
-            } catch (Exception e) {
-                // Handle JSON parsing exceptions (corrupted files)
-                plugin.getLogger().warning("Error parsing event JSON from " + eventFile.getName() + ": " + e.getMessage());
             }
+            return buffer.flip();
         }
-        return events;
+    }
+    
+    private static CharBuffer decodeUtf8(ByteBuffer bytes) throws CharacterCodingException {
+        CharsetDecoder decoder = UTF8_DECODER.get().reset();
+        CharBuffer chars = CHAR_BUFFER.get();
+        if (chars.capacity() < bytes.remaining()) { // UTF-8 never decodes to more chars than bytes
+            chars = CharBuffer.allocate(bytes.remaining());
+            CHAR_BUFFER.set(chars);
+        }
+        chars.clear();
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        return chars.flip();
+    }
+    
+    // Rewrites files stored in the other format so storage converges on json.format
+    private void migrateEventFile(Event event, File eventFile) {
+        if (eventFile.getName().endsWith(getStorageExtension())) {
+            return;
+        }
+        if (!saveEventToJson(event)) {
+            plugin.getLogger().warning("Could not migrate " + eventFile.getName() + " to " +
+                (binaryStorage ? "binary" : "JSON") + " format");
+        }
+    }
+    
+    private File newestExisting(File first, File second) {
+        boolean firstExists = first != null && first.exists();
+        boolean secondExists = second != null && second.exists();
+        if (firstExists && secondExists) {
+            return first.lastModified() >= second.lastModified() ? first : second;
+        }
+        return firstExists ? first : (secondExists ? second : null);
+    }
+    
+    private String getStorageExtension() {
+        return binaryStorage ? EventBinaryCodec.FILE_EXTENSION : ".json";
+    }
+    
+    private String getOtherStorageExtension() {
+        return binaryStorage ? ".json" : EventBinaryCodec.FILE_EXTENSION;
     }
     
     private boolean deleteEventFromJson(String eventId) {
         if (jsonFolder == null || !jsonFolder.exists()) {
             return false;
         }
-        File eventFile = new File(jsonFolder, eventId + ".json");
-        return eventFile.exists() && eventFile.delete();
+        boolean deleted = false;
+        for (String extension : new String[] {".json", EventBinaryCodec.FILE_EXTENSION}) {
+            File eventFile = new File(jsonFolder, eventId + extension);
+            if (eventFile.exists() && eventFile.delete()) {
+                deleted = true;
+            }
+        }
+        return deleted;
     }
     
     public void closeConnections() {
@@ -724,6 +1517,11 @@ public class DatabaseManager {
                 }
             }
             
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+                pinningMonitor = null;
+            }
+            
             if (dataSource != null) {
                 dataSource.close();
                 plugin.getLogger().info("Database connections closed successfully");
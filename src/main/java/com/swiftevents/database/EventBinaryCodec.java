@@ -0,0 +1,514 @@
+package com.swiftevents.database;
+
+import com.swiftevents.events.Event;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact, versioned binary encoding for {@link Event}.
+ *
+ * <p>Layout: a 4 byte magic ({@code SEVB}) and a format version byte, followed by
+ * one or more records. Each record starts with a marker byte ({@code 1}) and the
+ * stream ends with {@code 0}, so archives can be written without knowing the event
+ * count up front. Integers are varints (zig-zag for signed values), UUIDs are two
+ * longs, enums are indexes into frozen per-version name tables and strings are
+ * length-prefixed UTF-8. The encoding is canonical - participants and map keys are
+ * written in sorted order - so equal events always produce identical bytes and the
+ * output can be used as a content hash.</p>
+ *
+ * <p>Format version 2 appends the event's storage version to each record. Version 1
+ * input is still read, with storage version 0.</p>
+ *
+ * <p>JSON remains the interchange format; this codec is used by file storage and
+ * backups when {@code json.format} is set to {@code binary}.</p>
+ */
+public final class EventBinaryCodec {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final byte[] MAGIC = {'S', 'E', 'V', 'B'};
+    private static final int VERSION = 2;
+    private static final int MIN_VERSION = 1;
+
+    private static final int RECORD = 1;
+    private static final int END = 0;
+
+    private static final int FLAG_CREATOR = 1;
+    private static final int FLAG_LOCATION = 1 << 1;
+
+    // Frozen for format version 1 - append only, never reorder
+    private static final String[] TYPE_NAMES_V1 = {
+        "PVP", "PVE", "BUILDING", "RACING", "TREASURE_HUNT", "MINI_GAME", "CUSTOM", "TOURNAMENT", "CHALLENGE"
+    };
+    private static final String[] STATUS_NAMES_V1 = {
+        "CREATED", "SCHEDULED", "ACTIVE", "PAUSED", "COMPLETED", "CANCELLED"
+    };
+
+    private static final Map<Event.EventType, Integer> TYPE_CODES = codeTable(Event.EventType.class, TYPE_NAMES_V1);
+    private static final Map<Event.EventStatus, Integer> STATUS_CODES = codeTable(Event.EventStatus.class, STATUS_NAMES_V1);
+
+    // Value tags for requirements/metadata entries
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_FALSE = 3;
+    private static final int TAG_INT = 4;
+    private static final int TAG_LONG = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_LIST = 7;
+    private static final int TAG_MAP = 8;
+
+    private static final int MAX_COLLECTION_SIZE = 1 << 20;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int MAX_NESTING = 32;
+
+    private EventBinaryCodec() {
+    }
+
+    /**
+     * Returns true if the data starts with the binary codec header.
+     */
+    public static boolean isBinary(byte[] data) {
+        if (data == null || data.length < MAGIC.length + 1) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static byte[] encode(Event event) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (Writer writer = new Writer(bytes)) {
+            writer.write(event);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Event decode(byte[] data) throws IOException {
+        try (Reader reader = new Reader(new ByteArrayInputStream(data))) {
+            Event event = reader.next();
+            if (event == null) {
+                throw new IOException("Binary event data contains no records");
+            }
+            return event;
+        }
+    }
+
+    public static void writeAll(OutputStream out, Collection<Event> events) throws IOException {
+        Writer writer = new Writer(out);
+        for (Event event : events) {
+            writer.write(event);
+        }
+        writer.finish();
+    }
+
+    public static List<Event> readAll(InputStream in) throws IOException {
+        Reader reader = new Reader(in);
+        List<Event> events = new ArrayList<>();
+        Event event;
+        while ((event = reader.next()) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Streams events one record at a time. {@link #close()} writes the end marker
+     * and flushes, but leaves the underlying stream open.
+     */
+    public static final class Writer implements Closeable {
+        private final DataOutputStream out;
+        private boolean finished;
+
+        public Writer(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(out instanceof BufferedOutputStream || out instanceof ByteArrayOutputStream
+                ? out : new BufferedOutputStream(out, 8192));
+            this.out.write(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+
+        public void write(Event event) throws IOException {
+            if (finished) {
+                throw new IOException("Writer already finished");
+            }
+            out.writeByte(RECORD);
+            writeEvent(out, event);
+        }
+
+        public void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                out.writeByte(END);
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+    }
+
+    /**
+     * Reads events one record at a time; {@link #next()} returns null at the end marker.
+     */
+    public static final class Reader implements Closeable {
+        private final DataInputStream in;
+        private final int version;
+        private boolean done;
+
+        public Reader(InputStream in) throws IOException {
+            this.in = new DataInputStream(in instanceof BufferedInputStream || in instanceof ByteArrayInputStream
+                ? in : new BufferedInputStream(in, 8192));
+            byte[] header = new byte[MAGIC.length];
+            this.in.readFully(header);
+            if (!Arrays.equals(header, MAGIC)) {
+                throw new IOException("Not a SwiftEvents binary file");
+            }
+            this.version = this.in.readUnsignedByte();
+            if (version < MIN_VERSION || version > VERSION) {
+                throw new IOException("Unsupported binary format version " + version);
+            }
+        }
+
+        public Event next() throws IOException {
+            if (done) {
+                return null;
+            }
+            int marker = in.readUnsignedByte();
+            if (marker == END) {
+                done = true;
+                return null;
+            }
+            if (marker != RECORD) {
+                throw new IOException("Corrupt record marker " + marker);
+            }
+            return readEvent(in, version);
+        }
+
+        @Override
+        public void close() {
+            done = true;
+        }
+    }
+
+    private static void writeEvent(DataOutput out, Event event) throws IOException {
+        writeString(out, event.getId());
+        writeString(out, event.getName());
+        writeString(out, event.getDescription());
+        writeEnum(out, TYPE_CODES, event.getType());
+        writeEnum(out, STATUS_CODES, event.getStatus());
+        writeVarLong(out, zigZag(event.getMaxParticipants()));
+        writeVarLong(out, zigZag(event.getCurrentParticipants()));
+        writeVarLong(out, zigZag(event.getStartTime()));
+        writeVarLong(out, zigZag(event.getEndTime()));
+        writeVarLong(out, zigZag(event.getCreatedAt()));
+
+        int flags = (event.getCreatedBy() != null ? FLAG_CREATOR : 0) | (event.hasLocation() ? FLAG_LOCATION : 0);
+        out.writeByte(flags);
+        if (event.getCreatedBy() != null) {
+            writeUuid(out, event.getCreatedBy());
+        }
+        if (event.hasLocation()) {
+            writeString(out, event.getWorld());
+            out.writeDouble(event.getX());
+            out.writeDouble(event.getY());
+            out.writeDouble(event.getZ());
+        }
+
+        Set<UUID> participants = event.getParticipants();
+        // Snapshot first - the set may change while we write
+        UUID[] ids = participants.toArray(new UUID[0]);
+        Arrays.sort(ids);
+        writeVarLong(out, ids.length);
+        for (UUID id : ids) {
+            writeUuid(out, id);
+        }
+
+        List<String> rewards = event.getRewards();
+        writeVarLong(out, rewards.size());
+        for (String reward : rewards) {
+            writeString(out, reward);
+        }
+
+        writeMap(out, event.getRequirements(), 0);
+        writeMap(out, event.getMetadata(), 0);
+        writeVarLong(out, event.getVersion());
+    }
+
+    private static Event readEvent(DataInput in, int formatVersion) throws IOException {
+        String id = readString(in);
+        String name = readString(in);
+        String description = readString(in);
+        Event.EventType type = readEnum(in, Event.EventType.class, TYPE_NAMES_V1);
+        Event.EventStatus status = readEnum(in, Event.EventStatus.class, STATUS_NAMES_V1);
+        int maxParticipants = (int) unZigZag(readVarLong(in));
+        int currentParticipants = (int) unZigZag(readVarLong(in));
+        long startTime = unZigZag(readVarLong(in));
+        long endTime = unZigZag(readVarLong(in));
+        long createdAt = unZigZag(readVarLong(in));
+
+        if (id == null || type == null) {
+            throw new IOException("Binary event record is missing its id or type");
+        }
+        Event event = Event.restore(id, name, description, type, createdAt);
+        event.setStatus(status != null ? status : Event.EventStatus.CREATED);
+        event.setMaxParticipants(maxParticipants);
+        event.setStartTime(startTime);
+        event.setEndTime(endTime);
+
+        int flags = in.readUnsignedByte();
+        if ((flags & FLAG_CREATOR) != 0) {
+            event.setCreatedBy(readUuid(in));
+        }
+        if ((flags & FLAG_LOCATION) != 0) {
+            String world = readString(in);
+            event.setLocation(world, in.readDouble(), in.readDouble(), in.readDouble());
+        }
+
+        int participantCount = readSize(in);
+        if (participantCount > 0) {
+            Set<UUID> participants = new HashSet<>(participantCount * 2);
+            for (int i = 0; i < participantCount; i++) {
+                participants.add(readUuid(in));
+            }
+            event.setParticipants(participants);
+        }
+        event.setCurrentParticipants(currentParticipants);
+
+        int rewardCount = readSize(in);
+        if (rewardCount > 0) {
+            List<String> rewards = new ArrayList<>(rewardCount);
+            for (int i = 0; i < rewardCount; i++) {
+                rewards.add(readString(in));
+            }
+            event.setRewards(rewards);
+        }
+
+        event.setRequirements(readMap(in, 0));
+        event.setMetadata(readMap(in, 0));
+        if (formatVersion >= 2) {
+            event.setVersion(readVarLong(in));
+        }
+        return event;
+    }
+
+    // Enums: 1-based index into the frozen table, 0 followed by the name for values the table lacks
+    private static <E extends Enum<E>> void writeEnum(DataOutput out, Map<E, Integer> codes, E value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            writeString(out, null);
+            return;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            writeVarLong(out, code);
+        } else {
+            writeVarLong(out, 0);
+            writeString(out, value.name());
+        }
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInput in, Class<E> type, String[] names) throws IOException {
+        int code = (int) readVarLong(in);
+        String name;
+        if (code == 0) {
+            name = readString(in);
+            if (name == null) {
+                return null;
+            }
+        } else if (code <= names.length) {
+            name = names[code - 1];
+        } else {
+            throw new IOException("Unknown " + type.getSimpleName() + " code " + code);
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + " " + name);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> codeTable(Class<E> type, String[] names) {
+        Map<E, Integer> codes = new EnumMap<>(type);
+        for (int i = 0; i < names.length; i++) {
+            try {
+                codes.put(Enum.valueOf(type, names[i]), i + 1);
+            } catch (IllegalArgumentException ignored) {
+                // Constant was removed; its code stays reserved
+            }
+        }
+        return codes;
+    }
+
+    private static void writeMap(DataOutput out, Map<?, ?> map, int depth) throws IOException {
+        if (depth > MAX_NESTING) {
+            throw new IOException("Value nesting too deep");
+        }
+        TreeMap<String, Object> sorted = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        writeVarLong(out, sorted.size());
+        for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue(), depth);
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInput in, int depth) throws IOException {
+        if (depth > MAX_NESTING) {
+            throw new IOException("Value nesting too deep");
+        }
+        int size = readSize(in);
+        Map<String, Object> map = new HashMap<>(Math.max(4, size * 2));
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in, depth));
+        }
+        return map;
+    }
+
+    private static void writeValue(DataOutput out, Object value, int depth) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            writeString(out, s);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_INT);
+            writeVarLong(out, zigZag(((Number) value).intValue()));
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            writeVarLong(out, zigZag(l));
+        } else if (value instanceof Number n) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(n.doubleValue());
+        } else if (value instanceof Collection<?> list) {
+            out.writeByte(TAG_LIST);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element, depth + 1);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            writeMap(out, map, depth + 1);
+        } else {
+            // Anything else is stored by its string form, as Gson would for simple values
+            out.writeByte(TAG_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInput in, int depth) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_INT:
+                return (int) unZigZag(readVarLong(in));
+            case TAG_LONG:
+                return unZigZag(readVarLong(in));
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_LIST: {
+                if (depth + 1 > MAX_NESTING) {
+                    throw new IOException("Value nesting too deep");
+                }
+                int size = readSize(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, depth + 1));
+                }
+                return list;
+            }
+            case TAG_MAP:
+                return readMap(in, depth + 1);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    // Strings: varint (byte length + 1), 0 means null
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        if (length - 1 > MAX_STRING_BYTES) {
+            throw new IOException("String length " + (length - 1) + " exceeds limit");
+        }
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeUuid(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static int readSize(DataInput in) throws IOException {
+        long size = readVarLong(in);
+        if (size < 0 || size > MAX_COLLECTION_SIZE) {
+            throw new IOException("Collection size " + size + " exceeds limit");
+        }
+        return (int) size;
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
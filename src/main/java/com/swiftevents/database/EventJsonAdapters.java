@@ -0,0 +1,405 @@
+package com.swiftevents.database;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.swiftevents.events.Event;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Streaming Gson adapters for {@link Event} and its nested values.
+ *
+ * <p>Events are read and written field by field through {@link JsonReader}/{@link JsonWriter}
+ * without reflection or intermediate {@code JsonElement} trees. The field names match the
+ * layout the reflective adapter produced, so existing files and database columns load
+ * unchanged. Integral numbers in requirements and metadata come back as {@code Integer} or
+ * {@code Long} instead of always {@code Double}.</p>
+ */
+public final class EventJsonAdapters {
+
+    public static final Type REWARDS_TYPE = new TypeToken<List<String>>(){}.getType();
+    public static final Type VALUE_MAP_TYPE = new TypeToken<Map<String, Object>>(){}.getType();
+
+    public static final TypeAdapter<List<String>> REWARDS = new RewardsAdapter();
+    public static final TypeAdapter<Map<String, Object>> VALUE_MAP = new ValueMapAdapter();
+    public static final TypeAdapter<Event.EventLocation> LOCATION = new LocationAdapter();
+    public static final TypeAdapter<Event> EVENT = new EventAdapter();
+
+    private EventJsonAdapters() {
+    }
+
+    /**
+     * Registers all adapters on the given builder and returns it for chaining.
+     */
+    public static GsonBuilder register(GsonBuilder builder) {
+        return builder
+            .registerTypeAdapter(Event.class, EVENT)
+            .registerTypeAdapter(Event.EventLocation.class, LOCATION)
+            .registerTypeAdapter(REWARDS_TYPE, REWARDS)
+            .registerTypeAdapter(VALUE_MAP_TYPE, VALUE_MAP);
+    }
+
+    private static final class EventAdapter extends TypeAdapter<Event> {
+
+        @Override
+        public void write(JsonWriter out, Event event) throws IOException {
+            if (event == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(event.getId());
+            writeString(out, "name", event.getName());
+            writeString(out, "description", event.getDescription());
+            out.name("type").value(event.getType().name());
+            if (event.getStatus() != null) {
+                out.name("status").value(event.getStatus().name());
+            }
+            out.name("maxParticipants").value(event.getMaxParticipants());
+            out.name("currentParticipants").value(event.getCurrentParticipants());
+            out.name("startTime").value(event.getStartTime());
+            out.name("endTime").value(event.getEndTime());
+            if (event.getCreatedBy() != null) {
+                out.name("createdBy").value(event.getCreatedBy().toString());
+            }
+            out.name("createdAt").value(event.getCreatedAt());
+            if (event.hasLocation()) {
+                writeString(out, "world", event.getWorld());
+                out.name("x").value(event.getX());
+                out.name("y").value(event.getY());
+                out.name("z").value(event.getZ());
+                out.name("hasLocation").value(true);
+            }
+
+            out.name("participants").beginArray();
+            for (UUID participant : event.getParticipants()) {
+                out.value(participant.toString());
+            }
+            out.endArray();
+
+            List<String> rewards = event.getRewards();
+            if (!rewards.isEmpty()) {
+                out.name("rewards");
+                REWARDS.write(out, rewards);
+            }
+            Map<String, Object> requirements = event.getRequirements();
+            if (!requirements.isEmpty()) {
+                out.name("requirements");
+                VALUE_MAP.write(out, requirements);
+            }
+            Map<String, Object> metadata = event.getMetadata();
+            if (!metadata.isEmpty()) {
+                out.name("metadata");
+                VALUE_MAP.write(out, metadata);
+            }
+            if (event.getVersion() > 0) {
+                out.name("version").value(event.getVersion());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Event read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            String id = null, name = null, description = null, world = null;
+            Event.EventType type = null;
+            Event.EventStatus status = null;
+            int maxParticipants = -1, currentParticipants = -1;
+            long startTime = 0, endTime = 0, createdAt = 0, version = 0;
+            UUID createdBy = null;
+            double x = 0, y = 0, z = 0;
+            boolean hasLocation = false;
+            Set<UUID> participants = null;
+            List<String> rewards = null;
+            Map<String, Object> requirements = null, metadata = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String field = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (field) {
+                    case "id" -> id = in.nextString();
+                    case "name" -> name = in.nextString();
+                    case "description" -> description = in.nextString();
+                    case "type" -> type = readEnum(in, Event.EventType.class);
+                    case "status" -> status = readEnum(in, Event.EventStatus.class);
+                    case "maxParticipants" -> maxParticipants = in.nextInt();
+                    case "currentParticipants" -> currentParticipants = in.nextInt();
+                    case "startTime" -> startTime = in.nextLong();
+                    case "endTime" -> endTime = in.nextLong();
+                    case "createdBy" -> createdBy = readUuid(in);
+                    case "createdAt" -> createdAt = in.nextLong();
+                    case "world" -> world = in.nextString();
+                    case "x" -> x = in.nextDouble();
+                    case "y" -> y = in.nextDouble();
+                    case "z" -> z = in.nextDouble();
+                    case "hasLocation" -> hasLocation = in.nextBoolean();
+                    case "participants" -> {
+                        participants = new HashSet<>();
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            participants.add(readUuid(in));
+                        }
+                        in.endArray();
+                    }
+                    case "rewards" -> rewards = REWARDS.read(in);
+                    case "requirements" -> requirements = VALUE_MAP.read(in);
+                    case "metadata" -> metadata = VALUE_MAP.read(in);
+                    case "version" -> version = in.nextLong();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (id == null || type == null) {
+                throw new JsonParseException("Event JSON is missing its id or type");
+            }
+            Event event = Event.restore(id, name, description, type, createdAt);
+            event.setStatus(status != null ? status : Event.EventStatus.CREATED);
+            event.setMaxParticipants(maxParticipants);
+            event.setStartTime(startTime);
+            event.setEndTime(endTime);
+            event.setCreatedBy(createdBy);
+            if (hasLocation || world != null) {
+                event.setLocation(world, x, y, z);
+            }
+            if (participants != null) {
+                event.setParticipants(participants);
+            }
+            if (currentParticipants >= 0) {
+                event.setCurrentParticipants(currentParticipants);
+            }
+            event.setRewards(rewards);
+            event.setRequirements(requirements);
+            event.setMetadata(metadata);
+            event.setVersion(version);
+            return event;
+        }
+
+        private static void writeString(JsonWriter out, String name, String value) throws IOException {
+            if (value != null) {
+                out.name(name).value(value);
+            }
+        }
+
+        private static <E extends Enum<E>> E readEnum(JsonReader in, Class<E> type) throws IOException {
+            String value = in.nextString();
+            try {
+                return Enum.valueOf(type, value);
+            } catch (IllegalArgumentException e) {
+                // Same as Gson's enum adapter: unknown constants read as null
+                return null;
+            }
+        }
+
+        private static UUID readUuid(JsonReader in) throws IOException {
+            String value = in.nextString();
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException("Invalid UUID '" + value + "' at " + in.getPath());
+            }
+        }
+    }
+
+    private static final class LocationAdapter extends TypeAdapter<Event.EventLocation> {
+
+        @Override
+        public void write(JsonWriter out, Event.EventLocation location) throws IOException {
+            if (location == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (location.getWorldName() != null) {
+                out.name("worldName").value(location.getWorldName());
+            }
+            out.name("x").value(location.getX());
+            out.name("y").value(location.getY());
+            out.name("z").value(location.getZ());
+            out.endObject();
+        }
+
+        @Override
+        public Event.EventLocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String worldName = null;
+            double x = 0, y = 0, z = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                String field = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (field) {
+                    case "worldName" -> worldName = in.nextString();
+                    case "x" -> x = in.nextDouble();
+                    case "y" -> y = in.nextDouble();
+                    case "z" -> z = in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Event.EventLocation(worldName, x, y, z);
+        }
+    }
+
+    private static final class RewardsAdapter extends TypeAdapter<List<String>> {
+
+        @Override
+        public void write(JsonWriter out, List<String> rewards) throws IOException {
+            if (rewards == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (String reward : rewards) {
+                out.value(reward);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public List<String> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<String> rewards = new ArrayList<>(2);
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    rewards.add(null);
+                } else {
+                    rewards.add(in.nextString());
+                }
+            }
+            in.endArray();
+            return rewards;
+        }
+    }
+
+    /**
+     * Requirements and metadata: string keys with JSON-compatible values.
+     */
+    private static final class ValueMapAdapter extends TypeAdapter<Map<String, Object>> {
+
+        @Override
+        public void write(JsonWriter out, Map<String, Object> map) throws IOException {
+            if (map == null) {
+                out.nullValue();
+                return;
+            }
+            writeValue(out, map);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException("Expected an object at " + in.getPath());
+            }
+            return (Map<String, Object>) readValue(in);
+        }
+
+        private static void writeValue(JsonWriter out, Object value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else if (value instanceof String s) {
+                out.value(s);
+            } else if (value instanceof Boolean b) {
+                out.value(b);
+            } else if (value instanceof Number n) {
+                out.value(n);
+            } else if (value instanceof Map<?, ?> map) {
+                out.beginObject();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    out.name(String.valueOf(entry.getKey()));
+                    writeValue(out, entry.getValue());
+                }
+                out.endObject();
+            } else if (value instanceof Iterable<?> iterable) {
+                out.beginArray();
+                for (Object element : iterable) {
+                    writeValue(out, element);
+                }
+                out.endArray();
+            } else {
+                out.value(value.toString());
+            }
+        }
+
+        private static Object readValue(JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case STRING:
+                    return in.nextString();
+                case BOOLEAN:
+                    return in.nextBoolean();
+                case NUMBER:
+                    return readNumber(in.nextString());
+                case NULL:
+                    in.nextNull();
+                    return null;
+                case BEGIN_ARRAY: {
+                    List<Object> list = new ArrayList<>();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        list.add(readValue(in));
+                    }
+                    in.endArray();
+                    return list;
+                }
+                case BEGIN_OBJECT: {
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        map.put(in.nextName(), readValue(in));
+                    }
+                    in.endObject();
+                    return map;
+                }
+                default:
+                    throw new JsonParseException("Unexpected " + in.peek() + " at " + in.getPath());
+            }
+        }
+
+        private static Number readNumber(String text) {
+            boolean integral = text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0;
+            if (integral) {
+                try {
+                    long value = Long.parseLong(text);
+                    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                        return (int) value;
+                    }
+                    return value;
+                } catch (NumberFormatException ignored) {
+                    // Too large for a long - fall through to double
+                }
+            }
+            return Double.parseDouble(text);
+        }
+    }
+}
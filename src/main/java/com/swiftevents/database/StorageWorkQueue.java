@@ -0,0 +1,153 @@
+package com.swiftevents.database;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders storage work by {@link DatabaseManager.Priority} in front of the worker executor, so a
+ * player's save does not wait behind an autosave of every event. Each submission also hands the
+ * workers one "run the most urgent task" job, so the workers stay unaware of priorities.
+ * <p>
+ * Tasks are ordered by their deadline, the submit time plus the priority's allowed delay. Bulk
+ * work therefore yields to interactive work only for that long and cannot starve.
+ */
+public class StorageWorkQueue {
+
+    private final ExecutorService workers;
+    private final PriorityBlockingQueue<QueuedTask> queue = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<DatabaseManager.Priority, ClassStats> stats = new EnumMap<>(DatabaseManager.Priority.class);
+    private final Map<DatabaseManager.Priority, Executor> executors = new EnumMap<>(DatabaseManager.Priority.class);
+
+    StorageWorkQueue(ExecutorService workers) {
+        this.workers = workers;
+        for (DatabaseManager.Priority priority : DatabaseManager.Priority.values()) {
+            stats.put(priority, new ClassStats());
+            executors.put(priority, task -> submit(task, priority));
+        }
+    }
+
+    Executor executor(DatabaseManager.Priority priority) {
+        return executors.get(priority);
+    }
+
+    private void submit(Runnable task, DatabaseManager.Priority priority) {
+        long now = System.nanoTime();
+        QueuedTask queued = new QueuedTask(task, priority, now, now + priority.getMaxDelayNanos(), sequence.getAndIncrement());
+        ClassStats classStats = stats.get(priority);
+        classStats.depth.incrementAndGet();
+        queue.add(queued);
+        try {
+            workers.execute(this::runNext);
+        } catch (RejectedExecutionException e) {
+            if (queue.remove(queued)) {
+                classStats.depth.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    private void runNext() {
+        QueuedTask next = queue.poll();
+        if (next == null) {
+            return;
+        }
+        stats.get(next.priority).recordStart(System.nanoTime() - next.submittedAt);
+        next.task.run();
+    }
+
+    public Stats getStats(DatabaseManager.Priority priority) {
+        return stats.get(priority).snapshot();
+    }
+
+    private static class QueuedTask implements Comparable<QueuedTask> {
+        private final Runnable task;
+        private final DatabaseManager.Priority priority;
+        private final long submittedAt;
+        private final long deadline;
+        private final long sequence;
+
+        QueuedTask(Runnable task, DatabaseManager.Priority priority, long submittedAt, long deadline, long sequence) {
+            this.task = task;
+            this.priority = priority;
+            this.submittedAt = submittedAt;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(QueuedTask other) {
+            // nanoTime values are only comparable by difference
+            long difference = deadline - other.deadline;
+            if (difference != 0) {
+                return difference < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static class ClassStats {
+        private final AtomicInteger depth = new AtomicInteger();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void recordStart(long waitNanos) {
+            depth.decrementAndGet();
+            started.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        Stats snapshot() {
+            return new Stats(depth.get(), started.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+        }
+    }
+
+    /**
+     * Queue state for one priority class: tasks waiting now, and how long started tasks waited
+     */
+    public static class Stats {
+        private final int depth;
+        private final long started;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+
+        Stats(int depth, long started, long totalWaitNanos, long maxWaitNanos) {
+            this.depth = depth;
+            this.started = started;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public long getStarted() {
+            return started;
+        }
+
+        public double getAverageWaitMillis() {
+            return started > 0 ? totalWaitNanos / (double) started / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queued, %d started, avg wait %.1fms, max wait %.1fms",
+                    depth, started, getAverageWaitMillis(), getMaxWaitMillis());
+        }
+    }
+}
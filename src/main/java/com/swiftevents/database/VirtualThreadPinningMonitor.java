@@ -0,0 +1,92 @@
+package com.swiftevents.database;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which happens when they block
+ * inside a synchronized block or native frame (JDBC drivers and connection pools do this). Pinned
+ * storage threads behave like a small platform pool again, so the first few occurrences are logged
+ * with the frame that caused them. Uses an in-process JFR stream and is only started in debug mode.
+ */
+class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_LOGGED = 10;
+
+    private final Logger logger;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+    private RecordingStream stream;
+
+    VirtualThreadPinningMonitor(Logger logger) {
+        this.logger = logger;
+    }
+
+    boolean start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            // JFR can be missing or disabled on some runtimes
+            logger.warning("Virtual thread pinning diagnostics are unavailable: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long count = pinnedCount.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+        if (count <= MAX_LOGGED) {
+            logger.warning("Virtual thread pinned for " + event.getDuration().toMillis() + " ms in " + describeCause(event) +
+                (count == MAX_LOGGED ? " (further occurrences are only counted)" : ""));
+        }
+    }
+
+    // The first frame outside the JDK is the code that blocked while holding a monitor
+    private static String describeCause(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "unknown code";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String typeName = frame.getMethod().getType().getName();
+            if (!typeName.startsWith("java.") && !typeName.startsWith("jdk.") && !typeName.startsWith("sun.")) {
+                return typeName + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "JDK code";
+    }
+
+    long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        stream = null;
+        long count = pinnedCount.get();
+        if (count > 0) {
+            logger.info("Storage virtual threads were pinned " + count + " times for " +
+                Duration.ofNanos(pinnedNanos.get()).toMillis() + " ms in total");
+        }
+    }
+}
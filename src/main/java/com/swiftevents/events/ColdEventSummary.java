@@ -0,0 +1,125 @@
+package com.swiftevents.events;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The events that {@link EventManager} has moved out of memory, with precomputed totals so that
+ * statistics can include them without loading them back. This is the only per-event record of
+ * the cold tier: each event keeps its stored version and what it contributes to
+ * {@link EventStatistics}, so it can leave the tier without the event itself.
+ */
+public class ColdEventSummary {
+
+    private final EventStatistics statistics;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Event.EventStatus, Integer> statusCounts = new EnumMap<>(Event.EventStatus.class);
+    private final Map<Event.EventType, Integer> typeCounts = new EnumMap<>(Event.EventType.class);
+    private long totalParticipants;
+    private long totalCompletedDurationMillis;
+
+    ColdEventSummary(EventStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Adds an event loaded straight into the cold tier
+     *
+     * @return false if it was already there; its record is replaced
+     */
+    synchronized boolean add(Event event) {
+        EventStatistics.Contribution contribution = statistics.coldContributionOf(event);
+        statistics.addArchived(contribution);
+        return put(event, contribution);
+    }
+
+    /**
+     * Moves an event in memory to the cold tier; it keeps counting towards the statistics
+     *
+     * @return false if it was already there; its record is replaced
+     */
+    synchronized boolean archive(Event event) {
+        EventStatistics.Contribution contribution = statistics.archive(event.getId());
+        if (contribution == null) {
+            contribution = statistics.coldContributionOf(event);
+            statistics.addArchived(contribution);
+        }
+        return put(event, contribution);
+    }
+
+    private boolean put(Event event, EventStatistics.Contribution contribution) {
+        Entry entry = new Entry(contribution, event.getVersion());
+        Entry previous = entries.put(event.getId(), entry);
+        if (previous != null) {
+            statistics.removeArchived(previous.contribution());
+            apply(previous, -1);
+        }
+        apply(entry, 1);
+        return previous == null;
+    }
+
+    /**
+     * Takes back everything the event added, here and in the statistics
+     *
+     * @return false if the event was not in the cold tier
+     */
+    synchronized boolean remove(String eventId) {
+        Entry previous = entries.remove(eventId);
+        if (previous == null) {
+            return false;
+        }
+        statistics.removeArchived(previous.contribution());
+        apply(previous, -1);
+        return true;
+    }
+
+    synchronized boolean contains(String eventId) {
+        return entries.containsKey(eventId);
+    }
+
+    /**
+     * The version the event had when it entered the cold tier, or -1 if it is not in it
+     */
+    synchronized long getVersion(String eventId) {
+        Entry entry = entries.get(eventId);
+        return entry != null ? entry.version() : -1;
+    }
+
+    synchronized Set<String> getEventIds() {
+        return new HashSet<>(entries.keySet());
+    }
+
+    private void apply(Entry entry, int sign) {
+        EventStatistics.Contribution c = entry.contribution();
+        statusCounts.merge(c.status(), sign, Integer::sum);
+        typeCounts.merge(c.type(), sign, Integer::sum);
+        totalParticipants += (long) sign * c.participants();
+        totalCompletedDurationMillis += sign * Math.max(0, c.durationMillis());
+    }
+
+    public synchronized int getEventCount() {
+        return entries.size();
+    }
+
+    public synchronized int getCount(Event.EventStatus status) {
+        return statusCounts.getOrDefault(status, 0);
+    }
+
+    public synchronized int getCount(Event.EventType type) {
+        return typeCounts.getOrDefault(type, 0);
+    }
+
+    public synchronized long getTotalParticipants() {
+        return totalParticipants;
+    }
+
+    public synchronized long getTotalCompletedDurationMillis() {
+        return totalCompletedDurationMillis;
+    }
+
+    private record Entry(EventStatistics.Contribution contribution, long version) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.swiftevents.events;
 
+import com.swiftevents.utils.InputScanner;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -69,11 +71,26 @@ public class Event {
     // Additional metadata - Lazy initialization
     private Map<String, Object> metadata;
     
+    // Bumped on every replicated change; orders concurrent changes from different servers
+    private long version;
+    
     // Optimization: Cache frequently computed values with invalidation
     private transient String cachedFormattedTime = null;
     private transient long lastTimeCalculation = 0;
     private static final long TIME_CACHE_DURATION = 1000; // 1 second cache
     
+    // Security: Rejects actual dangerous injection patterns, not normal punctuation, and strips
+    // script tags, script protocols and event handlers like onclick= from what is left
+    private static final InputScanner INPUT_SCANNER = InputScanner.builder()
+        .reject("<script", "</script>", "javascript:", "data:text/html", "vbscript:",
+            "onload=", "onerror=", "onclick=", "onmouseover=",
+            "document.cookie", "window.location", "document.write", "innerhtml", "outerhtml",
+            "expression(", "url(javascript:", "@import", "\\x")
+        .removeElement("script")
+        .remove("javascript:", "data:", "vbscript:")
+        .removeAssignments("on")
+        .build();
+    
     // Optimization: String builder pool for thread-safe formatting
     private static final ThreadLocal<StringBuilder> STRING_BUILDER = 
         ThreadLocal.withInitial(() -> new StringBuilder(64));
@@ -83,8 +100,8 @@ public class Event {
         validateInputs(id, name, description, type);
         
         this.id = id != null ? id : UUID.randomUUID().toString();
-        this.name = sanitizeString(name);
-        this.description = sanitizeString(description);
+        this.name = sanitizeString(name, "Event name contains invalid characters");
+        this.description = sanitizeString(description, "Event description contains invalid characters");
         this.type = type;
         this.status = EventStatus.CREATED;
         this.maxParticipants = -1; // -1 means unlimited
@@ -108,7 +125,83 @@ public class Event {
         this(UUID.randomUUID().toString(), name, description, type);
         this.createdBy = createdBy;
     }
-    
+
+    // Restore/copy constructor - values were validated when the event was first created
+    private Event(String id, String name, String description, EventType type, long createdAt, Set<UUID> participants) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.type = type;
+        this.status = EventStatus.CREATED;
+        this.maxParticipants = -1;
+        this.currentParticipants = 0;
+        this.createdAt = createdAt;
+        this.participants = participants;
+    }
+
+    /**
+     * Rebuilds a previously persisted event without re-running input validation
+     * and keeping its original creation time. Intended for storage codecs only.
+     */
+    public static Event restore(String id, String name, String description, EventType type, long createdAt) {
+        if (id == null || type == null) {
+            throw new IllegalArgumentException("Restored event requires an id and type");
+        }
+        return new Event(id, name, description, type, createdAt, ConcurrentHashMap.newKeySet(4));
+    }
+
+    /**
+     * Detached point-in-time copy for background work such as backups. Strings are shared,
+     * collections are copied, so later changes to this event do not show up in the copy.
+     * The copy's participants are read-only.
+     */
+    public Event copy() {
+        Event copy = new Event(id, name, description, type, createdAt, Set.copyOf(participants));
+        copy.status = status;
+        copy.maxParticipants = maxParticipants;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.createdBy = createdBy;
+        if (hasLocation) {
+            copy.setLocation(world, x, y, z);
+        }
+        copy.currentParticipants = currentParticipants;
+        copy.rewards = rewards != null ? new ArrayList<>(rewards) : null;
+        copy.requirements = requirements != null ? new HashMap<>(requirements) : null;
+        copy.metadata = metadata != null ? new HashMap<>(metadata) : null;
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * Overwrites this event's state with another copy of the same event, keeping this instance so
+     * references held elsewhere stay valid. Used to apply changes replicated from other servers.
+     */
+    public void copyStateFrom(Event other) {
+        if (!id.equals(other.id)) {
+            throw new IllegalArgumentException("Cannot copy state from a different event");
+        }
+        this.name = other.name;
+        this.description = other.description;
+        this.type = other.type;
+        this.status = other.status;
+        this.maxParticipants = other.maxParticipants;
+        this.startTime = other.startTime;
+        this.endTime = other.endTime;
+        this.createdBy = other.createdBy;
+        if (other.hasLocation) {
+            setLocation(other.world, other.x, other.y, other.z);
+        } else {
+            clearLocation();
+        }
+        setParticipants(other.participants);
+        setRewards(other.rewards);
+        setRequirements(other.requirements);
+        setMetadata(other.metadata);
+        this.version = other.version;
+        clearTimeCache();
+    }
+
     // Input validation with security checks
     private void validateInputs(String id, String name, String description, EventType type) {
         if (name == null || name.trim().isEmpty()) {
@@ -126,61 +219,19 @@ public class Event {
         if (type == null) {
             throw new IllegalArgumentException("Event type cannot be null");
         }
-        
-        // Security: Check for potential injection patterns
-        if (name != null && containsInjectionPattern(name)) {
-            throw new IllegalArgumentException("Event name contains invalid characters");
-        }
-        
-        if (description != null && containsInjectionPattern(description)) {
-            throw new IllegalArgumentException("Event description contains invalid characters");
-        }
     }
     
-    // String sanitization to prevent XSS and injection attacks
-    private String sanitizeString(String input) {
+    // String sanitization to prevent XSS and injection attacks; one scan rejects injection patterns and removes the rest
+    private static String sanitizeString(String input, String rejectedMessage) {
         if (input == null) {
             return null;
         }
         
-        // Only remove actual dangerous script tags and protocols, not normal punctuation
-        String sanitized = input
-            .replaceAll("(?i)<script[^>]*>.*?</script>", "") // Remove script tags
-            .replaceAll("(?i)javascript:", "") // Remove javascript: protocol
-            .replaceAll("(?i)data:", "") // Remove data: protocol
-            .replaceAll("(?i)vbscript:", "") // Remove vbscript: protocol
-            .replaceAll("(?i)on\\w+\\s*=", "") // Remove event handlers like onclick=
-            .trim();
-        
-        return sanitized.isEmpty() ? null : sanitized;
-    }
-    
-    // Check for potential injection patterns
-    private boolean containsInjectionPattern(String input) {
-        if (input == null) {
-            return false;
+        InputScanner.Result result = INPUT_SCANNER.scan(input);
+        if (result.isRejected()) {
+            throw new IllegalArgumentException(rejectedMessage);
         }
-        
-        String lowerInput = input.toLowerCase();
-        // Only check for actual dangerous injection patterns, not normal punctuation
-        return lowerInput.contains("<script") ||
-               lowerInput.contains("</script>") ||
-               lowerInput.contains("javascript:") ||
-               lowerInput.contains("data:text/html") ||
-               lowerInput.contains("vbscript:") ||
-               lowerInput.contains("onload=") ||
-               lowerInput.contains("onerror=") ||
-               lowerInput.contains("onclick=") ||
-               lowerInput.contains("onmouseover=") ||
-               lowerInput.contains("document.cookie") ||
-               lowerInput.contains("window.location") ||
-               lowerInput.contains("document.write") ||
-               lowerInput.contains("innerhtml") ||
-               lowerInput.contains("outerhtml") ||
-               lowerInput.contains("expression(") ||
-               lowerInput.contains("url(javascript:") ||
-               lowerInput.contains("@import") ||
-               lowerInput.contains("\\x");
+        return result.getText().isEmpty() ? null : result.getText();
     }
     
     // Getters and Setters
@@ -199,10 +250,7 @@ public class Event {
         if (name.length() > 255) {
             throw new IllegalArgumentException("Event name cannot exceed 255 characters");
         }
-        if (containsInjectionPattern(name)) {
-            throw new IllegalArgumentException("Event name contains invalid characters");
-        }
-        this.name = sanitizeString(name);
+        this.name = sanitizeString(name, "Event name contains invalid characters");
     }
     
     public String getDescription() {
@@ -213,10 +261,7 @@ public class Event {
         if (description != null && description.length() > 10000) {
             throw new IllegalArgumentException("Event description cannot exceed 10,000 characters");
         }
-        if (description != null && containsInjectionPattern(description)) {
-            throw new IllegalArgumentException("Event description contains invalid characters");
-        }
-        this.description = sanitizeString(description);
+        this.description = sanitizeString(description, "Event description contains invalid characters");
     }
     
     public EventType getType() {
@@ -322,6 +367,14 @@ public class Event {
         this.hasLocation = false;
     }
     
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
     // Optimization: Return view instead of copy for participants
     public Set<UUID> getParticipants() {
         return Collections.unmodifiableSet(participants);
@@ -3,13 +3,22 @@ package com.swiftevents.events;
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.api.events.*;
 import com.swiftevents.chat.ChatManager;
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.replication.MySqlChangeLogTransport;
+import com.swiftevents.replication.ReplicationManager;
+import com.swiftevents.replication.ReplicationTransport;
+import com.swiftevents.rewards.RewardQueue;
+import com.swiftevents.stats.PlayerStatsManager;
+import com.swiftevents.utils.TickProfiler;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class EventManager {
@@ -48,16 +57,55 @@ public class EventManager {
     // Player cooldown tracking
     private final Map<UUID, Long> playerCooldowns = new ConcurrentHashMap<>();
     
+    // Cold tier: finished events past the hot retention live only in storage. A compact record
+    // per event and aggregate totals stay in memory; lookups go through a small LRU cache.
+    private static final int DEFAULT_COLD_CACHE_SIZE = 128;
+    // Dashboard figures over all events, hot and cold, kept up to date as events change
+    private final EventStatistics statistics = new EventStatistics();
+    private final ColdEventSummary coldSummary = new ColdEventSummary(statistics);
+    private final Map<String, Event> coldCache;
+    private final long hotRetentionMillis;
+    
+    private final TeleportScheduler teleportScheduler;
+    private final RewardQueue rewardQueue;
+    private final PlayerStatsManager playerStats;
+    
+    // Null unless replication is enabled
+    private final ReplicationManager replication;
+    private static final int DEFAULT_REPLICATION_POLL_MILLIS = 500;
+    private static final int DEFAULT_REPLICATION_RETENTION_MINUTES = 60;
+    private static final int DEFAULT_TELEPORT_PRELOAD_SECONDS = 30;
+    
     public EventManager(SwiftEventsPlugin plugin) {
         this.plugin = plugin;
+        this.teleportScheduler = new TeleportScheduler(plugin);
+        this.rewardQueue = new RewardQueue(plugin);
+        this.playerStats = new PlayerStatsManager(plugin);
         
         // Optimization: Initialize with appropriate sizes and load factors
         this.activeEvents = new ConcurrentHashMap<>(16, 0.75f);
         this.allEvents = new ConcurrentHashMap<>(64, 0.75f);
         
+        int configuredCacheSize = plugin.getConfigManager().getColdCacheSize();
+        int coldCacheSize = configuredCacheSize > 0 ? configuredCacheSize : DEFAULT_COLD_CACHE_SIZE;
+        this.coldCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Event> eldest) {
+                return size() > coldCacheSize;
+            }
+        };
+        this.hotRetentionMillis = plugin.getConfigManager().getHotRetentionHours() * 3_600_000L;
+        
         // Load existing events
         loadAllEvents();
         
+        // Rewards owed from before the last shutdown
+        rewardQueue.load();
+        playerStats.load();
+        
+        // Changes from other servers sharing the database
+        this.replication = createReplication();
+        
         // Start auto-save task
         startAutoSave();
         
@@ -66,65 +114,210 @@ public class EventManager {
     }
     
     private void loadAllEvents() {
-        plugin.getDatabaseManager().loadAllEvents().thenAccept(events -> {
-            try {
-                // Synchronize with the main thread to avoid race conditions
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    int loadedCount = 0;
-                    for (Event event : events) {
-                        // Only add if not already present (to avoid overwriting newly created events)
-                        if (!allEvents.containsKey(event.getId())) {
-                            allEvents.put(event.getId(), event);
-                            if (event.isActive()) {
-                                activeEvents.put(event.getId(), event);
-                            }
-                            loadedCount++;
-                        }
-                    }
-                    plugin.getLogger().info("Loaded " + loadedCount + " events from storage");
-                    
-                    // Clean up any invalid events after loading
-                    cleanupInvalidEvents();
-                });
-            } catch (Exception e) {
-                // Handle case where Bukkit server is not available (e.g., in tests)
-                plugin.getLogger().warning("Could not schedule event loading: " + e.getMessage());
-                // Load events directly if scheduler is not available
-                int loadedCount = 0;
-                for (Event event : events) {
-                    if (!allEvents.containsKey(event.getId())) {
-                        allEvents.put(event.getId(), event);
-                        if (event.isActive()) {
-                            activeEvents.put(event.getId(), event);
-                        }
-                        loadedCount++;
-                    }
+        // Batches arrive from the loader threads as storage is read; each is applied on the main thread
+        // Events that finished before the hot retention only need their summary for the cold tier
+        AtomicInteger loadedCount = new AtomicInteger();
+        long hotSince = hotRetentionMillis > 0 ? System.currentTimeMillis() - hotRetentionMillis : 0;
+        plugin.getDatabaseManager().streamAllEvents(batch -> runOnMainThread(() -> loadedCount.addAndGet(addLoadedEvents(batch))), hotSince)
+            .thenAccept(total -> runOnMainThread(() -> {
+                plugin.getLogger().info("Loaded " + loadedCount.get() + " events from storage");
+                
+                // Move long-finished events that are still resident to the cold tier
+                evictColdEvents();
+            }));
+    }
+    
+    private int addLoadedEvents(List<Event> events) {
+        int loadedCount = 0;
+        long currentTime = System.currentTimeMillis();
+        for (Event event : events) {
+            // Long-finished events go straight to the cold tier; they are already in storage
+            if (isColdCandidate(event, currentTime)) {
+                if (!allEvents.containsKey(event.getId()) && coldSummary.add(event)) {
+                    loadedCount++;
                 }
-                plugin.getLogger().info("Loaded " + loadedCount + " events from storage (direct)");
-                cleanupInvalidEvents();
+                continue;
+            }
+            // Only add if not already present (to avoid overwriting newly created events)
+            if (!allEvents.containsKey(event.getId())) {
+                allEvents.put(event.getId(), event);
+                statistics.track(event);
+                if (event.isActive()) {
+                    activeEvents.put(event.getId(), event);
+                }
+                loadedCount++;
+            }
+        }
+        return loadedCount;
+    }
+    
+    private ReplicationManager createReplication() {
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isReplicationEnabled()) {
+            return null;
+        }
+        DatabaseManager databaseManager = plugin.getDatabaseManager();
+        if (!config.isDatabaseEnabled() || databaseManager.isEmbeddedDatabase()) {
+            plugin.getLogger().warning("Replication needs a shared MySQL database (database.enabled with type mysql); running without it");
+            return null;
+        }
+        
+        String nodeId = config.getReplicationNodeId();
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        int pollMillis = config.getReplicationPollIntervalMillis();
+        int retentionMinutes = config.getReplicationRetentionMinutes();
+        long retentionMillis = (retentionMinutes > 0 ? retentionMinutes : DEFAULT_REPLICATION_RETENTION_MINUTES) * 60_000L;
+        ReplicationTransport transport = new MySqlChangeLogTransport(databaseManager::getConnection, false, nodeId,
+                pollMillis > 0 ? pollMillis : DEFAULT_REPLICATION_POLL_MILLIS, retentionMillis, plugin.getLogger());
+        ReplicationManager manager = new ReplicationManager(nodeId, transport, new ReplicationTarget(), this::runOnMainThread,
+                retentionMillis, plugin.getLogger());
+        manager.start();
+        plugin.getLogger().info("Replicating events as node " + nodeId);
+        return manager;
+    }
+    
+    public ReplicationManager getReplication() {
+        return replication;
+    }
+    
+    // Applies changes made on other servers: no Bukkit events, hooks or storage writes, the origin did those
+    private class ReplicationTarget implements ReplicationManager.Target {
+        @Override
+        public Event getReplicatedEvent(String eventId) {
+            return allEvents.get(eventId);
+        }
+        
+        @Override
+        public long getColdVersion(String eventId) {
+            return coldSummary.getVersion(eventId);
+        }
+        
+        @Override
+        public void applyReplicatedState(Event state) {
+            applyExternalState(state);
+        }
+        
+        @Override
+        public void applyReplicatedDelete(String eventId) {
+            allEvents.remove(eventId);
+            activeEvents.remove(eventId);
+            forgetColdEvent(eventId);
+            statistics.untrack(eventId);
+            teleportScheduler.release(eventId);
+            hudMessageCache.remove(eventId);
+            hudCacheTimestamps.remove(eventId);
+            plugin.getHUDManager().updateActiveEvents();
+        }
+    }
+    
+    /**
+     * A save of the event lost a write conflict to a newer row from another server; the event in
+     * memory takes the stored state unless a later local change has moved past it.
+     */
+    public void applyStoredState(Event stored) {
+        runOnMainThread(() -> {
+            Event local = allEvents.get(stored.getId());
+            if (local != null && stored.getVersion() >= local.getVersion()) {
+                plugin.getLogger().warning("Event " + stored.getName() + " was changed by another server; reloaded it from storage");
+                applyExternalState(stored);
             }
         });
     }
     
-    private void cleanupInvalidEvents() {
-        Iterator<Map.Entry<String, Event>> iterator = allEvents.entrySet().iterator();
-        int cleanedCount = 0;
+    // State changed elsewhere replaces the event in memory, or adds it
+    private void applyExternalState(Event state) {
+        String eventId = state.getId();
+        Event local = allEvents.get(eventId);
+        if (local == null) {
+            forgetColdEvent(eventId);
+            allEvents.put(eventId, state);
+            local = state;
+        } else if (local != state) {
+            local.copyStateFrom(state);
+        }
+        statistics.track(local);
+        if (local.isActive()) {
+            activeEvents.put(eventId, local);
+        } else {
+            activeEvents.remove(eventId);
+            if (local.isCompleted() || local.isCancelled()) {
+                teleportScheduler.release(eventId);
+            }
+        }
+        hudMessageCache.remove(eventId);
+        hudCacheTimestamps.remove(eventId);
+        plugin.getHUDManager().updateActiveEvents();
+    }
+    
+    private void runOnMainThread(Runnable task) {
+        try {
+            // Synchronize with the main thread to avoid race conditions
+            Bukkit.getScheduler().runTask(plugin, task);
+        } catch (Exception e) {
+            // Handle case where Bukkit server is not available (e.g., in tests)
+            task.run();
+        }
+    }
+    
+    private boolean isColdCandidate(Event event, long currentTime) {
+        if (hotRetentionMillis <= 0 || !(event.isCompleted() || event.isCancelled())) {
+            return false;
+        }
+        long finishedAt = event.getEndTime() > 0 ? event.getEndTime() : event.getCreatedAt();
+        return currentTime - finishedAt > hotRetentionMillis;
+    }
+    
+    /**
+     * Moves completed and cancelled events past the hot retention out of memory. They are saved
+     * first so storage holds their final state, and remain reachable through {@link #getEvent}.
+     */
+    private void evictColdEvents() {
+        long currentTime = System.currentTimeMillis();
+        List<Event> evicted = new ArrayList<>();
         
+        Iterator<Event> iterator = allEvents.values().iterator();
         while (iterator.hasNext()) {
-            Map.Entry<String, Event> entry = iterator.next();
-            Event event = entry.getValue();
-            
-            // Remove events that are very old and completed/cancelled
-            if ((event.isCompleted() || event.isCancelled()) && 
-                System.currentTimeMillis() - event.getCreatedAt() > 2592000000L) { // 30 days
+            Event event = iterator.next();
+            if (isColdCandidate(event, currentTime)) {
                 iterator.remove();
                 activeEvents.remove(event.getId());
-                cleanedCount++;
+                coldSummary.archive(event);
+                if (replication != null) {
+                    replication.forget(event.getId());
+                }
+                evicted.add(event);
             }
         }
         
-        if (cleanedCount > 0) {
-            plugin.getLogger().info("Cleaned up " + cleanedCount + " old events");
+        if (!evicted.isEmpty()) {
+            synchronized (coldCache) {
+                // Serves lookups until the save below has reached storage
+                for (Event event : evicted) {
+                    coldCache.put(event.getId(), event);
+                }
+            }
+            DatabaseManager storage = plugin.getDatabaseManager();
+            // From here on the cold record holds their version
+            storage.saveEvents(evicted).thenRun(() -> evicted.forEach(event -> storage.forgetStoredVersion(event.getId())));
+            plugin.getLogger().info("Moved " + evicted.size() + " finished events to cold storage");
+        }
+    }
+    
+    private Event cachedColdEvent(String eventId) {
+        synchronized (coldCache) {
+            return coldCache.get(eventId);
+        }
+    }
+    
+    // Removes an event from the cold tier, taking back what it added to the summaries
+    private void forgetColdEvent(String eventId) {
+        if (!coldSummary.remove(eventId)) {
+            return;
+        }
+        synchronized (coldCache) {
+            coldCache.remove(eventId);
         }
     }
     
@@ -152,36 +345,43 @@ public class EventManager {
     
     // Optimized update method with batching and reduced allocations
     private void updateEvents() {
-        long currentTime = System.currentTimeMillis();
+        TickProfiler.begin(TickProfiler.Subsystem.EVENT_MANAGER);
+        try {
+            long currentTime = System.currentTimeMillis();
         
-        // Clear and reuse buffers
-        eventUpdateBuffer.clear();
-        eventUpdateBuffer.addAll(activeEvents.values());
+            // Clear and reuse buffers
+            eventUpdateBuffer.clear();
+            eventUpdateBuffer.addAll(activeEvents.values());
         
-        // Process events in batches to reduce lock contention
-        for (Event event : eventUpdateBuffer) {
-            try {
-                updateSingleEvent(event, currentTime);
-            } catch (Exception e) {
-                plugin.getLogger().warning("Error updating event " + event.getName() + ": " + e.getMessage());
+            // Process events in batches to reduce lock contention
+            for (Event event : eventUpdateBuffer) {
+                try {
+                    updateSingleEvent(event, currentTime);
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Error updating event " + event.getName() + ": " + e.getMessage());
+                }
             }
-        }
         
-        // Update HUD periodically for time-sensitive information
-        if (plugin.getConfigManager().isHUDEnabled()) {
-            plugin.getHUDManager().updateActiveEvents();
-        }
+            preloadUpcomingEvents(currentTime);
         
-        // Call hooks periodically instead of every update
-        if (currentTime - lastHookUpdate > HOOK_UPDATE_INTERVAL) {
-            lastHookUpdate = currentTime;
-            callHookUpdates();
-        }
+            // Update HUD periodically for time-sensitive information
+            if (plugin.getConfigManager().isHUDEnabled()) {
+                plugin.getHUDManager().updateActiveEvents();
+            }
         
-        // Cleanup caches periodically
-        if (currentTime - lastCacheCleanup > CACHE_CLEANUP_INTERVAL) {
-            lastCacheCleanup = currentTime;
-            cleanupCaches();
+            // Call hooks periodically instead of every update
+            if (currentTime - lastHookUpdate > HOOK_UPDATE_INTERVAL) {
+                lastHookUpdate = currentTime;
+                callHookUpdates();
+            }
+        
+            // Cleanup caches periodically
+            if (currentTime - lastCacheCleanup > CACHE_CLEANUP_INTERVAL) {
+                lastCacheCleanup = currentTime;
+                cleanupCaches();
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.EVENT_MANAGER);
         }
     }
     
@@ -292,10 +492,13 @@ public class EventManager {
                 hudMessageCache.remove(entry.getKey());
             }
         }
+        
+        evictColdEvents();
     }
     
     // Event creation and management methods
     public Event createEvent(String name, String description, Event.EventType type, UUID creatorId) {
+        long started = System.nanoTime();
         try {
             // Input validation - throw exceptions for invalid parameters
             if (name == null || name.trim().isEmpty()) {
@@ -338,6 +541,7 @@ public class EventManager {
             
             // Store event
             allEvents.put(event.getId(), event);
+            statistics.track(event);
             
             // Fire Bukkit event
             try {
@@ -349,7 +553,7 @@ public class EventManager {
             
             // Save the event asynchronously
             try {
-                plugin.getDatabaseManager().saveEvent(event);
+                saveEvent(event);
             } catch (Exception e) {
                 plugin.getLogger().severe("Failed to save event to database: " + e.getMessage());
                 // Don't fail the creation, but log the error
@@ -379,6 +583,7 @@ public class EventManager {
             }
             
             plugin.getLogger().info("Event created successfully: " + event.getName() + " (ID: " + event.getId() + ")");
+            statistics.recordCreation(System.nanoTime() - started);
             return event;
             
         } catch (IllegalArgumentException e) {
@@ -397,13 +602,19 @@ public class EventManager {
         if (eventId == null) {
             return false;
         }
-        Event event = allEvents.get(eventId);
+        Event event = getEvent(eventId);
         if (event == null) {
-            return false;
+            return coldSummary.contains(eventId) && deleteColdEvent(eventId);
         }
         
         allEvents.remove(eventId);
         activeEvents.remove(eventId);
+        forgetColdEvent(eventId);
+        statistics.untrack(eventId);
+        releaseTeleports(eventId);
+        if (!event.isCompleted() && !event.isCancelled()) {
+            recordStats(() -> playerStats.recordCancel(event));
+        }
         
         // Clean up caches for this event
         hudMessageCache.remove(eventId);
@@ -415,6 +626,9 @@ public class EventManager {
         
         // Delete from database asynchronously
         plugin.getDatabaseManager().deleteEvent(eventId);
+        if (replication != null) {
+            replication.recordDelete(event);
+        }
         
         // Call hooks after deletion
         plugin.getHookManager().callEventEnded(event, "deleted");
@@ -425,6 +639,26 @@ public class EventManager {
         return true;
     }
     
+    // A cold event that is not cached: it is removed now, and the end event and hooks fire once
+    // the stored copy has been read in the background
+    private boolean deleteColdEvent(String eventId) {
+        long version = coldSummary.getVersion(eventId);
+        CompletableFuture<Event> stored = getEventAsync(eventId);
+        forgetColdEvent(eventId);
+        if (replication != null) {
+            replication.recordDelete(eventId, version);
+        }
+        
+        stored.whenComplete((event, error) -> runOnMainThread(() -> {
+            plugin.getDatabaseManager().deleteEvent(eventId);
+            if (event != null) {
+                Bukkit.getPluginManager().callEvent(new SwiftEventEndEvent(event, "deleted"));
+                plugin.getHookManager().callEventEnded(event, "deleted");
+            }
+        }));
+        return true;
+    }
+    
     public boolean startEvent(String eventId) {
         if (eventId == null) {
             return false;
@@ -469,7 +703,7 @@ public class EventManager {
         notifyParticipants(event, "event_started", placeholders);
         
         // Save the updated event
-        plugin.getDatabaseManager().saveEvent(event);
+        saveEvent(event);
         
         // Call hooks after starting
         plugin.getHookManager().callEventStarted(event);
@@ -495,6 +729,8 @@ public class EventManager {
         }
         
         activeEvents.remove(eventId);
+        releaseTeleports(eventId);
+        recordStats(() -> playerStats.recordEnd(event));
         
         // Clean up caches for this event
         hudMessageCache.remove(eventId);
@@ -514,7 +750,7 @@ public class EventManager {
         notifyParticipants(event, "event_ended", placeholders);
         
         // Save the updated event
-        plugin.getDatabaseManager().saveEvent(event);
+        saveEvent(event);
         
         // Call hooks after ending
         plugin.getHookManager().callEventEnded(event, "completed");
@@ -536,6 +772,8 @@ public class EventManager {
         
         event.setStatus(Event.EventStatus.CANCELLED);
         activeEvents.remove(eventId);
+        releaseTeleports(eventId);
+        recordStats(() -> playerStats.recordCancel(event));
         
         // Clean up caches for this event
         hudMessageCache.remove(eventId);
@@ -551,7 +789,7 @@ public class EventManager {
         notifyParticipants(event, "event_cancelled", placeholders);
         
         // Save the updated event
-        plugin.getDatabaseManager().saveEvent(event);
+        saveEvent(event);
         
         // Call hooks after cancellation
         plugin.getHookManager().callEventEnded(event, "cancelled");
@@ -579,7 +817,7 @@ public class EventManager {
         notifyParticipants(event, "event_paused", placeholders);
         
         // Save the updated event
-        plugin.getDatabaseManager().saveEvent(event);
+        saveEvent(event);
         
         // Update HUD for all players
         plugin.getHUDManager().updateActiveEvents();
@@ -604,7 +842,7 @@ public class EventManager {
         notifyParticipants(event, "event_resumed", placeholders);
         
         // Save the updated event
-        plugin.getDatabaseManager().saveEvent(event);
+        saveEvent(event);
         
         // Update HUD for all players
         plugin.getHUDManager().updateActiveEvents();
@@ -613,6 +851,7 @@ public class EventManager {
     }
     
     public boolean joinEvent(String eventId, UUID playerId) {
+        long started = System.nanoTime();
         try {
             // Input validation
             if (eventId == null || eventId.trim().isEmpty()) {
@@ -704,6 +943,8 @@ public class EventManager {
                 // Don't fail the join, just log the error
             }
             
+            recordStats(() -> playerStats.recordJoin(event, playerId));
+            
             // Notify player
             try {
                 if (player != null) {
@@ -744,7 +985,7 @@ public class EventManager {
             
             // Save the updated event
             try {
-                plugin.getDatabaseManager().saveEvent(event);
+                saveEvent(event);
             } catch (Exception e) {
                 plugin.getLogger().severe("Failed to save event after player " + playerId + " joined event " + eventId + ": " + e.getMessage());
                 // Don't fail the join, but log the error
@@ -767,6 +1008,7 @@ public class EventManager {
             }
             
             plugin.getLogger().info("Player " + playerId + " successfully joined event " + eventId + " (" + event.getName() + ")");
+            statistics.recordJoin(System.nanoTime() - started);
             return true;
             
         } catch (Exception e) {
@@ -825,6 +1067,7 @@ public class EventManager {
         }
 
         event.removeParticipant(playerId);
+        recordStats(() -> playerStats.recordLeave(event, playerId));
         
         // Set player cooldown
         long cooldownSeconds = plugin.getConfigManager().getPlayerCooldown();
@@ -867,18 +1110,41 @@ public class EventManager {
             return false;
         }
         
-        Location teleportLocation = new Location(
-                Bukkit.getWorld(event.getWorld()),
-                event.getX(),
-                event.getY(),
-                event.getZ()
-        );
-
-        player.teleport(teleportLocation);
-        player.sendMessage(plugin.getConfigManager().getPrefix() + "§aTeleported to " + event.getName() + ".");
+        if (Bukkit.getWorld(event.getWorld()) == null) {
+            player.sendMessage(plugin.getConfigManager().getPrefix() + "§cThe event world is not loaded.");
+            return false;
+        }
+        
+        // Queued: arrivals are spread over ticks once the arena chunks are loaded
+        runOnMainThread(() -> teleportScheduler.schedule(player, event, arrived -> {
+            if (arrived) {
+                player.sendMessage(plugin.getConfigManager().getPrefix() + "§aTeleported to " + event.getName() + ".");
+            }
+        }));
         return true;
     }
     
+    public TeleportScheduler getTeleportScheduler() {
+        return teleportScheduler;
+    }
+    
+    // Chunk tickets are released on the main thread; bulk operations end events from other threads
+    private void releaseTeleports(String eventId) {
+        runOnMainThread(() -> teleportScheduler.release(eventId));
+    }
+    
+    // Loads the arena of events starting soon, so their start does not wait on chunk loading
+    private void preloadUpcomingEvents(long currentTime) {
+        int configured = plugin.getConfigManager().getTeleportPreloadSeconds();
+        long leadMillis = (configured > 0 ? configured : DEFAULT_TELEPORT_PRELOAD_SECONDS) * 1000L;
+        for (Event event : allEvents.values()) {
+            if (event.isScheduled() && event.hasLocation() && event.getStartTime() > 0 &&
+                    event.getStartTime() - currentTime <= leadMillis) {
+                teleportScheduler.preload(event);
+            }
+        }
+    }
+    
     private void notifyParticipants(Event event, String message) {
         // Optimization: Use enhanced for loop on keySet
         for (UUID participantId : event.getParticipants()) {
@@ -895,39 +1161,93 @@ public class EventManager {
     }
     
     private void distributeRewards(Event event) {
-        List<String> rewards = event.getRewards();
-        if (rewards.isEmpty()) {
-            return;
-        }
-        
-        // Clear and reuse set
-        playersToNotify.clear();
-        playersToNotify.addAll(event.getParticipants());
-        
-        for (UUID participantId : playersToNotify) {
-            Player player = Bukkit.getPlayer(participantId);
-            if (player != null && player.isOnline()) {
-                for (String reward : rewards) {
-                    // Execute reward command
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), 
-                            reward.replace("{player}", player.getName()));
-                }
-            }
+        // Delivered over the next ticks, and to offline participants when they join
+        runOnMainThread(() -> rewardQueue.enqueue(event));
+    }
+    
+    public RewardQueue getRewardQueue() {
+        return rewardQueue;
+    }
+    
+    public PlayerStatsManager getPlayerStats() {
+        return playerStats;
+    }
+    
+    // Statistics are bookkeeping; a failure there must not fail the event operation
+    private void recordStats(Runnable update) {
+        try {
+            update.run();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to update player statistics: " + e.getMessage());
         }
     }
     
     // Getter methods
+    
+    /**
+     * Events in memory, and events in the cold tier that are in the LRU cache. Never reads
+     * storage; use {@link #getEventAsync(String)} to reach the rest of the cold tier.
+     */
     public Event getEvent(String eventId) {
         if (eventId == null) {
             return null;
         }
-        return allEvents.get(eventId);
+        Event event = allEvents.get(eventId);
+        if (event == null && coldSummary.contains(eventId)) {
+            event = cachedColdEvent(eventId);
+        }
+        return event;
+    }
+    
+    /**
+     * Like {@link #getEvent(String)}, but reads a cold event missing from the cache from storage
+     * and caches it. The future completes on the storage thread; switch to the main thread before
+     * touching the server. Completes with null if the event does not exist or cannot be read.
+     */
+    public CompletableFuture<Event> getEventAsync(String eventId) {
+        Event event = getEvent(eventId);
+        if (event != null || eventId == null || !coldSummary.contains(eventId)) {
+            return CompletableFuture.completedFuture(event);
+        }
+        return plugin.getDatabaseManager().loadEvent(eventId).handle((loaded, error) -> {
+            if (error != null) {
+                plugin.getLogger().warning("Could not load cold event " + eventId + ": " + error.getMessage());
+                return null;
+            }
+            if (loaded != null && coldSummary.contains(eventId)) {
+                plugin.getDatabaseManager().forgetStoredVersion(eventId);
+                synchronized (coldCache) {
+                    coldCache.put(eventId, loaded);
+                }
+            }
+            return loaded;
+        });
     }
     
+    /**
+     * Events held in memory: everything except the cold tier. Use {@link #getColdEventSummary()}
+     * for totals that include cold events.
+     */
     public List<Event> getAllEvents() {
         return new ArrayList<>(allEvents.values());
     }
     
+    public Set<String> getColdEventIds() {
+        return coldSummary.getEventIds();
+    }
+    
+    public ColdEventSummary getColdEventSummary() {
+        return coldSummary;
+    }
+    
+    public EventStatistics getEventStatistics() {
+        return statistics;
+    }
+    
+    public int getTotalEventCount() {
+        return allEvents.size() + coldSummary.getEventCount();
+    }
+    
     public List<Event> getActiveEvents() {
         return new ArrayList<>(activeEvents.values());
     }
@@ -975,17 +1295,64 @@ public class EventManager {
         return false;
     }
     
+    /**
+     * Bulk-loads events restored from a backup. An event replaces any loaded event with the same id,
+     * and the active-event index follows the restored status. Participant lookups read the restored
+     * participant sets directly.
+     */
+    public int restoreEvents(Collection<Event> events) {
+        int restoredCount = 0;
+        for (Event event : events) {
+            if (event == null || event.getId() == null) {
+                continue;
+            }
+            // Restored state replaces what is stored, so it must not look older than the stored row
+            long storedVersion = Math.max(plugin.getDatabaseManager().getStoredVersion(event.getId()),
+                coldSummary.getVersion(event.getId()));
+            forgetColdEvent(event.getId());
+            event.setVersion(Math.max(event.getVersion(), storedVersion) + 1);
+            allEvents.put(event.getId(), event);
+            statistics.track(event);
+            if (event.isActive()) {
+                activeEvents.put(event.getId(), event);
+            } else {
+                activeEvents.remove(event.getId());
+            }
+            restoredCount++;
+        }
+        return restoredCount;
+    }
+
     public void saveAllEvents() {
         // Clear and reuse collection
         eventsToSave.clear();
         eventsToSave.addAll(allEvents.values());
+        // Picks up changes made to events without going through saveEvent
+        for (Event event : eventsToSave) {
+            statistics.track(event);
+        }
         
         // Save in batches for better performance
         plugin.getDatabaseManager().saveEvents(eventsToSave);
+        playerStats.flush();
     }
     
+    /**
+     * Persists a changed event and, with replication on, publishes the change to the other servers
+     */
     public void saveEvent(Event event) {
-        plugin.getDatabaseManager().saveEvent(event);
+        if (allEvents.get(event.getId()) == event) {
+            statistics.track(event);
+        }
+        DatabaseManager storage = plugin.getDatabaseManager();
+        if (replication == null) {
+            storage.saveEvent(event);
+            return;
+        }
+        // One version for the stored row and the published change, taken from replication's clock
+        replication.nextVersion(event, storage.getStoredVersion(event.getId()));
+        storage.saveEventAtVersion(event);
+        replication.recordUpsert(event);
     }
     
     public void shutdown() {
@@ -996,9 +1363,15 @@ public class EventManager {
         if (eventUpdateTask != null) {
             eventUpdateTask.cancel();
         }
+        teleportScheduler.shutdown();
+        rewardQueue.shutdown();
+        if (replication != null) {
+            replication.close();
+        }
         
         // Save all events before shutdown
         saveAllEvents();
+        playerStats.shutdown();
         
         // Clear caches
         hudMessageCache.clear();
@@ -0,0 +1,364 @@
+package com.swiftevents.events;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Running totals over every event, in memory or in the cold tier, for the statistics dashboard.
+ * {@link EventManager} hands over each event whenever it changes; the event's previous
+ * contribution is taken back out and the new one added, so reading any figure never needs a pass
+ * over the events. Hour and day histograms use the event's start time, or its creation time if it
+ * has not started, in the server's time zone.
+ * <p>
+ * What events in the cold tier contributed is kept by {@link ColdEventSummary}, so it can be taken
+ * back out exactly when they leave it; they are left out of {@link #getMostPopularEvent()}.
+ */
+public class EventStatistics {
+
+    // Upper bounds of the duration histogram buckets, in minutes; the last bucket is open-ended
+    private static final int[] DURATION_BUCKET_MINUTES = {5, 15, 30, 60, 120};
+    private static final long HOUR_MILLIS = 3_600_000L;
+    // Creation counts are kept per hour for the last week
+    private static final int RECENT_HOURS = 7 * 24;
+
+    private static final Event.EventStatus[] STATUSES = Event.EventStatus.values();
+    private static final Event.EventType[] TYPES = Event.EventType.values();
+
+    private final ZoneId zone;
+
+    // Per-event contributions of the events in memory
+    private final Map<String, Contribution> tracked = new HashMap<>();
+    private final NavigableSet<Contribution> byParticipants = new TreeSet<>(
+        Comparator.comparingInt(Contribution::participants).reversed().thenComparing(Contribution::id));
+
+    private int eventCount;
+    private long totalParticipants;
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final int[] typeCounts = new int[TYPES.length];
+    private final int[] typeCompleted = new int[TYPES.length];
+    private final long[] typeParticipants = new long[TYPES.length];
+    private final int[] hourCounts = new int[24];
+    private final int[] dayCounts = new int[7];
+    private final int[] durationCounts = new int[DURATION_BUCKET_MINUTES.length + 1];
+    private int durationSamples;
+    private long totalDurationMillis;
+    // Multisets for the extremes, which plain counters cannot give back after a removal
+    private final TreeMap<Long, Integer> durationSeconds = new TreeMap<>();
+    private final TreeMap<Integer, Integer> participantCounts = new TreeMap<>();
+
+    // Ring of creation counts by epoch hour
+    private final int[] recentCounts = new int[RECENT_HOURS];
+    private final long[] recentHours = new long[RECENT_HOURS];
+
+    private long creationSamples;
+    private long creationNanos;
+    private long joinSamples;
+    private long joinNanos;
+
+    public EventStatistics() {
+        this(ZoneId.systemDefault());
+    }
+
+    EventStatistics(ZoneId zone) {
+        this.zone = zone;
+        Arrays.fill(recentHours, -1);
+    }
+
+    /**
+     * Adds an event in memory, or replaces what it contributed before
+     */
+    synchronized void track(Event event) {
+        Contribution contribution = contributionOf(event);
+        Contribution previous = tracked.put(event.getId(), contribution);
+        if (previous != null) {
+            if (previous.equals(contribution)) {
+                return;
+            }
+            apply(previous, -1);
+            byParticipants.remove(previous);
+        }
+        apply(contribution, 1);
+        byParticipants.add(contribution);
+    }
+
+    /**
+     * Removes a deleted event that was in memory
+     */
+    synchronized void untrack(String eventId) {
+        Contribution previous = tracked.remove(eventId);
+        if (previous != null) {
+            apply(previous, -1);
+            byParticipants.remove(previous);
+        }
+    }
+
+    /**
+     * An event in memory moved to the cold tier; it keeps counting towards the totals
+     *
+     * @return what it contributed, without its name, or null if it was not tracked
+     */
+    synchronized Contribution archive(String eventId) {
+        Contribution previous = tracked.remove(eventId);
+        if (previous == null) {
+            return null;
+        }
+        byParticipants.remove(previous);
+        return previous.withoutName();
+    }
+
+    /**
+     * Adds what an event in the cold tier contributes
+     */
+    synchronized void addArchived(Contribution contribution) {
+        apply(contribution, 1);
+    }
+
+    /**
+     * Takes back what an event leaving the cold tier contributed
+     */
+    synchronized void removeArchived(Contribution contribution) {
+        apply(contribution, -1);
+    }
+
+    synchronized void recordCreation(long nanos) {
+        creationSamples++;
+        creationNanos += nanos;
+    }
+
+    synchronized void recordJoin(long nanos) {
+        joinSamples++;
+        joinNanos += nanos;
+    }
+
+    // Cold events are never named on the dashboard, so their record does not keep the name
+    Contribution coldContributionOf(Event event) {
+        return contributionOf(event).withoutName();
+    }
+
+    private Contribution contributionOf(Event event) {
+        long timestamp = event.getStartTime() > 0 ? event.getStartTime() : event.getCreatedAt();
+        ZonedDateTime time = Instant.ofEpochMilli(timestamp).atZone(zone);
+        long duration = event.isCompleted() && event.getEndTime() > event.getStartTime() && event.getStartTime() > 0
+            ? event.getEndTime() - event.getStartTime() : -1;
+        return new Contribution(event.getId(), event.getName(), event.getType(), event.getStatus(),
+            event.getCurrentParticipants(), time.getHour(), time.getDayOfWeek(), event.getCreatedAt(), duration);
+    }
+
+    private void apply(Contribution c, int sign) {
+        eventCount += sign;
+        statusCounts[c.status().ordinal()] += sign;
+        int type = c.type().ordinal();
+        typeCounts[type] += sign;
+        if (c.status() == Event.EventStatus.COMPLETED) {
+            typeCompleted[type] += sign;
+        }
+        typeParticipants[type] += (long) sign * c.participants();
+        totalParticipants += (long) sign * c.participants();
+        hourCounts[c.hour()] += sign;
+        dayCounts[c.day().ordinal()] += sign;
+        adjust(participantCounts, c.participants(), sign);
+
+        if (c.durationMillis() >= 0) {
+            durationCounts[durationBucket(c.durationMillis())] += sign;
+            durationSamples += sign;
+            totalDurationMillis += sign * c.durationMillis();
+            adjust(durationSeconds, c.durationMillis() / 1000, sign);
+        }
+
+        long hour = Math.floorDiv(c.createdAt(), HOUR_MILLIS);
+        int slot = (int) Math.floorMod(hour, (long) RECENT_HOURS);
+        if (recentHours[slot] == hour) {
+            recentCounts[slot] += sign;
+        } else if (hour > recentHours[slot] && sign > 0) {
+            // The slot held an hour that is more than a week older
+            recentHours[slot] = hour;
+            recentCounts[slot] = 1;
+        }
+    }
+
+    private static <K> void adjust(TreeMap<K, Integer> counts, K key, int sign) {
+        counts.merge(key, sign, Integer::sum);
+        if (counts.get(key) <= 0) {
+            counts.remove(key);
+        }
+    }
+
+    private static int durationBucket(long durationMillis) {
+        long minutes = durationMillis / 60_000;
+        for (int i = 0; i < DURATION_BUCKET_MINUTES.length; i++) {
+            if (minutes < DURATION_BUCKET_MINUTES[i]) {
+                return i;
+            }
+        }
+        return DURATION_BUCKET_MINUTES.length;
+    }
+
+    public synchronized int getEventCount() {
+        return eventCount;
+    }
+
+    public synchronized int getCount(Event.EventStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    public synchronized int getCount(Event.EventType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    public synchronized int getCompletedCount(Event.EventType type) {
+        return typeCompleted[type.ordinal()];
+    }
+
+    public synchronized long getTotalParticipants() {
+        return totalParticipants;
+    }
+
+    public synchronized long getTotalParticipants(Event.EventType type) {
+        return typeParticipants[type.ordinal()];
+    }
+
+    /**
+     * Largest participant count of any event, 0 if there are none
+     */
+    public synchronized int getPeakParticipants() {
+        return participantCounts.isEmpty() ? 0 : participantCounts.lastKey();
+    }
+
+    /**
+     * Name of the event in memory with the most participants, or null if there is none
+     */
+    public synchronized String getMostPopularEvent() {
+        return byParticipants.isEmpty() ? null : byParticipants.first().name();
+    }
+
+    /**
+     * Number of events by hour of the day, 0 to 23
+     */
+    public synchronized int[] getHourHistogram() {
+        return hourCounts.clone();
+    }
+
+    /**
+     * Number of events by day of the week, Monday first
+     */
+    public synchronized int[] getDayHistogram() {
+        return dayCounts.clone();
+    }
+
+    /**
+     * The hour of the day with the most events, or -1 if there are none
+     */
+    public synchronized int getPeakHour() {
+        return argMax(hourCounts);
+    }
+
+    /**
+     * The day of the week with the most events, or null if there are none
+     */
+    public synchronized DayOfWeek getBusiestDay() {
+        int day = argMax(dayCounts);
+        return day >= 0 ? DayOfWeek.values()[day] : null;
+    }
+
+    /**
+     * Share of events on Saturday or Sunday from 0 to 1, or -1 if there are none
+     */
+    public synchronized double getWeekendShare() {
+        if (eventCount <= 0) {
+            return -1;
+        }
+        return (double) (dayCounts[DayOfWeek.SATURDAY.ordinal()] + dayCounts[DayOfWeek.SUNDAY.ordinal()]) / eventCount;
+    }
+
+    /**
+     * Upper bounds in minutes of the buckets of {@link #getDurationHistogram()}; the last bucket
+     * has none
+     */
+    public static int[] getDurationBucketMinutes() {
+        return DURATION_BUCKET_MINUTES.clone();
+    }
+
+    /**
+     * Number of completed events by duration bucket
+     */
+    public synchronized int[] getDurationHistogram() {
+        return durationCounts.clone();
+    }
+
+    /**
+     * Mean duration of completed events, or -1 if there are none
+     */
+    public synchronized long getAverageDurationMillis() {
+        return durationSamples > 0 ? totalDurationMillis / durationSamples : -1;
+    }
+
+    /**
+     * Shortest duration of a completed event to the second, or -1 if there are none
+     */
+    public synchronized long getShortestDurationMillis() {
+        return durationSeconds.isEmpty() ? -1 : durationSeconds.firstKey() * 1000;
+    }
+
+    /**
+     * Longest duration of a completed event to the second, or -1 if there are none
+     */
+    public synchronized long getLongestDurationMillis() {
+        return durationSeconds.isEmpty() ? -1 : durationSeconds.lastKey() * 1000;
+    }
+
+    /**
+     * Events created in the last {@code hours} hours, counting the current hour; at most a week
+     */
+    public synchronized int getCreatedInLastHours(int hours) {
+        return getCreatedInLastHours(hours, System.currentTimeMillis());
+    }
+
+    synchronized int getCreatedInLastHours(int hours, long now) {
+        long currentHour = Math.floorDiv(now, HOUR_MILLIS);
+        int count = 0;
+        for (long hour = currentHour - Math.min(hours, RECENT_HOURS) + 1; hour <= currentHour; hour++) {
+            int slot = (int) Math.floorMod(hour, (long) RECENT_HOURS);
+            if (recentHours[slot] == hour) {
+                count += recentCounts[slot];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Mean time {@link EventManager#createEvent} took since startup, or -1 before the first event
+     */
+    public synchronized double getAverageCreationMillis() {
+        return creationSamples > 0 ? creationNanos / (creationSamples * 1_000_000.0) : -1;
+    }
+
+    /**
+     * Mean time a successful {@link EventManager#joinEvent} took since startup, or -1 before the
+     * first join
+     */
+    public synchronized double getAverageJoinMillis() {
+        return joinSamples > 0 ? joinNanos / (joinSamples * 1_000_000.0) : -1;
+    }
+
+    private static int argMax(int[] counts) {
+        int best = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && (best < 0 || counts[i] > counts[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    record Contribution(String id, String name, Event.EventType type, Event.EventStatus status,
+                        int participants, int hour, DayOfWeek day, long createdAt, long durationMillis) {
+
+        Contribution withoutName() {
+            return name == null ? this : new Contribution(id, null, type, status, participants, hour, day, createdAt,
+                durationMillis);
+        }
+    }
+}
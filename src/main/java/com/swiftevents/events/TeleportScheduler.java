@@ -0,0 +1,237 @@
+package com.swiftevents.events;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.utils.TickProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Moves players to event locations without a tick spike when many of them arrive at once.
+ * The chunks around an event are loaded in the background before it starts and held with a
+ * plugin chunk ticket until it ends. Teleports are queued and started a few per tick with
+ * Paper's async teleport, and every arrival gets its own spot on a spiral around the event
+ * location so players do not pile up on one block. All methods run on the main thread.
+ */
+public class TeleportScheduler {
+
+    private static final int DEFAULT_TELEPORTS_PER_TICK = 8;
+    private static final double ARRIVAL_SPACING = 1.5;
+    // Slots are reused past this, which keeps the preloaded area small
+    private static final int MAX_ARRIVAL_SLOTS = 256;
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    private final SwiftEventsPlugin plugin;
+    private final Deque<PendingTeleport> queue = new ArrayDeque<>();
+    private final Map<String, Preload> preloads = new HashMap<>();
+    private final Map<String, Integer> nextArrivalSlot = new HashMap<>();
+    private BukkitTask task;
+
+    public TeleportScheduler(SwiftEventsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts loading the chunks an event's arrivals can land in and keeps them loaded until
+     * {@link #release} is called. Calling it again for the same event returns the same future.
+     */
+    public CompletableFuture<Void> preload(Event event) {
+        Preload existing = preloads.get(event.getId());
+        if (existing != null) {
+            return existing.loaded;
+        }
+        World world = event.hasLocation() ? Bukkit.getWorld(event.getWorld()) : null;
+        if (world == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Cover the spiral for as many arrivals as the event allows
+        int expectedArrivals = Math.min(MAX_ARRIVAL_SLOTS, Math.max(event.getMaxParticipants(), event.getCurrentParticipants()));
+        int radius = (int) Math.ceil(ARRIVAL_SPACING * Math.sqrt(Math.max(1, expectedArrivals))) + 1;
+        int minChunkX = ((int) Math.floor(event.getX()) - radius) >> 4;
+        int maxChunkX = ((int) Math.floor(event.getX()) + radius) >> 4;
+        int minChunkZ = ((int) Math.floor(event.getZ()) - radius) >> 4;
+        int maxChunkZ = ((int) Math.floor(event.getZ()) + radius) >> 4;
+
+        // Registered first: chunks that are already loaded complete their future right away
+        Preload preload = new Preload(world);
+        preloads.put(event.getId(), preload);
+        List<CompletableFuture<?>> chunkLoads = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                int x = chunkX;
+                int z = chunkZ;
+                chunkLoads.add(world.getChunkAtAsync(x, z).thenAccept(chunk -> {
+                    if (preloads.get(event.getId()) == preload && world.addPluginChunkTicket(x, z, plugin)) {
+                        preload.tickets.add(new long[] {x, z});
+                    }
+                }));
+            }
+        }
+        preload.loaded = CompletableFuture.allOf(chunkLoads.toArray(new CompletableFuture[0]))
+            .exceptionally(e -> {
+                // Teleports still work, they just load the chunks themselves
+                plugin.getLogger().warning("Could not preload chunks for event " + event.getName() + ": " + e.getMessage());
+                return null;
+            });
+        return preload.loaded;
+    }
+
+    /**
+     * Queues a teleport to the event; {@code callback} receives whether the player arrived
+     */
+    public void schedule(Player player, Event event, Consumer<Boolean> callback) {
+        World world = event.hasLocation() ? Bukkit.getWorld(event.getWorld()) : null;
+        if (world == null) {
+            callback.accept(false);
+            return;
+        }
+        preload(event);
+        queue.add(new PendingTeleport(player.getUniqueId(), event, callback));
+        ensureRunning();
+    }
+
+    /**
+     * Drops an event's queued teleports and chunk tickets, when it ends or is removed
+     */
+    public void release(String eventId) {
+        queue.removeIf(pending -> pending.event.getId().equals(eventId));
+        nextArrivalSlot.remove(eventId);
+        Preload preload = preloads.remove(eventId);
+        if (preload != null) {
+            for (long[] ticket : preload.tickets) {
+                preload.world.removePluginChunkTicket((int) ticket[0], (int) ticket[1], plugin);
+            }
+        }
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+        for (String eventId : new ArrayList<>(preloads.keySet())) {
+            release(eventId);
+        }
+    }
+
+    private void ensureRunning() {
+        if (task != null) {
+            return;
+        }
+        try {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        } catch (Exception e) {
+            // Handle case where Bukkit server is not available (e.g., in tests)
+            while (!queue.isEmpty()) {
+                start(queue.poll());
+            }
+        }
+    }
+
+    private void tick() {
+        TickProfiler.begin(TickProfiler.Subsystem.TELEPORTS);
+        try {
+            int configured = plugin.getConfigManager().getTeleportsPerTick();
+            int budget = configured > 0 ? configured : DEFAULT_TELEPORTS_PER_TICK;
+
+            // Teleports whose chunks are still loading wait their turn without blocking the others
+            int waiting = queue.size();
+            while (budget > 0 && waiting-- > 0) {
+                PendingTeleport pending = queue.poll();
+                Preload preload = preloads.get(pending.event.getId());
+                if (preload != null && preload.loaded != null && !preload.loaded.isDone()) {
+                    queue.add(pending);
+                    continue;
+                }
+                start(pending);
+                budget--;
+            }
+
+            if (queue.isEmpty() && task != null) {
+                task.cancel();
+                task = null;
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.TELEPORTS);
+        }
+    }
+
+    private void start(PendingTeleport pending) {
+        Player player = Bukkit.getPlayer(pending.playerId);
+        World world = Bukkit.getWorld(pending.event.getWorld());
+        if (player == null || !player.isOnline() || world == null) {
+            pending.callback.accept(false);
+            return;
+        }
+
+        int slot = nextArrivalSlot.merge(pending.event.getId(), 1, Integer::sum) - 1;
+        Location center = new Location(world, pending.event.getX(), pending.event.getY(), pending.event.getZ());
+        Location target = arrivalLocation(center, slot % MAX_ARRIVAL_SLOTS, ARRIVAL_SPACING);
+        if (!isStandable(target)) {
+            target = center;
+        }
+
+        player.teleportAsync(target, PlayerTeleportEvent.TeleportCause.PLUGIN)
+            .whenComplete((arrived, error) -> pending.callback.accept(error == null && Boolean.TRUE.equals(arrived)));
+    }
+
+    /**
+     * Spot {@code slot} on a sunflower spiral around {@code center}: evenly spread, {@code spacing}
+     * blocks apart, with slot 0 at the center. Arrivals face the center.
+     */
+    static Location arrivalLocation(Location center, int slot, double spacing) {
+        if (slot <= 0) {
+            return center.clone();
+        }
+        double radius = spacing * Math.sqrt(slot);
+        double angle = slot * GOLDEN_ANGLE;
+        Location target = center.clone().add(radius * Math.cos(angle), 0, radius * Math.sin(angle));
+        double dx = center.getX() - target.getX();
+        double dz = center.getZ() - target.getZ();
+        target.setYaw((float) Math.toDegrees(Math.atan2(-dx, dz)));
+        return target;
+    }
+
+    // The target chunk is preloaded, so reading two blocks here is cheap
+    private static boolean isStandable(Location location) {
+        Block feet = location.getBlock();
+        return feet.isPassable() && feet.getRelative(BlockFace.UP).isPassable();
+    }
+
+    private static class PendingTeleport {
+        private final UUID playerId;
+        private final Event event;
+        private final Consumer<Boolean> callback;
+
+        PendingTeleport(UUID playerId, Event event, Consumer<Boolean> callback) {
+            this.playerId = playerId;
+            this.event = event;
+            this.callback = callback;
+        }
+    }
+
+    private static class Preload {
+        private final World world;
+        private final List<long[]> tickets = new ArrayList<>();
+        private CompletableFuture<Void> loaded;
+
+        Preload(World world) {
+            this.world = world;
+        }
+    }
+}
@@ -89,7 +89,7 @@ public class GUIManager {
     }
     
     // Optimization: Efficient event filtering without creating intermediate streams
-    private List<Event> filterEvents(List<Event> events, EventFilter filter, Player player) {
+    List<Event> filterEvents(List<Event> events, EventFilter filter, Player player) {
         eventBuffer.clear();
         
         for (Event event : events) {
@@ -101,7 +101,7 @@ public class GUIManager {
         return new ArrayList<>(eventBuffer);
     }
     
-    private List<Event> sortEvents(List<Event> events, EventSort sort) {
+    List<Event> sortEvents(List<Event> events, EventSort sort) {
         events.sort(sort.getComparator());
         return events;
     }
@@ -2,7 +2,11 @@ package com.swiftevents.gui;
 
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
+import com.swiftevents.events.EventStatistics;
 import com.swiftevents.permissions.Permissions;
+import com.swiftevents.stats.Leaderboard;
+import com.swiftevents.stats.PlayerStat;
+import com.swiftevents.stats.PlayerStatsManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -11,12 +15,10 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.text.DecimalFormat;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.DayOfWeek;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class StatisticsGUIManager {
     
@@ -35,19 +37,20 @@ public class StatisticsGUIManager {
         
         Inventory gui = Bukkit.createInventory(null, 54, "§b§lEvent Statistics Dashboard");
         
-        List<Event> allEvents = plugin.getEventManager().getAllEvents();
+        // Every figure comes from totals the event manager keeps up to date; no pass over the events
+        EventStatistics stats = plugin.getEventManager().getEventStatistics();
         
         // Overview Statistics
-        addOverviewSection(gui, allEvents);
+        addOverviewSection(gui, stats);
         
         // Event Type Analysis
-        addEventTypeAnalysis(gui, allEvents);
+        addEventTypeAnalysis(gui, stats);
         
         // Performance Metrics
-        addPerformanceMetrics(gui, allEvents);
+        addPerformanceMetrics(gui, stats);
         
         // Time-based Analysis
-        addTimeAnalysis(gui, allEvents);
+        addTimeAnalysis(gui, stats);
         
         // Navigation
         addStatisticsNavigation(gui);
@@ -55,22 +58,23 @@ public class StatisticsGUIManager {
         player.openInventory(gui);
     }
     
-    private void addOverviewSection(Inventory gui, List<Event> allEvents) {
+    private void addOverviewSection(Inventory gui, EventStatistics stats) {
         // Total Events
         ItemStack totalEvents = new ItemStack(Material.BOOK);
         ItemMeta totalMeta = totalEvents.getItemMeta();
         totalMeta.setDisplayName("§6§lTotal Events");
         
-        List<Event> activeEvents = allEvents.stream().filter(Event::isActive).collect(Collectors.toList());
-        List<Event> completedEvents = allEvents.stream().filter(Event::isCompleted).collect(Collectors.toList());
+        int totalCount = stats.getEventCount();
+        int completedCount = stats.getCount(Event.EventStatus.COMPLETED);
         
         totalMeta.setLore(Arrays.asList(
-            "§7Total Events: §f" + allEvents.size(),
-            "§7Active Events: §a" + activeEvents.size(),
-            "§7Completed Events: §2" + completedEvents.size(),
-            "§7Cancelled Events: §c" + allEvents.stream().mapToInt(e -> e.isCancelled() ? 1 : 0).sum(),
+            "§7Total Events: §f" + totalCount,
+            "§7Active Events: §a" + stats.getCount(Event.EventStatus.ACTIVE),
+            "§7Completed Events: §2" + completedCount,
+            "§7Cancelled Events: §c" + stats.getCount(Event.EventStatus.CANCELLED),
+            "§7Archived Events: §8" + plugin.getEventManager().getColdEventSummary().getEventCount(),
             "",
-            "§7Success Rate: §f" + calculateSuccessRate(allEvents) + "%"
+            "§7Success Rate: §f" + calculateSuccessRate(completedCount, totalCount) + "%"
         ));
         totalEvents.setItemMeta(totalMeta);
         gui.setItem(10, totalEvents);
@@ -80,18 +84,32 @@ public class StatisticsGUIManager {
         ItemMeta playerMeta = playerStats.getItemMeta();
         playerMeta.setDisplayName("§d§lPlayer Participation");
         
-        int totalParticipants = allEvents.stream().mapToInt(Event::getCurrentParticipants).sum();
-        double avgParticipants = allEvents.isEmpty() ? 0 : 
-            (double) totalParticipants / allEvents.size();
+        long totalParticipants = stats.getTotalParticipants();
+        double avgParticipants = totalCount == 0 ? 0 : 
+            (double) totalParticipants / totalCount;
+        String mostPopular = stats.getMostPopularEvent();
         
-        playerMeta.setLore(Arrays.asList(
+        PlayerStatsManager statsManager = plugin.getEventManager().getPlayerStats();
+        List<String> playerLore = new ArrayList<>(Arrays.asList(
             "§7Total Participations: §f" + totalParticipants,
             "§7Average per Event: §f" + decimalFormat.format(avgParticipants),
-            "§7Most Popular Event: §f" + getMostPopularEvent(allEvents),
-            "§7Unique Players: §f" + getUniquePlayerCount(allEvents),
-            "",
-            "§eClick for detailed player stats"
+            "§7Most Popular Event: §f" + (mostPopular != null ? mostPopular : "None"),
+            "§7Unique Players: §f" + statsManager.getPlayerCount()
         ));
+        List<Leaderboard.Entry> topWinners = statsManager.getTop(PlayerStat.WINS, 3);
+        if (!topWinners.isEmpty()) {
+            playerLore.add("");
+            playerLore.add("§7Top Winners:");
+            int rank = 1;
+            for (Leaderboard.Entry entry : topWinners) {
+                String name = Bukkit.getOfflinePlayer(entry.playerId()).getName();
+                playerLore.add("§e#" + rank++ + " §f" + (name != null ? name : entry.playerId().toString().substring(0, 8)) +
+                    " §7(" + entry.score() + ")");
+            }
+        }
+        playerLore.add("");
+        playerLore.add("§eClick for detailed player stats");
+        playerMeta.setLore(playerLore);
         playerStats.setItemMeta(playerMeta);
         gui.setItem(12, playerStats);
         
@@ -100,11 +118,11 @@ public class StatisticsGUIManager {
         ItemMeta recentMeta = recentActivity.getItemMeta();
         recentMeta.setDisplayName("§e§lRecent Activity");
         
-        List<Event> recentEvents = getRecentEvents(allEvents, 7); // Last 7 days
+        int recentCount = stats.getCreatedInLastHours(7 * 24); // Last 7 days
         recentMeta.setLore(Arrays.asList(
-            "§7Events (Last 7 days): §f" + recentEvents.size(),
-            "§7Daily Average: §f" + decimalFormat.format(recentEvents.size() / 7.0),
-            "§7Most Active Day: §f" + getMostActiveDay(),
+            "§7Events (Last 7 days): §f" + recentCount,
+            "§7Daily Average: §f" + decimalFormat.format(recentCount / 7.0),
+            "§7Most Active Day: §f" + getMostActiveDay(stats),
             "",
             "§eClick for activity timeline"
         ));
@@ -112,34 +130,26 @@ public class StatisticsGUIManager {
         gui.setItem(14, recentActivity);
     }
     
-    private void addEventTypeAnalysis(Inventory gui, List<Event> allEvents) {
-        // Event type distribution
-        Map<Event.EventType, Long> typeDistribution = allEvents.stream()
-            .collect(Collectors.groupingBy(Event::getType, Collectors.counting()));
-        
+    private void addEventTypeAnalysis(Inventory gui, EventStatistics stats) {
         Event.EventType[] types = Event.EventType.values();
         int[] slots = {19, 20, 21, 22, 23, 24, 25};
+        int totalCount = stats.getEventCount();
         
         for (int i = 0; i < types.length && i < slots.length; i++) {
             Event.EventType type = types[i];
-            long count = typeDistribution.getOrDefault(type, 0L);
-            double percentage = allEvents.isEmpty() ? 0 : (count * 100.0) / allEvents.size();
+            int count = stats.getCount(type);
+            double percentage = totalCount == 0 ? 0 : (count * 100.0) / totalCount;
             
             ItemStack typeItem = new ItemStack(getEventTypeMaterial(type));
             ItemMeta typeMeta = typeItem.getItemMeta();
             typeMeta.setDisplayName("§f" + type.name().replace("_", " ") + " Events");
             
-            List<Event> typeEvents = allEvents.stream()
-                .filter(e -> e.getType() == type)
-                .collect(Collectors.toList());
-            
-            double avgParticipants = typeEvents.isEmpty() ? 0 : 
-                typeEvents.stream().mapToInt(Event::getCurrentParticipants).average().orElse(0);
+            double avgParticipants = count == 0 ? 0 : (double) stats.getTotalParticipants(type) / count;
             
             typeMeta.setLore(Arrays.asList(
                 "§7Count: §f" + count + " §7(" + decimalFormat.format(percentage) + "%)",
                 "§7Avg Participants: §f" + decimalFormat.format(avgParticipants),
-                "§7Success Rate: §f" + calculateTypeSuccessRate(typeEvents) + "%",
+                "§7Success Rate: §f" + calculateSuccessRate(stats.getCompletedCount(type), count) + "%",
                 "",
                 "§eClick for detailed analysis"
             ));
@@ -148,7 +158,7 @@ public class StatisticsGUIManager {
         }
     }
     
-    private void addPerformanceMetrics(Inventory gui, List<Event> allEvents) {
+    private void addPerformanceMetrics(Inventory gui, EventStatistics stats) {
         // System Performance
         ItemStack performance = new ItemStack(Material.REDSTONE);
         ItemMeta perfMeta = performance.getItemMeta();
@@ -175,9 +185,9 @@ public class StatisticsGUIManager {
         ItemMeta procMeta = processing.getItemMeta();
         procMeta.setDisplayName("§6§lProcessing Metrics");
         procMeta.setLore(Arrays.asList(
-            "§7Average Event Creation: §f" + getAvgCreationTime() + "ms",
-            "§7Average Join Time: §f" + getAvgJoinTime() + "ms",
-            "§7Events/Hour: §f" + getEventsPerHour(allEvents),
+            "§7Average Event Creation: §f" + formatMillis(stats.getAverageCreationMillis()),
+            "§7Average Join Time: §f" + formatMillis(stats.getAverageJoinMillis()),
+            "§7Events/Hour: §f" + decimalFormat.format(stats.getCreatedInLastHours(24) / 24.0),
             "",
             "§eClick for performance details"
         ));
@@ -185,15 +195,15 @@ public class StatisticsGUIManager {
         gui.setItem(38, processing);
     }
     
-    private void addTimeAnalysis(Inventory gui, List<Event> allEvents) {
+    private void addTimeAnalysis(Inventory gui, EventStatistics stats) {
         // Peak Hours Analysis
         ItemStack peakHours = new ItemStack(Material.DAYLIGHT_DETECTOR);
         ItemMeta peakMeta = peakHours.getItemMeta();
         peakMeta.setDisplayName("§9§lPeak Hours Analysis");
         peakMeta.setLore(Arrays.asList(
-            "§7Most Active Hour: §f" + getPeakHour(allEvents),
-            "§7Peak Participation: §f" + getPeakParticipation(),
-            "§7Weekend vs Weekday: §f" + getWeekendRatio(allEvents),
+            "§7Most Active Hour: §f" + getPeakHour(stats),
+            "§7Peak Participation: §f" + stats.getPeakParticipants() + " players",
+            "§7Weekend vs Weekday: §f" + getWeekendRatio(stats),
             "",
             "§eClick for hourly breakdown"
         ));
@@ -205,9 +215,9 @@ public class StatisticsGUIManager {
         ItemMeta durationMeta = duration.getItemMeta();
         durationMeta.setDisplayName("§5§lEvent Duration Analysis");
         durationMeta.setLore(Arrays.asList(
-            "§7Average Duration: §f" + getAverageDuration(allEvents),
-            "§7Shortest Event: §f" + getShortestDuration(allEvents),
-            "§7Longest Event: §f" + getLongestDuration(allEvents),
+            "§7Average Duration: §f" + formatDuration(stats.getAverageDurationMillis()),
+            "§7Shortest Event: §f" + formatDuration(stats.getShortestDurationMillis()),
+            "§7Longest Event: §f" + formatDuration(stats.getLongestDurationMillis()),
             "",
             "§eClick for duration trends"
         ));
@@ -251,42 +261,14 @@ public class StatisticsGUIManager {
     }
     
     // Helper methods for calculations
-    private String calculateSuccessRate(List<Event> events) {
-        if (events.isEmpty()) return "0";
-        long completed = events.stream().filter(Event::isCompleted).count();
-        return decimalFormat.format((completed * 100.0) / events.size());
+    private String calculateSuccessRate(int completed, int total) {
+        if (total == 0) return "0";
+        return decimalFormat.format((completed * 100.0) / total);
     }
     
-    private String calculateTypeSuccessRate(List<Event> events) {
-        if (events.isEmpty()) return "0";
-        long completed = events.stream().filter(Event::isCompleted).count();
-        return decimalFormat.format((completed * 100.0) / events.size());
-    }
-    
-    private String getMostPopularEvent(List<Event> events) {
-        return events.stream()
-            .max(Comparator.comparing(Event::getCurrentParticipants))
-            .map(Event::getName)
-            .orElse("None");
-    }
-    
-    private int getUniquePlayerCount(List<Event> events) {
-        return (int) events.stream()
-            .flatMap(event -> event.getParticipants().stream())
-            .distinct()
-            .count();
-    }
-    
-    private List<Event> getRecentEvents(List<Event> events, int days) {
-        long cutoff = System.currentTimeMillis() - (days * 24 * 60 * 60 * 1000L);
-        return events.stream()
-            .filter(event -> event.getCreatedAt() > cutoff)
-            .collect(Collectors.toList());
-    }
-    
-    private String getMostActiveDay() {
-        // Implementation would analyze event creation patterns
-        return "Saturday";
+    private String getMostActiveDay(EventStatistics stats) {
+        DayOfWeek day = stats.getBusiestDay();
+        return day != null ? day.getDisplayName(TextStyle.FULL, Locale.ENGLISH) : "None";
     }
     
     private Material getEventTypeMaterial(Event.EventType type) {
@@ -314,41 +296,34 @@ public class StatisticsGUIManager {
         return plugin.getConfigManager().isDatabaseEnabled() ? "Connected" : "File Storage";
     }
     
-    private String getAvgCreationTime() {
-        return "45"; // Would be calculated from actual metrics
-    }
-    
-    private String getAvgJoinTime() {
-        return "15"; // Would be calculated from actual metrics
-    }
-    
-    private String getEventsPerHour(List<Event> events) {
-        if (events.isEmpty()) return "0";
-        // Calculate events per hour based on recent activity
-        return decimalFormat.format(2.5); // Placeholder
-    }
-    
-    private String getPeakHour(List<Event> events) {
-        return "8:00 PM"; // Would analyze actual event times
-    }
-    
-    private String getPeakParticipation() {
-        return "150 players"; // Would calculate from event data
+    private String formatMillis(double millis) {
+        return millis < 0 ? "N/A" : decimalFormat.format(millis) + "ms";
     }
     
-    private String getWeekendRatio(List<Event> events) {
-        return "60% weekend"; // Would analyze event timing
-    }
-    
-    private String getAverageDuration(List<Event> events) {
-        return "45 minutes"; // Would calculate from event durations
+    private String getPeakHour(EventStatistics stats) {
+        int hour = stats.getPeakHour();
+        if (hour < 0) {
+            return "None";
+        }
+        return (hour % 12 == 0 ? 12 : hour % 12) + ":00 " + (hour < 12 ? "AM" : "PM");
     }
     
-    private String getShortestDuration(List<Event> events) {
-        return "5 minutes"; // Would find minimum duration
+    private String getWeekendRatio(EventStatistics stats) {
+        double share = stats.getWeekendShare();
+        return share < 0 ? "None" : decimalFormat.format(share * 100) + "% weekend";
     }
     
-    private String getLongestDuration(List<Event> events) {
-        return "3 hours"; // Would find maximum duration
+    private String formatDuration(long millis) {
+        if (millis < 0) {
+            return "None";
+        }
+        long minutes = millis / 60_000;
+        if (minutes >= 60) {
+            return (minutes / 60) + "h " + (minutes % 60) + "m";
+        }
+        if (minutes > 0) {
+            return minutes + " minutes";
+        }
+        return (millis / 1000) + " seconds";
     }
 } 
\ No newline at end of file
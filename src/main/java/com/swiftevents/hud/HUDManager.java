@@ -2,6 +2,7 @@ package com.swiftevents.hud;
 
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
+import com.swiftevents.utils.TickProfiler;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -78,18 +79,23 @@ public class HUDManager {
     }
 
     private void updatePlayerHUD(Player player) {
-        if (player == null || !player.isOnline()) return;
+        TickProfiler.begin(TickProfiler.Subsystem.HUD);
+        try {
+            if (player == null || !player.isOnline()) return;
 
-        HUDPreference preference = playerPreferences.getOrDefault(player.getUniqueId(), HUDPreference.NONE);
+            HUDPreference preference = playerPreferences.getOrDefault(player.getUniqueId(), HUDPreference.NONE);
 
-        // Always clean up other HUDs
-        if (preference != HUDPreference.SIDEBAR) hideSidebar(player);
-        if (preference != HUDPreference.BOSS_BAR) hideBossBar(player);
+            // Always clean up other HUDs
+            if (preference != HUDPreference.SIDEBAR) hideSidebar(player);
+            if (preference != HUDPreference.BOSS_BAR) hideBossBar(player);
 
-        switch (preference) {
-            case SIDEBAR -> showSidebar(player);
-            case BOSS_BAR -> showBossBar(player);
-            case NONE -> {} // Already hidden
+            switch (preference) {
+                case SIDEBAR -> showSidebar(player);
+                case BOSS_BAR -> showBossBar(player);
+                case NONE -> {} // Already hidden
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HUD);
         }
     }
 
@@ -167,21 +173,26 @@ public class HUDManager {
             
             // Schedule a task to check for events periodically
             BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-                if (!player.isOnline() || playerPreferences.get(player.getUniqueId()) != HUDPreference.BOSS_BAR) {
-                    hideBossBar(player);
-                    return;
-                }
+                TickProfiler.begin(TickProfiler.Subsystem.HUD);
+                try {
+                    if (!player.isOnline() || playerPreferences.get(player.getUniqueId()) != HUDPreference.BOSS_BAR) {
+                        hideBossBar(player);
+                        return;
+                    }
                 
-                // Recheck for relevant events
-                List<Event> currentPlayerEvents = plugin.getEventManager().getPlayerEvents(player.getUniqueId());
-                List<Event> currentActiveEvents = plugin.getEventManager().getActiveEvents();
-                Set<Event> currentRelevantEvents = new LinkedHashSet<>();
-                currentRelevantEvents.addAll(currentPlayerEvents);
-                currentRelevantEvents.addAll(currentActiveEvents);
+                    // Recheck for relevant events
+                    List<Event> currentPlayerEvents = plugin.getEventManager().getPlayerEvents(player.getUniqueId());
+                    List<Event> currentActiveEvents = plugin.getEventManager().getActiveEvents();
+                    Set<Event> currentRelevantEvents = new LinkedHashSet<>();
+                    currentRelevantEvents.addAll(currentPlayerEvents);
+                    currentRelevantEvents.addAll(currentActiveEvents);
                 
-                if (!currentRelevantEvents.isEmpty()) {
-                    // Events are now available, restart the bossbar with proper content
-                    showBossBar(player);
+                    if (!currentRelevantEvents.isEmpty()) {
+                        // Events are now available, restart the bossbar with proper content
+                        showBossBar(player);
+                    }
+                } finally {
+                    TickProfiler.end(TickProfiler.Subsystem.HUD);
                 }
             }, 20L, 20L); // Check every second
             
@@ -194,55 +205,59 @@ public class HUDManager {
         long rotationInterval = plugin.getConfigManager().getHUDBossBarRotationInterval() * 20L;
 
         BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (!player.isOnline() || playerPreferences.get(player.getUniqueId()) != HUDPreference.BOSS_BAR) {
-                hideBossBar(player);
-                return;
-            }
+            TickProfiler.begin(TickProfiler.Subsystem.HUD);
+            try {
+                if (!player.isOnline() || playerPreferences.get(player.getUniqueId()) != HUDPreference.BOSS_BAR) {
+                    hideBossBar(player);
+                    return;
+                }
 
-            // Recheck for relevant events
-            List<Event> currentPlayerEvents = plugin.getEventManager().getPlayerEvents(player.getUniqueId());
-            List<Event> currentActiveEvents = plugin.getEventManager().getActiveEvents();
-            Set<Event> currentRelevantEvents = new LinkedHashSet<>();
-            currentRelevantEvents.addAll(currentPlayerEvents);
-            currentRelevantEvents.addAll(currentActiveEvents);
+                // Recheck for relevant events
+                List<Event> currentPlayerEvents = plugin.getEventManager().getPlayerEvents(player.getUniqueId());
+                List<Event> currentActiveEvents = plugin.getEventManager().getActiveEvents();
+                Set<Event> currentRelevantEvents = new LinkedHashSet<>();
+                currentRelevantEvents.addAll(currentPlayerEvents);
+                currentRelevantEvents.addAll(currentActiveEvents);
             
-            if (currentRelevantEvents.isEmpty()) {
-                hideBossBar(player);
-                return;
-            }
-
-            List<Event> currentEventsToShow = new ArrayList<>(currentRelevantEvents);
-            int currentIndex = playerEventDisplayIndices.getOrDefault(player.getUniqueId(), 0);
-            if (currentIndex >= currentEventsToShow.size()) {
-                currentIndex = 0;
-            }
-
-            Event eventToShow = currentEventsToShow.get(currentIndex);
-            BossBar bossBar = playerBossBars.computeIfAbsent(player.getUniqueId(), k -> {
-                BossBar newBar = Bukkit.createBossBar("", BarColor.YELLOW, BarStyle.SOLID);
-                newBar.addPlayer(player);
-                return newBar;
-            });
-
-            // Create title with status indicator and better formatting
-            Component title = createBossBarTitle(eventToShow);
-            bossBar.setTitle(PlainTextComponentSerializer.plainText().serialize(title));
-
-            // Calculate progress more accurately
-            double progress = calculateBossBarProgress(eventToShow);
-            bossBar.setProgress(progress);
+                if (currentRelevantEvents.isEmpty()) {
+                    hideBossBar(player);
+                    return;
+                }
 
-            // Update color based on event status
-            bossBar.setColor(getBossBarColor(eventToShow.getStatus()));
+                List<Event> currentEventsToShow = new ArrayList<>(currentRelevantEvents);
+                int currentIndex = playerEventDisplayIndices.getOrDefault(player.getUniqueId(), 0);
+                if (currentIndex >= currentEventsToShow.size()) {
+                    currentIndex = 0;
+                }
 
-            // Rotate to next event based on rotation interval
-            long currentTime = System.currentTimeMillis();
-            Long lastRotation = playerLastRotationTimes.get(player.getUniqueId());
-            if (lastRotation == null || (currentTime - lastRotation) >= rotationInterval) {
-                playerEventDisplayIndices.put(player.getUniqueId(), (currentIndex + 1) % currentEventsToShow.size());
-                playerLastRotationTimes.put(player.getUniqueId(), currentTime);
+                Event eventToShow = currentEventsToShow.get(currentIndex);
+                BossBar bossBar = playerBossBars.computeIfAbsent(player.getUniqueId(), k -> {
+                    BossBar newBar = Bukkit.createBossBar("", BarColor.YELLOW, BarStyle.SOLID);
+                    newBar.addPlayer(player);
+                    return newBar;
+                });
+
+                // Create title with status indicator and better formatting
+                Component title = createBossBarTitle(eventToShow);
+                bossBar.setTitle(PlainTextComponentSerializer.plainText().serialize(title));
+
+                // Calculate progress more accurately
+                double progress = calculateBossBarProgress(eventToShow);
+                bossBar.setProgress(progress);
+
+                // Update color based on event status
+                bossBar.setColor(getBossBarColor(eventToShow.getStatus()));
+
+                // Rotate to next event based on rotation interval
+                long currentTime = System.currentTimeMillis();
+                Long lastRotation = playerLastRotationTimes.get(player.getUniqueId());
+                if (lastRotation == null || (currentTime - lastRotation) >= rotationInterval) {
+                    playerEventDisplayIndices.put(player.getUniqueId(), (currentIndex + 1) % currentEventsToShow.size());
+                    playerLastRotationTimes.put(player.getUniqueId(), currentTime);
+                }
+            } finally {
+                TickProfiler.end(TickProfiler.Subsystem.HUD);
             }
-
         }, 0L, updateInterval);
 
         bossBarTasks.put(player.getUniqueId(), task);
@@ -362,8 +377,13 @@ public class HUDManager {
     }
 
     public void sendActionBarMessage(Player player, String message) {
-        if (player == null || !player.isOnline() || message == null) return;
-        player.sendActionBar(Component.text(message));
+        TickProfiler.begin(TickProfiler.Subsystem.HUD);
+        try {
+            if (player == null || !player.isOnline() || message == null) return;
+            player.sendActionBar(Component.text(message));
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.HUD);
+        }
     }
 
     public void updateActiveEvents() {
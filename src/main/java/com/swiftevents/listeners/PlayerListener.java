@@ -4,6 +4,8 @@ import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
 import com.swiftevents.gui.GUISession;
 import com.swiftevents.permissions.Permissions;
+import com.swiftevents.utils.RateLimits;
+import com.swiftevents.utils.TickProfiler;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -30,10 +32,6 @@ public class PlayerListener implements Listener {
     // Optimization: Cache GUI sessions to avoid repeated lookups and improve performance
     private final Map<UUID, GuiSession> activeGuiSessions = new HashMap<>();
     
-    // Optimization: Debounce click events to prevent double-clicking issues
-    private final Map<UUID, Long> lastClickTime = new HashMap<>();
-    private static final long CLICK_COOLDOWN = 250; // 250ms cooldown
-    
     // Input handling for chat-based GUI input
     private final Map<UUID, InputWaiting> awaitingInput = new HashMap<>();
     
@@ -43,42 +41,55 @@ public class PlayerListener implements Listener {
     
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
+        TickProfiler.begin(TickProfiler.Subsystem.LISTENER);
+        try {
+            Player player = event.getPlayer();
         
-        // Check if player has any active events
-        if (plugin.getEventManager().isPlayerInEvent(player.getUniqueId())) {
-            player.sendMessage(plugin.getConfigManager().getPrefix() + 
-                    "§aYou have active events! Use /event list to see them.");
-        }
-        
-        // Update player's HUD if they have it enabled
-        plugin.getHUDManager().forceUpdatePlayerHUD(player);
-        
-        // Send notifications for scheduled events
-        plugin.getEventManager().getEventsByStatus(Event.EventStatus.SCHEDULED)
-                .stream()
-                .filter(gameEvent -> gameEvent.getStartTime() > 0)
-                .filter(gameEvent -> gameEvent.getStartTime() - System.currentTimeMillis() < 300000) // 5 minutes
-                .forEach(gameEvent -> {
-                    long timeUntilStart = (gameEvent.getStartTime() - System.currentTimeMillis()) / 1000;
-                    if (timeUntilStart > 0) {
-                        plugin.getHUDManager().sendActionBarMessage(player, 
-                                "§a" + gameEvent.getName() + " starting in " + formatTime(timeUntilStart));
-                    }
-                });
+            // Check if player has any active events
+            if (plugin.getEventManager().isPlayerInEvent(player.getUniqueId())) {
+                player.sendMessage(plugin.getConfigManager().getPrefix() + 
+                        "§aYou have active events! Use /event list to see them.");
+            }
+        
+            // Update player's HUD if they have it enabled
+            plugin.getHUDManager().forceUpdatePlayerHUD(player);
+        
+            // Rewards from events that ended while the player was offline
+            plugin.getEventManager().getRewardQueue().onPlayerJoin(player);
+        
+            // Send notifications for scheduled events
+            plugin.getEventManager().getEventsByStatus(Event.EventStatus.SCHEDULED)
+                    .stream()
+                    .filter(gameEvent -> gameEvent.getStartTime() > 0)
+                    .filter(gameEvent -> gameEvent.getStartTime() - System.currentTimeMillis() < 300000) // 5 minutes
+                    .forEach(gameEvent -> {
+                        long timeUntilStart = (gameEvent.getStartTime() - System.currentTimeMillis()) / 1000;
+                        if (timeUntilStart > 0) {
+                            plugin.getHUDManager().sendActionBarMessage(player, 
+                                    "§a" + gameEvent.getName() + " starting in " + formatTime(timeUntilStart));
+                        }
+                    });
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.LISTENER);
+        }
     }
     
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        UUID playerId = player.getUniqueId();
+        TickProfiler.begin(TickProfiler.Subsystem.LISTENER);
+        try {
+            Player player = event.getPlayer();
+            UUID playerId = player.getUniqueId();
         
-        // Clear any HUD elements for the player
-        plugin.getHUDManager().clearPlayerHUD(player);
+            // Clear any HUD elements for the player
+            plugin.getHUDManager().clearPlayerHUD(player);
         
-        // Clean up GUI session data
-        activeGuiSessions.remove(playerId);
-        lastClickTime.remove(playerId);
+            // Clean up GUI session data
+            activeGuiSessions.remove(playerId);
+            plugin.getRateLimits().forget(playerId);
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.LISTENER);
+        }
     }
     
     @EventHandler
@@ -92,52 +103,54 @@ public class PlayerListener implements Listener {
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player player)) {
-            return;
-        }
+        TickProfiler.begin(TickProfiler.Subsystem.LISTENER);
+        try {
+            if (!(event.getWhoClicked() instanceof Player player)) {
+                return;
+            }
         
-        UUID playerId = player.getUniqueId();
-        String title = event.getView().getTitle();
+            UUID playerId = player.getUniqueId();
+            String title = event.getView().getTitle();
         
-        // Check if this is one of our GUI interfaces
-        if (!isSwiftEventsGUI(title)) {
-            return;
-        }
+            // Check if this is one of our GUI interfaces
+            if (!isSwiftEventsGUI(title)) {
+                return;
+            }
         
-        // Cancel the event to prevent item manipulation
-        event.setCancelled(true);
+            // Cancel the event to prevent item manipulation
+            event.setCancelled(true);
         
-        // Implement click cooldown to prevent double-clicking
-        long currentTime = System.currentTimeMillis();
-        Long lastClick = lastClickTime.get(playerId);
-        if (lastClick != null && (currentTime - lastClick) < CLICK_COOLDOWN) {
-            return;
-        }
-        lastClickTime.put(playerId, currentTime);
+            // Drops double clicks and click spam, each of which may refresh a whole GUI
+            if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.GUI_CLICK, playerId)) {
+                return;
+            }
         
-        ItemStack clickedItem = event.getCurrentItem();
-        if (clickedItem == null || !clickedItem.hasItemMeta()) {
-            return;
-        }
+            ItemStack clickedItem = event.getCurrentItem();
+            if (clickedItem == null || !clickedItem.hasItemMeta()) {
+                return;
+            }
         
-        ItemMeta meta = clickedItem.getItemMeta();
-        String itemName = meta.getDisplayName();
-        
-        // Handle different GUI types
-        if (title.startsWith(plugin.getConfigManager().getGUITitle())) {
-            handleMainEventsGUI(player, itemName, clickedItem, event.getSlot());
-        } else if (title.startsWith("§6Event: ")) {
-            handleEventDetailsGUI(player, title, itemName, clickedItem);
-        } else if (title.equals("§4Admin Dashboard - SwiftEvents")) {
-            handleAdminGUI(player, itemName);
-        } else if (title.startsWith("§6Event Creation")) {
-            handleEventCreationGUI(player, title, itemName, clickedItem, event.isRightClick(), event.isShiftClick());
-        } else if (title.equals("§6Select Preset Location")) {
-            handlePresetLocationSelectionGUI(player, title, itemName, event.isShiftClick());
-        } else if (title.equals("§b§lEvent Statistics Dashboard")) {
-            handleStatisticsGUI(player, itemName);
-        } else if (title.equals("§8HUD Settings")) {
-            handleHudSettingsGUI(player, itemName);
+            ItemMeta meta = clickedItem.getItemMeta();
+            String itemName = meta.getDisplayName();
+        
+            // Handle different GUI types
+            if (title.startsWith(plugin.getConfigManager().getGUITitle())) {
+                handleMainEventsGUI(player, itemName, clickedItem, event.getSlot());
+            } else if (title.startsWith("§6Event: ")) {
+                handleEventDetailsGUI(player, title, itemName, clickedItem);
+            } else if (title.equals("§4Admin Dashboard - SwiftEvents")) {
+                handleAdminGUI(player, itemName);
+            } else if (title.startsWith("§6Event Creation")) {
+                handleEventCreationGUI(player, title, itemName, clickedItem, event.isRightClick(), event.isShiftClick());
+            } else if (title.equals("§6Select Preset Location")) {
+                handlePresetLocationSelectionGUI(player, title, itemName, event.isShiftClick());
+            } else if (title.equals("§b§lEvent Statistics Dashboard")) {
+                handleStatisticsGUI(player, itemName);
+            } else if (title.equals("§8HUD Settings")) {
+                handleHudSettingsGUI(player, itemName);
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.LISTENER);
         }
     }
     
@@ -237,6 +250,10 @@ public class PlayerListener implements Listener {
             return;
         }
         
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player)) {
+            return;
+        }
+        
         if (event.isParticipant(player.getUniqueId())) {
             // Quick leave
             boolean success = plugin.getEventManager().leaveEvent(event.getId(), player.getUniqueId());
@@ -357,6 +374,10 @@ public class PlayerListener implements Listener {
             return;
         }
         
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player)) {
+            return;
+        }
+        
         boolean success = plugin.getEventManager().joinEvent(event.getId(), player.getUniqueId());
         if (success) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + 
@@ -382,6 +403,10 @@ public class PlayerListener implements Listener {
             return;
         }
         
+        if (!plugin.getRateLimits().tryAcquire(RateLimits.Action.JOIN_LEAVE, player)) {
+            return;
+        }
+        
         boolean success = plugin.getEventManager().leaveEvent(event.getId(), player.getUniqueId());
         if (success) {
             player.sendMessage(plugin.getConfigManager().getPrefix() + 
@@ -53,5 +53,6 @@ public final class Permissions {
     // Other Permissions
     public static final String BYPASS_COOLDOWN = "swiftevents.bypass.cooldown";
     public static final String BYPASS_MAX_EVENTS = "swiftevents.bypass.maxevents";
+    public static final String BYPASS_RATE_LIMIT = "swiftevents.bypass.ratelimit";
 
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.swiftevents.replication;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One entry of the replication change log: a server changed or deleted an event. Upserts carry the
+ * event's full state as JSON plus the players who joined or left with this change, so receivers
+ * can merge participant changes made concurrently on different servers.
+ */
+public final class EventChange {
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+
+    private final String nodeId;
+    private final String eventId;
+    private final long version;
+    private final Operation operation;
+    private final String payload;
+    private final Set<UUID> joined;
+    private final Set<UUID> left;
+
+    public EventChange(String nodeId, String eventId, long version, Operation operation, String payload,
+                       Set<UUID> joined, Set<UUID> left) {
+        this.nodeId = nodeId;
+        this.eventId = eventId;
+        this.version = version;
+        this.operation = operation;
+        this.payload = payload;
+        this.joined = joined != null ? Set.copyOf(joined) : Set.of();
+        this.left = left != null ? Set.copyOf(left) : Set.of();
+    }
+
+    public static EventChange delete(String nodeId, String eventId, long version) {
+        return new EventChange(nodeId, eventId, version, Operation.DELETE, null, null, null);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * The event as JSON, or null for a delete
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    public Set<UUID> getJoined() {
+        return joined;
+    }
+
+    public Set<UUID> getLeft() {
+        return left;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + eventId + " v" + version + " from " + nodeId;
+    }
+}
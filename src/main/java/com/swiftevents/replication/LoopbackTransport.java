@@ -0,0 +1,88 @@
+package com.swiftevents.replication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: every transport attached to the same {@link Hub} receives the changes
+ * the others publish, on the publishing thread. Lets tests run several nodes in one JVM.
+ */
+public class LoopbackTransport implements ReplicationTransport {
+
+    private final Hub hub;
+    private volatile Consumer<EventChange> receiver;
+
+    public LoopbackTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void start(Consumer<EventChange> receiver) {
+        this.receiver = receiver;
+        hub.transports.add(this);
+    }
+
+    @Override
+    public void publish(EventChange change) {
+        synchronized (hub) {
+            if (hub.holding) {
+                hub.held.add(() -> deliver(change));
+                return;
+            }
+        }
+        deliver(change);
+    }
+
+    private void deliver(EventChange change) {
+        for (LoopbackTransport transport : hub.transports) {
+            Consumer<EventChange> target = transport.receiver;
+            if (transport != this && target != null) {
+                target.accept(change);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        hub.transports.remove(this);
+        receiver = null;
+    }
+
+    @Override
+    public String describe() {
+        return "loopback, " + (hub.transports.size() - 1) + " peers";
+    }
+
+    /**
+     * The shared channel; create one per simulated cluster. While holding, changes are queued
+     * instead of delivered, which simulates servers changing an event at the same time.
+     */
+    public static class Hub {
+        private final List<LoopbackTransport> transports = new CopyOnWriteArrayList<>();
+        private final List<Runnable> held = new ArrayList<>();
+        private boolean holding;
+
+        public synchronized void hold() {
+            holding = true;
+        }
+
+        /**
+         * Delivers the queued changes, newest first when {@code reversed}, and stops holding
+         */
+        public void release(boolean reversed) {
+            List<Runnable> deliveries;
+            synchronized (this) {
+                holding = false;
+                deliveries = new ArrayList<>(held);
+                held.clear();
+            }
+            if (reversed) {
+                Collections.reverse(deliveries);
+            }
+            deliveries.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.swiftevents.replication;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Replicates through a change table in the shared MySQL database. Published changes are inserted
+ * as rows; every server polls for rows with a higher sequence number than the last one it read
+ * and skips its own. Inserts, polls and pruning all run on one background thread.
+ * <p>
+ * Auto-increment values are handed out before commit, so a row can become visible after rows
+ * with higher numbers were already read. Skipped numbers are therefore remembered and looked up
+ * again for a while before they are given up as rolled back.
+ */
+public class MySqlChangeLogTransport implements ReplicationTransport {
+
+    /**
+     * Where connections come from; normally the plugin's pool
+     */
+    public interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    private static final int PAGE_SIZE = 500;
+    private static final int MAX_TRACKED_GAPS = 1000;
+    private static final long GAP_WAIT_MILLIS = 30_000;
+    private static final long PRUNE_INTERVAL_MILLIS = 60_000;
+    private static final String MYSQL_TABLE_OPTIONS = " ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci";
+
+    static final String CREATE_TABLE_SQL = """
+        CREATE TABLE IF NOT EXISTS event_changes (
+            seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+            node_id VARCHAR(64) NOT NULL,
+            event_id VARCHAR(36) NOT NULL,
+            version BIGINT NOT NULL,
+            operation VARCHAR(16) NOT NULL,
+            payload MEDIUMTEXT,
+            joined_players TEXT,
+            left_players TEXT,
+            created_at BIGINT NOT NULL,
+            INDEX idx_change_created_at (created_at)
+        )""";
+
+    private static final String INSERT_CHANGE_SQL = """
+        INSERT INTO event_changes (node_id, event_id, version, operation, payload, joined_players, left_players, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_COLUMNS = "SELECT seq, node_id, event_id, version, operation, payload, joined_players, left_players FROM event_changes";
+    private static final String SELECT_CHANGES_SQL = SELECT_COLUMNS + " WHERE seq > ? ORDER BY seq LIMIT " + PAGE_SIZE;
+    private static final String SELECT_MAX_SEQ_SQL = "SELECT COALESCE(MAX(seq), 0) FROM event_changes";
+    private static final String PRUNE_SQL = "DELETE FROM event_changes WHERE created_at < ?";
+
+    private final ConnectionSource connections;
+    private final boolean embedded;
+    private final String nodeId;
+    private final long pollIntervalMillis;
+    private final long retentionMillis;
+    private final Logger logger;
+    private final ScheduledExecutorService executor;
+
+    private Consumer<EventChange> receiver;
+    private long lastSeq;
+    // Skipped sequence numbers and when to stop looking for them; only touched on the executor thread
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private long lastPrune;
+    private boolean failing;
+    private volatile long published;
+    private volatile long received;
+
+    /**
+     * @param embedded true for the H2 backend, which takes the same SQL without MySQL table options
+     */
+    public MySqlChangeLogTransport(ConnectionSource connections, boolean embedded, String nodeId, long pollIntervalMillis,
+                                   long retentionMillis, Logger logger) {
+        this.connections = connections;
+        this.embedded = embedded;
+        this.nodeId = nodeId;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retentionMillis = retentionMillis;
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SwiftEvents-Replication");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Creates the change table if needed and starts polling from its current end. Events already
+     * in the database were read by the startup load, so older changes are not replayed.
+     */
+    @Override
+    public void start(Consumer<EventChange> receiver) {
+        this.receiver = receiver;
+        executor.execute(() -> {
+            try (Connection conn = connections.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute(embedded ? CREATE_TABLE_SQL : CREATE_TABLE_SQL + MYSQL_TABLE_OPTIONS);
+                try (ResultSet rs = stmt.executeQuery(SELECT_MAX_SEQ_SQL)) {
+                    lastSeq = rs.next() ? rs.getLong(1) : 0;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to prepare the replication change table: " + e.getMessage());
+            }
+        });
+        executor.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(EventChange change) {
+        try {
+            executor.execute(() -> insert(change));
+        } catch (RejectedExecutionException e) {
+            logger.warning("Replication is stopped; change not published: " + change);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Pending inserts still run; polling stops
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "mysql change table, " + published + " sent, " + received + " received";
+    }
+
+    private void insert(EventChange change) {
+        try (Connection conn = connections.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_CHANGE_SQL)) {
+            stmt.setString(1, change.getNodeId());
+            stmt.setString(2, change.getEventId());
+            stmt.setLong(3, change.getVersion());
+            stmt.setString(4, change.getOperation().name());
+            stmt.setString(5, change.getPayload());
+            stmt.setString(6, joinIds(change.getJoined()));
+            stmt.setString(7, joinIds(change.getLeft()));
+            stmt.setLong(8, System.currentTimeMillis());
+            stmt.executeUpdate();
+            published++;
+        } catch (SQLException e) {
+            // Other servers catch up with the next change to this event, which carries its full state
+            logger.warning("Failed to publish " + change + ": " + e.getMessage());
+        }
+    }
+
+    private void poll() {
+        try (Connection conn = connections.getConnection()) {
+            int read;
+            do {
+                read = readPage(conn);
+            } while (read == PAGE_SIZE);
+            recheckGaps(conn);
+
+            long now = System.currentTimeMillis();
+            if (now - lastPrune >= PRUNE_INTERVAL_MILLIS) {
+                lastPrune = now;
+                try (PreparedStatement stmt = conn.prepareStatement(PRUNE_SQL)) {
+                    stmt.setLong(1, now - retentionMillis);
+                    stmt.executeUpdate();
+                }
+            }
+            if (failing) {
+                failing = false;
+                logger.info("Replication polling recovered");
+            }
+        } catch (SQLException e) {
+            if (!failing) {
+                failing = true;
+                logger.warning("Replication polling failed, retrying: " + e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the scheduled poll
+            logger.warning("Error applying replicated changes: " + e.getMessage());
+        }
+    }
+
+    private int readPage(Connection conn) throws SQLException {
+        int read = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_CHANGES_SQL)) {
+            stmt.setLong(1, lastSeq);
+            try (ResultSet rs = stmt.executeQuery()) {
+                long giveUpAt = System.currentTimeMillis() + GAP_WAIT_MILLIS;
+                while (rs.next()) {
+                    long seq = rs.getLong("seq");
+                    for (long missing = lastSeq + 1; missing < seq && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                        gaps.put(missing, giveUpAt);
+                    }
+                    lastSeq = seq;
+                    deliver(rs);
+                    read++;
+                }
+            }
+        }
+        return read;
+    }
+
+    private void recheckGaps(Connection conn) throws SQLException {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        gaps.values().removeIf(giveUpAt -> giveUpAt < now);
+        if (gaps.isEmpty()) {
+            return;
+        }
+        List<Long> missing = new ArrayList<>(gaps.keySet());
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" WHERE seq IN (");
+        for (int i = 0; i < missing.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < missing.size(); i++) {
+                stmt.setLong(i + 1, missing.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    gaps.remove(rs.getLong("seq"));
+                    deliver(rs);
+                }
+            }
+        }
+    }
+
+    private void deliver(ResultSet rs) throws SQLException {
+        String origin = rs.getString("node_id");
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        EventChange.Operation operation;
+        try {
+            operation = EventChange.Operation.valueOf(rs.getString("operation"));
+        } catch (IllegalArgumentException e) {
+            // Written by a newer version of the plugin
+            return;
+        }
+        EventChange change = new EventChange(origin, rs.getString("event_id"), rs.getLong("version"), operation,
+                rs.getString("payload"), parseIds(rs.getString("joined_players")), parseIds(rs.getString("left_players")));
+        received++;
+        receiver.accept(change);
+    }
+
+    static String joinIds(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (UUID id : ids) {
+            joiner.add(id.toString());
+        }
+        return joiner.toString();
+    }
+
+    static Set<UUID> parseIds(String value) {
+        if (value == null || value.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> ids = new HashSet<>();
+        for (String part : value.split(",")) {
+            try {
+                ids.add(UUID.fromString(part.trim()));
+            } catch (IllegalArgumentException e) {
+                // Skip a damaged id rather than the whole change
+            }
+        }
+        return ids;
+    }
+}
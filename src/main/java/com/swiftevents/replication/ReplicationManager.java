@@ -0,0 +1,346 @@
+package com.swiftevents.replication;
+
+import com.swiftevents.database.EventJsonAdapters;
+import com.swiftevents.events.Event;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Keeps events in sync between servers that share them. Every local change is published with
+ * the event's next version number, and changes from other servers are merged so that all servers
+ * end up with the same state whatever order the changes arrive in.
+ * <p>
+ * Versions work like Lamport clocks: a server's next version for an event is higher than any it
+ * has seen, and ties between servers are broken by node id. Event fields take the
+ * state of the highest (version, node) change. Participants are merged per player instead: each
+ * join or leave is stamped with the change that made it and the newest stamp for a player wins,
+ * so players joining on two servers at once both end up in the event. A delete wins over every
+ * change it is newer than.
+ * <p>
+ * Local changes may come from any thread; received changes are applied through the apply
+ * executor, which runs them on the main thread.
+ * <p>
+ * A clock is kept per event while it is in memory. Events moved out of memory are {@link #forget
+ * forgotten}, and a change for one is compared with its stored version instead; a deleted event
+ * keeps its clock for the change log retention, so changes older than the delete still arriving
+ * are ignored, and is dropped after that.
+ */
+public class ReplicationManager {
+
+    /**
+     * Where replicated changes are applied; implemented by the event manager
+     */
+    public interface Target {
+        /**
+         * The event as currently held in memory, or null
+         */
+        Event getReplicatedEvent(String eventId);
+
+        /**
+         * The stored version of an event kept out of memory, or -1 if there is no such event
+         */
+        long getColdVersion(String eventId);
+
+        /**
+         * Stores a merged event; {@code state} may be the instance returned by {@link #getReplicatedEvent}
+         */
+        void applyReplicatedState(Event state);
+
+        void applyReplicatedDelete(String eventId);
+    }
+
+    private static final Stamp ZERO = new Stamp(0, "");
+
+    private final String nodeId;
+    private final ReplicationTransport transport;
+    private final Target target;
+    private final Executor applyExecutor;
+    private final Logger logger;
+    private final long tombstoneMillis;
+    private final Map<String, EventClock> clocks = new HashMap<>();
+    // Deleted events in the order they were deleted, to drop their clocks once expired
+    private final Deque<Tombstone> tombstones = new ArrayDeque<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    /**
+     * @param tombstoneMillis how long the clock of a deleted event is kept; the change log
+     *                        retention, after which no older change can still arrive
+     */
+    public ReplicationManager(String nodeId, ReplicationTransport transport, Target target, Executor applyExecutor,
+                              long tombstoneMillis, Logger logger) {
+        this.nodeId = nodeId;
+        this.tombstoneMillis = tombstoneMillis;
+        this.transport = transport;
+        this.target = target;
+        this.applyExecutor = applyExecutor;
+        this.logger = logger;
+    }
+
+    public void start() {
+        transport.start(change -> applyExecutor.execute(() -> apply(change)));
+    }
+
+    public void close() {
+        transport.close();
+    }
+
+    /**
+     * Sets the version a local change is saved and published under: past the event's own, the
+     * stored one and every version seen here. Call it before the storage snapshot, then
+     * {@link #recordUpsert} publishes under the same version.
+     */
+    public synchronized long nextVersion(Event event, long storedVersion) {
+        long version = Math.max(Math.max(event.getVersion(), storedVersion), clockFor(event).stamp.version()) + 1;
+        event.setVersion(version);
+        return version;
+    }
+
+    /**
+     * Publishes the current state of a locally changed event. Its version is kept when it is past
+     * every version seen here, as after {@link #nextVersion}, otherwise it is bumped.
+     */
+    public synchronized void recordUpsert(Event event) {
+        EventClock clock = clockFor(event);
+        long version = Math.max(event.getVersion(), clock.stamp.version() + 1);
+        Stamp stamp = new Stamp(version, nodeId);
+        event.setVersion(version);
+
+        Set<UUID> current = Set.copyOf(event.getParticipants());
+        Set<UUID> joined = new HashSet<>(current);
+        joined.removeAll(clock.replicated);
+        Set<UUID> left = new HashSet<>(clock.replicated);
+        left.removeAll(current);
+        for (UUID playerId : joined) {
+            clock.members.put(playerId, new Member(stamp, true));
+        }
+        for (UUID playerId : left) {
+            clock.members.put(playerId, new Member(stamp, false));
+        }
+        clock.replicated = current;
+        clock.stamp = stamp;
+        clock.deleted = false;
+
+        transport.publish(new EventChange(nodeId, event.getId(), version, EventChange.Operation.UPSERT,
+                EventJsonAdapters.EVENT.toJson(event), joined, left));
+        published.increment();
+    }
+
+    public void recordDelete(Event event) {
+        recordDelete(event.getId(), event.getVersion());
+    }
+
+    /**
+     * Publishes the deletion of an event that is no longer in memory, given the last version known
+     * for it
+     */
+    public synchronized void recordDelete(String eventId, long knownVersion) {
+        EventClock clock = clocks.computeIfAbsent(eventId, id -> new EventClock());
+        Stamp stamp = new Stamp(Math.max(knownVersion, clock.stamp.version()) + 1, nodeId);
+        markDeleted(eventId, clock, stamp);
+        transport.publish(EventChange.delete(nodeId, eventId, stamp.version()));
+        published.increment();
+    }
+
+    synchronized void apply(EventChange change) {
+        Event local = target.getReplicatedEvent(change.getEventId());
+        Stamp incoming = new Stamp(change.getVersion(), change.getNodeId());
+        long coldVersion = local == null && !clocks.containsKey(change.getEventId())
+                ? target.getColdVersion(change.getEventId()) : -1;
+        boolean cold = coldVersion >= 0;
+        // Out of memory: storage already holds every change up to its version
+        Stamp coldStamp = new Stamp(coldVersion, "");
+        if (cold && incoming.compareTo(coldStamp) <= 0) {
+            stale.increment();
+            return;
+        }
+        EventClock clock = clocks.computeIfAbsent(change.getEventId(), id -> new EventClock());
+        if (cold) {
+            clock.stamp = coldStamp;
+        }
+        if (local != null) {
+            // Loaded from storage before any change was seen; the writer is unknown
+            clock.stamp = max(clock.stamp, new Stamp(local.getVersion(), ""));
+        }
+        boolean newer = incoming.compareTo(clock.stamp) > 0;
+
+        if (change.getOperation() == EventChange.Operation.DELETE) {
+            if (!newer) {
+                stale.increment();
+                return;
+            }
+            markDeleted(change.getEventId(), clock, incoming);
+            if (local != null || cold) {
+                target.applyReplicatedDelete(change.getEventId());
+            }
+            applied.increment();
+            return;
+        }
+        if (!newer && (clock.deleted || local == null)) {
+            stale.increment();
+            return;
+        }
+
+        Event state;
+        try {
+            state = EventJsonAdapters.EVENT.fromJson(change.getPayload());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable replicated change " + change + ": " + e.getMessage());
+            return;
+        }
+        if (state == null) {
+            return;
+        }
+
+        Set<UUID> members = new HashSet<>(local != null ? local.getParticipants() : Set.of());
+        if (newer) {
+            // Players without a stamp were loaded from storage; they follow the newer full state
+            members.removeIf(playerId -> !clock.members.containsKey(playerId) && !state.isParticipant(playerId));
+            for (UUID playerId : state.getParticipants()) {
+                if (!clock.members.containsKey(playerId)) {
+                    members.add(playerId);
+                }
+            }
+        }
+        boolean membershipChanged = false;
+        for (UUID playerId : change.getJoined()) {
+            membershipChanged |= clock.stampMember(playerId, incoming, true, members);
+        }
+        for (UUID playerId : change.getLeft()) {
+            membershipChanged |= clock.stampMember(playerId, incoming, false, members);
+        }
+        if (!newer && !membershipChanged) {
+            stale.increment();
+            return;
+        }
+
+        Event result = local;
+        if (newer) {
+            clock.stamp = incoming;
+            clock.deleted = false;
+            result = state;
+        }
+        if (newer && !members.equals(state.getParticipants())) {
+            // Kept participant changes the sender had not seen yet
+            merged.increment();
+        }
+        result.setParticipants(members);
+        result.setVersion(clock.stamp.version());
+        clock.replicated = Set.copyOf(members);
+        target.applyReplicatedState(result);
+        applied.increment();
+    }
+
+    private EventClock clockFor(Event event) {
+        return clocks.computeIfAbsent(event.getId(), id -> new EventClock());
+    }
+
+    /**
+     * Drops the clock of an event that left memory. A later change for it is applied as if it
+     * were new.
+     */
+    public synchronized void forget(String eventId) {
+        EventClock clock = clocks.get(eventId);
+        if (clock != null && !clock.deleted) {
+            clocks.remove(eventId);
+        }
+    }
+
+    private void markDeleted(String eventId, EventClock clock, Stamp stamp) {
+        clock.markDeleted(stamp);
+        long now = System.currentTimeMillis();
+        tombstones.addLast(new Tombstone(eventId, stamp, now + tombstoneMillis));
+        expireTombstones(now);
+    }
+
+    synchronized void expireTombstones(long now) {
+        while (!tombstones.isEmpty() && tombstones.peekFirst().expiresAt() <= now) {
+            Tombstone tombstone = tombstones.removeFirst();
+            EventClock clock = clocks.get(tombstone.eventId());
+            // Left alone if the event came back or was deleted again since
+            if (clock != null && clock.deleted && clock.stamp.equals(tombstone.stamp())) {
+                clocks.remove(tombstone.eventId());
+            }
+        }
+    }
+
+    int getClockCount() {
+        return clocks.size();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Node, transport and change counts for the performance GUI
+     */
+    public String describe() {
+        return String.format("node %s, %s; %d published, %d applied, %d merged, %d stale",
+                nodeId, transport.describe(), published.sum(), applied.sum(), merged.sum(), stale.sum());
+    }
+
+    long getMergedCount() {
+        return merged.sum();
+    }
+
+    long getStaleCount() {
+        return stale.sum();
+    }
+
+    private static Stamp max(Stamp a, Stamp b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private record Stamp(long version, String node) implements Comparable<Stamp> {
+        @Override
+        public int compareTo(Stamp other) {
+            int byVersion = Long.compare(version, other.version);
+            return byVersion != 0 ? byVersion : node.compareTo(other.node);
+        }
+    }
+
+    private record Member(Stamp stamp, boolean present) {
+    }
+
+    private record Tombstone(String eventId, Stamp stamp, long expiresAt) {
+    }
+
+    // Replication state of one event
+    private static class EventClock {
+        private Stamp stamp = ZERO;
+        private boolean deleted;
+        private final Map<UUID, Member> members = new HashMap<>();
+        // Participants as of the last change sent or applied; local changes are published relative to it
+        private Set<UUID> replicated = Set.of();
+
+        void markDeleted(Stamp deleteStamp) {
+            stamp = deleteStamp;
+            deleted = true;
+            members.clear();
+            replicated = Set.of();
+        }
+
+        boolean stampMember(UUID playerId, Stamp incoming, boolean present, Set<UUID> participants) {
+            Member member = members.get(playerId);
+            if (member != null && member.stamp().compareTo(incoming) >= 0) {
+                // A newer join or leave of this player already won
+                if (member.present()) {
+                    participants.add(playerId);
+                } else {
+                    participants.remove(playerId);
+                }
+                return false;
+            }
+            members.put(playerId, new Member(incoming, present));
+            return present ? participants.add(playerId) : participants.remove(playerId);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.swiftevents.replication;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link EventChange}s between servers. A transport delivers every change published on
+ * one server to the receiver of every other server at least once; order and duplicates do not
+ * matter, {@link ReplicationManager} resolves both.
+ */
+public interface ReplicationTransport {
+
+    /**
+     * Starts delivering changes from other servers to {@code receiver}, on any thread
+     */
+    void start(Consumer<EventChange> receiver);
+
+    /**
+     * Sends a local change to the other servers. Must not block the calling thread on I/O.
+     */
+    void publish(EventChange change);
+
+    void close();
+
+    /**
+     * Short description for the performance GUI
+     */
+    String describe();
+}
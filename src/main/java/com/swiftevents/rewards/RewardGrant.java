@@ -0,0 +1,49 @@
+package com.swiftevents.rewards;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The rewards one participant is owed for one event. The id is derived from both, so an event
+ * can never grant the same player twice.
+ */
+final class RewardGrant {
+
+    private final String id;
+    private final UUID playerId;
+    private final String eventId;
+    private final String eventName;
+    private final List<RewardTemplate> templates;
+
+    RewardGrant(UUID playerId, String eventId, String eventName, List<RewardTemplate> templates) {
+        this.id = idFor(eventId, playerId);
+        this.playerId = playerId;
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.templates = templates;
+    }
+
+    static String idFor(String eventId, UUID playerId) {
+        return eventId + ":" + playerId;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    UUID getPlayerId() {
+        return playerId;
+    }
+
+    String getEventId() {
+        return eventId;
+    }
+
+    String getEventName() {
+        return eventName;
+    }
+
+    List<RewardTemplate> getTemplates() {
+        return templates;
+    }
+}
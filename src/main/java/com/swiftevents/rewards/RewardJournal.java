@@ -0,0 +1,239 @@
+package com.swiftevents.rewards;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Append-only record of reward grants, one JSON object per line: a grant line when rewards are
+ * owed and a done line once they were handed out. Lines are written on a background thread in the
+ * order they were recorded; grant lines are forced to disk before anything else is written. On
+ * load, grants without a done line are returned and the file is rewritten to hold only those.
+ * A grant is delivered at least once: a crash between dispatching and writing its done line
+ * delivers it again on the next start.
+ */
+class RewardJournal {
+
+    static final String JOURNAL_FILE = "pending_rewards.jsonl";
+
+    private final File journalFile;
+    private final Gson gson = new Gson();
+    private final Logger logger;
+    private final ExecutorService writer;
+    private FileOutputStream stream;
+    private Writer out;
+
+    RewardJournal(File dataFolder, Logger logger) {
+        this.journalFile = new File(dataFolder, JOURNAL_FILE);
+        this.logger = logger;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SwiftEvents-Rewards");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Reads the grants that were never marked done and compacts the file to just those. Must be
+     * called before anything is recorded.
+     */
+    List<RewardGrant> load() {
+        Map<String, Record> pending = new LinkedHashMap<>();
+        if (journalFile.exists()) {
+            int unreadable = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Record record;
+                    try {
+                        record = gson.fromJson(line, Record.class);
+                    } catch (JsonParseException e) {
+                        // Usually a line cut short by a crash
+                        unreadable++;
+                        continue;
+                    }
+                    if (record == null) {
+                        continue;
+                    }
+                    if (record.done != null) {
+                        pending.remove(record.done);
+                    } else if (record.grant != null && record.player != null && record.commands != null) {
+                        pending.put(record.grant, record);
+                    }
+                }
+            } catch (IOException e) {
+                logger.severe("Failed to read pending rewards: " + e.getMessage());
+                return new ArrayList<>();
+            }
+            if (unreadable > 0) {
+                logger.warning("Skipped " + unreadable + " unreadable lines in " + JOURNAL_FILE);
+            }
+        }
+
+        List<RewardGrant> grants = new ArrayList<>(pending.size());
+        // Grants from the same event share their command list, so parse each command once
+        Map<String, RewardTemplate> templates = new HashMap<>();
+        for (Record record : pending.values()) {
+            try {
+                List<RewardTemplate> parsed = new ArrayList<>(record.commands.size());
+                for (String command : record.commands) {
+                    parsed.add(templates.computeIfAbsent(command, RewardTemplate::parse));
+                }
+                grants.add(new RewardGrant(UUID.fromString(record.player), record.event, record.eventName, parsed));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Dropping reward grant with an invalid player id: " + record.grant);
+            }
+        }
+        compact(grants);
+        return grants;
+    }
+
+    void recordGranted(List<RewardGrant> grants) {
+        List<String> lines = new ArrayList<>(grants.size());
+        for (RewardGrant grant : grants) {
+            lines.add(gson.toJson(Record.of(grant)));
+        }
+        submit(() -> append(lines, true));
+    }
+
+    /**
+     * Marks grants as delivered. When nothing is left pending the file is emptied instead, which
+     * keeps it from growing while the server runs.
+     */
+    void recordDelivered(List<String> grantIds, boolean nothingPending) {
+        if (nothingPending) {
+            submit(this::truncate);
+            return;
+        }
+        List<String> lines = new ArrayList<>(grantIds.size());
+        for (String grantId : grantIds) {
+            Record record = new Record();
+            record.done = grantId;
+            lines.add(gson.toJson(record));
+        }
+        submit(() -> append(lines, false));
+    }
+
+    /**
+     * Writes everything recorded so far and closes the file
+     */
+    void close() {
+        submit(this::closeStream);
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Timed out writing pending rewards");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.warning("Reward journal is closed; a reward record was not written");
+        }
+    }
+
+    private void append(List<String> lines, boolean force) {
+        try {
+            if (out == null) {
+                stream = new FileOutputStream(journalFile, true);
+                out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            }
+            for (String line : lines) {
+                out.write(line);
+                out.write('\n');
+            }
+            out.flush();
+            if (force) {
+                stream.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to record rewards: " + e.getMessage());
+            closeStream();
+        }
+    }
+
+    private void truncate() {
+        closeStream();
+        try (FileOutputStream ignored = new FileOutputStream(journalFile, false)) {
+            // Opening without append empties the file
+        } catch (IOException e) {
+            logger.warning("Failed to clear " + JOURNAL_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void closeStream() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close " + JOURNAL_FILE + ": " + e.getMessage());
+            }
+            out = null;
+            stream = null;
+        }
+    }
+
+    private void compact(List<RewardGrant> grants) {
+        if (!journalFile.exists()) {
+            return;
+        }
+        File tempFile = new File(journalFile.getParentFile(), JOURNAL_FILE + ".tmp");
+        try {
+            try (Writer tempWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+                for (RewardGrant grant : grants) {
+                    tempWriter.write(gson.toJson(Record.of(grant)));
+                    tempWriter.write('\n');
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The uncompacted file is still correct, just longer
+            logger.warning("Failed to compact " + JOURNAL_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static class Record {
+        private String grant;
+        private String done;
+        private String player;
+        private String event;
+        private String eventName;
+        private List<String> commands;
+
+        static Record of(RewardGrant grant) {
+            Record record = new Record();
+            record.grant = grant.getId();
+            record.player = grant.getPlayerId().toString();
+            record.event = grant.getEventId();
+            record.eventName = grant.getEventName();
+            record.commands = new ArrayList<>(grant.getTemplates().size());
+            for (RewardTemplate template : grant.getTemplates()) {
+                record.commands.add(template.getSource());
+            }
+            return record;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.swiftevents.rewards;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.events.Event;
+import com.swiftevents.utils.TickProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Hands out event rewards a few at a time instead of dispatching every command for every
+ * participant in the tick an event ends. Each tick delivers whole grants until the configured
+ * time budget is spent, and at least one grant so the queue always drains. Reward commands are
+ * parsed once per event. Grants are written to a journal in the data folder before they are
+ * delivered, so rewards owed at shutdown survive a restart, and participants who are offline get
+ * theirs when they next join. All methods run on the main thread.
+ */
+public class RewardQueue {
+
+    private static final int DEFAULT_BUDGET_MICROS = 2000;
+
+    private final SwiftEventsPlugin plugin;
+    private final RewardJournal journal;
+    private final Deque<RewardGrant> ready = new ArrayDeque<>();
+    private final Map<UUID, List<RewardGrant>> awaitingLogin = new HashMap<>();
+    private final Set<String> pendingIds = new HashSet<>();
+    private BukkitTask task;
+    private long deliveredCount;
+
+    public RewardQueue(SwiftEventsPlugin plugin) {
+        this.plugin = plugin;
+        File dataFolder = plugin.getDataFolder();
+        // Without a data folder (tests) grants are only kept in memory
+        this.journal = dataFolder != null ? new RewardJournal(dataFolder, plugin.getLogger()) : null;
+    }
+
+    /**
+     * Restores the grants that were not delivered before the last shutdown
+     */
+    public void load() {
+        if (journal == null) {
+            return;
+        }
+        List<RewardGrant> grants = journal.load();
+        for (RewardGrant grant : grants) {
+            if (pendingIds.add(grant.getId())) {
+                awaitingLogin.computeIfAbsent(grant.getPlayerId(), id -> new ArrayList<>()).add(grant);
+            }
+        }
+        if (!grants.isEmpty()) {
+            plugin.getLogger().info("Restored " + grants.size() + " undelivered reward grants");
+            try {
+                // Players are already online after a plugin reload
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    onPlayerJoin(player);
+                }
+            } catch (Exception e) {
+                // Handle case where Bukkit server is not available (e.g., in tests)
+            }
+        }
+    }
+
+    /**
+     * Grants the event's rewards to every participant. Returns the number of new grants; a
+     * participant who was already granted this event's rewards is skipped.
+     */
+    public int enqueue(Event event) {
+        List<String> rewards = event.getRewards();
+        if (rewards.isEmpty() || event.getParticipants().isEmpty()) {
+            return 0;
+        }
+
+        List<RewardTemplate> templates = RewardTemplate.parseAll(rewards);
+        List<RewardGrant> granted = new ArrayList<>(event.getParticipants().size());
+        for (UUID participantId : event.getParticipants()) {
+            RewardGrant grant = new RewardGrant(participantId, event.getId(), event.getName(), templates);
+            if (!pendingIds.add(grant.getId())) {
+                continue;
+            }
+            granted.add(grant);
+            Player player = Bukkit.getPlayer(participantId);
+            if (player != null && player.isOnline()) {
+                ready.add(grant);
+            } else {
+                awaitingLogin.computeIfAbsent(participantId, id -> new ArrayList<>()).add(grant);
+            }
+        }
+
+        if (journal != null && !granted.isEmpty()) {
+            journal.recordGranted(granted);
+        }
+        if (!ready.isEmpty()) {
+            ensureRunning();
+        }
+        return granted.size();
+    }
+
+    /**
+     * Queues the rewards a player earned while offline
+     */
+    public void onPlayerJoin(Player player) {
+        List<RewardGrant> owed = awaitingLogin.remove(player.getUniqueId());
+        if (owed == null || owed.isEmpty()) {
+            return;
+        }
+        ready.addAll(owed);
+        player.sendMessage(plugin.getConfigManager().getPrefix() + "§aYou have rewards waiting from " +
+                owed.size() + (owed.size() == 1 ? " event" : " events") + ".");
+        ensureRunning();
+    }
+
+    /**
+     * Grants not delivered yet, including those waiting for their player to join
+     */
+    public int getPendingCount() {
+        return pendingIds.size();
+    }
+
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    /**
+     * Stops delivering; grants still pending stay in the journal for the next start
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void ensureRunning() {
+        if (task != null) {
+            return;
+        }
+        try {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        } catch (Exception e) {
+            // Handle case where Bukkit server is not available (e.g., in tests)
+            while (!ready.isEmpty()) {
+                tick();
+            }
+        }
+    }
+
+    private void tick() {
+        TickProfiler.begin(TickProfiler.Subsystem.REWARDS);
+        try {
+            int configured = plugin.getConfigManager().getRewardTickBudgetMicros();
+            long budgetNanos = (configured > 0 ? configured : DEFAULT_BUDGET_MICROS) * 1000L;
+            long start = System.nanoTime();
+
+            List<String> delivered = new ArrayList<>();
+            while (!ready.isEmpty()) {
+                RewardGrant grant = ready.poll();
+                Player player = Bukkit.getPlayer(grant.getPlayerId());
+                if (player == null || !player.isOnline()) {
+                    // Left before their turn; delivered on the next join
+                    awaitingLogin.computeIfAbsent(grant.getPlayerId(), id -> new ArrayList<>()).add(grant);
+                    continue;
+                }
+                deliver(grant, player);
+                pendingIds.remove(grant.getId());
+                delivered.add(grant.getId());
+                if (System.nanoTime() - start >= budgetNanos) {
+                    break;
+                }
+            }
+
+            if (!delivered.isEmpty()) {
+                deliveredCount += delivered.size();
+                if (journal != null) {
+                    journal.recordDelivered(delivered, pendingIds.isEmpty());
+                }
+            }
+            if (ready.isEmpty() && task != null) {
+                task.cancel();
+                task = null;
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.REWARDS);
+        }
+    }
+
+    private void deliver(RewardGrant grant, Player player) {
+        String playerName = player.getName();
+        for (RewardTemplate template : grant.getTemplates()) {
+            String command = template.render(playerName);
+            try {
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+            } catch (Exception e) {
+                // One broken command must not hold up the rest of the queue
+                plugin.getLogger().warning("Reward command for " + grant.getEventName() + " failed: " + command + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
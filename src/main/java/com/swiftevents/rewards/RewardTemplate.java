@@ -0,0 +1,63 @@
+package com.swiftevents.rewards;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reward command split once around its {@code {player}} placeholders, so rendering it for each
+ * participant is a single sized append instead of a scan of the whole string.
+ */
+final class RewardTemplate {
+
+    static final String PLAYER_PLACEHOLDER = "{player}";
+
+    private final String source;
+    private final String[] literals;
+    private final int literalLength;
+
+    private RewardTemplate(String source, String[] literals) {
+        this.source = source;
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static RewardTemplate parse(String command) {
+        List<String> literals = new ArrayList<>();
+        int from = 0;
+        int at;
+        while ((at = command.indexOf(PLAYER_PLACEHOLDER, from)) >= 0) {
+            literals.add(command.substring(from, at));
+            from = at + PLAYER_PLACEHOLDER.length();
+        }
+        literals.add(command.substring(from));
+        return new RewardTemplate(command, literals.toArray(new String[0]));
+    }
+
+    static List<RewardTemplate> parseAll(List<String> commands) {
+        List<RewardTemplate> templates = new ArrayList<>(commands.size());
+        for (String command : commands) {
+            templates.add(parse(command));
+        }
+        return templates;
+    }
+
+    String render(String playerName) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + (literals.length - 1) * playerName.length());
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(playerName).append(literals[i]);
+        }
+        return builder.toString();
+    }
+
+    String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,140 @@
+package com.swiftevents.stats;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.swiftevents.events.Event;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Keeps player statistics in {@code player_stats.json} in the plugin folder. The file holds the
+ * totals per player and event type; it is replaced atomically on every write.
+ */
+class JsonPlayerStatsStore implements PlayerStatsStore {
+
+    static final String STATS_FILE = "player_stats.json";
+    // player UUID -> event type -> [joined, completed, wins, time spent]
+    private static final Type FILE_TYPE = new TypeToken<Map<String, Map<String, long[]>>>() { }.getType();
+
+    private final File statsFile;
+    private final Logger logger;
+    private final Gson gson = new Gson();
+    private final Map<UUID, PlayerStats> totals = new HashMap<>();
+
+    JsonPlayerStatsStore(File dataFolder, Logger logger) {
+        this.statsFile = new File(dataFolder, STATS_FILE);
+        this.logger = logger;
+    }
+
+    @Override
+    public synchronized List<PlayerStats> load() {
+        totals.clear();
+        if (statsFile.exists()) {
+            try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(statsFile), StandardCharsets.UTF_8))) {
+                Map<String, Map<String, long[]>> stored = gson.fromJson(reader, FILE_TYPE);
+                if (stored != null) {
+                    stored.forEach(this::readPlayer);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.warning("Failed to read " + STATS_FILE + ", starting without player statistics: " + e.getMessage());
+            }
+        }
+        List<PlayerStats> loaded = new ArrayList<>(totals.size());
+        for (PlayerStats stats : totals.values()) {
+            loaded.add(stats.copy());
+        }
+        return loaded;
+    }
+
+    @Override
+    public synchronized boolean add(Collection<PlayerStats> deltas) {
+        // Merge into a copy so a failed write leaves the totals as they are on disk
+        Map<UUID, PlayerStats> merged = new HashMap<>(totals.size() + deltas.size());
+        for (PlayerStats stats : totals.values()) {
+            merged.put(stats.getPlayerId(), stats.copy());
+        }
+        for (PlayerStats delta : deltas) {
+            merged.computeIfAbsent(delta.getPlayerId(), PlayerStats::new).add(delta);
+        }
+        if (!write(merged.values())) {
+            return false;
+        }
+        totals.clear();
+        totals.putAll(merged);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // Every add is written straight away
+    }
+
+    private void readPlayer(String playerId, Map<String, long[]> byType) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(playerId);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        if (byType == null) {
+            return;
+        }
+        PlayerStats stats = totals.computeIfAbsent(uuid, PlayerStats::new);
+        byType.forEach((typeName, values) -> {
+            Event.EventType type = parseType(typeName);
+            if (type != null && values != null && values.length == 4) {
+                stats.add(type, (int) values[0], (int) values[1], (int) values[2], values[3]);
+            }
+        });
+    }
+
+    private boolean write(Collection<PlayerStats> allStats) {
+        Map<String, Map<String, long[]>> stored = new HashMap<>(allStats.size());
+        for (PlayerStats stats : allStats) {
+            Map<String, long[]> byType = new HashMap<>();
+            for (Event.EventType type : Event.EventType.values()) {
+                long[] values = {stats.getEventsJoined(type), stats.getEventsCompleted(type),
+                    stats.getWins(type), stats.getTimeSpentMillis(type)};
+                if (values[0] != 0 || values[1] != 0 || values[2] != 0 || values[3] != 0) {
+                    byType.put(type.name(), values);
+                }
+            }
+            if (!byType.isEmpty()) {
+                stored.put(stats.getPlayerId().toString(), byType);
+            }
+        }
+
+        File tempFile = new File(statsFile.getParentFile(), STATS_FILE + ".tmp");
+        try {
+            statsFile.getParentFile().mkdirs();
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+                gson.toJson(stored, FILE_TYPE, out);
+            }
+            try {
+                Files.move(tempFile.toPath(), statsFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), statsFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warning("Failed to save " + STATS_FILE + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    static Event.EventType parseType(String name) {
+        try {
+            return Event.EventType.valueOf(name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.swiftevents.stats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The top players for one statistic, best first, in a skip list capped at a fixed size. Updates
+ * take O(log n) and reading the top entries never looks at anyone else. Players outside the board
+ * are not tracked: since statistics only grow, a player can only enter it through an update of
+ * their own score. Anything that lowers scores must {@link #rebuild} the board.
+ */
+public class Leaderboard {
+
+    public record Entry(UUID playerId, long score) {
+    }
+
+    // Highest score first; ties by player id so every entry has its own place
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::score).reversed()
+        .thenComparing(Entry::playerId);
+
+    private final PlayerStat stat;
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    // Writers only; readers iterate the skip list without locking
+    private final Map<UUID, Entry> members = new HashMap<>();
+
+    public Leaderboard(PlayerStat stat, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Leaderboard capacity must be at least 1");
+        }
+        this.stat = stat;
+        this.capacity = capacity;
+    }
+
+    public PlayerStat getStat() {
+        return stat;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Records a player's current score, entering them if it beats the lowest entry of a full board
+     */
+    public synchronized void update(UUID playerId, long score) {
+        Entry previous = members.get(playerId);
+        if (previous != null) {
+            if (previous.score() == score) {
+                return;
+            }
+            entries.remove(previous);
+            members.remove(playerId);
+        }
+        if (score <= 0) {
+            return;
+        }
+        Entry entry = new Entry(playerId, score);
+        if (members.size() >= capacity) {
+            Entry lowest = entries.last();
+            if (ORDER.compare(entry, lowest) >= 0) {
+                return;
+            }
+            entries.remove(lowest);
+            members.remove(lowest.playerId());
+        }
+        entries.add(entry);
+        members.put(playerId, entry);
+    }
+
+    /**
+     * Refills the board from every player's statistics
+     */
+    public synchronized void rebuild(Collection<PlayerStats> allStats) {
+        entries.clear();
+        members.clear();
+        for (PlayerStats stats : allStats) {
+            update(stats.getPlayerId(), stat.valueOf(stats));
+        }
+    }
+
+    /**
+     * The best {@code limit} entries, best first
+     */
+    public List<Entry> getTop(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(Math.max(limit, 0), capacity));
+        Iterator<Entry> iterator = entries.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * A player's place on the board starting at 1, or -1 if they are not on it
+     */
+    public synchronized int getRank(UUID playerId) {
+        Entry entry = members.get(playerId);
+        if (entry == null) {
+            return -1;
+        }
+        return entries.headSet(entry).size() + 1;
+    }
+
+    public synchronized int size() {
+        return members.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.swiftevents.stats;
+
+import java.util.Locale;
+
+/**
+ * The statistics players are ranked by
+ */
+public enum PlayerStat {
+    EVENTS_JOINED("joined"),
+    EVENTS_COMPLETED("completed"),
+    WINS("wins"),
+    TIME_SPENT("time");
+
+    private final String key;
+
+    PlayerStat(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Short name used in commands, e.g. {@code wins}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public long valueOf(PlayerStats stats) {
+        return switch (this) {
+            case EVENTS_JOINED -> stats.getEventsJoined();
+            case EVENTS_COMPLETED -> stats.getEventsCompleted();
+            case WINS -> stats.getWins();
+            case TIME_SPENT -> stats.getTimeSpentMillis();
+        };
+    }
+
+    /**
+     * The statistic with the given key or enum name, or null if there is none
+     */
+    public static PlayerStat fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        String normalized = key.trim().toLowerCase(Locale.ROOT);
+        for (PlayerStat stat : values()) {
+            if (stat.key.equals(normalized) || stat.name().toLowerCase(Locale.ROOT).equals(normalized)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.swiftevents.stats;
+
+import com.swiftevents.events.Event;
+
+import java.util.UUID;
+
+/**
+ * One player's event history, per event type: events joined and completed, wins, and time spent
+ * in running events
+ */
+public class PlayerStats {
+
+    private static final Event.EventType[] TYPES = Event.EventType.values();
+
+    private final UUID playerId;
+    private final int[] joined = new int[TYPES.length];
+    private final int[] completed = new int[TYPES.length];
+    private final int[] wins = new int[TYPES.length];
+    private final long[] timeSpentMillis = new long[TYPES.length];
+
+    public PlayerStats(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public int getEventsJoined() {
+        return sum(joined);
+    }
+
+    public int getEventsJoined(Event.EventType type) {
+        return joined[type.ordinal()];
+    }
+
+    public int getEventsCompleted() {
+        return sum(completed);
+    }
+
+    public int getEventsCompleted(Event.EventType type) {
+        return completed[type.ordinal()];
+    }
+
+    public int getWins() {
+        return sum(wins);
+    }
+
+    public int getWins(Event.EventType type) {
+        return wins[type.ordinal()];
+    }
+
+    public long getTimeSpentMillis() {
+        long total = 0;
+        for (long millis : timeSpentMillis) {
+            total += millis;
+        }
+        return total;
+    }
+
+    public long getTimeSpentMillis(Event.EventType type) {
+        return timeSpentMillis[type.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return getEventsJoined() == 0 && getEventsCompleted() == 0 && getWins() == 0 && getTimeSpentMillis() == 0;
+    }
+
+    void add(Event.EventType type, int joined, int completed, int wins, long timeSpentMillis) {
+        int i = type.ordinal();
+        this.joined[i] += joined;
+        this.completed[i] += completed;
+        this.wins[i] += wins;
+        this.timeSpentMillis[i] += timeSpentMillis;
+    }
+
+    void add(PlayerStats other) {
+        for (Event.EventType type : TYPES) {
+            int i = type.ordinal();
+            add(type, other.joined[i], other.completed[i], other.wins[i], other.timeSpentMillis[i]);
+        }
+    }
+
+    PlayerStats copy() {
+        PlayerStats copy = new PlayerStats(playerId);
+        copy.add(this);
+        return copy;
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
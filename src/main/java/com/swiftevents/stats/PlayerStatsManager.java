@@ -0,0 +1,285 @@
+package com.swiftevents.stats;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.events.Event;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player event statistics and leaderboards, updated as players join and leave events and as
+ * events end, so neither needs a pass over the stored events. Changes collect as deltas and are
+ * added to the active storage backend on each auto-save and at shutdown, on a background thread.
+ * <p>
+ * Time spent counts from when the player joined or the event started, whichever is later, until
+ * they leave or the event ends. Join times are kept in memory only; a player still in an event
+ * across a restart is counted from the event's start.
+ */
+public class PlayerStatsManager {
+
+    private static final int DEFAULT_LEADERBOARD_SIZE = 10;
+
+    private final SwiftEventsPlugin plugin;
+    private final PlayerStatsStore store;
+    private final Map<UUID, PlayerStats> stats = new ConcurrentHashMap<>();
+    private final Map<PlayerStat, Leaderboard> leaderboards = new EnumMap<>(PlayerStat.class);
+    // Changes not yet written to the store; guarded by itself
+    private final Map<UUID, PlayerStats> pending = new HashMap<>();
+    // Event id -> player -> when they joined
+    private final Map<String, Map<UUID, Long>> joinTimes = new ConcurrentHashMap<>();
+    private final ExecutorService writer;
+
+    public PlayerStatsManager(SwiftEventsPlugin plugin) {
+        this.plugin = plugin;
+        this.store = createStore();
+        this.writer = store != null ? Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SwiftEvents-Stats");
+            t.setDaemon(true);
+            return t;
+        }) : null;
+
+        int configuredSize = plugin.getConfigManager().getPlayerStatsLeaderboardSize();
+        int leaderboardSize = configuredSize > 0 ? configuredSize : DEFAULT_LEADERBOARD_SIZE;
+        for (PlayerStat stat : PlayerStat.values()) {
+            leaderboards.put(stat, new Leaderboard(stat, leaderboardSize));
+        }
+    }
+
+    private PlayerStatsStore createStore() {
+        DatabaseManager databaseManager = plugin.getDatabaseManager();
+        if (databaseManager != null && databaseManager.isDatabaseActive()) {
+            return new SqlPlayerStatsStore(databaseManager::getConnection, databaseManager.isEmbeddedDatabase(), plugin.getLogger());
+        }
+        File dataFolder = plugin.getDataFolder();
+        // Without a data folder (tests) statistics are only kept in memory
+        return dataFolder != null ? new JsonPlayerStatsStore(dataFolder, plugin.getLogger()) : null;
+    }
+
+    /**
+     * Reads the stored statistics and builds the leaderboards from them
+     */
+    public void load() {
+        if (store == null) {
+            return;
+        }
+        for (PlayerStats loaded : store.load()) {
+            stats.computeIfAbsent(loaded.getPlayerId(), PlayerStats::new).add(loaded);
+        }
+        for (Leaderboard leaderboard : leaderboards.values()) {
+            leaderboard.rebuild(stats.values());
+        }
+        if (!stats.isEmpty()) {
+            plugin.getLogger().info("Loaded event statistics for " + stats.size() + " players");
+        }
+    }
+
+    /**
+     * A player joined an event
+     */
+    public void recordJoin(Event event, UUID playerId) {
+        joinTimes.computeIfAbsent(event.getId(), id -> new ConcurrentHashMap<>())
+            .put(playerId, System.currentTimeMillis());
+        apply(playerId, event.getType(), 1, 0, 0, 0);
+    }
+
+    /**
+     * A player left an event before it ended
+     */
+    public void recordLeave(Event event, UUID playerId) {
+        Map<UUID, Long> joined = joinTimes.get(event.getId());
+        Long joinedAt = joined != null ? joined.remove(playerId) : null;
+        long timeSpent = activeTime(event, joinedAt, System.currentTimeMillis());
+        if (timeSpent > 0) {
+            apply(playerId, event.getType(), 0, 0, 0, timeSpent);
+        }
+    }
+
+    /**
+     * An event completed: every participant completed it and gets their time in it, and the
+     * players named in its {@code winners} or {@code winner} metadata get a win
+     */
+    public void recordEnd(Event event) {
+        Map<UUID, Long> joined = joinTimes.remove(event.getId());
+        long endedAt = event.getEndTime() > 0 ? event.getEndTime() : System.currentTimeMillis();
+        for (UUID participantId : event.getParticipants()) {
+            long timeSpent = activeTime(event, joined != null ? joined.get(participantId) : null, endedAt);
+            apply(participantId, event.getType(), 0, 1, 0, timeSpent);
+        }
+        for (UUID winnerId : getWinners(event)) {
+            apply(winnerId, event.getType(), 0, 0, 1, 0);
+        }
+    }
+
+    /**
+     * An event was cancelled or deleted before it completed; participants only get their time in it
+     */
+    public void recordCancel(Event event) {
+        Map<UUID, Long> joined = joinTimes.remove(event.getId());
+        long now = System.currentTimeMillis();
+        for (UUID participantId : event.getParticipants()) {
+            long timeSpent = activeTime(event, joined != null ? joined.get(participantId) : null, now);
+            if (timeSpent > 0) {
+                apply(participantId, event.getType(), 0, 0, 0, timeSpent);
+            }
+        }
+    }
+
+    /**
+     * Counts a win for a player, for games that decide winners themselves
+     */
+    public void recordWin(UUID playerId, Event.EventType type) {
+        apply(playerId, type, 0, 0, 1, 0);
+    }
+
+    /**
+     * A copy of the player's statistics, or null if they never took part in an event
+     */
+    public PlayerStats getStats(UUID playerId) {
+        PlayerStats playerStats = stats.get(playerId);
+        if (playerStats == null) {
+            return null;
+        }
+        synchronized (playerStats) {
+            return playerStats.copy();
+        }
+    }
+
+    /**
+     * The best players for a statistic, best first
+     */
+    public List<Leaderboard.Entry> getTop(PlayerStat stat, int limit) {
+        return leaderboards.get(stat).getTop(limit);
+    }
+
+    /**
+     * The player's place for a statistic starting at 1, or -1 if they are not on the leaderboard
+     */
+    public int getRank(UUID playerId, PlayerStat stat) {
+        return leaderboards.get(stat).getRank(playerId);
+    }
+
+    public int getLeaderboardSize() {
+        return leaderboards.get(PlayerStat.EVENTS_JOINED).getCapacity();
+    }
+
+    /**
+     * Number of players who ever took part in an event
+     */
+    public int getPlayerCount() {
+        return stats.size();
+    }
+
+    /**
+     * Writes the changes since the last flush in the background; changes that fail to save are
+     * kept for the next flush
+     */
+    public void flush() {
+        if (store == null) {
+            return;
+        }
+        List<PlayerStats> deltas;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            deltas = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        try {
+            writer.execute(() -> {
+                if (!store.add(deltas)) {
+                    requeue(deltas);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            requeue(deltas);
+            plugin.getLogger().warning("Player statistics store is closed; " + deltas.size() + " player updates were not saved");
+        }
+    }
+
+    /**
+     * Writes outstanding changes and closes the store
+     */
+    public void shutdown() {
+        if (store == null) {
+            return;
+        }
+        flush();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out saving player statistics");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        store.close();
+    }
+
+    private void apply(UUID playerId, Event.EventType type, int joined, int completed, int wins, long timeSpent) {
+        PlayerStats playerStats = stats.computeIfAbsent(playerId, PlayerStats::new);
+        // Leaderboards are updated under the player's lock so their scores arrive in order
+        synchronized (playerStats) {
+            playerStats.add(type, joined, completed, wins, timeSpent);
+            for (Leaderboard leaderboard : leaderboards.values()) {
+                leaderboard.update(playerId, leaderboard.getStat().valueOf(playerStats));
+            }
+        }
+        if (store != null) {
+            synchronized (pending) {
+                pending.computeIfAbsent(playerId, PlayerStats::new).add(type, joined, completed, wins, timeSpent);
+            }
+        }
+    }
+
+    private void requeue(List<PlayerStats> deltas) {
+        synchronized (pending) {
+            for (PlayerStats delta : deltas) {
+                pending.computeIfAbsent(delta.getPlayerId(), PlayerStats::new).add(delta);
+            }
+        }
+    }
+
+    static long activeTime(Event event, Long joinedAt, long until) {
+        long startTime = event.getStartTime();
+        if (startTime <= 0 || startTime > until) {
+            return 0;
+        }
+        long from = joinedAt != null ? Math.max(startTime, joinedAt) : startTime;
+        return Math.max(0, until - from);
+    }
+
+    private static Set<UUID> getWinners(Event event) {
+        Set<UUID> winners = new LinkedHashSet<>();
+        Object value = event.getMetadata("winners");
+        if (value == null) {
+            value = event.getMetadata("winner");
+        }
+        if (value instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                addWinner(winners, element);
+            }
+        } else {
+            addWinner(winners, value);
+        }
+        return winners;
+    }
+
+    private static void addWinner(Set<UUID> winners, Object value) {
+        if (value instanceof UUID uuid) {
+            winners.add(uuid);
+        } else if (value != null) {
+            try {
+                winners.add(UUID.fromString(value.toString()));
+            } catch (IllegalArgumentException e) {
+                // Not a player id
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.swiftevents.stats;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Where player statistics are kept between restarts. Writes are deltas that are added to the
+ * stored totals, so several servers can share one store without overwriting each other.
+ */
+interface PlayerStatsStore {
+
+    /**
+     * Every player's stored totals
+     */
+    List<PlayerStats> load();
+
+    /**
+     * Adds the deltas to the stored totals
+     *
+     * @return false if nothing was written and the deltas should be retried
+     */
+    boolean add(Collection<PlayerStats> deltas);
+
+    void close();
+}
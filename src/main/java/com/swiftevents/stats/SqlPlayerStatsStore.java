@@ -0,0 +1,129 @@
+package com.swiftevents.stats;
+
+import com.swiftevents.events.Event;
+
+import java.sql.*;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Keeps player statistics in a {@code player_stats} table of the SQL backend, one row per player
+ * and event type. Deltas are added by the database itself, so servers sharing it never lose each
+ * other's updates.
+ */
+class SqlPlayerStatsStore implements PlayerStatsStore {
+
+    /**
+     * Where connections come from; normally the plugin's pool
+     */
+    interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    private static final String MYSQL_TABLE_OPTIONS = " ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci";
+
+    static final String CREATE_TABLE_SQL = """
+        CREATE TABLE IF NOT EXISTS player_stats (
+            player_uuid VARCHAR(36) NOT NULL,
+            event_type VARCHAR(50) NOT NULL,
+            joined INT NOT NULL DEFAULT 0,
+            completed INT NOT NULL DEFAULT 0,
+            wins INT NOT NULL DEFAULT 0,
+            time_spent BIGINT NOT NULL DEFAULT 0,
+            PRIMARY KEY (player_uuid, event_type)
+        )""";
+
+    private static final String SELECT_SQL = "SELECT player_uuid, event_type, joined, completed, wins, time_spent FROM player_stats";
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO player_stats (player_uuid, event_type, joined, completed, wins, time_spent)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE joined = joined + VALUES(joined), completed = completed + VALUES(completed),
+            wins = wins + VALUES(wins), time_spent = time_spent + VALUES(time_spent)""";
+
+    private final ConnectionSource connections;
+    private final boolean embedded;
+    private final Logger logger;
+
+    /**
+     * @param embedded true for the H2 backend, which takes the same SQL without MySQL table options
+     */
+    SqlPlayerStatsStore(ConnectionSource connections, boolean embedded, Logger logger) {
+        this.connections = connections;
+        this.embedded = embedded;
+        this.logger = logger;
+    }
+
+    @Override
+    public List<PlayerStats> load() {
+        Map<UUID, PlayerStats> loaded = new HashMap<>();
+        try (Connection conn = connections.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(embedded ? CREATE_TABLE_SQL : CREATE_TABLE_SQL + MYSQL_TABLE_OPTIONS);
+            try (ResultSet rs = stmt.executeQuery(SELECT_SQL)) {
+                while (rs.next()) {
+                    UUID playerId;
+                    try {
+                        playerId = UUID.fromString(rs.getString(1));
+                    } catch (IllegalArgumentException e) {
+                        continue;
+                    }
+                    Event.EventType type = JsonPlayerStatsStore.parseType(rs.getString(2));
+                    if (type == null) {
+                        continue;
+                    }
+                    loaded.computeIfAbsent(playerId, PlayerStats::new)
+                        .add(type, rs.getInt(3), rs.getInt(4), rs.getInt(5), rs.getLong(6));
+                }
+            }
+        } catch (SQLException e) {
+            logger.severe("Failed to load player statistics: " + e.getMessage());
+        }
+        return new ArrayList<>(loaded.values());
+    }
+
+    @Override
+    public boolean add(Collection<PlayerStats> deltas) {
+        try (Connection conn = connections.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(UPSERT_SQL)) {
+                for (PlayerStats delta : deltas) {
+                    String playerId = delta.getPlayerId().toString();
+                    for (Event.EventType type : Event.EventType.values()) {
+                        int joined = delta.getEventsJoined(type);
+                        int completed = delta.getEventsCompleted(type);
+                        int wins = delta.getWins(type);
+                        long timeSpent = delta.getTimeSpentMillis(type);
+                        if (joined == 0 && completed == 0 && wins == 0 && timeSpent == 0) {
+                            continue;
+                        }
+                        stmt.setString(1, playerId);
+                        stmt.setString(2, type.name());
+                        stmt.setInt(3, joined);
+                        stmt.setInt(4, completed);
+                        stmt.setInt(5, wins);
+                        stmt.setLong(6, timeSpent);
+                        stmt.addBatch();
+                    }
+                }
+                stmt.executeBatch();
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            logger.warning("Failed to save player statistics, will retry: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        // Connections belong to the pool
+    }
+}
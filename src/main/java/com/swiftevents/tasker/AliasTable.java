@@ -0,0 +1,93 @@
+package com.swiftevents.tasker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker's alias table (Vose's construction): draws an item with probability proportional to its
+ * weight in constant time, using one slot per item however large the weights are.
+ */
+final class AliasTable<T> {
+
+    private final List<T> items;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Items with a weight of zero or less are never drawn; the table is empty if no item has weight
+     */
+    AliasTable(List<T> items, double[] weights) {
+        if (items.size() != weights.length) {
+            throw new IllegalArgumentException("Expected one weight per item");
+        }
+        List<T> drawable = new ArrayList<>(items.size());
+        List<Double> drawableWeights = new ArrayList<>(items.size());
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0 && Double.isFinite(weights[i])) {
+                drawable.add(items.get(i));
+                drawableWeights.add(weights[i]);
+                total += weights[i];
+            }
+        }
+
+        int n = drawable.size();
+        this.items = drawable;
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+
+        // Scale so the average slot holds 1, then let each underfull slot borrow the rest from an overfull one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = drawableWeights.get(i) * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            probabilities[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probabilities[small[--smallCount]] = 1.0;
+        }
+    }
+
+    /**
+     * Draws an item, or returns null if the table is empty
+     */
+    T sample(RandomGenerator random) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        int slot = random.nextInt(items.size());
+        return random.nextDouble() < probabilities[slot] ? items.get(slot) : items.get(aliases[slot]);
+    }
+
+    boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    int size() {
+        return items.size();
+    }
+}
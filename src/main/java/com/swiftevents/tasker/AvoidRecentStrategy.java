@@ -0,0 +1,37 @@
+package com.swiftevents.tasker;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps the last few presets from being picked again right away
+ */
+public class AvoidRecentStrategy implements PresetSelectionStrategy {
+
+    private final int count;
+    private final Deque<String> recent = new ArrayDeque<>();
+
+    /**
+     * @param count how many of the most recent presets to skip; 0 allows immediate repeats
+     */
+    public AvoidRecentStrategy(int count) {
+        this.count = Math.max(0, count);
+    }
+
+    @Override
+    public synchronized double acceptance(EventPreset preset, Context context) {
+        return recent.contains(preset.getId()) ? 0.0 : 1.0;
+    }
+
+    @Override
+    public synchronized void selected(EventPreset preset) {
+        if (count == 0) {
+            return;
+        }
+        recent.remove(preset.getId());
+        recent.addLast(preset.getId());
+        while (recent.size() > count) {
+            recent.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.swiftevents.tasker;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * A standard five-field cron expression: minute, hour, day of month, month and day of week, each
+ * {@code *}, a number, a range such as {@code 9-17}, a step such as {@code 0-30/10}, or a comma
+ * separated list of those. Months and days of the week may also be given by name ({@code JAN}, {@code MON}),
+ * Sunday is 0 or 7, and {@code @hourly}, {@code @daily}, {@code @weekly}, {@code @monthly} and
+ * {@code @yearly} are accepted. As in other crons, when both the day of month and the day of week
+ * are restricted, a day matching either one matches.
+ */
+public final class CronExpression {
+
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    // Give up looking for a match this far ahead, e.g. for "0 0 30 2 *"
+    private static final int MAX_YEARS_AHEAD = 8;
+
+    private final String expression;
+    // One bit per allowed value
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean anyDayOfMonth;
+    private final boolean anyDayOfWeek;
+
+    private CronExpression(String expression, String[] fields) {
+        this.expression = expression;
+        this.minutes = parseField(fields[0], 0, 59, null);
+        this.hours = parseField(fields[1], 0, 23, null);
+        this.daysOfMonth = parseField(fields[2], 1, 31, null);
+        this.months = parseField(fields[3], 1, 12, MONTH_NAMES);
+        long days = parseField(fields[4], 0, 7, DAY_NAMES);
+        // 7 is another name for Sunday
+        this.daysOfWeek = (days | (days >>> 7)) & 0x7F;
+        this.anyDayOfMonth = fields[2].startsWith("*") || fields[2].equals("?");
+        this.anyDayOfWeek = fields[4].startsWith("*") || fields[4].equals("?");
+    }
+
+    /**
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static CronExpression parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cron expression cannot be empty");
+        }
+        String trimmed = expression.trim();
+        String expanded = switch (trimmed.toLowerCase(Locale.ROOT)) {
+            case "@hourly" -> "0 * * * *";
+            case "@daily", "@midnight" -> "0 0 * * *";
+            case "@weekly" -> "0 0 * * 0";
+            case "@monthly" -> "0 0 1 * *";
+            case "@yearly", "@annually" -> "0 0 1 1 *";
+            default -> trimmed;
+        };
+        String[] fields = expanded.split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Cron expression needs 5 fields (minute hour day month weekday): " + expression);
+        }
+        return new CronExpression(trimmed, fields);
+    }
+
+    /**
+     * The first matching minute strictly after {@code after}, or null if there is none within
+     * several years
+     */
+    public ZonedDateTime next(ZonedDateTime after) {
+        ZoneId zone = after.getZone();
+        LocalDateTime time = after.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        int lastYear = time.getYear() + MAX_YEARS_AHEAD;
+        while (time.getYear() <= lastYear) {
+            if (!has(months, time.getMonthValue())) {
+                time = time.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+                continue;
+            }
+            if (!matchesDay(time.toLocalDate())) {
+                time = time.toLocalDate().plusDays(1).atStartOfDay();
+                continue;
+            }
+            int hour = nextSet(hours, time.getHour());
+            if (hour < 0) {
+                time = time.toLocalDate().plusDays(1).atStartOfDay();
+                continue;
+            }
+            if (hour != time.getHour()) {
+                time = time.withHour(hour).withMinute(0);
+            }
+            int minute = nextSet(minutes, time.getMinute());
+            if (minute < 0) {
+                time = time.withMinute(0).plusHours(1);
+                continue;
+            }
+            ZonedDateTime candidate = time.withMinute(minute).atZone(zone);
+            // A local time repeated when clocks go back can map to before the starting point
+            if (candidate.isAfter(after)) {
+                return candidate;
+            }
+            time = time.withMinute(minute).plusMinutes(1);
+        }
+        return null;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private boolean matchesDay(LocalDate date) {
+        boolean dayOfMonth = has(daysOfMonth, date.getDayOfMonth());
+        boolean dayOfWeek = has(daysOfWeek, date.getDayOfWeek().getValue() % 7);
+        if (anyDayOfMonth || anyDayOfWeek) {
+            return dayOfMonth && dayOfWeek;
+        }
+        return dayOfMonth || dayOfWeek;
+    }
+
+    private static boolean has(long bits, int value) {
+        return (bits & (1L << value)) != 0;
+    }
+
+    // Smallest allowed value at or above from, -1 if none
+    private static int nextSet(long bits, int from) {
+        long remaining = bits & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long parseField(String field, int min, int max, String[] names) {
+        long bits = 0;
+        for (String part : field.split(",")) {
+            int step = 1;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), 1, max, null, field);
+                part = part.substring(0, slash);
+            }
+            int from;
+            int to;
+            if (part.equals("*") || part.equals("?")) {
+                from = min;
+                to = max;
+            } else {
+                int dash = part.indexOf('-');
+                if (dash > 0) {
+                    from = parseNumber(part.substring(0, dash), min, max, names, field);
+                    to = parseNumber(part.substring(dash + 1), min, max, names, field);
+                } else {
+                    from = parseNumber(part, min, max, names, field);
+                    // "5/15" means every 15 starting at 5
+                    to = slash >= 0 ? max : from;
+                }
+            }
+            if (from > to) {
+                throw new IllegalArgumentException("Invalid cron range '" + part + "' in '" + field + "'");
+            }
+            for (int value = from; value <= to; value += step) {
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    private static int parseNumber(String text, int min, int max, String[] names, String field) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(text)) {
+                    // Month names start at 1, day names at 0
+                    return i + min;
+                }
+            }
+        }
+        int value;
+        try {
+            value = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cron value '" + text + "' in '" + field + "'");
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Cron value " + value + " in '" + field + "' must be between " + min + " and " + max);
+        }
+        return value;
+    }
+}
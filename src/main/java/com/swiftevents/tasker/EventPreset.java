@@ -3,8 +3,11 @@ package com.swiftevents.tasker;
 import com.swiftevents.events.Event;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents a configurable event preset/template that can be used by the EventTasker
@@ -22,6 +25,8 @@ public class EventPreset {
     private List<String> rewards;
     private boolean enabled;
     private int weight; // Higher weight = more likely to be selected
+    private double[] timeWeights; // Weight multiplier per hour of the day, null = 1 all day
+    private RecurringSchedule schedule; // When the preset also runs on its own, null = only when picked
     
     /**
      * Creates an EventPreset from a configuration section
@@ -48,6 +53,13 @@ public class EventPreset {
         }
         this.enabled = config.getBoolean("enabled", true);
         this.weight = config.getInt("weight", 1);
+        ConfigurationSection timeWeightsSection = config.getConfigurationSection("time_weights");
+        if (timeWeightsSection != null) {
+            for (String hours : timeWeightsSection.getKeys(false)) {
+                setTimeWeight(hours, timeWeightsSection.getDouble(hours, 1.0));
+            }
+        }
+        this.schedule = parseSchedule(config);
         
         // Validate settings
         if (this.weight < 1) {
@@ -120,6 +132,25 @@ public class EventPreset {
         return weight;
     }
     
+    /**
+     * Multiplier for the weight during the given hour of the day (0-23)
+     */
+    public double getTimeWeight(int hour) {
+        return timeWeights != null ? timeWeights[hour] : 1.0;
+    }
+    
+    public boolean hasTimeWeights() {
+        return timeWeights != null;
+    }
+    
+    public RecurringSchedule getSchedule() {
+        return schedule;
+    }
+    
+    public boolean hasSchedule() {
+        return schedule != null;
+    }
+    
     // Setters
     public void setName(String name) {
         this.name = name;
@@ -157,6 +188,76 @@ public class EventPreset {
         this.weight = Math.max(1, weight);
     }
     
+    public void setSchedule(RecurringSchedule schedule) {
+        this.schedule = schedule;
+    }
+    
+    /**
+     * Sets the weight multiplier for an hour ("18") or an inclusive range of hours ("18-23", or
+     * "22-4" across midnight). Unparseable hours are ignored.
+     */
+    public void setTimeWeight(String hours, double multiplier) {
+        int from;
+        int to;
+        try {
+            int dash = hours.indexOf('-');
+            from = Integer.parseInt(hours.substring(0, dash < 0 ? hours.length() : dash).trim());
+            to = dash < 0 ? from : Integer.parseInt(hours.substring(dash + 1).trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (from < 0 || from > 23 || to < 0 || to > 23) {
+            return;
+        }
+        if (timeWeights == null) {
+            timeWeights = new double[24];
+            Arrays.fill(timeWeights, 1.0);
+        }
+        for (int hour = from; ; hour = (hour + 1) % 24) {
+            timeWeights[hour] = Math.max(0, multiplier);
+            if (hour == to) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Reads {@code schedule}, either a cron expression or a section with {@code cron} and
+     * {@code windows} by day name, each a window or a list of them
+     */
+    private static RecurringSchedule parseSchedule(ConfigurationSection config) {
+        ConfigurationSection section = config.getConfigurationSection("schedule");
+        if (section == null) {
+            String cron = config.getString("schedule");
+            return cron != null && !cron.isBlank() ? RecurringSchedule.parse(cron) : null;
+        }
+        RecurringSchedule schedule = RecurringSchedule.parse(section.getString("cron"));
+        ConfigurationSection windowsSection = section.getConfigurationSection("windows");
+        if (windowsSection != null) {
+            for (String dayName : windowsSection.getKeys(false)) {
+                DayOfWeek day = parseDay(dayName);
+                List<String> windows = windowsSection.isList(dayName)
+                    ? windowsSection.getStringList(dayName)
+                    : List.of(windowsSection.getString(dayName, ""));
+                for (String window : windows) {
+                    schedule.addWindow(day, window);
+                }
+            }
+        }
+        return schedule;
+    }
+    
+    // "friday" or "fri"
+    private static DayOfWeek parseDay(String name) {
+        String upper = name.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (upper.length() >= 3 && day.name().startsWith(upper)) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Unknown day '" + name + "' in schedule windows");
+    }
+    
     // Utility methods
     public boolean hasRewards() {
         return rewards != null && !rewards.isEmpty();
@@ -194,6 +295,7 @@ public class EventPreset {
                 ", minParticipants=" + minParticipants +
                 ", enabled=" + enabled +
                 ", weight=" + weight +
+                (schedule != null ? ", schedule='" + schedule.getCron() + '\'' : "") +
                 '}';
     }
     
@@ -3,36 +3,49 @@ package com.swiftevents.tasker;
 import com.swiftevents.SwiftEventsPlugin;
 import com.swiftevents.events.Event;
 import com.swiftevents.chat.ChatManager;
+import com.swiftevents.utils.TickProfiler;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class EventTasker {
     
+    // Schedule ids: the random-interval event, presets with their own schedule, and reminders before either
+    private static final String RANDOM_ID = "random";
+    private static final String PRESET_PREFIX = "preset:";
+    private static final String ANNOUNCE_PREFIX = "announce:";
+    // Runs handled per wake, so a long catch-up can't stall a tick; the rest follow on the next tick
+    private static final int MAX_FIRES_PER_WAKE = 100;
+    // Give players time to reconnect before catching up on events missed during a restart
+    private static final long STARTUP_DELAY_TICKS = 60 * 20L;
+    
     private final SwiftEventsPlugin plugin;
-    private BukkitTask taskerTask;
-    private BukkitTask announceTask;
+    private BukkitTask wakeTask;
+    private ScheduleStateStore stateStore;
     private long lastEventTime;
-    private long nextEventTime;
     private boolean running;
     private final Map<String, EventPreset> presets;
+    private final PresetSelector presetSelector;
+    private final RecurringScheduler scheduler;
     private final Map<String, Integer> eventCounters;
-    private final List<String> upcomingAnnouncements;
     
     public EventTasker(SwiftEventsPlugin plugin) {
         this.plugin = plugin;
         this.presets = new HashMap<>();
+        this.presetSelector = new PresetSelector(createSelectionStrategies());
+        this.scheduler = new RecurringScheduler();
         this.eventCounters = new HashMap<>();
-        this.upcomingAnnouncements = new ArrayList<>();
         this.lastEventTime = System.currentTimeMillis();
         this.running = false;
         
         loadPresets();
-        scheduleNextEvent();
     }
     
     public void start() {
@@ -41,15 +54,14 @@ public class EventTasker {
         }
         
         running = true;
-        long checkInterval = plugin.getConfigManager().getTaskerCheckInterval() * 20L; // Convert to ticks
-        
-        // Main tasker task - checks if it's time to start events
-        taskerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkEventSchedule, 0L, checkInterval);
-        
-        // Announcement task - runs every minute to check for announcements
-        announceTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkAnnouncements, 0L, 1200L); // 60 seconds
-        
-        plugin.getLogger().info("Event Tasker has been started!");
+        File dataFolder = plugin.getDataFolder();
+        // Without a data folder (tests) schedules start fresh every time
+        stateStore = dataFolder != null ? new ScheduleStateStore(dataFolder, plugin.getLogger()) : null;
+        scheduleAll(stateStore != null ? stateStore.load() : Map.of());
+        saveState();
+        scheduleWake(STARTUP_DELAY_TICKS);
+        
+        plugin.getLogger().info("Event Tasker has been started with " + scheduler.size() + " schedules!");
     }
     
     public void stop() {
@@ -59,14 +71,14 @@ public class EventTasker {
         
         running = false;
         
-        if (taskerTask != null) {
-            taskerTask.cancel();
-            taskerTask = null;
+        if (wakeTask != null) {
+            wakeTask.cancel();
+            wakeTask = null;
         }
         
-        if (announceTask != null) {
-            announceTask.cancel();
-            announceTask = null;
+        if (stateStore != null) {
+            stateStore.close();
+            stateStore = null;
         }
         
         plugin.getLogger().info("Event Tasker has been stopped!");
@@ -75,7 +87,6 @@ public class EventTasker {
     public void restart() {
         stop();
         loadPresets();
-        scheduleNextEvent();
         start();
     }
     
@@ -104,56 +115,186 @@ public class EventTasker {
             }
         }
         
+        presetSelector.rebuild(presets.values());
         plugin.getLogger().info("Loaded " + presets.size() + " event presets");
     }
     
-    private void scheduleNextEvent() {
-        if (presets.isEmpty()) {
-            return;
+    private List<PresetSelectionStrategy> createSelectionStrategies() {
+        List<PresetSelectionStrategy> strategies = new ArrayList<>();
+        strategies.add(new TimeOfDayStrategy());
+        int avoidRecent = plugin.getConfigManager().getTaskerAvoidRecent();
+        if (avoidRecent > 0) {
+            strategies.add(new AvoidRecentStrategy(avoidRecent));
+        }
+        if (plugin.getConfigManager().isTaskerPopulationAware()) {
+            strategies.add(new PopulationAwareStrategy());
+        }
+        return strategies;
+    }
+    
+    /**
+     * Queues the random-interval event and every preset schedule, resuming from the fire times
+     * saved before the last stop according to the catch-up policy
+     */
+    private void scheduleAll(Map<String, Long> saved) {
+        scheduler.clear();
+        long now = System.currentTimeMillis();
+        RecurringScheduler.CatchUp catchUp = getCatchUp();
+        long maxAge = getCatchUpMaxAgeMillis();
+        
+        if (plugin.getConfigManager().isTaskerRandomEvents() && !presets.isEmpty()) {
+            long upcoming = now + randomInterval();
+            scheduleFire(RANDOM_ID, RecurringScheduler.resumeAt(catchUp, saved.getOrDefault(RANDOM_ID, -1L), now, maxAge, upcoming), now);
+        }
+        for (EventPreset preset : presets.values()) {
+            if (!preset.hasSchedule()) {
+                continue;
+            }
+            String id = PRESET_PREFIX + preset.getId();
+            long upcoming = preset.getSchedule().next(now, ZoneId.systemDefault());
+            if (upcoming >= 0) {
+                scheduleFire(id, RecurringScheduler.resumeAt(catchUp, saved.getOrDefault(id, -1L), now, maxAge, upcoming), now);
+            }
         }
         
-        int minInterval = plugin.getConfigManager().getMinEventInterval() * 60 * 1000; // Convert to milliseconds
-        int maxInterval = plugin.getConfigManager().getMaxEventInterval() * 60 * 1000;
-        
-        long randomInterval = ThreadLocalRandom.current().nextLong(minInterval, maxInterval + 1);
-        nextEventTime = System.currentTimeMillis() + randomInterval;
-        
-        plugin.getLogger().info("Next automatic event scheduled in " + (randomInterval / 60000) + " minutes");
+        long next = getNextEventTime();
+        if (next > 0) {
+            plugin.getLogger().info("Next automatic event scheduled in " + Math.max(0, (next - now) / 60000) + " minutes");
+        }
+    }
+    
+    private long randomInterval() {
+        long minInterval = plugin.getConfigManager().getMinEventInterval() * 60 * 1000L; // Convert to milliseconds
+        long maxInterval = plugin.getConfigManager().getMaxEventInterval() * 60 * 1000L;
+        return ThreadLocalRandom.current().nextLong(minInterval, Math.max(minInterval, maxInterval) + 1);
     }
     
-    private void checkEventSchedule() {
-        if (!running || presets.isEmpty()) {
+    private RecurringScheduler.CatchUp getCatchUp() {
+        return RecurringScheduler.CatchUp.parse(plugin.getConfigManager().getTaskerCatchUp());
+    }
+    
+    private long getCatchUpMaxAgeMillis() {
+        int minutes = plugin.getConfigManager().getTaskerCatchUpMaxMinutes();
+        return (minutes > 0 ? minutes : 60) * 60 * 1000L;
+    }
+    
+    private void scheduleFire(String id, long fireAt, long now) {
+        scheduler.schedule(id, fireAt, true);
+        scheduleAnnouncement(id, fireAt, now);
+    }
+    
+    private void cancelFire(String id) {
+        scheduler.cancel(id);
+        scheduler.cancel(ANNOUNCE_PREFIX + id);
+    }
+    
+    /**
+     * Queues the next reminder for a run: one a minute from announce_time minutes before it
+     */
+    private void scheduleAnnouncement(String fireId, long fireAt, long now) {
+        String id = ANNOUNCE_PREFIX + fireId;
+        if (!plugin.getConfigManager().isAnnounceUpcoming()) {
+            scheduler.cancel(id);
             return;
         }
-        
-        long currentTime = System.currentTimeMillis();
-        
-        // Check if it's time for the next event
-        if (currentTime >= nextEventTime) {
-            createAndStartAutomaticEvent();
-            scheduleNextEvent();
+        // Whole minutes left, strictly fewer than at any reminder already sent
+        long minutesUntil = Math.min(plugin.getConfigManager().getAnnounceTime(), (fireAt - now - 1) / 60000);
+        if (minutesUntil < 1) {
+            scheduler.cancel(id);
+            return;
         }
+        scheduler.schedule(id, fireAt - minutesUntil * 60000, false);
     }
     
-    private void checkAnnouncements() {
-        if (!plugin.getConfigManager().isAnnounceUpcoming() || !running) {
+    /**
+     * Sleeps until the next run or reminder is due, or at most check_interval seconds since
+     * server ticks can fall behind the clock
+     */
+    private void scheduleWake(long minDelayTicks) {
+        if (wakeTask != null) {
+            wakeTask.cancel();
+            wakeTask = null;
+        }
+        long next = scheduler.getNextWakeTime();
+        if (!running || next < 0) {
             return;
         }
-        
-        long currentTime = System.currentTimeMillis();
-        long announceTime = plugin.getConfigManager().getAnnounceTime() * 60 * 1000; // Convert to milliseconds
-        
-        // Check if we should announce the upcoming event
-        if (nextEventTime - currentTime <= announceTime && nextEventTime - currentTime > 0) {
-            long minutesUntil = (nextEventTime - currentTime) / 60000;
-            if (minutesUntil > 0) {
-                announceUpcomingEvent(minutesUntil);
+        int checkInterval = plugin.getConfigManager().getTaskerCheckInterval();
+        long maxDelayTicks = (checkInterval > 0 ? checkInterval : 600) * 20L;
+        long delayTicks = Math.max(1, (next - System.currentTimeMillis() + 49) / 50); // Round up to whole ticks
+        delayTicks = Math.min(Math.max(delayTicks, minDelayTicks), Math.max(maxDelayTicks, minDelayTicks));
+        try {
+            wakeTask = Bukkit.getScheduler().runTaskLater(plugin, this::wake, delayTicks);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to schedule the event tasker: " + e.getMessage());
+        }
+    }
+    
+    private void wake() {
+        wakeTask = null;
+        TickProfiler.begin(TickProfiler.Subsystem.TASKER);
+        try {
+            if (!running) {
+                return;
             }
+            long now = System.currentTimeMillis();
+            if (scheduler.fireDue(now, MAX_FIRES_PER_WAKE, (id, fireAt) -> fire(id, fireAt, now)) > 0) {
+                saveState();
+            }
+        } finally {
+            TickProfiler.end(TickProfiler.Subsystem.TASKER);
         }
+        scheduleWake(0);
     }
     
-    private void createAndStartAutomaticEvent() {
-        EventPreset selectedPreset = selectRandomPreset();
+    private void fire(String id, long fireAt, long now) {
+        try {
+            if (id.startsWith(ANNOUNCE_PREFIX)) {
+                String fireId = id.substring(ANNOUNCE_PREFIX.length());
+                long eventAt = scheduler.getFireTime(fireId);
+                if (eventAt > now) {
+                    announceUpcomingEvent((eventAt - fireAt + 59999) / 60000);
+                    scheduleAnnouncement(fireId, eventAt, now);
+                }
+                return;
+            }
+            
+            // Runs missed by more than the catch-up limit are dropped, e.g. the oldest of a long ALL catch-up
+            boolean stale = now - fireAt > getCatchUpMaxAgeMillis();
+            if (id.equals(RANDOM_ID)) {
+                if (plugin.getConfigManager().isTaskerRandomEvents() && !presets.isEmpty()) {
+                    scheduleFire(RANDOM_ID, now + randomInterval(), now);
+                }
+                if (!stale) {
+                    createAndStartAutomaticEvent(selectRandomPreset());
+                }
+            } else if (id.startsWith(PRESET_PREFIX)) {
+                EventPreset preset = presets.get(id.substring(PRESET_PREFIX.length()));
+                if (preset == null || !preset.isEnabled() || !preset.hasSchedule()) {
+                    return;
+                }
+                // ALL works through missed runs one at a time; otherwise continue from now
+                long from = getCatchUp() == RecurringScheduler.CatchUp.ALL ? Math.max(fireAt, now - getCatchUpMaxAgeMillis()) : now;
+                long next = preset.getSchedule().next(from, ZoneId.systemDefault());
+                if (next >= 0) {
+                    scheduleFire(id, next, now);
+                }
+                if (!stale) {
+                    createAndStartAutomaticEvent(preset);
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to run scheduled event '" + id + "': " + e.getMessage());
+        }
+    }
+    
+    private void saveState() {
+        if (stateStore != null) {
+            stateStore.save(scheduler.snapshot());
+        }
+    }
+    
+    private void createAndStartAutomaticEvent(EventPreset selectedPreset) {
         if (selectedPreset == null) {
             plugin.getLogger().warning("No valid presets available for automatic event creation!");
             return;
@@ -204,42 +345,15 @@ public class EventTasker {
     }
     
     private EventPreset selectRandomPreset() {
-        List<EventPreset> availablePresets = new ArrayList<>();
-        
-        // Build weighted list
-        for (EventPreset preset : presets.values()) {
-            if (!preset.isEnabled()) continue;
-            
-            // Add preset multiple times based on weight
-            for (int i = 0; i < preset.getWeight(); i++) {
-                availablePresets.add(preset);
-            }
-        }
-        
-        if (availablePresets.isEmpty()) {
-            return null;
-        }
-        
-        return availablePresets.get(ThreadLocalRandom.current().nextInt(availablePresets.size()));
+        PresetSelectionStrategy.Context context = new PresetSelectionStrategy.Context(
+                Bukkit.getOnlinePlayers().size(), LocalTime.now().getHour());
+        return presetSelector.select(context, ThreadLocalRandom.current());
     }
     
     private void announceUpcomingEvent(long minutesUntil) {
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("time", String.valueOf(minutesUntil));
         String announcement = plugin.getConfigManager().getMessage("announcement_reminder", placeholders);
-        
-        // Only announce once per time slot
-        String timeKey = String.valueOf(minutesUntil);
-        if (upcomingAnnouncements.contains(timeKey)) {
-            return;
-        }
-        upcomingAnnouncements.add(timeKey);
-        
-        // Clean old announcements
-        if (upcomingAnnouncements.size() > 10) {
-            upcomingAnnouncements.clear();
-        }
-        
         Bukkit.broadcastMessage(plugin.getConfigManager().getPrefix() + announcement);
     }
     
@@ -268,12 +382,15 @@ public class EventTasker {
         return running;
     }
     
+    /**
+     * When the next automatic event is due, from the random interval or any preset schedule, or 0 if none is
+     */
     public long getNextEventTime() {
-        return nextEventTime;
+        return Math.max(0, scheduler.getNextFireTime(id -> !id.startsWith(ANNOUNCE_PREFIX)));
     }
     
     public long getTimeUntilNextEvent() {
-        return Math.max(0, nextEventTime - System.currentTimeMillis());
+        return Math.max(0, getNextEventTime() - System.currentTimeMillis());
     }
     
     public Map<String, EventPreset> getPresets() {
@@ -284,8 +401,19 @@ public class EventTasker {
         return presets.get(id);
     }
     
+    /**
+     * Adds a strategy for picking presets, on top of those from the configuration
+     */
+    public void addSelectionStrategy(PresetSelectionStrategy strategy) {
+        presetSelector.addStrategy(strategy);
+        presetSelector.rebuild(presets.values());
+    }
+    
     public void forceNextEvent() {
-        nextEventTime = System.currentTimeMillis();
+        long now = System.currentTimeMillis();
+        scheduleFire(RANDOM_ID, now, now);
+        saveState();
+        scheduleWake(0);
         plugin.getLogger().info("Next automatic event has been forced to start immediately");
     }
     
@@ -293,6 +421,18 @@ public class EventTasker {
         EventPreset preset = presets.get(presetId);
         if (preset != null) {
             preset.setEnabled(enabled);
+            presetSelector.rebuild(presets.values());
+            if (preset.hasSchedule() && running) {
+                long now = System.currentTimeMillis();
+                long next = enabled ? preset.getSchedule().next(now, ZoneId.systemDefault()) : -1;
+                if (next >= 0) {
+                    scheduleFire(PRESET_PREFIX + presetId, next, now);
+                } else {
+                    cancelFire(PRESET_PREFIX + presetId);
+                }
+                saveState();
+                scheduleWake(0);
+            }
             plugin.getConfig().set("event_tasker.presets." + presetId + ".enabled", enabled);
             plugin.saveConfig();
         }
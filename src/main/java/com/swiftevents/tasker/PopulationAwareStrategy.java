@@ -0,0 +1,12 @@
+package com.swiftevents.tasker;
+
+/**
+ * Skips presets that need more participants than there are players online
+ */
+public class PopulationAwareStrategy implements PresetSelectionStrategy {
+
+    @Override
+    public double acceptance(EventPreset preset, Context context) {
+        return preset.getMinParticipants() <= context.onlinePlayers() ? 1.0 : 0.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.swiftevents.tasker;
+
+/**
+ * Adjusts which preset the {@link EventTasker} picks for an automatic event. Presets are drawn by
+ * weight from precomputed tables; a strategy can scale the weights those tables are built from
+ * and accept or reject each draw.
+ */
+public interface PresetSelectionStrategy {
+
+    /**
+     * What is known at the moment a preset is picked
+     */
+    record Context(int onlinePlayers, int hourOfDay) {
+    }
+
+    /**
+     * Multiplier for the preset's weight. Tables are only rebuilt when presets change, one per hour
+     * of the day, so the result may depend on nothing else.
+     */
+    default double weightFactor(EventPreset preset, int hourOfDay) {
+        return 1.0;
+    }
+
+    /**
+     * Chance from 0 to 1 that a drawn preset is kept; rejected draws are drawn again
+     */
+    default double acceptance(EventPreset preset, Context context) {
+        return 1.0;
+    }
+
+    /**
+     * Called with each preset picked
+     */
+    default void selected(EventPreset preset) {
+    }
+}
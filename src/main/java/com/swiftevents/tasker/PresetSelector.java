@@ -0,0 +1,155 @@
+package com.swiftevents.tasker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks presets for automatic events by weight. Alias tables, one per distinct hourly weighting,
+ * are built when the presets change, so each pick is a constant-time draw however large the
+ * weights. Strategies that depend on the moment of the pick filter draws by rejection instead of
+ * forcing a rebuild.
+ */
+public class PresetSelector {
+
+    // Draws before falling back to a pass over all presets, for when strategies reject most of them
+    private static final int MAX_DRAWS = 32;
+
+    private final List<PresetSelectionStrategy> strategies = new CopyOnWriteArrayList<>();
+    private List<EventPreset> presets = List.of();
+    private List<AliasTable<EventPreset>> tablesByHour = List.of();
+
+    public PresetSelector(Collection<? extends PresetSelectionStrategy> strategies) {
+        this.strategies.addAll(strategies);
+    }
+
+    /**
+     * Adds a strategy; takes effect with the next {@link #rebuild}
+     */
+    public void addStrategy(PresetSelectionStrategy strategy) {
+        strategies.add(strategy);
+    }
+
+    /**
+     * Rebuilds the tables from the enabled presets; call whenever presets, their weights or
+     * whether they are enabled change
+     */
+    public synchronized void rebuild(Collection<EventPreset> candidates) {
+        List<EventPreset> enabled = new ArrayList<>(candidates.size());
+        for (EventPreset preset : candidates) {
+            if (preset.isEnabled()) {
+                enabled.add(preset);
+            }
+        }
+
+        List<AliasTable<EventPreset>> tables = new ArrayList<>(24);
+        List<double[]> distinctWeights = new ArrayList<>();
+        List<AliasTable<EventPreset>> distinctTables = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            double[] weights = new double[enabled.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = weight(enabled.get(i), hour);
+            }
+            // Most hours weigh presets the same way; they share one table
+            int existing = -1;
+            for (int i = 0; i < distinctWeights.size() && existing < 0; i++) {
+                if (Arrays.equals(distinctWeights.get(i), weights)) {
+                    existing = i;
+                }
+            }
+            if (existing < 0) {
+                distinctWeights.add(weights);
+                distinctTables.add(new AliasTable<>(enabled, weights));
+                existing = distinctTables.size() - 1;
+            }
+            tables.add(distinctTables.get(existing));
+        }
+        this.presets = enabled;
+        this.tablesByHour = tables;
+    }
+
+    /**
+     * Picks a preset, or returns null if no enabled preset has any weight at this hour. If the
+     * strategies reject every preset, they are ignored for this pick.
+     */
+    public synchronized EventPreset select(PresetSelectionStrategy.Context context, RandomGenerator random) {
+        if (tablesByHour.isEmpty()) {
+            return null;
+        }
+        AliasTable<EventPreset> table = tablesByHour.get(Math.floorMod(context.hourOfDay(), 24));
+        if (table.isEmpty()) {
+            return null;
+        }
+
+        EventPreset selected = null;
+        for (int draw = 0; draw < MAX_DRAWS && selected == null; draw++) {
+            EventPreset candidate = table.sample(random);
+            double acceptance = acceptance(candidate, context);
+            if (acceptance >= 1.0 || (acceptance > 0 && random.nextDouble() < acceptance)) {
+                selected = candidate;
+            }
+        }
+        if (selected == null) {
+            selected = selectExactly(context, random);
+        }
+        if (selected == null) {
+            selected = table.sample(random);
+        }
+
+        for (PresetSelectionStrategy strategy : strategies) {
+            strategy.selected(selected);
+        }
+        return selected;
+    }
+
+    public synchronized int getPresetCount() {
+        return presets.size();
+    }
+
+    // The same distribution as drawing until accepted, by one pass over all presets
+    private EventPreset selectExactly(PresetSelectionStrategy.Context context, RandomGenerator random) {
+        double[] weights = new double[presets.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            EventPreset preset = presets.get(i);
+            weights[i] = weight(preset, context.hourOfDay()) * acceptance(preset, context);
+            total += weights[i];
+        }
+        if (!(total > 0)) {
+            return null;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0 && weights[i] > 0) {
+                return presets.get(i);
+            }
+        }
+        // Rounding left a sliver at the end
+        for (int i = weights.length - 1; i >= 0; i--) {
+            if (weights[i] > 0) {
+                return presets.get(i);
+            }
+        }
+        return null;
+    }
+
+    private double weight(EventPreset preset, int hour) {
+        double weight = preset.getWeight();
+        for (PresetSelectionStrategy strategy : strategies) {
+            weight *= strategy.weightFactor(preset, Math.floorMod(hour, 24));
+        }
+        return weight;
+    }
+
+    private double acceptance(EventPreset preset, PresetSelectionStrategy.Context context) {
+        double acceptance = 1.0;
+        for (PresetSelectionStrategy strategy : strategies) {
+            acceptance *= strategy.acceptance(preset, context);
+        }
+        return acceptance;
+    }
+}
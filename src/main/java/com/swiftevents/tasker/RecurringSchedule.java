@@ -0,0 +1,149 @@
+package com.swiftevents.tasker;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * When a preset runs on its own: a cron expression, optionally limited to time windows on each
+ * day of the week. A window such as {@code 18:00-23:00} includes its start and excludes its end;
+ * one whose end is before its start runs past midnight into the next day. Days without windows are
+ * closed once any window is set.
+ */
+public final class RecurringSchedule {
+
+    // Jumps between windows before giving up, e.g. for a cron that never falls inside them
+    private static final int MAX_WINDOW_JUMPS = 2000;
+
+    private final CronExpression cron;
+    private final Map<DayOfWeek, List<Window>> windows = new EnumMap<>(DayOfWeek.class);
+
+    public RecurringSchedule(CronExpression cron) {
+        this.cron = cron;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cron expression is not valid
+     */
+    public static RecurringSchedule parse(String cron) {
+        return new RecurringSchedule(CronExpression.parse(cron));
+    }
+
+    /**
+     * Adds a window such as {@code 18:00-23:00} on the given day
+     *
+     * @throws IllegalArgumentException if the window is not in HH:mm-HH:mm form or is empty
+     */
+    public void addWindow(DayOfWeek day, String window) {
+        int dash = window.indexOf('-');
+        if (dash < 0) {
+            throw new IllegalArgumentException("Window must look like 18:00-23:00: " + window);
+        }
+        int start = parseMinuteOfDay(window.substring(0, dash).trim(), window);
+        int end = parseMinuteOfDay(window.substring(dash + 1).trim(), window);
+        if (start == end || start == 24 * 60) {
+            throw new IllegalArgumentException("Window is empty: " + window);
+        }
+        windows.computeIfAbsent(day, d -> new ArrayList<>()).add(new Window(start, end));
+    }
+
+    public CronExpression getCron() {
+        return cron;
+    }
+
+    public boolean hasWindows() {
+        return !windows.isEmpty();
+    }
+
+    /**
+     * Whether the windows allow a run at this time; always true without windows
+     */
+    public boolean isOpen(LocalDateTime time) {
+        if (windows.isEmpty()) {
+            return true;
+        }
+        int minute = time.getHour() * 60 + time.getMinute();
+        for (Window window : windows.getOrDefault(time.getDayOfWeek(), List.of())) {
+            if (window.crossesMidnight() ? minute >= window.start : minute >= window.start && minute < window.end) {
+                return true;
+            }
+        }
+        for (Window window : windows.getOrDefault(time.getDayOfWeek().minus(1), List.of())) {
+            if (window.crossesMidnight() && minute < window.end) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The next run strictly after the given time, in epoch milliseconds, or -1 if there is none
+     */
+    public long next(long afterMillis, ZoneId zone) {
+        ZonedDateTime time = Instant.ofEpochMilli(afterMillis).atZone(zone);
+        for (int jump = 0; jump < MAX_WINDOW_JUMPS; jump++) {
+            time = cron.next(time);
+            if (time == null) {
+                return -1;
+            }
+            if (isOpen(time.toLocalDateTime())) {
+                return time.toInstant().toEpochMilli();
+            }
+            // Skip the cron times until the next window opens
+            LocalDateTime opening = nextOpening(time.toLocalDateTime());
+            if (opening == null) {
+                return -1;
+            }
+            time = opening.minusMinutes(1).atZone(zone);
+        }
+        return -1;
+    }
+
+    private LocalDateTime nextOpening(LocalDateTime after) {
+        LocalDate date = after.toLocalDate();
+        LocalDateTime earliest = null;
+        // Every window opens again within a week
+        for (int days = 0; days <= 7; days++) {
+            LocalDate day = date.plusDays(days);
+            for (Window window : windows.getOrDefault(day.getDayOfWeek(), List.of())) {
+                LocalDateTime start = day.atTime(LocalTime.of(window.start / 60, window.start % 60));
+                if (start.isAfter(after) && (earliest == null || start.isBefore(earliest))) {
+                    earliest = start;
+                }
+            }
+            if (earliest != null) {
+                return earliest;
+            }
+        }
+        return null;
+    }
+
+    private static int parseMinuteOfDay(String time, String window) {
+        int colon = time.indexOf(':');
+        try {
+            int hour = Integer.parseInt(colon < 0 ? time : time.substring(0, colon));
+            int minute = colon < 0 ? 0 : Integer.parseInt(time.substring(colon + 1));
+            // 24:00 is the end of the day
+            if (hour >= 0 && minute >= 0 && minute < 60 && (hour < 24 || hour == 24 && minute == 0)) {
+                return hour * 60 + minute;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid time '" + time + "' in window " + window);
+    }
+
+    private record Window(int start, int end) {
+        boolean crossesMidnight() {
+            return end < start;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.swiftevents.tasker;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Fire times of everything the tasker runs, kept in a priority queue so the tasker only needs to
+ * wake up for the earliest one. Rescheduling or cancelling leaves the old queue entry behind and
+ * skips it when it comes up, which keeps both O(log n).
+ */
+class RecurringScheduler {
+
+    /**
+     * What to do on startup with a run that was due while the server was down
+     */
+    enum CatchUp {
+        /** Wait for the next regular run */
+        SKIP,
+        /** Run once now, however many runs were missed */
+        ONCE,
+        /** Run every missed occurrence */
+        ALL;
+
+        static CatchUp parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return ONCE;
+            }
+        }
+    }
+
+    /**
+     * Called for each due entry, after it was removed; may schedule the next run
+     */
+    @FunctionalInterface
+    interface FireHandler {
+        void fire(String id, long fireAt);
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(Entry::fireAt));
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Schedules an entry, replacing any earlier one with the same id. Only persistent entries are
+     * part of {@link #snapshot()}.
+     */
+    synchronized void schedule(String id, long fireAt, boolean persistent) {
+        Entry entry = new Entry(id, fireAt, persistent);
+        entries.put(id, entry);
+        queue.add(entry);
+        // Drop stale entries once they outnumber the live ones
+        if (queue.size() > 2 * entries.size() + 64) {
+            queue.clear();
+            queue.addAll(entries.values());
+        }
+    }
+
+    synchronized boolean cancel(String id) {
+        return entries.remove(id) != null;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        queue.clear();
+    }
+
+    /**
+     * The fire time of an entry, or -1 if it is not scheduled
+     */
+    synchronized long getFireTime(String id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.fireAt : -1;
+    }
+
+    /**
+     * The earliest fire time of any entry, or -1 if nothing is scheduled
+     */
+    synchronized long getNextWakeTime() {
+        Entry head = liveHead();
+        return head != null ? head.fireAt : -1;
+    }
+
+    /**
+     * The earliest fire time among entries whose id matches, or -1 if there is none
+     */
+    synchronized long getNextFireTime(Predicate<String> ids) {
+        long earliest = -1;
+        for (Entry entry : entries.values()) {
+            if (ids.test(entry.id) && (earliest < 0 || entry.fireAt < earliest)) {
+                earliest = entry.fireAt;
+            }
+        }
+        return earliest;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes and hands over entries due at {@code now}, earliest first, at most {@code limit} of
+     * them; entries the handler schedules at or before {@code now} are included
+     *
+     * @return the number of entries fired
+     */
+    synchronized int fireDue(long now, int limit, FireHandler handler) {
+        int fired = 0;
+        while (fired < limit) {
+            Entry head = liveHead();
+            if (head == null || head.fireAt > now) {
+                break;
+            }
+            queue.poll();
+            entries.remove(head.id);
+            fired++;
+            handler.fire(head.id, head.fireAt);
+        }
+        return fired;
+    }
+
+    /**
+     * Fire times of the persistent entries, by id
+     */
+    synchronized Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            if (entry.persistent) {
+                snapshot.put(entry.id, entry.fireAt);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * When to resume a schedule on startup
+     *
+     * @param saved the fire time saved before the restart, or -1 if there was none
+     * @param maxAgeMillis missed runs older than this are not caught up
+     * @param upcoming the next regular run from now
+     */
+    static long resumeAt(CatchUp policy, long saved, long now, long maxAgeMillis, long upcoming) {
+        if (saved < 0) {
+            return upcoming;
+        }
+        if (saved > now) {
+            return saved;
+        }
+        if (policy == CatchUp.SKIP || now - saved > maxAgeMillis) {
+            return upcoming;
+        }
+        return policy == CatchUp.ONCE ? now : saved;
+    }
+
+    private Entry liveHead() {
+        Entry head = queue.peek();
+        while (head != null && entries.get(head.id) != head) {
+            queue.poll();
+            head = queue.peek();
+        }
+        return head;
+    }
+
+    private record Entry(String id, long fireAt, boolean persistent) {
+    }
+}
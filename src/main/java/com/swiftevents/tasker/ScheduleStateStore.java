@@ -0,0 +1,119 @@
+package com.swiftevents.tasker;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the next fire time of every recurring schedule in a small JSON file, so a restart knows
+ * which runs it missed. Saves are written on a background thread; when several arrive while one is
+ * being written only the latest is kept. The file is replaced atomically, so a crash leaves either
+ * the old or the new state.
+ */
+class ScheduleStateStore {
+
+    static final String STATE_FILE = "schedules.json";
+    private static final Type STATE_TYPE = new TypeToken<Map<String, Long>>() { }.getType();
+
+    private final File stateFile;
+    private final Gson gson = new Gson();
+    private final Logger logger;
+    private final ExecutorService writer;
+    private final AtomicReference<Map<String, Long>> pending = new AtomicReference<>();
+
+    ScheduleStateStore(File dataFolder, Logger logger) {
+        this.stateFile = new File(dataFolder, STATE_FILE);
+        this.logger = logger;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SwiftEvents-Schedules");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Reads the saved fire times, by schedule id; empty if there are none or the file is unreadable
+     */
+    Map<String, Long> load() {
+        if (!stateFile.exists()) {
+            return new HashMap<>();
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(stateFile), StandardCharsets.UTF_8))) {
+            Map<String, Long> state = gson.fromJson(reader, STATE_TYPE);
+            if (state == null) {
+                return new HashMap<>();
+            }
+            state.values().removeIf(Objects::isNull);
+            return state;
+        } catch (IOException | JsonParseException e) {
+            logger.warning("Failed to read " + STATE_FILE + ", missed scheduled events will not be caught up: " + e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Saves the fire times in the background, replacing whatever was saved before
+     */
+    void save(Map<String, Long> fireTimes) {
+        if (pending.getAndSet(new HashMap<>(fireTimes)) != null) {
+            // A write is already queued and will pick this up
+            return;
+        }
+        try {
+            writer.execute(this::writePending);
+        } catch (RejectedExecutionException e) {
+            logger.warning("Schedule state store is closed; schedule state was not saved");
+        }
+    }
+
+    /**
+     * Writes the last save and stops the writer thread
+     */
+    void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Timed out saving schedule state");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending() {
+        Map<String, Long> state = pending.getAndSet(null);
+        if (state == null) {
+            return;
+        }
+        File tempFile = new File(stateFile.getParentFile(), STATE_FILE + ".tmp");
+        try {
+            stateFile.getParentFile().mkdirs();
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+                gson.toJson(state, STATE_TYPE, out);
+            }
+            try {
+                Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save " + STATE_FILE + ": " + e.getMessage());
+        }
+    }
+}
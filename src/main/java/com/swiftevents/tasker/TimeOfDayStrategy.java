@@ -0,0 +1,12 @@
+package com.swiftevents.tasker;
+
+/**
+ * Applies each preset's {@code time_weights}, so presets can be more or less likely at certain hours
+ */
+public class TimeOfDayStrategy implements PresetSelectionStrategy {
+
+    @Override
+    public double weightFactor(EventPreset preset, int hourOfDay) {
+        return preset.getTimeWeight(hourOfDay);
+    }
+}
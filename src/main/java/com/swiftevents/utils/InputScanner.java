@@ -0,0 +1,487 @@
+package com.swiftevents.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Sanitizes text and detects forbidden patterns in a single pass, replacing chains of regexes and
+ * {@code contains} calls that each walked the whole input.
+ * <p>
+ * All patterns go into one Aho-Corasick automaton, built once and matched case-insensitively. Removed
+ * patterns are cut from the output as soon as they are complete, and matching resumes from the state
+ * before them, so text that only forms a pattern once something inside it is removed (such as
+ * {@code "javajavascript:script:"}) is removed as well. Rejected patterns are looked for in either the
+ * input or the sanitized output, as configured.
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ */
+public final class InputScanner {
+
+    private static final int LITERAL = 0;
+    // <prefix ... up to and including the next '>'
+    private static final int TAG = 1;
+    // <name ...> ... </name> on one line
+    private static final int ELEMENT = 2;
+    // '=' preceded by optional whitespace and a word containing the prefix followed by more word characters
+    private static final int ASSIGNMENT = 3;
+
+    private static final int[] NO_RULES = new int[0];
+
+    private final byte[] charClasses;
+    private final int classCount;
+    // Transitions of the complete automaton, indexed by state * classCount + char class
+    private final int[] transitions;
+    // Removal rules whose trigger ends in each state, longest first, and whether a rejected pattern ends there
+    private final int[][] removals;
+    private final boolean[] rejects;
+    private final int[] ruleKinds;
+    private final int[] ruleLengths;
+    // Closing tag of an element, prefix of an assignment
+    private final String[] ruleArguments;
+    private final boolean removeControlCharacters;
+    private final boolean rejectOnOutput;
+
+    private InputScanner(Builder builder) {
+        this.removeControlCharacters = builder.removeControlCharacters;
+        this.rejectOnOutput = builder.rejectOnOutput;
+
+        List<String> patterns = new ArrayList<>();
+        for (Rule rule : builder.rules) {
+            patterns.add(rule.trigger);
+        }
+        patterns.addAll(builder.rejected);
+
+        // Only characters that appear in a pattern get their own class; everything else shares class 0
+        this.charClasses = new byte[128];
+        int classes = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = fold(pattern.charAt(i));
+                if (c < 0) {
+                    throw new IllegalArgumentException("Patterns must be ASCII: " + pattern);
+                }
+                if (charClasses[c] == 0) {
+                    charClasses[c] = (byte) classes++;
+                }
+            }
+        }
+        if (classes > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many distinct pattern characters");
+        }
+        this.classCount = classes;
+
+        // Trie of all patterns, remembering which rules and rejects end in each state
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ending = new ArrayList<>();
+        List<Boolean> rejecting = new ArrayList<>();
+        trie.add(newRow(classes));
+        ending.add(new ArrayList<>());
+        rejecting.add(false);
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int charClass = charClasses[fold(pattern.charAt(i))];
+                int next = trie.get(state)[charClass];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[charClass] = next;
+                    trie.add(newRow(classes));
+                    ending.add(new ArrayList<>());
+                    rejecting.add(false);
+                }
+                state = next;
+            }
+            if (p < builder.rules.size()) {
+                ending.get(state).add(p);
+            } else {
+                rejecting.set(state, true);
+            }
+        }
+
+        // Breadth-first: fill in failure transitions and inherit what ends in each state's failure state
+        int states = trie.size();
+        this.transitions = new int[states * classes];
+        List<List<Integer>> inherited = new ArrayList<>(ending);
+        boolean[] rejectFlags = new boolean[states];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int charClass = 0; charClass < classes; charClass++) {
+            int next = trie.get(0)[charClass];
+            if (next < 0) {
+                transitions[charClass] = 0;
+            } else {
+                transitions[charClass] = next;
+                queue.add(next);
+            }
+        }
+        rejectFlags[0] = rejecting.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> rules = new ArrayList<>(ending.get(state));
+            rules.addAll(inherited.get(failure[state]));
+            inherited.set(state, rules);
+            rejectFlags[state] = rejecting.get(state) || rejectFlags[failure[state]];
+            for (int charClass = 0; charClass < classes; charClass++) {
+                int next = trie.get(state)[charClass];
+                int fallback = transitions[failure[state] * classes + charClass];
+                if (next < 0) {
+                    transitions[state * classes + charClass] = fallback;
+                } else {
+                    transitions[state * classes + charClass] = next;
+                    failure[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+        this.rejects = rejectFlags;
+
+        int ruleCount = builder.rules.size();
+        this.ruleKinds = new int[ruleCount];
+        this.ruleLengths = new int[ruleCount];
+        this.ruleArguments = new String[ruleCount];
+        for (int r = 0; r < ruleCount; r++) {
+            Rule rule = builder.rules.get(r);
+            ruleKinds[r] = rule.kind;
+            ruleLengths[r] = rule.trigger.length();
+            ruleArguments[r] = rule.argument;
+        }
+        this.removals = new int[states][];
+        for (int state = 0; state < states; state++) {
+            List<Integer> rules = inherited.get(state);
+            if (rules.isEmpty()) {
+                removals[state] = NO_RULES;
+            } else {
+                removals[state] = rules.stream()
+                    .sorted((a, b) -> Integer.compare(ruleLengths[b], ruleLengths[a]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the text contains a rejected pattern, without sanitizing it
+     */
+    public boolean containsRejected(CharSequence input) {
+        if (input == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            state = next(state, input.charAt(i));
+            if (rejects[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sanitizes the text and checks it for rejected patterns in the same pass
+     */
+    public Result scan(String input) {
+        if (input == null) {
+            return Result.EMPTY;
+        }
+        int length = input.length();
+        char[] output = new char[length];
+        // Automaton state after each output length, so a removal can rewind to where it started
+        int[] states = new int[length + 1];
+        // Output lengths at which a rejected pattern ended; removals drop those they cut off
+        int[] rejectEnds = rejectOnOutput ? new int[length] : null;
+        int rejectCount = 0;
+        int inputState = 0;
+        int outputLength = 0;
+        int i = 0;
+        while (i < length) {
+            char c = input.charAt(i++);
+            if (!rejectOnOutput) {
+                inputState = next(inputState, c);
+                if (rejects[inputState]) {
+                    return Result.REJECTED;
+                }
+            }
+            if (removeControlCharacters && (c < 0x20 || c == 0x7F)) {
+                continue;
+            }
+            output[outputLength] = c;
+            int state = next(states[outputLength], c);
+            states[++outputLength] = state;
+
+            // Remove whatever now ends the output, then check again from the state before it
+            boolean removed = false;
+            int rule;
+            while ((rule = findRemoval(state, output, outputLength, input, i)) >= 0) {
+                int end = extend(rule, input, i);
+                outputLength = removalStart(rule, output, outputLength);
+                if (!rejectOnOutput) {
+                    // The input automaton has to see what a removal skipped over
+                    for (int j = i; j < end; j++) {
+                        inputState = next(inputState, input.charAt(j));
+                        if (rejects[inputState]) {
+                            return Result.REJECTED;
+                        }
+                    }
+                }
+                i = end;
+                state = states[outputLength];
+                while (rejectCount > 0 && rejectEnds[rejectCount - 1] > outputLength) {
+                    rejectCount--;
+                }
+                removed = true;
+            }
+            if (!removed && rejectOnOutput && rejects[state]) {
+                rejectEnds[rejectCount++] = outputLength;
+            }
+        }
+        if (rejectCount > 0) {
+            return Result.REJECTED;
+        }
+
+        int start = 0;
+        while (start < outputLength && output[start] <= ' ') {
+            start++;
+        }
+        while (outputLength > start && output[outputLength - 1] <= ' ') {
+            outputLength--;
+        }
+        if (start == outputLength) {
+            return Result.EMPTY;
+        }
+        if (start == 0 && outputLength == length) {
+            return new Result(input, false);
+        }
+        return new Result(new String(output, start, outputLength - start), false);
+    }
+
+    // Longest removal rule ending in this state that applies to the input following it
+    private int findRemoval(int state, char[] output, int outputLength, String input, int from) {
+        for (int rule : removals[state]) {
+            if (removalStart(rule, output, outputLength) >= 0 && extend(rule, input, from) >= 0) {
+                return rule;
+            }
+        }
+        return -1;
+    }
+
+    // Output index where the removal starts, -1 if the rule doesn't apply to what precedes its trigger
+    private int removalStart(int rule, char[] output, int outputLength) {
+        if (ruleKinds[rule] != ASSIGNMENT) {
+            return outputLength - ruleLengths[rule];
+        }
+        // Looked for backwards from the '=', so the word is seen as it is after earlier removals
+        int wordEnd = outputLength - 1;
+        while (wordEnd > 0 && isWhitespace(output[wordEnd - 1])) {
+            wordEnd--;
+        }
+        int wordStart = wordEnd;
+        while (wordStart > 0 && isWordCharacter(output[wordStart - 1])) {
+            wordStart--;
+        }
+        String prefix = ruleArguments[rule];
+        for (int start = wordStart; start + prefix.length() < wordEnd; start++) {
+            if (regionMatches(output, start, prefix)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    // Input index just past the removed text when the rule's trigger is followed by from, -1 if it doesn't apply
+    private int extend(int rule, String input, int from) {
+        int length = input.length();
+        switch (ruleKinds[rule]) {
+            case TAG: {
+                int close = input.indexOf('>', from);
+                return close < 0 ? -1 : close + 1;
+            }
+            case ELEMENT: {
+                int open = input.indexOf('>', from);
+                if (open < 0) {
+                    return -1;
+                }
+                String closing = ruleArguments[rule];
+                for (int j = open + 1; j < length; j++) {
+                    char c = input.charAt(j);
+                    if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                        return -1;
+                    }
+                    if (input.regionMatches(true, j, closing, 0, closing.length())) {
+                        return j + closing.length();
+                    }
+                }
+                return -1;
+            }
+            default:
+                return from;
+        }
+    }
+
+    private static boolean regionMatches(char[] output, int start, String pattern) {
+        for (int j = 0; j < pattern.length(); j++) {
+            if (fold(output[start + j]) != fold(pattern.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private int next(int state, char c) {
+        int folded = fold(c);
+        return transitions[state * classCount + (folded < 0 ? 0 : charClasses[folded])];
+    }
+
+    // ASCII letters are matched case-insensitively; other non-ASCII characters never match a pattern
+    private static int fold(char c) {
+        if (c >= 128) {
+            c = Character.toLowerCase(c);
+            return c < 128 ? c : -1;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static int[] newRow(int classes) {
+        int[] row = new int[classes];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    /**
+     * Outcome of {@link #scan(String)}: the sanitized, trimmed text, or a rejection
+     */
+    public static final class Result {
+
+        static final Result EMPTY = new Result("", false);
+        static final Result REJECTED = new Result(null, true);
+
+        private final String text;
+        private final boolean rejected;
+
+        private Result(String text, boolean rejected) {
+            this.text = text;
+            this.rejected = rejected;
+        }
+
+        /**
+         * The sanitized text, trimmed; empty if nothing was left, null if rejected
+         */
+        public String getText() {
+            return text;
+        }
+
+        public boolean isRejected() {
+            return rejected;
+        }
+    }
+
+    private static final class Rule {
+        private final String trigger;
+        private final int kind;
+        private final String argument;
+
+        Rule(String trigger, int kind, String argument) {
+            this.trigger = trigger;
+            this.kind = kind;
+            this.argument = argument;
+        }
+    }
+
+    public static final class Builder {
+        private final List<Rule> rules = new ArrayList<>();
+        private final List<String> rejected = new ArrayList<>();
+        private boolean removeControlCharacters;
+        private boolean rejectOnOutput;
+
+        private Builder() {
+        }
+
+        /**
+         * Removes every occurrence of these strings
+         */
+        public Builder remove(String... patterns) {
+            for (String pattern : patterns) {
+                rules.add(new Rule(requireNonEmpty(pattern), LITERAL, null));
+            }
+            return this;
+        }
+
+        /**
+         * Removes markup tags: {@code <} up to and including the next {@code >}
+         */
+        public Builder removeTags() {
+            rules.add(new Rule("<", TAG, null));
+            return this;
+        }
+
+        /**
+         * Removes an element with its content, such as {@code <script src=x>...</script>}, when it
+         * opens and closes on the same line
+         */
+        public Builder removeElement(String name) {
+            rules.add(new Rule("<" + requireNonEmpty(name), ELEMENT, "</" + name + ">"));
+            return this;
+        }
+
+        /**
+         * Removes assignments to names starting with the prefix, such as {@code onclick =} for "on"
+         */
+        public Builder removeAssignments(String prefix) {
+            rules.add(new Rule("=", ASSIGNMENT, requireNonEmpty(prefix)));
+            return this;
+        }
+
+        /**
+         * Removes ASCII control characters before anything else is matched
+         */
+        public Builder removeControlCharacters() {
+            this.removeControlCharacters = true;
+            return this;
+        }
+
+        /**
+         * Rejects text containing any of these strings
+         */
+        public Builder reject(String... patterns) {
+            for (String pattern : patterns) {
+                rejected.add(requireNonEmpty(pattern));
+            }
+            return this;
+        }
+
+        /**
+         * Looks for rejected patterns in the sanitized text instead of the input, so removed content
+         * is not rejected
+         */
+        public Builder rejectOnOutput() {
+            this.rejectOnOutput = true;
+            return this;
+        }
+
+        public InputScanner build() {
+            return new InputScanner(this);
+        }
+
+        private static String requireNonEmpty(String pattern) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("Patterns cannot be empty");
+            }
+            return pattern;
+        }
+    }
+}
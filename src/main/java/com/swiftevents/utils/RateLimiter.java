@@ -0,0 +1,147 @@
+package com.swiftevents.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter allowing each key {@code permits} actions per window, with bursts of up to
+ * {@code permits} and a steady refill in between - a token bucket.
+ * <p>
+ * A key's bucket is kept as one number, the time at which it would be full again, so a check
+ * allocates nothing once its key is known. Keys are spread over lock stripes, so callers for
+ * different keys rarely wait on each other, and a key whose bucket is full again carries no
+ * information and is dropped when its stripe is next swept.
+ */
+public final class RateLimiter<K> {
+
+    private static final int STRIPES = 16;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final int permits;
+    private final long windowNanos;
+    // Time one permit takes to refill, and how far ahead of now a bucket may be full and still allow an action
+    private final long refillNanos;
+    private final long toleranceNanos;
+    private final LongSupplier clock;
+    private final Stripe<K>[] stripes;
+
+    public RateLimiter(int permits, long windowMillis) {
+        this(permits, windowMillis, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    RateLimiter(int permits, long windowMillis, LongSupplier clock) {
+        if (permits < 1 || windowMillis < 1) {
+            throw new IllegalArgumentException("A rate limit needs at least one permit per positive window");
+        }
+        this.permits = permits;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.refillNanos = windowNanos / permits;
+        this.toleranceNanos = windowNanos - refillNanos;
+        this.clock = clock;
+        this.stripes = new Stripe[STRIPES];
+        long nextSweep = clock.getAsLong() + SWEEP_INTERVAL_NANOS;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(nextSweep);
+        }
+    }
+
+    /**
+     * Takes a permit for the key if one is available
+     */
+    public boolean tryAcquire(K key) {
+        long now = clock.getAsLong();
+        Stripe<K> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.sweepIfDue(now);
+            Bucket bucket = stripe.buckets.get(key);
+            long fullAt = bucket != null && bucket.fullAt - now > 0 ? bucket.fullAt : now;
+            if (fullAt - now > toleranceNanos) {
+                return false;
+            }
+            if (bucket == null) {
+                bucket = new Bucket();
+                stripe.buckets.put(key, bucket);
+            }
+            bucket.fullAt = fullAt + refillNanos;
+            return true;
+        }
+    }
+
+    /**
+     * How long until the key has a permit again, 0 if it has one now
+     */
+    public long getRetryAfterMillis(K key) {
+        long now = clock.getAsLong();
+        Stripe<K> stripe = stripeFor(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                return 0;
+            }
+            long waitNanos = bucket.fullAt - now - toleranceNanos;
+            // Rounded up, so waiting the returned time is always enough
+            return waitNanos > 0 ? TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999) : 0;
+        }
+    }
+
+    /**
+     * Gives the key its full number of permits back
+     */
+    public void reset(K key) {
+        Stripe<K> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.buckets.remove(key);
+        }
+    }
+
+    /**
+     * Number of keys currently tracked; keys idle for a full window are not counted once swept
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public long getWindowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(windowNanos);
+    }
+
+    private Stripe<K> stripeFor(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Bucket {
+        private long fullAt;
+    }
+
+    private static final class Stripe<K> {
+        private final Map<K, Bucket> buckets = new HashMap<>();
+        private long nextSweep;
+
+        Stripe(long nextSweep) {
+            this.nextSweep = nextSweep;
+        }
+
+        // Full buckets behave exactly like missing ones, so dropping them changes nothing
+        void sweepIfDue(long now) {
+            if (now - nextSweep < 0) {
+                return;
+            }
+            nextSweep = now + SWEEP_INTERVAL_NANOS;
+            buckets.values().removeIf(bucket -> bucket.fullAt - now <= 0);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.swiftevents.utils;
+
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.permissions.Permissions;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The plugin's per-player rate limits, one {@link RateLimiter} per kind of action. Limits are
+ * read from {@code advanced.rate_limits} when the plugin starts.
+ */
+public class RateLimits {
+
+    public enum Action {
+        // Any /swiftevent command
+        COMMAND("commands", 10, 5000),
+        // Clicks in plugin GUIs; one per 250 ms stops accidental double clicks
+        GUI_CLICK("gui_clicks", 1, 250),
+        // Joining or leaving an event, from commands, GUIs or the API; each one saves the event
+        JOIN_LEAVE("join_leave", 5, 10000),
+        TELEPORT("teleports", 1, 5000);
+
+        private final String configKey;
+        private final int defaultPermits;
+        private final long defaultWindowMillis;
+
+        Action(String configKey, int defaultPermits, long defaultWindowMillis) {
+            this.configKey = configKey;
+            this.defaultPermits = defaultPermits;
+            this.defaultWindowMillis = defaultWindowMillis;
+        }
+
+        public String getConfigKey() {
+            return configKey;
+        }
+
+        public int getDefaultPermits() {
+            return defaultPermits;
+        }
+
+        public long getDefaultWindowMillis() {
+            return defaultWindowMillis;
+        }
+    }
+
+    private final ConfigManager configManager;
+    private final Map<Action, RateLimiter<UUID>> limiters = new EnumMap<>(Action.class);
+
+    public RateLimits(ConfigManager configManager) {
+        this.configManager = configManager;
+        for (Action action : Action.values()) {
+            int permits = configManager.getRateLimitPermits(action);
+            long windowMillis = configManager.getRateLimitWindowMillis(action);
+            limiters.put(action, new RateLimiter<>(
+                permits > 0 ? permits : action.getDefaultPermits(),
+                windowMillis > 0 ? windowMillis : action.getDefaultWindowMillis()));
+        }
+    }
+
+    /**
+     * Whether the player may perform the action now; counts the action if so
+     */
+    public boolean tryAcquire(Action action, UUID playerId) {
+        return limiters.get(action).tryAcquire(playerId);
+    }
+
+    /**
+     * Like {@link #tryAcquire(Action, UUID)}, but tells the player how long to wait when refused.
+     * Players with the bypass permission are never limited here.
+     */
+    public boolean tryAcquire(Action action, Player player) {
+        if (player.hasPermission(Permissions.BYPASS_RATE_LIMIT) || tryAcquire(action, player.getUniqueId())) {
+            return true;
+        }
+        long seconds = Math.max(1, (getRetryAfterMillis(action, player.getUniqueId()) + 999) / 1000);
+        player.sendMessage(configManager.getPrefix() +
+            configManager.getMessage("rate_limited", Map.of("time", seconds + "s")));
+        return false;
+    }
+
+    public long getRetryAfterMillis(Action action, UUID playerId) {
+        return limiters.get(action).getRetryAfterMillis(playerId);
+    }
+
+    /**
+     * Drops a player's state, e.g. when they leave the server
+     */
+    public void forget(UUID playerId) {
+        for (RateLimiter<UUID> limiter : limiters.values()) {
+            limiter.reset(playerId);
+        }
+    }
+
+    /**
+     * Players tracked per action, for the performance GUI
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        for (Map.Entry<Action, RateLimiter<UUID>> entry : limiters.entrySet()) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(entry.getKey().getConfigKey()).append(' ').append(entry.getValue().size());
+        }
+        return description.toString();
+    }
+}
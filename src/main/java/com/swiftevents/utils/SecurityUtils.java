@@ -3,8 +3,9 @@ package com.swiftevents.utils;
 import com.swiftevents.SwiftEventsPlugin;
 import org.bukkit.entity.Player;
 
+import java.util.Map;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Security utility class for SwiftEvents plugin
@@ -14,13 +15,20 @@ public class SecurityUtils {
     
     private final SwiftEventsPlugin plugin;
     private final LoggingUtils loggingUtils;
+    private final Map<String, RateLimiter<String>> rateLimiters = new ConcurrentHashMap<>();
     
-    // Security patterns
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
-    private static final Pattern SCRIPT_PATTERN = Pattern.compile("(?i)(script|javascript|vbscript|data:)");
-    private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile("(?i)(union|select|insert|update|delete|drop|create|alter|exec|execute)");
-    private static final Pattern COMMAND_INJECTION_PATTERN = Pattern.compile("(?i)(cmd|command|system|runtime|process)");
-    private static final Pattern XSS_PATTERN = Pattern.compile("(?i)(onload|onerror|onclick|onmouseover|onfocus|onblur)");
+    // Security patterns: markup, script words and event handlers are stripped, and what is left is
+    // rejected if it still looks like script (or like a shell or SQL command, for commands)
+    private static final InputScanner TEXT_SCANNER = sanitizingScanner()
+        .reject("script", "javascript", "vbscript", "data:")
+        .reject("onload", "onerror", "onclick", "onmouseover", "onfocus", "onblur")
+        .reject("eval(", "document.", "window.", "alert(", "confirm(", "prompt(", "localstorage.", "sessionstorage.")
+        .build();
+    private static final InputScanner COMMAND_SCANNER = sanitizingScanner()
+        .reject("cmd", "command", "system", "runtime", "process")
+        .reject("union", "select", "insert", "update", "delete", "drop", "create", "alter", "exec", "execute")
+        .reject(";", "&&", "||", "|", "`", "$(")
+        .build();
     
     // Input length limits
     private static final int MAX_EVENT_NAME_LENGTH = 255;
@@ -45,17 +53,17 @@ public class SecurityUtils {
             throw new SecurityException("Event name cannot exceed " + MAX_EVENT_NAME_LENGTH + " characters");
         }
         
-        String sanitized = sanitizeString(name);
-        if (sanitized == null || sanitized.trim().isEmpty()) {
-            throw new SecurityException("Event name contains invalid characters");
-        }
-        
-        if (containsInjectionPattern(sanitized)) {
+        InputScanner.Result sanitized = TEXT_SCANNER.scan(name);
+        if (sanitized.isRejected()) {
             loggingUtils.securityViolation("event_name_injection", "Name: " + name);
             throw new SecurityException("Event name contains potentially dangerous content");
         }
         
-        return sanitized.trim();
+        if (sanitized.getText().isEmpty()) {
+            throw new SecurityException("Event name contains invalid characters");
+        }
+        
+        return sanitized.getText();
     }
     
     /**
@@ -70,13 +78,13 @@ public class SecurityUtils {
             throw new SecurityException("Event description cannot exceed " + MAX_EVENT_DESCRIPTION_LENGTH + " characters");
         }
         
-        String sanitized = sanitizeString(description);
-        if (sanitized != null && containsInjectionPattern(sanitized)) {
+        InputScanner.Result sanitized = TEXT_SCANNER.scan(description);
+        if (sanitized.isRejected()) {
             loggingUtils.securityViolation("event_description_injection", "Description: " + description);
             throw new SecurityException("Event description contains potentially dangerous content");
         }
         
-        return sanitized;
+        return sanitized.getText();
     }
     
     /**
@@ -107,17 +115,17 @@ public class SecurityUtils {
             throw new SecurityException("Player name cannot exceed " + MAX_PLAYER_NAME_LENGTH + " characters");
         }
         
-        String sanitized = sanitizeString(playerName);
-        if (sanitized == null || sanitized.trim().isEmpty()) {
-            throw new SecurityException("Player name contains invalid characters");
-        }
-        
-        if (containsInjectionPattern(sanitized)) {
+        InputScanner.Result sanitized = TEXT_SCANNER.scan(playerName);
+        if (sanitized.isRejected()) {
             loggingUtils.securityViolation("player_name_injection", "Name: " + playerName);
             throw new SecurityException("Player name contains potentially dangerous content");
         }
         
-        return sanitized.trim();
+        if (sanitized.getText().isEmpty()) {
+            throw new SecurityException("Player name contains invalid characters");
+        }
+        
+        return sanitized.getText();
     }
     
     /**
@@ -132,17 +140,17 @@ public class SecurityUtils {
             throw new SecurityException("Command cannot exceed " + MAX_COMMAND_LENGTH + " characters");
         }
         
-        String sanitized = sanitizeString(command);
-        if (sanitized == null || sanitized.trim().isEmpty()) {
-            throw new SecurityException("Command contains invalid characters");
-        }
-        
-        if (containsCommandInjectionPattern(sanitized)) {
+        InputScanner.Result sanitized = COMMAND_SCANNER.scan(command);
+        if (sanitized.isRejected()) {
             loggingUtils.securityViolation("command_injection", "Command: " + command);
             throw new SecurityException("Command contains potentially dangerous content");
         }
         
-        return sanitized.trim();
+        if (sanitized.getText().isEmpty()) {
+            throw new SecurityException("Command contains invalid characters");
+        }
+        
+        return sanitized.getText();
     }
     
     /**
@@ -195,17 +203,17 @@ public class SecurityUtils {
             throw new SecurityException("World name cannot be null or empty");
         }
         
-        String sanitized = sanitizeString(worldName);
-        if (sanitized == null || sanitized.trim().isEmpty()) {
-            throw new SecurityException("World name contains invalid characters");
-        }
-        
-        if (containsInjectionPattern(sanitized)) {
+        InputScanner.Result sanitized = TEXT_SCANNER.scan(worldName);
+        if (sanitized.isRejected()) {
             loggingUtils.securityViolation("world_name_injection", "World: " + worldName);
             throw new SecurityException("World name contains potentially dangerous content");
         }
         
-        return sanitized.trim();
+        if (sanitized.getText().isEmpty()) {
+            throw new SecurityException("World name contains invalid characters");
+        }
+        
+        return sanitized.getText();
     }
     
     /**
@@ -298,64 +306,22 @@ public class SecurityUtils {
     }
     
     /**
-     * Sanitize string input
+     * Scanner removing HTML tags, dangerous words and control characters, checking the result
      */
-    private String sanitizeString(String input) {
-        if (input == null) {
-            return null;
-        }
-        
-        // Remove HTML tags
-        String sanitized = HTML_TAG_PATTERN.matcher(input).replaceAll("");
-        
-        // Remove potentially dangerous patterns
-        sanitized = SCRIPT_PATTERN.matcher(sanitized).replaceAll("");
-        sanitized = XSS_PATTERN.matcher(sanitized).replaceAll("");
-        
-        // Remove control characters
-        sanitized = sanitized.replaceAll("[\\x00-\\x1F\\x7F]", "");
-        
-        return sanitized.trim();
+    private static InputScanner.Builder sanitizingScanner() {
+        return InputScanner.builder()
+            .removeTags()
+            .remove("script", "javascript", "vbscript", "data:")
+            .remove("onload", "onerror", "onclick", "onmouseover", "onfocus", "onblur")
+            .removeControlCharacters()
+            .rejectOnOutput();
     }
     
     /**
      * Check for injection patterns
      */
     private boolean containsInjectionPattern(String input) {
-        if (input == null) {
-            return false;
-        }
-        
-        String lowerInput = input.toLowerCase();
-        return SCRIPT_PATTERN.matcher(lowerInput).find() ||
-               XSS_PATTERN.matcher(lowerInput).find() ||
-               lowerInput.contains("eval(") ||
-               lowerInput.contains("document.") ||
-               lowerInput.contains("window.") ||
-               lowerInput.contains("alert(") ||
-               lowerInput.contains("confirm(") ||
-               lowerInput.contains("prompt(") ||
-               lowerInput.contains("localStorage.") ||
-               lowerInput.contains("sessionStorage.");
-    }
-    
-    /**
-     * Check for command injection patterns
-     */
-    private boolean containsCommandInjectionPattern(String input) {
-        if (input == null) {
-            return false;
-        }
-        
-        String lowerInput = input.toLowerCase();
-        return COMMAND_INJECTION_PATTERN.matcher(lowerInput).find() ||
-               SQL_INJECTION_PATTERN.matcher(lowerInput).find() ||
-               lowerInput.contains(";") ||
-               lowerInput.contains("&&") ||
-               lowerInput.contains("||") ||
-               lowerInput.contains("|") ||
-               lowerInput.contains("`") ||
-               lowerInput.contains("$(");
+        return TEXT_SCANNER.containsRejected(input);
     }
     
     /**
@@ -409,12 +375,19 @@ public class SecurityUtils {
     }
     
     /**
-     * Rate limiting check
+     * Rate limiting check: at most {@code maxAttempts} per {@code timeWindowMs} for each player and
+     * action. An action keeps the limits it was first checked with.
      */
     public boolean checkRateLimit(String playerId, String action, int maxAttempts, long timeWindowMs) {
-        // This would need to be implemented with a proper rate limiting mechanism
-        // For now, we'll just return true
-        return true;
+        RateLimiter<String> limiter = rateLimiters.get(action);
+        if (limiter == null) {
+            limiter = rateLimiters.computeIfAbsent(action, key -> new RateLimiter<>(maxAttempts, timeWindowMs));
+        }
+        if (limiter.tryAcquire(playerId)) {
+            return true;
+        }
+        loggingUtils.securityViolation("rate_limit", "Player: " + playerId + ", Action: " + action);
+        return false;
     }
     
     /**
@@ -0,0 +1,170 @@
+package com.swiftevents.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Lightweight main-thread profiler that attributes wall time and allocated bytes to plugin
+ * subsystems. Disabled by default, in which case {@link #begin} and {@link #end} are a single
+ * volatile read. Sections may nest; time is charged exclusively to the innermost section, so
+ * a HUD refresh triggered from the event updater is billed to the HUD and not to both.
+ * <p>
+ * Only the thread that called {@link #enable()} is recorded, which on a live server or in the
+ * load simulator is the main thread.
+ */
+public final class TickProfiler {
+
+    public enum Subsystem {
+        EVENT_MANAGER, HUD, CHAT, HOOKS, TASKER, LISTENER, TELEPORTS, REWARDS
+    }
+
+    private static final int SUBSYSTEMS = Subsystem.values().length;
+    private static final int MAX_DEPTH = 16;
+
+    private static volatile boolean enabled = false;
+    private static Thread ownerThread;
+
+    private static final long[] nanos = new long[SUBSYSTEMS];
+    private static final long[] allocatedBytes = new long[SUBSYSTEMS];
+    private static final long[] calls = new long[SUBSYSTEMS];
+
+    // Stack of open sections; only touched by the owner thread
+    private static final int[] stack = new int[MAX_DEPTH];
+    private static int depth = 0;
+    private static int overflow = 0;
+    private static long sectionStartNanos;
+    private static long sectionStartBytes;
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = resolveAllocationBean();
+
+    private TickProfiler() {
+    }
+
+    private static com.sun.management.ThreadMXBean resolveAllocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            return sunBean;
+        }
+        return null;
+    }
+
+    /**
+     * Starts recording on the calling thread and clears previous totals
+     */
+    public static synchronized void enable() {
+        reset();
+        ownerThread = Thread.currentThread();
+        enabled = true;
+    }
+
+    public static synchronized void disable() {
+        enabled = false;
+        ownerThread = null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static synchronized void reset() {
+        for (int i = 0; i < SUBSYSTEMS; i++) {
+            nanos[i] = 0;
+            allocatedBytes[i] = 0;
+            calls[i] = 0;
+        }
+        depth = 0;
+        overflow = 0;
+    }
+
+    public static void begin(Subsystem subsystem) {
+        if (!enabled || Thread.currentThread() != ownerThread) {
+            return;
+        }
+        if (depth == MAX_DEPTH) {
+            overflow++;
+            return;
+        }
+
+        long now = System.nanoTime();
+        long bytes = currentAllocatedBytes();
+        if (depth > 0) {
+            // Pause the enclosing section
+            charge(stack[depth - 1], now, bytes);
+        }
+        stack[depth++] = subsystem.ordinal();
+        sectionStartNanos = now;
+        sectionStartBytes = bytes;
+    }
+
+    public static void end(Subsystem subsystem) {
+        if (!enabled || Thread.currentThread() != ownerThread) {
+            return;
+        }
+        if (overflow > 0) {
+            overflow--;
+            return;
+        }
+        if (depth == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long bytes = currentAllocatedBytes();
+        int index = stack[--depth];
+        charge(index, now, bytes);
+        calls[index]++;
+
+        // Resume the enclosing section from here
+        sectionStartNanos = now;
+        sectionStartBytes = bytes;
+    }
+
+    private static void charge(int index, long now, long bytes) {
+        nanos[index] += now - sectionStartNanos;
+        allocatedBytes[index] += bytes - sectionStartBytes;
+    }
+
+    private static long currentAllocatedBytes() {
+        return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Copies the current totals. Call from the recording thread for a consistent view.
+     */
+    public static synchronized Snapshot snapshot() {
+        return new Snapshot(nanos.clone(), allocatedBytes.clone(), calls.clone());
+    }
+
+    public static final class Snapshot {
+        private final long[] nanos;
+        private final long[] allocatedBytes;
+        private final long[] calls;
+
+        private Snapshot(long[] nanos, long[] allocatedBytes, long[] calls) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+            this.calls = calls;
+        }
+
+        public long getNanos(Subsystem subsystem) {
+            return nanos[subsystem.ordinal()];
+        }
+
+        public long getAllocatedBytes(Subsystem subsystem) {
+            return allocatedBytes[subsystem.ordinal()];
+        }
+
+        public long getCalls(Subsystem subsystem) {
+            return calls[subsystem.ordinal()];
+        }
+
+        public long getTotalNanos() {
+            long total = 0;
+            for (long value : nanos) {
+                total += value;
+            }
+            return total;
+        }
+    }
+}
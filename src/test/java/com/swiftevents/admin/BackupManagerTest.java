@@ -0,0 +1,375 @@
+package com.swiftevents.admin;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.database.EventJsonAdapters;
+import com.swiftevents.events.Event;
+import com.swiftevents.events.EventManager;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BackupManager Tests")
+class BackupManagerTest {
+
+    @TempDir
+    File dataFolder;
+
+    private final Gson gson = EventJsonAdapters.register(new GsonBuilder()).create();
+    private final List<Event> events = new ArrayList<>();
+    private final List<Event> restoredEvents = new ArrayList<>();
+    private FileConfiguration config;
+    private ConfigManager configManager;
+    private EventManager eventManager;
+    private DatabaseManager databaseManager;
+    private BackupManager backupManager;
+
+    @BeforeEach
+    void setUp() {
+        config = mock(FileConfiguration.class);
+        configManager = mock(ConfigManager.class);
+        eventManager = mock(EventManager.class);
+        databaseManager = mock(DatabaseManager.class);
+        when(config.getBoolean("backup.auto_enabled", true)).thenReturn(false);
+        when(config.getBoolean("backup.compress", true)).thenReturn(true);
+        when(config.getBoolean("backup.incremental", true)).thenReturn(true);
+        when(config.getInt("backup.max_retention", 10)).thenReturn(10);
+        when(config.getInt("backup.max_chain_length", 12)).thenReturn(12);
+
+        for (int i = 0; i < 3; i++) {
+            events.add(new Event("Event " + i, "Backup test event", Event.EventType.PVP, UUID.randomUUID()));
+        }
+        backupManager = new BackupManager(createPlugin());
+    }
+
+    @AfterEach
+    void tearDown() {
+        backupManager.shutdown();
+    }
+
+    private SwiftEventsPlugin createPlugin() {
+        SwiftEventsPlugin plugin = mock(SwiftEventsPlugin.class);
+        PluginDescriptionFile description = mock(PluginDescriptionFile.class);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+        when(plugin.getConfig()).thenReturn(config);
+        when(plugin.getConfigManager()).thenReturn(configManager);
+        when(plugin.getEventManager()).thenReturn(eventManager);
+        when(plugin.getDatabaseManager()).thenReturn(databaseManager);
+        when(plugin.getDescription()).thenReturn(description);
+        when(description.getVersion()).thenReturn("test");
+        when(eventManager.getAllEvents()).thenAnswer(invocation -> new ArrayList<>(events));
+        when(eventManager.restoreEvents(anyCollection())).thenAnswer(invocation -> {
+            Collection<Event> batch = invocation.getArgument(0);
+            restoredEvents.addAll(batch);
+            return batch.size();
+        });
+        when(databaseManager.saveEvents(anyCollection())).thenReturn(CompletableFuture.completedFuture(true));
+        return plugin;
+    }
+
+    private File backup() {
+        Set<String> before = new HashSet<>(Arrays.asList(backupDirectory().list()));
+        assertThat(backupManager.createFullBackup().join()).isTrue();
+        File[] created = backupDirectory().listFiles((dir, name) -> name.endsWith(".zip") && !before.contains(name));
+        assertThat(created).hasSize(1);
+        return created[0];
+    }
+
+    private File backupDirectory() {
+        return new File(dataFolder, "backups");
+    }
+
+    private String readEntry(File archive, String name) throws IOException {
+        try (ZipFile zip = new ZipFile(archive)) {
+            ZipEntry entry = zip.getEntry(name);
+            if (entry == null) {
+                return null;
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private List<BackupCatalog.Entry> readCatalog() {
+        BackupCatalog catalog = new BackupCatalog(backupDirectory(), gson, Logger.getLogger("test"));
+        assertThat(catalog.load()).isTrue();
+        return catalog.list();
+    }
+
+    private BackupManager.BackupManifest manifest(File archive) throws IOException {
+        return gson.fromJson(readEntry(archive, "backup_manifest.json"), BackupManager.BackupManifest.class);
+    }
+
+    private Event[] archivedEvents(File archive) throws IOException {
+        return gson.fromJson(readEntry(archive, "events.json"), Event[].class);
+    }
+
+    @Nested
+    @DisplayName("Incremental Backup Tests")
+    class IncrementalBackupTests {
+
+        @Test
+        @DisplayName("Should store only changed events in an incremental backup")
+        void shouldStoreOnlyChangedEvents() throws IOException {
+            // Given
+            Files.writeString(new File(dataFolder, "config.yml").toPath(), "events:\n  max_concurrent: 5\n");
+            File base = backup();
+
+            // When
+            events.get(1).setStatus(Event.EventStatus.ACTIVE);
+            File increment = backup();
+
+            // Then
+            assertThat(manifest(base).getParent()).isNull();
+            assertThat(archivedEvents(base)).hasSize(3);
+            assertThat(readEntry(base, "config.yml")).isNotNull();
+            assertThat(manifest(increment).getParent()).isEqualTo(base.getName());
+            assertThat(manifest(increment).getEventCount()).isEqualTo(3);
+            assertThat(archivedEvents(increment)).extracting(Event::getId).containsExactly(events.get(1).getId());
+            assertThat(readEntry(increment, "config.yml")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should write an empty delta when nothing changed")
+        void shouldWriteEmptyDeltaWhenUnchanged() throws IOException {
+            // Given
+            backup();
+
+            // When
+            File increment = backup();
+
+            // Then
+            assertThat(archivedEvents(increment)).isEmpty();
+            assertThat(manifest(increment).getChangedEvents()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should start a new base once the chain reaches its maximum length")
+        void shouldStartNewBaseAfterMaxChainLength() throws IOException {
+            // Given
+            when(config.getInt("backup.max_chain_length", 12)).thenReturn(1);
+            backupManager.shutdown();
+            backupManager = new BackupManager(createPlugin());
+
+            // When
+            backup();
+            File increment = backup();
+            File newBase = backup();
+
+            // Then
+            assertThat(manifest(increment).getChainLength()).isEqualTo(1);
+            assertThat(manifest(newBase).getParent()).isNull();
+            assertThat(archivedEvents(newBase)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should restore from an incremental backup by replaying its chain")
+        void shouldRestoreFromIncrementalBackup() {
+            // Given
+            backup();
+            events.remove(0);
+            File increment = backup();
+
+            // When
+            BackupManager.RestoreOptions options = new BackupManager.RestoreOptions();
+            options.restoreConfig = false;
+
+            // Then
+            assertThat(backupManager.restoreFromBackup(increment, options).join()).isTrue();
+            assertThat(restoredEvents).extracting(Event::getId)
+                .containsExactlyInAnyOrderElementsOf(events.stream().map(Event::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should fail restore when a parent archive is missing")
+        void shouldFailRestoreWhenParentMissing() {
+            // Given
+            File base = backup();
+            events.get(0).setStatus(Event.EventStatus.ACTIVE);
+            File increment = backup();
+            assertThat(base.delete()).isTrue();
+
+            // Then
+            assertThat(backupManager.restoreFromBackup(increment, new BackupManager.RestoreOptions()).join()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Restore Tests")
+    class StreamingRestoreTests {
+
+        @Test
+        @DisplayName("Should load restored events into the event manager and storage")
+        void shouldRestoreIntoEventManagerAndStorage() {
+            // Given
+            File backup = backup();
+
+            // When
+            boolean restored = backupManager.restoreFromBackup(backup, new BackupManager.RestoreOptions()).join();
+
+            // Then
+            assertThat(restored).isTrue();
+            assertThat(restoredEvents).extracting(Event::getId)
+                .containsExactlyElementsOf(events.stream().map(Event::getId).toList());
+            verify(databaseManager).saveEvents(anyCollection());
+            assertThat(backupManager.getLastRestoreReport().getEventsRestored()).isEqualTo(3);
+            assertThat(backupManager.getLastRestoreReport().isDryRun()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should only validate events during a dry run")
+        void shouldNotApplyEventsDuringDryRun() {
+            // Given
+            File backup = backup();
+            BackupManager.RestoreOptions options = new BackupManager.RestoreOptions();
+            options.dryRun = true;
+
+            // When
+            boolean restored = backupManager.restoreFromBackup(backup, options).join();
+
+            // Then
+            assertThat(restored).isTrue();
+            verify(eventManager, never()).restoreEvents(anyCollection());
+            verify(databaseManager, never()).saveEvents(anyCollection());
+            assertThat(backupManager.getLastRestoreReport().isDryRun()).isTrue();
+            assertThat(backupManager.getLastRestoreReport().getEventsRestored()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should restore large backups in bounded batches")
+        void shouldRestoreInBatches() {
+            // Given
+            for (int i = events.size(); i < 1200; i++) {
+                events.add(new Event("Event " + i, "Backup test event", Event.EventType.PVP, UUID.randomUUID()));
+            }
+            File backup = backup();
+
+            // When
+            backupManager.restoreFromBackup(backup, new BackupManager.RestoreOptions()).join();
+
+            // Then
+            verify(eventManager, times(3)).restoreEvents(anyCollection());
+            assertThat(restoredEvents).hasSize(1200);
+        }
+
+        @Test
+        @DisplayName("Should stream events from a binary backup")
+        void shouldRestoreBinaryBackup() throws IOException {
+            // Given
+            when(configManager.getStorageFormat()).thenReturn("binary");
+            File backup = backup();
+
+            // When
+            boolean restored = backupManager.restoreFromBackup(backup, new BackupManager.RestoreOptions()).join();
+
+            // Then
+            assertThat(readEntry(backup, "events.bin")).isNotNull();
+            assertThat(restored).isTrue();
+            assertThat(restoredEvents).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should fail the restore when storage rejects a batch")
+        void shouldFailWhenStorageFails() {
+            // Given
+            File backup = backup();
+            when(databaseManager.saveEvents(anyCollection())).thenReturn(CompletableFuture.completedFuture(false));
+
+            // When
+            boolean restored = backupManager.restoreFromBackup(backup, new BackupManager.RestoreOptions()).join();
+
+            // Then
+            assertThat(restored).isFalse();
+            assertThat(backupManager.getLastRestoreReport().getStorageFailures()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backup Catalog Tests")
+    class BackupCatalogTests {
+
+        @Test
+        @DisplayName("Should record each new backup in the catalog")
+        void shouldCatalogNewBackups() throws Exception {
+            // Given
+            File base = backup();
+            events.get(0).setStatus(Event.EventStatus.ACTIVE);
+
+            // When
+            File increment = backup();
+
+            // Then
+            List<BackupCatalog.Entry> entries = readCatalog();
+            assertThat(entries).extracting(BackupCatalog.Entry::getName).containsExactly(increment.getName(), base.getName());
+            BackupCatalog.Entry entry = entries.get(0);
+            assertThat(entry.getType()).isEqualTo(BackupManager.BackupType.FULL);
+            assertThat(entry.getEventCount()).isEqualTo(3);
+            assertThat(entry.getSize()).isEqualTo(increment.length());
+            assertThat(entry.getParent()).isEqualTo(base.getName());
+            assertThat(entry.getChecksum()).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(increment.toPath()))));
+        }
+
+        @Test
+        @DisplayName("Should rebuild a missing catalog from existing archives")
+        void shouldRebuildMissingCatalog() {
+            // Given
+            File base = backup();
+            backupManager.shutdown();
+            assertThat(new File(backupDirectory(), BackupCatalog.CATALOG_FILE).delete()).isTrue();
+
+            // When
+            backupManager = new BackupManager(createPlugin());
+            backupManager.shutdown();
+
+            // Then
+            assertThat(readCatalog()).singleElement().satisfies(entry -> {
+                assertThat(entry.getName()).isEqualTo(base.getName());
+                assertThat(entry.getEventCount()).isEqualTo(3);
+                assertThat(entry.getChecksum()).isNotNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Should drop catalog entries whose backup was deleted")
+        void shouldForgetDeletedBackups() {
+            // Given
+            File base = backup();
+            File second = backup();
+            backupManager.shutdown();
+            assertThat(second.delete()).isTrue();
+
+            // When
+            backupManager = new BackupManager(createPlugin());
+            backupManager.shutdown();
+
+            // Then
+            assertThat(readCatalog()).extracting(BackupCatalog.Entry::getName).containsExactly(base.getName());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.swiftevents.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdaptiveBatchSizer Tests")
+class AdaptiveBatchSizerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private AdaptiveBatchSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        sizer = new AdaptiveBatchSizer();
+    }
+
+    @Test
+    @DisplayName("Should grow while full statements return quickly")
+    void shouldGrowOnFastFullStatements() {
+        // When
+        for (int i = 0; i < 50; i++) {
+            sizer.recordFlush(sizer.getRowsPerStatement(), 10_000, FAST);
+        }
+
+        // Then
+        assertThat(sizer.getRowsPerStatement()).isEqualTo(AdaptiveBatchSizer.MAX_ROWS);
+    }
+
+    @Test
+    @DisplayName("Should not grow on partial statements")
+    void shouldNotGrowOnPartialStatements() {
+        // When
+        sizer.recordFlush(5, 1_000, FAST);
+
+        // Then
+        assertThat(sizer.getRowsPerStatement()).isEqualTo(AdaptiveBatchSizer.INITIAL_ROWS);
+    }
+
+    @Test
+    @DisplayName("Should halve on slow statements down to the minimum")
+    void shouldShrinkOnSlowStatements() {
+        // When
+        sizer.recordFlush(AdaptiveBatchSizer.INITIAL_ROWS, 10_000, SLOW);
+
+        // Then
+        assertThat(sizer.getRowsPerStatement()).isEqualTo(AdaptiveBatchSizer.INITIAL_ROWS / 2);
+
+        for (int i = 0; i < 10; i++) {
+            sizer.recordFlush(sizer.getRowsPerStatement(), 10_000, SLOW);
+        }
+        assertThat(sizer.getRowsPerStatement()).isEqualTo(AdaptiveBatchSizer.MIN_ROWS);
+    }
+
+    @Test
+    @DisplayName("Should record throughput per flush")
+    void shouldRecordThroughput() {
+        // When
+        sizer.recordFlush(100, 50_000, TimeUnit.MILLISECONDS.toNanos(10));
+        sizer.recordFlush(100, 50_000, TimeUnit.MILLISECONDS.toNanos(30));
+
+        // Then
+        assertThat(sizer.getFlushCount()).isEqualTo(2);
+        assertThat(sizer.getLastRowsPerSecond()).isCloseTo(3333.3, within(1.0));
+        assertThat(sizer.getAverageRowsPerSecond()).isCloseTo(5000.0, within(1.0));
+    }
+}
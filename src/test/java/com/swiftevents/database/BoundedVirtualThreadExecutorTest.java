@@ -0,0 +1,95 @@
+package com.swiftevents.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedVirtualThreadExecutor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+    private BoundedVirtualThreadExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoundedVirtualThreadExecutor("Test-V-", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run tasks on virtual threads")
+    void shouldRunTasksOnVirtualThreads() {
+        // When
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+        // Then
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith("Test-V-");
+    }
+
+    @Test
+    @DisplayName("Should never run more tasks at once than the limit")
+    void shouldRespectConcurrencyLimit() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, executor));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getRunningCount() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        int runningWhileBlocked = executor.getRunningCount();
+        release.countDown();
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(runningWhileBlocked).isEqualTo(3);
+        assertThat(maxRunning.get()).isEqualTo(3);
+        assertThat(executor.getRunningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should finish queued tasks on shutdown")
+    void shouldFinishQueuedTasksOnShutdown() throws Exception {
+        // Given
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.execute(completed::incrementAndGet);
+        }
+
+        // When
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed.get()).isEqualTo(10);
+        assertThat(executor.isTerminated()).isTrue();
+    }
+}
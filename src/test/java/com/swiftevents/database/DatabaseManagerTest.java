@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -200,6 +201,133 @@ class DatabaseManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Binary Storage Tests")
+    class BinaryStorageTests {
+
+        private DatabaseManager reinitialize(String format) {
+            databaseManager.closeConnections();
+            lenient().when(configManager.getStorageFormat()).thenReturn(format);
+            databaseManager = new DatabaseManager(plugin);
+            databaseManager.initialize();
+            return databaseManager;
+        }
+
+        @Test
+        @DisplayName("Should save and load event in binary format")
+        void shouldSaveAndLoadEventInBinaryFormat() {
+            // Given
+            reinitialize("binary");
+            testEvent.addParticipant(UUID.randomUUID());
+            testEvent.addMetadata("arena", "north");
+
+            // When
+            assertThat(databaseManager.saveEvent(testEvent).join()).isTrue();
+            Event loadedEvent = databaseManager.loadEvent(testEvent.getId()).join();
+
+            // Then
+            File folder = new File("test_data", uniqueTestFolder);
+            assertThat(new File(folder, testEvent.getId() + ".bin")).exists();
+            assertThat(new File(folder, testEvent.getId() + ".json")).doesNotExist();
+            assertThat(loadedEvent).isNotNull();
+            assertThat(loadedEvent.getName()).isEqualTo(testEvent.getName());
+            assertThat(loadedEvent.getCreatedAt()).isEqualTo(testEvent.getCreatedAt());
+            assertThat(loadedEvent.getParticipants()).isEqualTo(testEvent.getParticipants());
+            assertThat(loadedEvent.getMetadata("arena")).isEqualTo("north");
+        }
+
+        @Test
+        @DisplayName("Should migrate JSON files to binary on load")
+        void shouldMigrateJsonFilesToBinaryOnLoad() {
+            // Given - written while storage was still JSON
+            databaseManager.saveEvent(testEvent).join();
+            reinitialize("binary");
+
+            // When
+            List<Event> events = databaseManager.loadAllEvents().join();
+
+            // Then
+            File folder = new File("test_data", uniqueTestFolder);
+            assertThat(events).extracting(Event::getId).containsExactly(testEvent.getId());
+            assertThat(new File(folder, testEvent.getId() + ".bin")).exists();
+            assertThat(new File(folder, testEvent.getId() + ".json")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should keep the event version through the binary format")
+        void shouldRoundTripVersion() throws IOException {
+            // Given
+            testEvent.setVersion(7);
+
+            // When
+            Event decoded = EventBinaryCodec.decode(EventBinaryCodec.encode(testEvent));
+
+            // Then
+            assertThat(decoded.getVersion()).isEqualTo(7L);
+            assertThat(decoded.getName()).isEqualTo(testEvent.getName());
+        }
+
+        @Test
+        @DisplayName("Should read format version 1 records with version 0")
+        void shouldReadVersionOneFormat() throws IOException {
+            // Given - version 1 has no trailing version field before the end marker
+            byte[] current = EventBinaryCodec.encode(testEvent);
+            byte[] legacy = new byte[current.length - 1];
+            System.arraycopy(current, 0, legacy, 0, current.length - 2);
+            legacy[legacy.length - 1] = current[current.length - 1];
+            legacy[4] = 1;
+
+            // When
+            Event decoded = EventBinaryCodec.decode(legacy);
+
+            // Then
+            assertThat(decoded.getId()).isEqualTo(testEvent.getId());
+            assertThat(decoded.getVersion()).isEqualTo(0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Load Tests")
+    class ParallelLoadTests {
+
+        @Test
+        @DisplayName("Should hand loaded events over in bounded batches")
+        void shouldStreamEventsInBatches() {
+            // Given
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                events.add(new Event("Event " + i, "Description", Event.EventType.PVP, UUID.randomUUID()));
+            }
+            assertThat(databaseManager.saveEvents(events).join()).isTrue();
+            List<List<Event>> batches = Collections.synchronizedList(new ArrayList<>());
+
+            // When
+            int loaded = databaseManager.streamAllEvents(batches::add).join();
+
+            // Then
+            assertThat(loaded).isEqualTo(600);
+            assertThat(batches).hasSize(3).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(256));
+            assertThat(batches.stream().flatMap(List::stream).map(Event::getId))
+                .containsExactlyInAnyOrderElementsOf(events.stream().map(Event::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should skip unreadable files without aborting the load")
+        void shouldSkipCorruptFiles() throws Exception {
+            // Given
+            databaseManager.saveEvent(testEvent).join();
+            File folder = new File("test_data", uniqueTestFolder);
+            java.nio.file.Files.writeString(new File(folder, "corrupt.json").toPath(), "{ not json");
+            java.nio.file.Files.write(new File(folder, "truncated.bin").toPath(), new byte[] {'S', 'E'});
+
+            // When
+            List<Event> events = databaseManager.loadAllEvents().join();
+
+            // Then
+            assertThat(events).extracting(Event::getId).containsExactly(testEvent.getId());
+        }
+    }
+
     @Nested
     @DisplayName("Database Connection Tests")
     class DatabaseConnectionTests {
@@ -474,6 +602,26 @@ class DatabaseManagerTest {
             List<Event> loadedEvents = loadFuture.join();
             assertThat(loadedEvents).hasSize(threadCount * 10);
         }
+
+        @Test
+        @DisplayName("Should store the newest version when saves of one event race")
+        void shouldKeepNewestVersionUnderConcurrentSaves() {
+            // Given
+            Event event = new Event("Race", "Description", Event.EventType.RACING, UUID.randomUUID());
+            List<CompletableFuture<Boolean>> saves = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 50; i++) {
+                event.setDescription("Revision " + i);
+                saves.add(databaseManager.saveEvent(event));
+            }
+            saves.forEach(CompletableFuture::join);
+
+            // Then
+            Event stored = databaseManager.loadEvent(event.getId()).join();
+            assertThat(stored.getVersion()).isEqualTo(event.getVersion());
+            assertThat(stored.getDescription()).isEqualTo("Revision 49");
+        }
     }
 
     @Nested
@@ -0,0 +1,352 @@
+package com.swiftevents.database;
+
+import com.swiftevents.events.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Exercises the SQL storage path end to end against the embedded H2 database in MySQL mode.
+ */
+@DisplayName("Embedded Database Integration Tests")
+class EmbeddedDatabaseIntegrationTest {
+
+    @TempDir
+    File dataFolder;
+
+    private DatabaseManager databaseManager;
+
+    @BeforeEach
+    void setUp() {
+        databaseManager = StorageLoadGenerator.createDatabaseManager("h2", dataFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (databaseManager != null) {
+            databaseManager.closeConnections();
+        }
+    }
+
+    private Event createEvent(String name) {
+        Event event = new Event(name, "Integration test event", Event.EventType.PVP, UUID.randomUUID());
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setMaxParticipants(25);
+        event.setStartTime(System.currentTimeMillis());
+        event.setEndTime(System.currentTimeMillis() + 60_000);
+        return event;
+    }
+
+    @Nested
+    @DisplayName("Schema and Connection Tests")
+    class SchemaTests {
+
+        @Test
+        @DisplayName("Should initialize the embedded database and report healthy")
+        void shouldInitializeEmbeddedDatabase() {
+            assertThat(databaseManager.isEmbeddedDatabase()).isTrue();
+            assertThat(databaseManager.isConnectionHealthy()).isTrue();
+            assertThat(new File(dataFolder, "swiftevents_load.mv.db")).exists();
+        }
+
+        @Test
+        @DisplayName("Should reopen an existing database without recreating tables")
+        void shouldReopenExistingDatabase() {
+            Event event = createEvent("Persistent Event");
+            assertThat(databaseManager.saveEvent(event).join()).isTrue();
+            databaseManager.closeConnections();
+
+            databaseManager = StorageLoadGenerator.createDatabaseManager("h2", dataFolder);
+
+            assertThat(databaseManager.loadEvent(event.getId()).join()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should add the version column to tables created without it")
+        void shouldMigrateTablesWithoutVersionColumn() throws Exception {
+            // Given
+            Event event = createEvent("Legacy Event");
+            databaseManager.saveEvent(event).join();
+            try (var conn = databaseManager.getConnection(); var stmt = conn.createStatement()) {
+                stmt.execute("ALTER TABLE events DROP COLUMN version");
+            }
+            databaseManager.closeConnections();
+
+            // When
+            databaseManager = StorageLoadGenerator.createDatabaseManager("h2", dataFolder);
+
+            // Then
+            Event loaded = databaseManager.loadEvent(event.getId()).join();
+            assertThat(loaded).isNotNull();
+            assertThat(loaded.getVersion()).isZero();
+            assertThat(databaseManager.saveEvent(loaded).join()).isTrue();
+            assertThat(databaseManager.loadEvent(event.getId()).join().getVersion()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("CRUD Tests")
+    class CrudTests {
+
+        @Test
+        @DisplayName("Should round-trip an event through the database")
+        void shouldRoundTripEvent() {
+            Event event = createEvent("Round Trip");
+            event.setLocation("world", 10.5, 64, -20.25);
+            event.addReward("give {player} diamond 3");
+            event.setMetadata(Map.of("arena", "north", "mode", "solo"));
+
+            assertThat(databaseManager.saveEvent(event).join()).isTrue();
+            Event loaded = databaseManager.loadEvent(event.getId()).join();
+
+            assertThat(loaded).isNotNull();
+            assertThat(loaded.getName()).isEqualTo("Round Trip");
+            assertThat(loaded.getType()).isEqualTo(Event.EventType.PVP);
+            assertThat(loaded.getStatus()).isEqualTo(Event.EventStatus.ACTIVE);
+            assertThat(loaded.getMaxParticipants()).isEqualTo(25);
+            assertThat(loaded.getCreatedBy()).isEqualTo(event.getCreatedBy());
+            assertThat(loaded.getStartTime()).isEqualTo(event.getStartTime());
+            assertThat(loaded.getWorld()).isEqualTo("world");
+            assertThat(loaded.getZ()).isEqualTo(-20.25);
+            assertThat(loaded.getRewards()).containsExactly("give {player} diamond 3");
+            assertThat(loaded.getMetadata()).containsEntry("arena", "north").containsEntry("mode", "solo");
+        }
+
+        @Test
+        @DisplayName("Should update an existing row on upsert")
+        void shouldUpdateExistingRow() {
+            Event event = createEvent("Upsert");
+            databaseManager.saveEvent(event).join();
+
+            event.addParticipant(UUID.randomUUID());
+            event.addParticipant(UUID.randomUUID());
+            event.setStatus(Event.EventStatus.COMPLETED);
+            assertThat(databaseManager.saveEvent(event).join()).isTrue();
+
+            Event loaded = databaseManager.loadEvent(event.getId()).join();
+            assertThat(loaded.getStatus()).isEqualTo(Event.EventStatus.COMPLETED);
+            assertThat(loaded.getCurrentParticipants()).isEqualTo(2);
+            assertThat(databaseManager.loadAllEvents().join()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should delete events")
+        void shouldDeleteEvents() {
+            Event event = createEvent("Delete Me");
+            databaseManager.saveEvent(event).join();
+
+            assertThat(databaseManager.deleteEvent(event.getId()).join()).isTrue();
+            assertThat(databaseManager.loadEvent(event.getId()).join()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should batch save more events than a single JDBC batch")
+        void shouldBatchSaveEvents() {
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 175; i++) {
+                events.add(createEvent("Batch Event " + i));
+            }
+
+            assertThat(databaseManager.saveEvents(events).join()).isTrue();
+            assertThat(databaseManager.loadAllEvents().join()).hasSize(175);
+        }
+
+        @Test
+        @DisplayName("Should upsert existing rows through multi-row statements")
+        void shouldUpsertExistingRowsInBatches() {
+            // Given
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 2500; i++) {
+                Event event = createEvent("Upsert Batch " + i);
+                event.setMetadata(Map.of("round", i));
+                events.add(event);
+            }
+            assertThat(databaseManager.saveEvents(events).join()).isTrue();
+
+            // When
+            events.forEach(event -> event.setStatus(Event.EventStatus.COMPLETED));
+            assertThat(databaseManager.saveEvents(events).join()).isTrue();
+
+            // Then
+            List<Event> loaded = databaseManager.loadAllEvents().join();
+            assertThat(loaded).hasSize(2500)
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(Event.EventStatus.COMPLETED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Versioned Write Tests")
+    class VersionedWriteTests {
+
+        @Test
+        @DisplayName("Should give every save of an event a new version")
+        void shouldBumpVersionOnEverySave() {
+            // Given
+            Event event = createEvent("Versioned");
+
+            // When
+            databaseManager.saveEvent(event).join();
+            databaseManager.saveEvent(event).join();
+
+            // Then
+            assertThat(event.getVersion()).isEqualTo(2);
+            assertThat(databaseManager.loadEvent(event.getId()).join().getVersion()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not roll a row back with an older version")
+        void shouldKeepNewerRowOnStaleBatchWrite() {
+            // Given
+            Event event = createEvent("Current");
+            event.addParticipant(UUID.randomUUID());
+            databaseManager.saveEvent(event).join();
+            databaseManager.saveEvent(event).join();
+            Event stale = event.copy();
+            stale.setVersion(1);
+            stale.setName("Stale");
+            stale.setParticipants(java.util.Set.of());
+
+            // When
+            assertThat(databaseManager.saveEvents(List.of(stale)).join()).isTrue();
+
+            // Then
+            Event loaded = databaseManager.loadEvent(event.getId()).join();
+            assertThat(loaded.getName()).isEqualTo("Current");
+            assertThat(loaded.getCurrentParticipants()).isEqualTo(1);
+            assertThat(loaded.getVersion()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should fail a save that lost to a row changed by another server")
+        void shouldRetryAfterConflictingWrite() {
+            // Given - two servers share the database and both hold version 1
+            Event event = createEvent("Shared");
+            databaseManager.saveEvent(event).join();
+            DatabaseManager otherServer = StorageLoadGenerator.createDatabaseManager("h2", dataFolder);
+            try {
+                Event otherCopy = otherServer.loadEvent(event.getId()).join();
+                otherCopy.setName("Renamed elsewhere");
+                otherCopy.setMaxParticipants(40);
+                otherServer.saveEvent(otherCopy).join();
+
+                // When - this server's next save conflicts with the same version and fails...
+                event.setName("Renamed here");
+                assertThat(databaseManager.saveEvent(event).join()).isFalse();
+                String afterConflict = databaseManager.loadEvent(event.getId()).join().getName();
+
+                // ...and the one after it starts from the stored version and wins
+                event.setName("Renamed here again");
+                assertThat(databaseManager.saveEvent(event).join()).isTrue();
+
+                // Then
+                assertThat(afterConflict).isEqualTo("Renamed elsewhere");
+                Event loaded = otherServer.loadEvent(event.getId()).join();
+                assertThat(loaded.getName()).isEqualTo("Renamed here again");
+                assertThat(loaded.getVersion()).isEqualTo(3);
+                assertThat(databaseManager.getWriteConflictStats()).startsWith("1 conflicts, 0 stale");
+            } finally {
+                otherServer.closeConnections();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Load Tests")
+    class StreamingLoadTests {
+
+        private Event finishedEvent(String name, long hoursAgo) {
+            Event event = createEvent(name);
+            event.setStatus(Event.EventStatus.COMPLETED);
+            event.setStartTime(System.currentTimeMillis() - (hoursAgo + 1) * 3_600_000L);
+            event.setEndTime(System.currentTimeMillis() - hoursAgo * 3_600_000L);
+            event.setMetadata(Map.of("arena", "north"));
+            return event;
+        }
+
+        @Test
+        @DisplayName("Should hand over large tables in bounded batches")
+        void shouldStreamInBoundedBatches() {
+            // Given
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                Event event = createEvent("Streamed Event " + i);
+                event.addReward("give {player} emerald " + (i % 5 + 1));
+                events.add(event);
+            }
+            databaseManager.saveEvents(events).join();
+
+            // When
+            List<List<Event>> batches = java.util.Collections.synchronizedList(new ArrayList<>());
+            int loaded = databaseManager.streamAllEvents(batches::add).join();
+
+            // Then
+            assertThat(loaded).isEqualTo(600);
+            assertThat(batches).hasSizeGreaterThan(1);
+            assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(256));
+            assertThat(batches.stream().flatMap(List::stream))
+                .hasSize(600)
+                .allSatisfy(event -> assertThat(event.getRewards()).hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should load only summaries of events finished before the cutoff")
+        void shouldLoadSummariesForOldFinishedEvents() {
+            // Given
+            Event active = createEvent("Still Running");
+            active.setMetadata(Map.of("arena", "south"));
+            Event recent = finishedEvent("Recent", 1);
+            Event old = finishedEvent("Old", 72);
+            old.setCurrentParticipants(6);
+            databaseManager.saveEvents(List.of(active, recent, old)).join();
+
+            // When
+            List<Event> loaded = java.util.Collections.synchronizedList(new ArrayList<>());
+            long hotSince = System.currentTimeMillis() - 24 * 3_600_000L;
+            int count = databaseManager.streamAllEvents(loaded::addAll, hotSince).join();
+
+            // Then
+            assertThat(count).isEqualTo(3);
+            assertThat(loaded).filteredOn(event -> !event.getId().equals(old.getId()))
+                .allSatisfy(event -> assertThat(event.getMetadata()).isNotEmpty())
+                .allSatisfy(event -> assertThat(event.getDescription()).isEqualTo("Integration test event"));
+            Event summary = loaded.stream().filter(event -> event.getId().equals(old.getId())).findFirst().orElseThrow();
+            assertThat(summary.getStatus()).isEqualTo(Event.EventStatus.COMPLETED);
+            assertThat(summary.getCurrentParticipants()).isEqualTo(6);
+            assertThat(summary.getEndTime()).isEqualTo(old.getEndTime());
+            assertThat(summary.getMetadata()).isEmpty();
+            assertThat(summary.getDescription()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Generation Tests")
+    class LoadGenerationTests {
+
+        @Test
+        @DisplayName("Should replay synthetic traffic and report latency percentiles")
+        void shouldReplaySyntheticTraffic() {
+            StorageLoadGenerator.Settings settings = new StorageLoadGenerator.Settings();
+            settings.opsPerSecond = 200;
+            settings.durationSeconds = 1;
+            settings.initialEvents = 10;
+
+            StorageLoadGenerator.Report report = new StorageLoadGenerator(databaseManager, settings).run();
+
+            assertThat(report.operations).isEqualTo(200);
+            assertThat(report.failures).isZero();
+            assertThat(report.p99Nanos).isGreaterThanOrEqualTo(report.p50Nanos);
+            assertThat(report.getThroughput()).isPositive();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.swiftevents.database;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.events.Event;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replays synthetic create/join/leave/end traffic against a {@link DatabaseManager} at a fixed
+ * rate and reports write latency percentiles and throughput. Runs offline against the embedded
+ * H2 database or the JSON backend, so storage changes can be compared without a MySQL server.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.swiftevents.database.StorageLoadGenerator \
+ *     -Dexec.args="--backend=h2 --rate=500 --seconds=30 --virtual=true"
+ * </pre>
+ */
+public class StorageLoadGenerator {
+
+    public static class Settings {
+        public String backend = "h2";
+        public boolean virtualThreads = false;
+        public int opsPerSecond = 200;
+        public int durationSeconds = 10;
+        public int initialEvents = 50;
+        public int playerPool = 500;
+        public long seed = 1L;
+        // Relative weights of the traffic mix
+        public int createWeight = 10;
+        public int joinWeight = 50;
+        public int leaveWeight = 30;
+        public int endWeight = 10;
+    }
+
+    public static class Report {
+        public final long operations;
+        public final long failures;
+        public final double elapsedSeconds;
+        public final long p50Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+
+        Report(long operations, long failures, double elapsedSeconds, long p50Nanos, long p99Nanos, long maxNanos) {
+            this.operations = operations;
+            this.failures = failures;
+            this.elapsedSeconds = elapsedSeconds;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public double getThroughput() {
+            return elapsedSeconds > 0 ? operations / elapsedSeconds : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ops=%d failures=%d elapsed=%.2fs throughput=%.1f ops/s p50=%.3fms p99=%.3fms max=%.3fms",
+                    operations, failures, elapsedSeconds, getThroughput(),
+                    p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0, maxNanos / 1_000_000.0);
+        }
+    }
+
+    private final DatabaseManager databaseManager;
+    private final Settings settings;
+    private final Random random;
+    private final List<Event> activeEvents = new ArrayList<>();
+    private final List<UUID> players = new ArrayList<>();
+
+    public StorageLoadGenerator(DatabaseManager databaseManager, Settings settings) {
+        this.databaseManager = databaseManager;
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+        for (int i = 0; i < settings.playerPool; i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+    }
+
+    public Report run() {
+        for (int i = 0; i < settings.initialEvents; i++) {
+            databaseManager.saveEvent(createEvent()).join();
+        }
+
+        int totalOps = Math.max(1, settings.opsPerSecond * settings.durationSeconds);
+        long[] latencies = new long[totalOps];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicLong failures = new AtomicLong();
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[totalOps];
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, settings.opsPerSecond);
+        long start = System.nanoTime();
+        long nextSubmit = start;
+
+        for (int i = 0; i < totalOps; i++) {
+            long wait = nextSubmit - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextSubmit += intervalNanos;
+
+            Event event = nextMutation();
+            long submitted = System.nanoTime();
+            pending[i] = databaseManager.saveEvent(event).whenComplete((saved, error) -> {
+                latencies[recorded.getAndIncrement()] = System.nanoTime() - submitted;
+                if (error != null || !Boolean.TRUE.equals(saved)) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+
+        CompletableFuture.allOf(pending).join();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long[] sorted = Arrays.copyOf(latencies, recorded.get());
+        Arrays.sort(sorted);
+        return new Report(sorted.length, failures.get(), elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // Picks an operation from the weighted mix and applies it to an in-memory event
+    private Event nextMutation() {
+        int total = settings.createWeight + settings.joinWeight + settings.leaveWeight + settings.endWeight;
+        int roll = random.nextInt(Math.max(1, total));
+
+        if (activeEvents.isEmpty() || roll < settings.createWeight) {
+            return createEvent();
+        }
+        roll -= settings.createWeight;
+
+        Event event = activeEvents.get(random.nextInt(activeEvents.size()));
+        if (roll < settings.joinWeight) {
+            event.addParticipant(players.get(random.nextInt(players.size())));
+        } else if (roll < settings.joinWeight + settings.leaveWeight) {
+            if (!event.getParticipants().isEmpty()) {
+                event.removeParticipant(event.getParticipants().iterator().next());
+            }
+        } else {
+            event.setStatus(Event.EventStatus.COMPLETED);
+            activeEvents.remove(event);
+        }
+        return event;
+    }
+
+    private Event createEvent() {
+        Event.EventType[] types = Event.EventType.values();
+        Event event = new Event("Load Event " + random.nextInt(1_000_000), "Synthetic load-generator event",
+                types[random.nextInt(types.length)], players.get(random.nextInt(players.size())));
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setStartTime(System.currentTimeMillis());
+        event.setEndTime(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(30));
+        event.addReward("give {player} diamond 1");
+        event.addMetadata("source", "load-generator");
+        activeEvents.add(event);
+        return event;
+    }
+
+    /**
+     * Builds a {@link DatabaseManager} backed by a mocked plugin, storing data under {@code dataFolder}.
+     *
+     * @param backend "h2" for the embedded SQL database, "json" for per-event files
+     */
+    public static DatabaseManager createDatabaseManager(String backend, File dataFolder) {
+        return createDatabaseManager(backend, dataFolder, false);
+    }
+
+    public static DatabaseManager createDatabaseManager(String backend, File dataFolder, boolean virtualThreads) {
+        SwiftEventsPlugin plugin = mock(SwiftEventsPlugin.class);
+        ConfigManager configManager = mock(ConfigManager.class);
+
+        Logger logger = Logger.getLogger("SwiftEvents-LoadGenerator");
+        logger.setLevel(Level.WARNING);
+
+        lenient().when(plugin.getConfigManager()).thenReturn(configManager);
+        lenient().when(plugin.getLogger()).thenReturn(logger);
+        lenient().when(plugin.getDataFolder()).thenReturn(dataFolder);
+
+        boolean sql = !"json".equalsIgnoreCase(backend);
+        lenient().when(configManager.isDatabaseEnabled()).thenReturn(sql);
+        lenient().when(configManager.getDatabaseType()).thenReturn(backend);
+        lenient().when(configManager.getDatabaseName()).thenReturn("swiftevents_load");
+        lenient().when(configManager.getDatabaseUsername()).thenReturn("sa");
+        lenient().when(configManager.getDatabasePassword()).thenReturn("");
+        lenient().when(configManager.getJsonFolder()).thenReturn("events");
+        lenient().when(configManager.isVirtualThreadsEnabled()).thenReturn(virtualThreads);
+
+        DatabaseManager databaseManager = new DatabaseManager(plugin);
+        databaseManager.initialize();
+        return databaseManager;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = new Settings();
+        File dataFolder = null;
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (parts.length != 2) {
+                continue;
+            }
+            switch (parts[0]) {
+                case "backend" -> settings.backend = parts[1];
+                case "rate" -> settings.opsPerSecond = Integer.parseInt(parts[1]);
+                case "seconds" -> settings.durationSeconds = Integer.parseInt(parts[1]);
+                case "events" -> settings.initialEvents = Integer.parseInt(parts[1]);
+                case "players" -> settings.playerPool = Integer.parseInt(parts[1]);
+                case "seed" -> settings.seed = Long.parseLong(parts[1]);
+                case "virtual" -> settings.virtualThreads = Boolean.parseBoolean(parts[1]);
+                case "dir" -> dataFolder = new File(parts[1]);
+                default -> System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+        if (dataFolder == null) {
+            dataFolder = Files.createTempDirectory("swiftevents-load").toFile();
+        }
+
+        DatabaseManager databaseManager = createDatabaseManager(settings.backend, dataFolder, settings.virtualThreads);
+        try {
+            Report report = new StorageLoadGenerator(databaseManager, settings).run();
+            System.out.println("[" + settings.backend + (settings.virtualThreads ? ", virtual threads" : "") + "] " + report);
+        } finally {
+            databaseManager.closeConnections();
+        }
+    }
+}
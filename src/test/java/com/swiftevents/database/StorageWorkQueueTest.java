@@ -0,0 +1,101 @@
+package com.swiftevents.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StorageWorkQueue Tests")
+class StorageWorkQueueTest {
+
+    private ExecutorService workers;
+    private StorageWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newSingleThreadExecutor();
+        queue = new StorageWorkQueue(workers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    private CountDownLatch blockWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue.executor(DatabaseManager.Priority.INTERACTIVE).execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    @Test
+    @DisplayName("Should run interactive work ahead of queued bulk work")
+    void shouldRunInteractiveWorkFirst() throws Exception {
+        // Given
+        CountDownLatch release = blockWorker();
+        List<String> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> bulk = CompletableFuture.runAsync(() -> order.add("bulk-1"), queue.executor(DatabaseManager.Priority.BULK));
+        CompletableFuture<Void> bulk2 = CompletableFuture.runAsync(() -> order.add("bulk-2"), queue.executor(DatabaseManager.Priority.BULK));
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> order.add("interactive"), queue.executor(DatabaseManager.Priority.INTERACTIVE));
+
+        // When
+        release.countDown();
+        CompletableFuture.allOf(bulk, bulk2, interactive).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(order).containsExactly("interactive", "bulk-1", "bulk-2");
+    }
+
+    @Test
+    @DisplayName("Should report depth and wait time per priority class")
+    void shouldReportStatsPerPriority() throws Exception {
+        // Given
+        CountDownLatch release = blockWorker();
+        CompletableFuture<Void> bulk = CompletableFuture.runAsync(() -> { }, queue.executor(DatabaseManager.Priority.BULK));
+
+        // When
+        StorageWorkQueue.Stats waiting = queue.getStats(DatabaseManager.Priority.BULK);
+        release.countDown();
+        bulk.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(waiting.getDepth()).isEqualTo(1);
+        StorageWorkQueue.Stats done = queue.getStats(DatabaseManager.Priority.BULK);
+        assertThat(done.getDepth()).isZero();
+        assertThat(done.getStarted()).isEqualTo(1);
+        assertThat(done.getMaxWaitMillis()).isPositive();
+        assertThat(queue.getStats(DatabaseManager.Priority.INTERACTIVE).getStarted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject work after the workers shut down")
+    void shouldRejectWorkAfterShutdown() {
+        // Given
+        workers.shutdown();
+
+        // When & Then
+        assertThatThrownBy(() -> queue.executor(DatabaseManager.Priority.INTERACTIVE).execute(() -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(queue.getStats(DatabaseManager.Priority.INTERACTIVE).getDepth()).isZero();
+    }
+}
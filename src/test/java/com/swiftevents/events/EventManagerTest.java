@@ -194,7 +194,7 @@ class EventManagerTest {
         doNothing().when(chatManager).announceEvent(any(Event.class), any());
         
         // Mock database operations
-        when(databaseManager.loadAllEvents()).thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+        when(databaseManager.streamAllEvents(any(), anyLong())).thenReturn(CompletableFuture.completedFuture(0));
         when(databaseManager.saveEvent(any(Event.class))).thenReturn(CompletableFuture.completedFuture(true));
         when(databaseManager.deleteEvent(anyString())).thenReturn(CompletableFuture.completedFuture(true));
         
@@ -591,6 +591,124 @@ class EventManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Event Tiering Tests")
+    class EventTieringTests {
+
+        private Event finishedEvent(String name, long hoursAgo) {
+            Event event = new Event(name, "Description", Event.EventType.PVP, testCreatorId);
+            event.setStatus(Event.EventStatus.COMPLETED);
+            event.setStartTime(System.currentTimeMillis() - (hoursAgo + 1) * 3_600_000L);
+            event.setEndTime(System.currentTimeMillis() - hoursAgo * 3_600_000L);
+            event.setCurrentParticipants(4);
+            return event;
+        }
+
+        private EventManager loadManager(List<Event> storedEvents) {
+            eventManager.shutdown();
+            when(configManager.getHotRetentionHours()).thenReturn(24);
+            when(configManager.getColdCacheSize()).thenReturn(2);
+            when(databaseManager.streamAllEvents(any(), anyLong())).thenAnswer(invocation -> {
+                java.util.function.Consumer<List<Event>> batchConsumer = invocation.getArgument(0);
+                batchConsumer.accept(storedEvents);
+                return CompletableFuture.completedFuture(storedEvents.size());
+            });
+            eventManager = new EventManager(plugin);
+            return eventManager;
+        }
+
+        @Test
+        @DisplayName("Should keep old finished events out of memory after load")
+        void shouldLoadOldFinishedEventsIntoColdTier() {
+            // Given
+            Event recent = finishedEvent("Recent", 1);
+            Event old = finishedEvent("Old", 72);
+
+            // When
+            EventManager manager = loadManager(List.of(recent, old));
+
+            // Then
+            assertThat(manager.getAllEvents()).extracting(Event::getId).containsExactly(recent.getId());
+            assertThat(manager.getColdEventIds()).containsExactly(old.getId());
+            assertThat(manager.getTotalEventCount()).isEqualTo(2);
+            assertThat(manager.getColdEventSummary().getEventCount()).isEqualTo(1);
+            assertThat(manager.getColdEventSummary().getCount(Event.EventStatus.COMPLETED)).isEqualTo(1);
+            assertThat(manager.getColdEventSummary().getTotalParticipants()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should load cold events on demand and cache them")
+        void shouldLoadColdEventOnDemand() {
+            // Given
+            Event old = finishedEvent("Old", 72);
+            EventManager manager = loadManager(List.of(old));
+            when(databaseManager.loadEvent(old.getId())).thenReturn(CompletableFuture.completedFuture(old));
+
+            // When
+            Event first = manager.getEventAsync(old.getId()).join();
+            Event second = manager.getEvent(old.getId());
+
+            // Then
+            assertThat(first).isSameAs(old);
+            assertThat(second).isSameAs(old);
+            verify(databaseManager, times(1)).loadEvent(old.getId());
+            assertThat(manager.getAllEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used cold events from the cache")
+        void shouldBoundColdCache() {
+            // Given
+            List<Event> oldEvents = List.of(finishedEvent("A", 72), finishedEvent("B", 72), finishedEvent("C", 72));
+            EventManager manager = loadManager(oldEvents);
+            for (Event event : oldEvents) {
+                when(databaseManager.loadEvent(event.getId())).thenReturn(CompletableFuture.completedFuture(event));
+            }
+
+            // When - the cache holds two events, so A is evicted when C is loaded
+            oldEvents.forEach(event -> manager.getEventAsync(event.getId()).join());
+            manager.getEventAsync(oldEvents.get(0).getId()).join();
+
+            // Then
+            verify(databaseManager, times(2)).loadEvent(oldEvents.get(0).getId());
+            verify(databaseManager, times(1)).loadEvent(oldEvents.get(2).getId());
+        }
+
+        @Test
+        @DisplayName("Should remove deleted cold events from the summary")
+        void shouldDeleteColdEvent() {
+            // Given
+            Event old = finishedEvent("Old", 72);
+            EventManager manager = loadManager(List.of(old));
+            when(databaseManager.loadEvent(old.getId())).thenReturn(CompletableFuture.completedFuture(old));
+            when(databaseManager.deleteEvent(old.getId())).thenReturn(CompletableFuture.completedFuture(true));
+
+            // When
+            boolean deleted = manager.deleteEvent(old.getId());
+
+            // Then
+            assertThat(deleted).isTrue();
+            assertThat(manager.getColdEventIds()).isEmpty();
+            assertThat(manager.getColdEventSummary().getEventCount()).isZero();
+            verify(databaseManager).deleteEvent(old.getId());
+        }
+
+        @Test
+        @DisplayName("Should not read storage for cold events that are not cached")
+        void shouldNotLoadColdEventSynchronously() {
+            // Given
+            Event old = finishedEvent("Old", 72);
+            EventManager manager = loadManager(List.of(old));
+
+            // When
+            Event event = manager.getEvent(old.getId());
+
+            // Then
+            assertThat(event).isNull();
+            verify(databaseManager, never()).loadEvent(old.getId());
+        }
+    }
+
     @Nested
     @DisplayName("Thread Safety Tests")
     class ThreadSafetyTests {
@@ -694,7 +812,7 @@ class EventManagerTest {
         @DisplayName("Should handle database errors gracefully")
         void shouldHandleDatabaseErrorsGracefully() {
             // Given
-            when(databaseManager.loadAllEvents()).thenReturn(
+            when(databaseManager.streamAllEvents(any(), anyLong())).thenReturn(
                 CompletableFuture.failedFuture(new RuntimeException("Database error"))
             );
 
@@ -0,0 +1,230 @@
+package com.swiftevents.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventStatistics Tests")
+class EventStatisticsTest {
+
+    // A Saturday, 20:00 UTC
+    private static final long SATURDAY_EVENING = ZonedDateTime.of(2026, 10, 17, 20, 0, 0, 0, ZoneOffset.UTC)
+        .toInstant().toEpochMilli();
+    private static final long MINUTE = 60_000L;
+
+    private EventStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new EventStatistics(ZoneOffset.UTC);
+    }
+
+    private Event event(String id, Event.EventType type, long createdAt) {
+        return Event.restore(id, "Event " + id, "Test", type, createdAt);
+    }
+
+    private Event completed(String id, long startTime, long durationMillis) {
+        Event event = event(id, Event.EventType.PVP, startTime);
+        event.setStartTime(startTime);
+        event.setEndTime(startTime + durationMillis);
+        event.setStatus(Event.EventStatus.COMPLETED);
+        return event;
+    }
+
+    @Nested
+    @DisplayName("Counters")
+    class CounterTests {
+
+        @Test
+        @DisplayName("Should move an event between status counts when it changes")
+        void shouldFollowStatusChanges() {
+            // Given
+            Event event = event("a", Event.EventType.PVP, SATURDAY_EVENING);
+            statistics.track(event);
+
+            // When
+            event.setStatus(Event.EventStatus.ACTIVE);
+            statistics.track(event);
+
+            // Then
+            assertThat(statistics.getEventCount()).isEqualTo(1);
+            assertThat(statistics.getCount(Event.EventStatus.CREATED)).isEqualTo(0);
+            assertThat(statistics.getCount(Event.EventStatus.ACTIVE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count participants and completions by type")
+        void shouldCountByType() {
+            // Given
+            Event pvp = completed("a", SATURDAY_EVENING, 10 * MINUTE);
+            pvp.setStatus(Event.EventStatus.ACTIVE);
+            pvp.addParticipant(UUID.randomUUID());
+            pvp.addParticipant(UUID.randomUUID());
+            pvp.setStatus(Event.EventStatus.COMPLETED);
+            Event racing = event("b", Event.EventType.RACING, SATURDAY_EVENING);
+
+            // When
+            statistics.track(pvp);
+            statistics.track(racing);
+
+            // Then
+            assertThat(statistics.getCount(Event.EventType.PVP)).isEqualTo(1);
+            assertThat(statistics.getCompletedCount(Event.EventType.PVP)).isEqualTo(1);
+            assertThat(statistics.getTotalParticipants(Event.EventType.PVP)).isEqualTo(2L);
+            assertThat(statistics.getCompletedCount(Event.EventType.RACING)).isEqualTo(0);
+            assertThat(statistics.getPeakParticipants()).isEqualTo(2);
+            assertThat(statistics.getMostPopularEvent()).isEqualTo("Event a");
+        }
+
+        @Test
+        @DisplayName("Should take back everything an event contributed when it is deleted")
+        void shouldUntrackDeletedEvent() {
+            // Given
+            Event event = completed("a", SATURDAY_EVENING, 10 * MINUTE);
+            statistics.track(event);
+
+            // When
+            statistics.untrack("a");
+
+            // Then
+            assertThat(statistics.getEventCount()).isEqualTo(0);
+            assertThat(statistics.getPeakHour()).isEqualTo(-1);
+            assertThat(statistics.getAverageDurationMillis()).isEqualTo(-1L);
+            assertThat(statistics.getMostPopularEvent()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should keep counting an archived event until it leaves the cold tier")
+        void shouldKeepArchivedTotals() {
+            // Given
+            ColdEventSummary cold = new ColdEventSummary(statistics);
+            Event event = completed("a", SATURDAY_EVENING, 10 * MINUTE);
+            statistics.track(event);
+
+            // When
+            cold.archive(event);
+
+            // Then
+            assertThat(statistics.getCount(Event.EventStatus.COMPLETED)).isEqualTo(1);
+            assertThat(statistics.getMostPopularEvent()).isNull();
+            assertThat(cold.getTotalCompletedDurationMillis()).isEqualTo(10 * MINUTE);
+
+            // When
+            cold.remove("a");
+
+            // Then
+            assertThat(statistics.getEventCount()).isEqualTo(0);
+            assertThat(cold.getEventCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("Should count an event loaded into the cold tier once, even if added again")
+        void shouldReplaceColdRecord() {
+            // Given
+            ColdEventSummary cold = new ColdEventSummary(statistics);
+            Event event = completed("a", SATURDAY_EVENING, 10 * MINUTE);
+            cold.add(event);
+
+            // When
+            event.setStatus(Event.EventStatus.CANCELLED);
+            boolean added = cold.add(event);
+
+            // Then
+            assertThat(added).isFalse();
+            assertThat(statistics.getEventCount()).isEqualTo(1);
+            assertThat(statistics.getCount(Event.EventStatus.COMPLETED)).isEqualTo(0);
+            assertThat(cold.getCount(Event.EventStatus.CANCELLED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should take back what an archived event contributed even if it changed since")
+        void shouldRemoveArchivedContribution() {
+            // Given
+            ColdEventSummary cold = new ColdEventSummary(statistics);
+            Event event = completed("a", SATURDAY_EVENING, 10 * MINUTE);
+            statistics.track(event);
+            cold.archive(event);
+
+            // When
+            event.setStatus(Event.EventStatus.CANCELLED);
+            cold.remove("a");
+
+            // Then
+            assertThat(statistics.getEventCount()).isEqualTo(0);
+            assertThat(statistics.getCount(Event.EventStatus.COMPLETED)).isEqualTo(0);
+            assertThat(statistics.getCount(Event.EventStatus.CANCELLED)).isEqualTo(0);
+            assertThat(statistics.getAverageDurationMillis()).isEqualTo(-1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Histograms")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("Should find the peak hour and busiest day from start times")
+        void shouldFindPeakHourAndDay() {
+            // Given
+            statistics.track(completed("a", SATURDAY_EVENING, 10 * MINUTE));
+            statistics.track(completed("b", SATURDAY_EVENING + 5 * MINUTE, 10 * MINUTE));
+            // A Monday morning
+            statistics.track(completed("c", SATURDAY_EVENING + 2 * 24 * 60 * MINUTE - 12 * 60 * MINUTE, 10 * MINUTE));
+
+            // When
+            int peakHour = statistics.getPeakHour();
+            DayOfWeek busiestDay = statistics.getBusiestDay();
+
+            // Then
+            assertThat(peakHour).isEqualTo(20);
+            assertThat(busiestDay).isEqualTo(DayOfWeek.SATURDAY);
+            assertThat(statistics.getHourHistogram()[8]).isEqualTo(1);
+            assertThat(statistics.getWeekendShare()).isCloseTo(2 / 3.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("Should keep the shortest and longest duration across removals")
+        void shouldTrackDurationExtremes() {
+            // Given
+            statistics.track(completed("a", SATURDAY_EVENING, 5 * MINUTE));
+            statistics.track(completed("b", SATURDAY_EVENING, 45 * MINUTE));
+            statistics.track(completed("c", SATURDAY_EVENING, 3 * 60 * MINUTE));
+
+            // When
+            statistics.untrack("c");
+
+            // Then
+            assertThat(statistics.getShortestDurationMillis()).isEqualTo(5 * MINUTE);
+            assertThat(statistics.getLongestDurationMillis()).isEqualTo(45 * MINUTE);
+            assertThat(statistics.getAverageDurationMillis()).isEqualTo(25 * MINUTE);
+            assertThat(statistics.getDurationHistogram()[1]).isEqualTo(1);
+            assertThat(statistics.getDurationHistogram()[3]).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count recent creations in a rolling window")
+        void shouldCountRecentCreations() {
+            // Given
+            long now = SATURDAY_EVENING;
+            statistics.track(event("a", Event.EventType.PVP, now - 30 * MINUTE));
+            statistics.track(event("b", Event.EventType.PVP, now - 3 * 24 * 60 * MINUTE));
+            statistics.track(event("c", Event.EventType.PVP, now - 8 * 24 * 60 * MINUTE));
+
+            // When
+            int lastDay = statistics.getCreatedInLastHours(24, now);
+            int lastWeek = statistics.getCreatedInLastHours(7 * 24, now);
+
+            // Then
+            assertThat(lastDay).isEqualTo(1);
+            assertThat(lastWeek).isEqualTo(2);
+            assertThat(statistics.getEventCount()).isEqualTo(3);
+        }
+    }
+}
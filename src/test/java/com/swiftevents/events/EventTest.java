@@ -460,4 +460,31 @@ class EventTest {
             assertThat(event.getCurrentParticipants()).isEqualTo(threadCount * operationsPerThread);
         }
     }
+
+    @Nested
+    @DisplayName("Snapshot Copy Tests")
+    class SnapshotCopyTests {
+
+        @Test
+        @DisplayName("Should not reflect changes made after the copy")
+        void shouldNotReflectLaterChanges() {
+            // Given
+            event.addParticipant(testPlayerId);
+            event.addMetadata("arena", "north");
+            Event copy = event.copy();
+
+            // When
+            event.addParticipant(UUID.randomUUID());
+            event.addMetadata("arena", "south");
+            event.setStatus(Event.EventStatus.ACTIVE);
+
+            // Then
+            assertThat(copy.getId()).isEqualTo(event.getId());
+            assertThat(copy.getCreatedAt()).isEqualTo(event.getCreatedAt());
+            assertThat(copy.getParticipants()).containsExactly(testPlayerId);
+            assertThat(copy.getCurrentParticipants()).isEqualTo(1);
+            assertThat(copy.getMetadata("arena")).isEqualTo("north");
+            assertThat(copy.getStatus()).isEqualTo(Event.EventStatus.CREATED);
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.swiftevents.events;
+
+import org.bukkit.Location;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TeleportScheduler Tests")
+class TeleportSchedulerTest {
+
+    private final Location center = new Location(null, 100.5, 64, -20.5);
+
+    @Test
+    @DisplayName("Should place the first arrival on the event location")
+    void shouldPlaceFirstArrivalAtCenter() {
+        // When
+        Location first = TeleportScheduler.arrivalLocation(center, 0, 1.5);
+
+        // Then
+        assertThat(first.getX()).isEqualTo(center.getX());
+        assertThat(first.getZ()).isEqualTo(center.getZ());
+        assertThat(first).isNotSameAs(center);
+    }
+
+    @Test
+    @DisplayName("Should keep arrivals apart and at the event height")
+    void shouldKeepArrivalsApart() {
+        // Given
+        List<Location> arrivals = new ArrayList<>();
+
+        // When
+        for (int slot = 0; slot < 100; slot++) {
+            arrivals.add(TeleportScheduler.arrivalLocation(center, slot, 1.5));
+        }
+
+        // Then
+        for (int i = 0; i < arrivals.size(); i++) {
+            assertThat(arrivals.get(i).getY()).isEqualTo(center.getY());
+            for (int j = i + 1; j < arrivals.size(); j++) {
+                double dx = arrivals.get(i).getX() - arrivals.get(j).getX();
+                double dz = arrivals.get(i).getZ() - arrivals.get(j).getZ();
+                assertThat(Math.sqrt(dx * dx + dz * dz)).as("slots %d and %d", i, j).isGreaterThan(1.0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should grow the spiral with the square root of the arrival count")
+    void shouldGrowSpiralSlowly() {
+        // When
+        Location last = TeleportScheduler.arrivalLocation(center, 255, 1.5);
+
+        // Then
+        double distance = Math.hypot(last.getX() - center.getX(), last.getZ() - center.getZ());
+        assertThat(distance).isCloseTo(1.5 * Math.sqrt(255), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should turn arrivals towards the event location")
+    void shouldFaceCenter() {
+        // When
+        Location arrival = TeleportScheduler.arrivalLocation(center, 7, 1.5);
+
+        // Then
+        Location ahead = arrival.clone().add(arrival.getDirection().multiply(arrival.distance(center)));
+        assertThat(ahead.getX()).isCloseTo(center.getX(), within(1e-3));
+        assertThat(ahead.getZ()).isCloseTo(center.getZ(), within(1e-3));
+    }
+}
@@ -0,0 +1,337 @@
+package com.swiftevents.replication;
+
+import com.swiftevents.events.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReplicationManager Tests")
+class ReplicationManagerTest {
+
+    private static final long TOMBSTONE_MILLIS = 60_000L;
+
+    private LoopbackTransport.Hub hub;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackTransport.Hub();
+        nodeA = new Node("node-a", hub);
+        nodeB = new Node("node-b", hub);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.manager.close();
+        nodeB.manager.close();
+    }
+
+    private Event createOn(Node node) {
+        Event event = new Event("Arena Fight", "Last player standing", Event.EventType.PVP, UUID.randomUUID());
+        node.events.put(event.getId(), event);
+        node.manager.recordUpsert(event);
+        return event;
+    }
+
+    @Nested
+    @DisplayName("Propagation Tests")
+    class PropagationTests {
+
+        @Test
+        @DisplayName("Should create events on the other nodes")
+        void shouldReplicateNewEvent() {
+            // When
+            Event event = createOn(nodeA);
+
+            // Then
+            Event replica = nodeB.events.get(event.getId());
+            assertThat(replica).isNotNull();
+            assertThat(replica.getName()).isEqualTo("Arena Fight");
+            assertThat(replica.getVersion()).isEqualTo(event.getVersion()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should update the existing instance in place")
+        void shouldUpdateInPlace() {
+            // Given
+            Event event = createOn(nodeA);
+            Event replica = nodeB.events.get(event.getId());
+
+            // When
+            event.setStatus(Event.EventStatus.ACTIVE);
+            nodeA.manager.recordUpsert(event);
+
+            // Then
+            assertThat(nodeB.events.get(event.getId())).isSameAs(replica);
+            assertThat(replica.getStatus()).isEqualTo(Event.EventStatus.ACTIVE);
+            assertThat(replica.getVersion()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should delete events on the other nodes")
+        void shouldReplicateDelete() {
+            // Given
+            Event event = createOn(nodeA);
+
+            // When
+            nodeA.events.remove(event.getId());
+            nodeA.manager.recordDelete(event);
+
+            // Then
+            assertThat(nodeB.events).doesNotContainKey(event.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Conflict Tests")
+    class ConflictTests {
+
+        @Test
+        @DisplayName("Should keep both players when they join on different nodes at once")
+        void shouldMergeConcurrentJoins() {
+            // Given
+            Event event = createOn(nodeA);
+            UUID playerOnA = UUID.randomUUID();
+            UUID playerOnB = UUID.randomUUID();
+
+            // When
+            hub.hold();
+            nodeA.join(event.getId(), playerOnA);
+            nodeB.join(event.getId(), playerOnB);
+            hub.release(false);
+
+            // Then
+            for (Node node : List.of(nodeA, nodeB)) {
+                Event copy = node.events.get(event.getId());
+                assertThat(copy.getParticipants()).containsExactlyInAnyOrder(playerOnA, playerOnB);
+                assertThat(copy.getCurrentParticipants()).isEqualTo(2);
+            }
+            assertThat(nodeA.events.get(event.getId()).getVersion()).isEqualTo(nodeB.events.get(event.getId()).getVersion());
+        }
+
+        @Test
+        @DisplayName("Should pick the same field values on every node for concurrent edits")
+        void shouldResolveConcurrentEditsDeterministically() {
+            // Given
+            Event event = createOn(nodeA);
+
+            // When
+            hub.hold();
+            nodeA.rename(event.getId(), "Renamed on A");
+            nodeB.rename(event.getId(), "Renamed on B");
+            hub.release(false);
+
+            // Then - equal versions, the higher node id wins
+            assertThat(nodeA.events.get(event.getId()).getName()).isEqualTo("Renamed on B");
+            assertThat(nodeB.events.get(event.getId()).getName()).isEqualTo("Renamed on B");
+            assertThat(nodeB.manager.getStaleCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore changes that arrive after newer ones")
+        void shouldIgnoreOutOfOrderChanges() {
+            // Given
+            Event event = createOn(nodeA);
+            UUID player = UUID.randomUUID();
+
+            // When
+            hub.hold();
+            nodeA.rename(event.getId(), "First");
+            nodeA.join(event.getId(), player);
+            nodeA.leave(event.getId(), player);
+            nodeA.rename(event.getId(), "Last");
+            hub.release(true);
+
+            // Then
+            Event replica = nodeB.events.get(event.getId());
+            assertThat(replica.getName()).isEqualTo("Last");
+            assertThat(replica.getParticipants()).isEmpty();
+            assertThat(replica.getVersion()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not resurrect a deleted event with an older change")
+        void shouldKeepDeleteOverOlderChange() {
+            // Given
+            Event event = createOn(nodeA);
+
+            // When
+            hub.hold();
+            nodeA.rename(event.getId(), "Before delete");
+            nodeA.events.remove(event.getId());
+            nodeA.manager.recordDelete(event);
+            hub.release(true);
+
+            // Then
+            assertThat(nodeB.events).doesNotContainKey(event.getId());
+        }
+
+        @Test
+        @DisplayName("Should continue from the highest version seen when changing a replica")
+        void shouldAdvancePastRemoteVersions() {
+            // Given
+            Event event = createOn(nodeA);
+            nodeA.rename(event.getId(), "Second");
+
+            // When
+            nodeB.rename(event.getId(), "Third");
+
+            // Then
+            assertThat(nodeB.events.get(event.getId()).getVersion()).isEqualTo(3);
+            assertThat(nodeA.events.get(event.getId()).getName()).isEqualTo("Third");
+            assertThat(nodeA.events.get(event.getId()).getVersion()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should publish under the version assigned before the storage save")
+        void shouldPublishAssignedVersion() {
+            // Given
+            Event event = createOn(nodeA);
+            nodeB.rename(event.getId(), "Second");
+            nodeB.rename(event.getId(), "Third");
+            Event local = nodeA.events.get(event.getId());
+
+            // When - storage has only seen the first version
+            long assigned = nodeA.manager.nextVersion(local, 1);
+            local.setName("Fourth");
+            nodeA.manager.recordUpsert(local);
+
+            // Then
+            assertThat(assigned).isEqualTo(4);
+            assertThat(local.getVersion()).isEqualTo(4);
+            assertThat(nodeB.events.get(event.getId()).getVersion()).isEqualTo(4);
+            assertThat(nodeB.events.get(event.getId()).getName()).isEqualTo("Fourth");
+        }
+    }
+
+    @Nested
+    @DisplayName("Clock Cleanup Tests")
+    class ClockCleanupTests {
+
+        @Test
+        @DisplayName("Should drop the clock of a deleted event after the retention")
+        void shouldExpireDeletedClocks() {
+            // Given
+            Event event = createOn(nodeA);
+            nodeA.events.remove(event.getId());
+            nodeA.manager.recordDelete(event);
+
+            // When
+            nodeA.manager.expireTombstones(System.currentTimeMillis());
+            int clocksBeforeRetention = nodeA.manager.getClockCount();
+            nodeA.manager.expireTombstones(System.currentTimeMillis() + TOMBSTONE_MILLIS);
+            nodeB.manager.expireTombstones(System.currentTimeMillis() + TOMBSTONE_MILLIS);
+
+            // Then
+            assertThat(clocksBeforeRetention).isEqualTo(1);
+            assertThat(nodeA.manager.getClockCount()).isZero();
+            assertThat(nodeB.manager.getClockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not bring back an event moved out of memory with an older change")
+        void shouldIgnoreDelayedChangeForEvictedEvent() {
+            // Given
+            Event event = createOn(nodeA);
+            nodeB.rename(event.getId(), "Newer");
+            nodeB.evict(event.getId());
+
+            // When - a change from before the eviction arrives late
+            hub.hold();
+            Event old = event.copy();
+            old.setVersion(1);
+            old.setName("Delayed");
+            nodeA.events.put(old.getId(), old);
+            nodeA.manager.forget(old.getId());
+            nodeA.manager.recordUpsert(old);
+            hub.release(false);
+
+            // Then
+            assertThat(nodeB.events).doesNotContainKey(event.getId());
+            assertThat(nodeB.manager.getClockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop the clock of an event moved out of memory")
+        void shouldForgetEvictedEvent() {
+            // Given
+            Event event = createOn(nodeA);
+
+            // When
+            nodeA.manager.forget(event.getId());
+
+            // Then
+            assertThat(nodeA.manager.getClockCount()).isZero();
+        }
+    }
+
+    // One simulated server: its events and its replication manager
+    private static class Node implements ReplicationManager.Target {
+        private final Map<String, Event> events = new HashMap<>();
+        // Stored versions of events moved out of memory
+        private final Map<String, Long> cold = new HashMap<>();
+        private final ReplicationManager manager;
+
+        Node(String nodeId, LoopbackTransport.Hub hub) {
+            manager = new ReplicationManager(nodeId, new LoopbackTransport(hub), this, Runnable::run, TOMBSTONE_MILLIS,
+                    Logger.getLogger(nodeId));
+            manager.start();
+        }
+
+        void join(String eventId, UUID playerId) {
+            Event event = events.get(eventId);
+            event.addParticipant(playerId);
+            manager.recordUpsert(event);
+        }
+
+        void leave(String eventId, UUID playerId) {
+            Event event = events.get(eventId);
+            event.removeParticipant(playerId);
+            manager.recordUpsert(event);
+        }
+
+        void rename(String eventId, String name) {
+            Event event = events.get(eventId);
+            event.setName(name);
+            manager.recordUpsert(event);
+        }
+
+        void evict(String eventId) {
+            cold.put(eventId, events.remove(eventId).getVersion());
+            manager.forget(eventId);
+        }
+
+        @Override
+        public Event getReplicatedEvent(String eventId) {
+            return events.get(eventId);
+        }
+
+        @Override
+        public long getColdVersion(String eventId) {
+            return cold.getOrDefault(eventId, -1L);
+        }
+
+        @Override
+        public void applyReplicatedState(Event state) {
+            Event local = events.get(state.getId());
+            if (local == null) {
+                events.put(state.getId(), state);
+            } else if (local != state) {
+                local.copyStateFrom(state);
+            }
+        }
+
+        @Override
+        public void applyReplicatedDelete(String eventId) {
+            events.remove(eventId);
+        }
+    }
+}
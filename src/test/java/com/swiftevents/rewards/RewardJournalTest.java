@@ -0,0 +1,163 @@
+package com.swiftevents.rewards;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Reward Journal Tests")
+class RewardJournalTest {
+
+    @Nested
+    @DisplayName("Template Tests")
+    class TemplateTests {
+
+        @Test
+        @DisplayName("Should substitute every player placeholder")
+        void shouldSubstituteEveryPlaceholder() {
+            // Given
+            RewardTemplate template = RewardTemplate.parse("msg {player} well done {player}!");
+
+            // When & Then
+            assertThat(template.render("Steve")).isEqualTo("msg Steve well done Steve!");
+            assertThat(template.render("Alex")).isEqualTo("msg Alex well done Alex!");
+            assertThat(template.getSource()).isEqualTo("msg {player} well done {player}!");
+        }
+
+        @Test
+        @DisplayName("Should render commands without placeholders unchanged")
+        void shouldRenderPlainCommands() {
+            // Given
+            RewardTemplate template = RewardTemplate.parse("broadcast Event over");
+
+            // When & Then
+            assertThat(template.render("Steve")).isEqualTo("broadcast Event over");
+        }
+
+        @Test
+        @DisplayName("Should handle placeholders at the edges of the command")
+        void shouldHandlePlaceholdersAtEdges() {
+            // Given
+            RewardTemplate template = RewardTemplate.parse("{player}{player}");
+
+            // When & Then
+            assertThat(template.render("ab")).isEqualTo("abab");
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal Tests")
+    class JournalTests {
+
+        @TempDir
+        File dataFolder;
+
+        private RewardJournal journal;
+        private final Logger logger = Logger.getLogger("RewardJournalTest");
+
+        @BeforeEach
+        void setUp() {
+            journal = new RewardJournal(dataFolder, logger);
+            assertThat(journal.load()).isEmpty();
+        }
+
+        @AfterEach
+        void tearDown() {
+            journal.close();
+        }
+
+        private RewardGrant grant(UUID playerId, String eventId) {
+            return new RewardGrant(playerId, eventId, "Event " + eventId,
+                    RewardTemplate.parseAll(List.of("give {player} diamond 1", "eco give {player} 100")));
+        }
+
+        @Test
+        @DisplayName("Should restore grants that were never delivered")
+        void shouldRestoreUndeliveredGrants() {
+            // Given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            journal.recordGranted(List.of(grant(first, "e1"), grant(second, "e1")));
+            journal.recordDelivered(List.of(RewardGrant.idFor("e1", first)), false);
+            journal.close();
+
+            // When
+            journal = new RewardJournal(dataFolder, logger);
+            List<RewardGrant> restored = journal.load();
+
+            // Then
+            assertThat(restored).hasSize(1);
+            RewardGrant grant = restored.get(0);
+            assertThat(grant.getPlayerId()).isEqualTo(second);
+            assertThat(grant.getEventName()).isEqualTo("Event e1");
+            assertThat(grant.getTemplates()).extracting(template -> template.render("Alex"))
+                .containsExactly("give Alex diamond 1", "eco give Alex 100");
+        }
+
+        @Test
+        @DisplayName("Should compact the journal to the pending grants on load")
+        void shouldCompactOnLoad() throws Exception {
+            // Given
+            UUID playerId = UUID.randomUUID();
+            for (int i = 0; i < 20; i++) {
+                journal.recordGranted(List.of(grant(playerId, "e" + i)));
+                journal.recordDelivered(List.of(RewardGrant.idFor("e" + i, playerId)), false);
+            }
+            journal.recordGranted(List.of(grant(playerId, "last")));
+            journal.close();
+
+            // When
+            journal = new RewardJournal(dataFolder, logger);
+            List<RewardGrant> restored = journal.load();
+
+            // Then
+            assertThat(restored).extracting(RewardGrant::getEventId).containsExactly("last");
+            assertThat(Files.readAllLines(new File(dataFolder, RewardJournal.JOURNAL_FILE).toPath())).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should empty the journal once nothing is pending")
+        void shouldTruncateWhenNothingPending() {
+            // Given
+            UUID playerId = UUID.randomUUID();
+            journal.recordGranted(List.of(grant(playerId, "e1")));
+
+            // When
+            journal.recordDelivered(List.of(RewardGrant.idFor("e1", playerId)), true);
+            journal.close();
+
+            // Then
+            assertThat(new File(dataFolder, RewardJournal.JOURNAL_FILE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should skip a line cut short by a crash")
+        void shouldSkipTruncatedLine() throws Exception {
+            // Given
+            UUID playerId = UUID.randomUUID();
+            journal.recordGranted(List.of(grant(playerId, "e1")));
+            journal.close();
+            Files.writeString(new File(dataFolder, RewardJournal.JOURNAL_FILE).toPath(),
+                    "{\"grant\":\"e2:", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+            // When
+            journal = new RewardJournal(dataFolder, logger);
+            List<RewardGrant> restored = journal.load();
+
+            // Then
+            assertThat(restored).extracting(RewardGrant::getEventId).containsExactly("e1");
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.swiftevents.simulation;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.events.Event;
+import com.swiftevents.events.EventManager;
+import com.swiftevents.hud.HUDManager;
+import com.swiftevents.utils.TickProfiler;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * End-to-end tick cost simulation on top of MockBukkit. Loads the real plugin, connects N mock
+ * players, runs the scheduler for M simulated minutes while players join and leave the server,
+ * toggle their HUD and join/leave events through GUI clicks handled by {@code PlayerListener},
+ * and reports main-thread time and allocation per subsystem using {@link TickProfiler}.
+ * <p>
+ * MockBukkit advances ticks without advancing the wall clock, so time-based transitions (event
+ * end times, the tasker's random interval) are driven explicitly instead of by waiting.
+ * <p>
+ * For large runs outside the test suite:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.swiftevents.simulation.PlayerLoadSimulation \
+ *     -Dexec.args="--players=400 --minutes=10"
+ * </pre>
+ */
+public class PlayerLoadSimulation {
+
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int TICKS_PER_MINUTE = TICKS_PER_SECOND * 60;
+
+    public static class Settings {
+        public int players = 100;
+        public int minutes = 2;
+        public int concurrentEvents = 5;
+        // Share of players with the boss bar HUD enabled
+        public double bossBarShare = 0.3;
+        // GUI join/leave clicks per simulated second, across all players
+        public int clicksPerSecond = 4;
+        // Server disconnect/reconnect pairs per simulated minute
+        public int churnPerMinute = 10;
+        public long seed = 1L;
+    }
+
+    public static class Report {
+        public final long ticks;
+        public final Map<TickProfiler.Subsystem, Long> nanosPerTick = new EnumMap<>(TickProfiler.Subsystem.class);
+        public final Map<TickProfiler.Subsystem, Long> bytesPerTick = new EnumMap<>(TickProfiler.Subsystem.class);
+        public final Map<TickProfiler.Subsystem, Long> calls = new EnumMap<>(TickProfiler.Subsystem.class);
+        public final long clicks;
+        public final long successfulToggles;
+
+        Report(long ticks, TickProfiler.Snapshot snapshot, long clicks, long successfulToggles) {
+            this.ticks = ticks;
+            this.clicks = clicks;
+            this.successfulToggles = successfulToggles;
+            for (TickProfiler.Subsystem subsystem : TickProfiler.Subsystem.values()) {
+                nanosPerTick.put(subsystem, snapshot.getNanos(subsystem) / Math.max(1, ticks));
+                bytesPerTick.put(subsystem, snapshot.getAllocatedBytes(subsystem) / Math.max(1, ticks));
+                calls.put(subsystem, snapshot.getCalls(subsystem));
+            }
+        }
+
+        public long getTotalNanosPerTick() {
+            return nanosPerTick.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long getTotalBytesPerTick() {
+            return bytesPerTick.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%d ticks, %d GUI clicks (%d join/leave)%n", ticks, clicks, successfulToggles));
+            sb.append(String.format("%-14s %12s %14s %10s%n", "subsystem", "ns/tick", "bytes/tick", "calls"));
+            for (TickProfiler.Subsystem subsystem : TickProfiler.Subsystem.values()) {
+                sb.append(String.format("%-14s %12d %14d %10d%n", subsystem,
+                        nanosPerTick.get(subsystem), bytesPerTick.get(subsystem), calls.get(subsystem)));
+            }
+            sb.append(String.format("%-14s %12d %14d%n", "TOTAL", getTotalNanosPerTick(), getTotalBytesPerTick()));
+            return sb.toString();
+        }
+    }
+
+    private final Settings settings;
+    private final Random random;
+    private ServerMock server;
+    private SwiftEventsPlugin plugin;
+    private final List<PlayerMock> online = new ArrayList<>();
+    private final List<PlayerMock> offline = new ArrayList<>();
+    private final List<String> eventIds = new ArrayList<>();
+    private long clicks;
+    private long successfulToggles;
+
+    public PlayerLoadSimulation(Settings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+    }
+
+    public Report run() {
+        server = MockBukkit.mock();
+        try {
+            plugin = MockBukkit.load(SwiftEventsPlugin.class);
+            setUpPlayers();
+            setUpEvents();
+
+            long ticks = (long) settings.minutes * TICKS_PER_MINUTE;
+            TickProfiler.enable();
+            for (long tick = 1; tick <= ticks; tick++) {
+                server.getScheduler().performOneTick();
+
+                if (tick % TICKS_PER_SECOND == 0) {
+                    for (int i = 0; i < settings.clicksPerSecond; i++) {
+                        clickRandomEvent();
+                    }
+                }
+                if (tick % TICKS_PER_MINUTE == 0) {
+                    churnPlayers();
+                    rotateEvent();
+                }
+            }
+            TickProfiler.Snapshot snapshot = TickProfiler.snapshot();
+            return new Report(ticks, snapshot, clicks, successfulToggles);
+        } finally {
+            TickProfiler.disable();
+            MockBukkit.unmock();
+        }
+    }
+
+    private void setUpPlayers() {
+        HUDManager hudManager = plugin.getHUDManager();
+        for (int i = 0; i < settings.players; i++) {
+            PlayerMock player = server.addPlayer();
+            player.setOp(true);
+            if (random.nextDouble() < settings.bossBarShare) {
+                hudManager.setPlayerHUDPreference(player, HUDManager.HUDPreference.BOSS_BAR);
+            }
+            online.add(player);
+        }
+    }
+
+    private void setUpEvents() {
+        for (int i = 0; i < settings.concurrentEvents; i++) {
+            startNewEvent();
+        }
+    }
+
+    private void startNewEvent() {
+        EventManager eventManager = plugin.getEventManager();
+        Event.EventType[] types = Event.EventType.values();
+        UUID creator = online.get(random.nextInt(online.size())).getUniqueId();
+        Event event = eventManager.createEvent("Simulated Event " + eventIds.size(), "Load simulation event",
+                types[random.nextInt(types.length)], creator);
+        if (event == null) {
+            return;
+        }
+        event.setEndTime(System.currentTimeMillis() + 3_600_000L);
+        eventManager.startEvent(event.getId());
+        eventIds.add(event.getId());
+    }
+
+    // Ends the oldest running event and starts a replacement, standing in for the tasker's cadence
+    private void rotateEvent() {
+        if (!eventIds.isEmpty()) {
+            plugin.getEventManager().endEvent(eventIds.remove(0));
+        }
+        startNewEvent();
+    }
+
+    private void churnPlayers() {
+        for (int i = 0; i < settings.churnPerMinute && online.size() > 1; i++) {
+            PlayerMock leaving = online.remove(random.nextInt(online.size()));
+            leaving.disconnect();
+            offline.add(leaving);
+        }
+        while (!offline.isEmpty()) {
+            PlayerMock returning = offline.remove(offline.size() - 1);
+            returning.reconnect();
+            online.add(returning);
+        }
+    }
+
+    // Shift-click on an event in the events GUI: the quick join/leave path in PlayerListener
+    private void clickRandomEvent() {
+        if (online.isEmpty() || eventIds.isEmpty()) {
+            return;
+        }
+        PlayerMock player = online.get(random.nextInt(online.size()));
+        Event target = plugin.getEventManager().getEvent(eventIds.get(random.nextInt(eventIds.size())));
+        if (target == null) {
+            return;
+        }
+
+        plugin.getGUIManager().openEventsGUI(player);
+        InventoryView view = player.getOpenInventory();
+        int slot = findEventSlot(view.getTopInventory(), target);
+        if (slot < 0) {
+            return;
+        }
+
+        boolean wasParticipant = target.isParticipant(player.getUniqueId());
+        player.setSneaking(true);
+        InventoryClickEvent click = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, slot,
+                ClickType.SHIFT_LEFT, InventoryAction.MOVE_TO_OTHER_INVENTORY);
+        server.getPluginManager().callEvent(click);
+        player.setSneaking(false);
+        clicks++;
+        if (target.isParticipant(player.getUniqueId()) != wasParticipant) {
+            successfulToggles++;
+        }
+    }
+
+    private static int findEventSlot(Inventory inventory, Event event) {
+        String displayName = "§6" + event.getName();
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            ItemStack item = inventory.getItem(slot);
+            if (item != null && item.hasItemMeta() && displayName.equals(item.getItemMeta().getDisplayName())) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) {
+        Settings settings = new Settings();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (parts.length != 2) {
+                continue;
+            }
+            switch (parts[0]) {
+                case "players" -> settings.players = Integer.parseInt(parts[1]);
+                case "minutes" -> settings.minutes = Integer.parseInt(parts[1]);
+                case "events" -> settings.concurrentEvents = Integer.parseInt(parts[1]);
+                case "clicks" -> settings.clicksPerSecond = Integer.parseInt(parts[1]);
+                case "churn" -> settings.churnPerMinute = Integer.parseInt(parts[1]);
+                case "seed" -> settings.seed = Long.parseLong(parts[1]);
+                default -> System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+        System.out.print(new PlayerLoadSimulation(settings).run());
+    }
+}
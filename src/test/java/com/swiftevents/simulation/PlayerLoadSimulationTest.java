@@ -0,0 +1,52 @@
+package com.swiftevents.simulation;
+
+import com.swiftevents.utils.TickProfiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the player load simulation end to end. The per-tick budget is a wall-clock check, so it
+ * only runs when a budget is given, e.g. {@code mvn test -Dswiftevents.sim.maxNanosPerTick=5000000}.
+ */
+@DisplayName("Player Load Simulation Tests")
+class PlayerLoadSimulationTest {
+
+    private static PlayerLoadSimulation.Report simulate() {
+        PlayerLoadSimulation.Settings settings = new PlayerLoadSimulation.Settings();
+        settings.players = Integer.getInteger("swiftevents.sim.players", 100);
+        settings.minutes = Integer.getInteger("swiftevents.sim.minutes", 2);
+        return new PlayerLoadSimulation(settings).run();
+    }
+
+    @Test
+    @DisplayName("Should drive every subsystem through the simulated ticks")
+    void shouldRunSimulation() {
+        // When
+        PlayerLoadSimulation.Report report = simulate();
+
+        // Then
+        assertThat(report.ticks).isEqualTo(Integer.getInteger("swiftevents.sim.minutes", 2) * 1200L);
+        assertThat(report.clicks).isPositive();
+        assertThat(report.calls.get(TickProfiler.Subsystem.EVENT_MANAGER)).isPositive();
+        assertThat(report.calls.get(TickProfiler.Subsystem.LISTENER)).isPositive();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "swiftevents.sim.maxNanosPerTick", matches = "\\d+")
+    @DisplayName("Should keep plugin main-thread cost per tick within budget")
+    void shouldStayWithinTickBudget() {
+        // Given
+        long maxNanosPerTick = Long.getLong("swiftevents.sim.maxNanosPerTick");
+
+        // When
+        PlayerLoadSimulation.Report report = simulate();
+
+        // Then
+        assertThat(report.getTotalNanosPerTick())
+                .as("plugin main-thread ns per tick%n%s", report)
+                .isLessThanOrEqualTo(maxNanosPerTick);
+    }
+}
@@ -0,0 +1,237 @@
+package com.swiftevents.stats;
+
+import com.swiftevents.SwiftEventsPlugin;
+import com.swiftevents.config.ConfigManager;
+import com.swiftevents.database.DatabaseManager;
+import com.swiftevents.events.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Player statistics")
+class PlayerStatsTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID CAROL = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+
+    @Nested
+    @DisplayName("Leaderboard")
+    class LeaderboardTests {
+
+        @Test
+        @DisplayName("Should order players by score, best first")
+        void shouldOrderByScore() {
+            // Given
+            Leaderboard leaderboard = new Leaderboard(PlayerStat.WINS, 10);
+
+            // When
+            leaderboard.update(ALICE, 2);
+            leaderboard.update(BOB, 5);
+            leaderboard.update(CAROL, 3);
+
+            // Then
+            assertThat(leaderboard.getTop(10)).containsExactly(
+                new Leaderboard.Entry(BOB, 5), new Leaderboard.Entry(CAROL, 3), new Leaderboard.Entry(ALICE, 2));
+            assertThat(leaderboard.getRank(CAROL)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should move a player when their score changes")
+        void shouldMoveUpdatedPlayer() {
+            // Given
+            Leaderboard leaderboard = new Leaderboard(PlayerStat.WINS, 10);
+            leaderboard.update(ALICE, 1);
+            leaderboard.update(BOB, 4);
+
+            // When
+            leaderboard.update(ALICE, 6);
+
+            // Then
+            assertThat(leaderboard.getTop(1)).containsExactly(new Leaderboard.Entry(ALICE, 6));
+            assertThat(leaderboard.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep only the best players when full")
+        void shouldEvictLowestWhenFull() {
+            // Given
+            Leaderboard leaderboard = new Leaderboard(PlayerStat.WINS, 2);
+            leaderboard.update(ALICE, 1);
+            leaderboard.update(BOB, 4);
+
+            // When
+            leaderboard.update(CAROL, 3);
+
+            // Then
+            assertThat(leaderboard.getTop(10)).containsExactly(
+                new Leaderboard.Entry(BOB, 4), new Leaderboard.Entry(CAROL, 3));
+            assertThat(leaderboard.getRank(ALICE)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Should not let a lower score into a full board")
+        void shouldRejectLowerScoreWhenFull() {
+            // Given
+            Leaderboard leaderboard = new Leaderboard(PlayerStat.WINS, 1);
+            leaderboard.update(BOB, 4);
+
+            // When
+            leaderboard.update(ALICE, 2);
+
+            // Then
+            assertThat(leaderboard.getTop(10)).containsExactly(new Leaderboard.Entry(BOB, 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON store")
+    class JsonStoreTests {
+
+        @TempDir
+        File dataFolder;
+
+        @Test
+        @DisplayName("Should add deltas to the stored totals across restarts")
+        void shouldAccumulateAcrossRestarts() {
+            // Given
+            JsonPlayerStatsStore store = new JsonPlayerStatsStore(dataFolder, Logger.getLogger("test"));
+            store.load();
+            PlayerStats first = new PlayerStats(ALICE);
+            first.add(Event.EventType.PVP, 1, 1, 1, 60_000);
+            store.add(List.of(first));
+
+            // When
+            JsonPlayerStatsStore reopened = new JsonPlayerStatsStore(dataFolder, Logger.getLogger("test"));
+            reopened.load();
+            PlayerStats second = new PlayerStats(ALICE);
+            second.add(Event.EventType.PVP, 1, 0, 0, 30_000);
+            second.add(Event.EventType.RACING, 1, 1, 0, 0);
+            reopened.add(List.of(second));
+            List<PlayerStats> loaded = new JsonPlayerStatsStore(dataFolder, Logger.getLogger("test")).load();
+
+            // Then
+            assertThat(loaded.size()).isEqualTo(1);
+            PlayerStats stats = loaded.get(0);
+            assertThat(stats.getEventsJoined(Event.EventType.PVP)).isEqualTo(2);
+            assertThat(stats.getEventsCompleted()).isEqualTo(2);
+            assertThat(stats.getWins()).isEqualTo(1);
+            assertThat(stats.getTimeSpentMillis()).isEqualTo(90_000L);
+        }
+
+        @Test
+        @DisplayName("Should start empty without a stats file")
+        void shouldLoadNothingWithoutFile() {
+            // Given
+            JsonPlayerStatsStore store = new JsonPlayerStatsStore(dataFolder, Logger.getLogger("test"));
+
+            // When
+            List<PlayerStats> loaded = store.load();
+
+            // Then
+            assertThat(loaded).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Manager")
+    class ManagerTests {
+
+        private PlayerStatsManager manager;
+
+        @BeforeEach
+        void setUp() {
+            SwiftEventsPlugin plugin = mock(SwiftEventsPlugin.class);
+            ConfigManager configManager = mock(ConfigManager.class);
+            when(plugin.getConfigManager()).thenReturn(configManager);
+            when(plugin.getDatabaseManager()).thenReturn(mock(DatabaseManager.class));
+            when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+            // No data folder: statistics stay in memory
+            manager = new PlayerStatsManager(plugin);
+        }
+
+        private Event runningEvent(long startedAgoMillis) {
+            Event event = new Event("Arena", "Fight", Event.EventType.PVP);
+            event.setStatus(Event.EventStatus.ACTIVE);
+            event.setStartTime(System.currentTimeMillis() - startedAgoMillis);
+            return event;
+        }
+
+        @Test
+        @DisplayName("Should count joins and leaderboard them")
+        void shouldCountJoins() {
+            // Given
+            Event event = runningEvent(1000);
+
+            // When
+            manager.recordJoin(event, ALICE);
+            manager.recordJoin(event, BOB);
+            manager.recordJoin(runningEvent(1000), BOB);
+
+            // Then
+            assertThat(manager.getStats(BOB).getEventsJoined(Event.EventType.PVP)).isEqualTo(2);
+            assertThat(manager.getPlayerCount()).isEqualTo(2);
+            assertThat(manager.getTop(PlayerStat.EVENTS_JOINED, 1)).containsExactly(new Leaderboard.Entry(BOB, 2));
+        }
+
+        @Test
+        @DisplayName("Should count completions, wins and time when an event ends")
+        void shouldRecordEnd() {
+            // Given
+            Event event = runningEvent(60_000);
+            event.addParticipant(ALICE);
+            event.addParticipant(BOB);
+            event.addMetadata("winners", List.of(BOB.toString()));
+            event.setEndTime(event.getStartTime() + 60_000);
+
+            // When
+            manager.recordEnd(event);
+
+            // Then
+            assertThat(manager.getStats(ALICE).getEventsCompleted()).isEqualTo(1);
+            assertThat(manager.getStats(ALICE).getTimeSpentMillis()).isEqualTo(60_000L);
+            assertThat(manager.getStats(ALICE).getWins()).isEqualTo(0);
+            assertThat(manager.getStats(BOB).getWins(Event.EventType.PVP)).isEqualTo(1);
+            assertThat(manager.getRank(BOB, PlayerStat.WINS)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should only count time for a cancelled event")
+        void shouldRecordCancel() {
+            // Given
+            Event event = runningEvent(5000);
+            event.addParticipant(ALICE);
+
+            // When
+            manager.recordCancel(event);
+
+            // Then
+            PlayerStats stats = manager.getStats(ALICE);
+            assertThat(stats.getEventsCompleted()).isEqualTo(0);
+            assertThat(stats.getTimeSpentMillis() >= 5000).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not count time before the event started")
+        void shouldIgnoreTimeBeforeStart() {
+            // Given
+            Event event = new Event("Arena", "Fight", Event.EventType.PVP);
+
+            // When
+            long timeSpent = PlayerStatsManager.activeTime(event, System.currentTimeMillis() - 5000, System.currentTimeMillis());
+
+            // Then
+            assertThat(timeSpent).isEqualTo(0L);
+        }
+    }
+}
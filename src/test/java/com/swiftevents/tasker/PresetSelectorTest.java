@@ -0,0 +1,167 @@
+package com.swiftevents.tasker;
+
+import com.swiftevents.events.Event;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PresetSelector Tests")
+class PresetSelectorTest {
+
+    private static final int DRAWS = 60_000;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    private static EventPreset preset(String id, int weight, int minParticipants) {
+        return new EventPreset(id, id, "Preset " + id, Event.EventType.CUSTOM,
+            600, -1, minParticipants, List.of(), true, weight);
+    }
+
+    private Map<String, Integer> countSelections(PresetSelector selector, PresetSelectionStrategy.Context context) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < DRAWS; i++) {
+            counts.merge(selector.select(context, random).getId(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Nested
+    @DisplayName("Alias Table")
+    class AliasTableTests {
+
+        @Test
+        @DisplayName("Should draw items in proportion to their weights")
+        void shouldDrawByWeight() {
+            // Given
+            AliasTable<String> table = new AliasTable<>(List.of("a", "b", "c"), new double[]{1, 3, 1000});
+
+            // When
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < DRAWS * 10; i++) {
+                counts.merge(table.sample(random), 1, Integer::sum);
+            }
+
+            // Then
+            assertThat(table.size()).isEqualTo(3);
+            assertThat(counts.get("c") / (double) (DRAWS * 10)).isCloseTo(1000 / 1004.0, within(0.002));
+            assertThat(counts.get("b") / (double) counts.get("a")).isCloseTo(3.0, within(0.6));
+        }
+
+        @Test
+        @DisplayName("Should never draw items without weight")
+        void shouldSkipWeightlessItems() {
+            // Given
+            AliasTable<String> table = new AliasTable<>(List.of("a", "b"), new double[]{0, 2});
+            AliasTable<String> empty = new AliasTable<>(List.of("a"), new double[]{0});
+
+            // When / Then
+            for (int i = 0; i < 1000; i++) {
+                assertThat(table.sample(random)).isEqualTo("b");
+            }
+            assertThat(empty.isEmpty()).isTrue();
+            assertThat(empty.sample(random)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Selection")
+    class SelectionTests {
+
+        private final PresetSelectionStrategy.Context context = new PresetSelectionStrategy.Context(50, 12);
+
+        @Test
+        @DisplayName("Should only pick enabled presets and follow changes after a rebuild")
+        void shouldPickEnabledPresets() {
+            // Given
+            EventPreset pvp = preset("pvp", 10, 1);
+            EventPreset race = preset("race", 10, 1);
+            PresetSelector selector = new PresetSelector(List.of());
+            race.setEnabled(false);
+            selector.rebuild(List.of(pvp, race));
+
+            // When
+            Map<String, Integer> before = countSelections(selector, context);
+            race.setEnabled(true);
+            pvp.setEnabled(false);
+            selector.rebuild(List.of(pvp, race));
+            Map<String, Integer> after = countSelections(selector, context);
+
+            // Then
+            assertThat(before).containsOnlyKeys("pvp");
+            assertThat(after).containsOnlyKeys("race");
+        }
+
+        @Test
+        @DisplayName("Should return null without enabled presets")
+        void shouldReturnNullWithoutPresets() {
+            // Given
+            PresetSelector selector = new PresetSelector(List.of());
+            selector.rebuild(List.of());
+
+            // When / Then
+            assertThat(selector.select(context, random)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should apply time-of-day weights for the current hour")
+        void shouldApplyTimeWeights() {
+            // Given
+            EventPreset pvp = preset("pvp", 1, 1);
+            EventPreset build = preset("build", 1, 1);
+            pvp.setTimeWeight("22-2", 0);
+            build.setTimeWeight("12", 3);
+            PresetSelector selector = new PresetSelector(List.of(new TimeOfDayStrategy()));
+            selector.rebuild(List.of(pvp, build));
+
+            // When
+            Map<String, Integer> night = countSelections(selector, new PresetSelectionStrategy.Context(50, 1));
+            Map<String, Integer> noon = countSelections(selector, context);
+
+            // Then
+            assertThat(night).containsOnlyKeys("build");
+            assertThat(noon.get("build") / (double) DRAWS).isCloseTo(0.75, within(0.01));
+        }
+
+        @Test
+        @DisplayName("Should not repeat recent presets")
+        void shouldAvoidRecentPresets() {
+            // Given
+            PresetSelector selector = new PresetSelector(List.of(new AvoidRecentStrategy(2)));
+            selector.rebuild(List.of(preset("a", 100, 1), preset("b", 1, 1), preset("c", 1, 1)));
+
+            // When
+            String[] picks = new String[300];
+            for (int i = 0; i < picks.length; i++) {
+                picks[i] = selector.select(context, random).getId();
+            }
+
+            // Then - with two of three presets excluded, every pick is forced
+            for (int i = 2; i < picks.length; i++) {
+                assertThat(picks[i]).isNotEqualTo(picks[i - 1]).isNotEqualTo(picks[i - 2]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should skip presets needing more players than are online")
+        void shouldMatchPopulation() {
+            // Given
+            PresetSelector selector = new PresetSelector(List.of(new PopulationAwareStrategy()));
+            selector.rebuild(List.of(preset("duel", 1, 2), preset("war", 1000, 20)));
+
+            // When
+            Map<String, Integer> quiet = countSelections(selector, new PresetSelectionStrategy.Context(5, 12));
+            Map<String, Integer> empty = countSelections(selector, new PresetSelectionStrategy.Context(0, 12));
+
+            // Then
+            assertThat(quiet).containsOnlyKeys("duel");
+            assertThat(empty).containsKeys("duel", "war");
+        }
+    }
+}
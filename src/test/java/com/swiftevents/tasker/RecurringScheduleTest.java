@@ -0,0 +1,313 @@
+package com.swiftevents.tasker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Recurring Schedule Tests")
+class RecurringScheduleTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+    private static final long MINUTE = 60_000L;
+
+    // 2026-03-02 is a Monday
+    private static ZonedDateTime at(int day, int hour, int minute) {
+        return ZonedDateTime.of(2026, 3, day, hour, minute, 0, 0, UTC);
+    }
+
+    private static long millis(ZonedDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    @Nested
+    @DisplayName("Cron Expression")
+    class CronTests {
+
+        @Test
+        @DisplayName("Should find the next matching minute strictly after the given time")
+        void shouldFindNextMinute() {
+            // Given
+            CronExpression cron = CronExpression.parse("*/15 9-17 * * *");
+
+            // When & Then
+            assertThat(cron.next(at(2, 9, 0))).isEqualTo(at(2, 9, 15));
+            assertThat(cron.next(at(2, 9, 7))).isEqualTo(at(2, 9, 15));
+            assertThat(cron.next(at(2, 17, 45))).isEqualTo(at(3, 9, 0));
+            assertThat(cron.next(at(2, 3, 0))).isEqualTo(at(2, 9, 0));
+        }
+
+        @Test
+        @DisplayName("Should accept day and month names, lists and macros")
+        void shouldAcceptNamesAndMacros() {
+            // Given
+            CronExpression weekend = CronExpression.parse("30 20 * * SAT,sun");
+            CronExpression sunday = CronExpression.parse("0 12 * * 7");
+            CronExpression yearly = CronExpression.parse("@yearly");
+            CronExpression april = CronExpression.parse("0 0 1 APR *");
+
+            // When & Then
+            assertThat(weekend.next(at(2, 0, 0))).isEqualTo(at(7, 20, 30));
+            assertThat(weekend.next(at(7, 20, 30))).isEqualTo(at(8, 20, 30));
+            assertThat(sunday.next(at(2, 0, 0))).isEqualTo(at(8, 12, 0));
+            assertThat(yearly.next(at(2, 0, 0))).isEqualTo(ZonedDateTime.of(2027, 1, 1, 0, 0, 0, 0, UTC));
+            assertThat(april.next(at(2, 0, 0))).isEqualTo(ZonedDateTime.of(2026, 4, 1, 0, 0, 0, 0, UTC));
+        }
+
+        @Test
+        @DisplayName("Should match either day field when both are restricted")
+        void shouldMatchEitherDayField() {
+            // Given - the 13th, or any Friday
+            CronExpression cron = CronExpression.parse("0 0 13 * FRI");
+
+            // When & Then
+            assertThat(cron.next(at(2, 0, 0))).isEqualTo(at(6, 0, 0));
+            assertThat(cron.next(at(12, 0, 0))).isEqualTo(at(13, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should give up on dates that never exist")
+        void shouldReturnNullForImpossibleDates() {
+            // Given
+            CronExpression cron = CronExpression.parse("0 0 30 2 *");
+
+            // When & Then
+            assertThat(cron.next(at(2, 0, 0))).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed expressions")
+        void shouldRejectMalformedExpressions() {
+            assertThatThrownBy(() -> CronExpression.parse("* * * *")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CronExpression.parse("60 * * * *")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CronExpression.parse("0 12-9 * * *")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CronExpression.parse("0 0 * * FUNDAY")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CronExpression.parse(" ")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Windows")
+    class WindowTests {
+
+        @Test
+        @DisplayName("Should only run inside the windows of each day")
+        void shouldRunInsideWindows() {
+            // Given
+            RecurringSchedule schedule = RecurringSchedule.parse("0 * * * *");
+            schedule.addWindow(DayOfWeek.WEDNESDAY, "18:00-20:00");
+
+            // When
+            List<Long> runs = new ArrayList<>();
+            long time = millis(at(2, 0, 0));
+            for (int i = 0; i < 3; i++) {
+                time = schedule.next(time, UTC);
+                runs.add(time);
+            }
+
+            // Then - the end of a window is excluded
+            assertThat(runs).containsExactly(millis(at(4, 18, 0)), millis(at(4, 19, 0)), millis(at(11, 18, 0)));
+        }
+
+        @Test
+        @DisplayName("Should continue windows that run past midnight into the next day")
+        void shouldCrossMidnight() {
+            // Given
+            RecurringSchedule schedule = RecurringSchedule.parse("30 * * * *");
+            schedule.addWindow(DayOfWeek.FRIDAY, "23:00-01:00");
+
+            // When & Then
+            assertThat(schedule.isOpen(LocalDateTime.of(2026, 3, 7, 0, 30))).isTrue();
+            assertThat(schedule.isOpen(LocalDateTime.of(2026, 3, 7, 1, 30))).isFalse();
+            assertThat(schedule.next(millis(at(2, 0, 0)), UTC)).isEqualTo(millis(at(6, 23, 30)));
+            assertThat(schedule.next(millis(at(6, 23, 30)), UTC)).isEqualTo(millis(at(7, 0, 30)));
+            assertThat(schedule.next(millis(at(7, 0, 30)), UTC)).isEqualTo(millis(at(13, 23, 30)));
+        }
+
+        @Test
+        @DisplayName("Should give up when the cron never falls inside a window")
+        void shouldGiveUpWithoutOverlap() {
+            // Given
+            RecurringSchedule schedule = RecurringSchedule.parse("0 8 * * *");
+            schedule.addWindow(DayOfWeek.MONDAY, "18:00-20:00");
+
+            // When & Then
+            assertThat(schedule.next(millis(at(2, 0, 0)), UTC)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed windows")
+        void shouldRejectMalformedWindows() {
+            RecurringSchedule schedule = RecurringSchedule.parse("@hourly");
+            assertThatThrownBy(() -> schedule.addWindow(DayOfWeek.MONDAY, "18:00")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> schedule.addWindow(DayOfWeek.MONDAY, "18:00-18:00")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> schedule.addWindow(DayOfWeek.MONDAY, "25:00-26:00")).isInstanceOf(IllegalArgumentException.class);
+            assertThat(schedule.hasWindows()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Scheduler Queue")
+    class SchedulerTests {
+
+        @Test
+        @DisplayName("Should fire due entries earliest first and skip replaced ones")
+        void shouldFireDueEntriesInOrder() {
+            // Given
+            RecurringScheduler scheduler = new RecurringScheduler();
+            scheduler.schedule("b", 200, true);
+            scheduler.schedule("a", 100, true);
+            scheduler.schedule("c", 300, true);
+            scheduler.schedule("b", 500, true);
+            scheduler.cancel("c");
+
+            // When
+            List<String> fired = new ArrayList<>();
+            int count = scheduler.fireDue(400, 10, (id, fireAt) -> fired.add(id + "@" + fireAt));
+
+            // Then
+            assertThat(count).isEqualTo(1);
+            assertThat(fired).containsExactly("a@100");
+            assertThat(scheduler.getNextWakeTime()).isEqualTo(500L);
+            assertThat(scheduler.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should include entries rescheduled while firing, up to the limit")
+        void shouldFireChainsUpToLimit() {
+            // Given
+            RecurringScheduler scheduler = new RecurringScheduler();
+            scheduler.schedule("every-minute", 0, true);
+            List<Long> fired = new ArrayList<>();
+
+            // When
+            int count = scheduler.fireDue(10 * MINUTE, 5, (id, fireAt) -> {
+                fired.add(fireAt);
+                scheduler.schedule(id, fireAt + MINUTE, true);
+            });
+
+            // Then
+            assertThat(count).isEqualTo(5);
+            assertThat(fired).containsExactly(0L, MINUTE, 2 * MINUTE, 3 * MINUTE, 4 * MINUTE);
+            assertThat(scheduler.getFireTime("every-minute")).isEqualTo(5 * MINUTE);
+        }
+
+        @Test
+        @DisplayName("Should only snapshot persistent entries")
+        void shouldSnapshotPersistentEntries() {
+            // Given
+            RecurringScheduler scheduler = new RecurringScheduler();
+            scheduler.schedule("preset:pvp", 1000, true);
+            scheduler.schedule("announce:preset:pvp", 700, false);
+
+            // When & Then
+            assertThat(scheduler.snapshot()).containsOnlyKeys("preset:pvp");
+            assertThat(scheduler.getNextWakeTime()).isEqualTo(700L);
+            assertThat(scheduler.getNextFireTime(id -> !id.startsWith("announce:"))).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("Should stay small when the same entries are rescheduled many times")
+        void shouldCompactStaleEntries() {
+            // Given
+            RecurringScheduler scheduler = new RecurringScheduler();
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                scheduler.schedule("preset:" + (i % 300), i, true);
+            }
+
+            // Then
+            assertThat(scheduler.size()).isEqualTo(300);
+            assertThat(scheduler.getNextWakeTime()).isEqualTo(9700L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Catch-Up")
+    class CatchUpTests {
+
+        private final long now = 100 * MINUTE;
+        private final long maxAge = 60 * MINUTE;
+        private final long upcoming = 130 * MINUTE;
+
+        @Test
+        @DisplayName("Should keep saved times that are still ahead")
+        void shouldKeepFutureTimes() {
+            for (RecurringScheduler.CatchUp policy : RecurringScheduler.CatchUp.values()) {
+                assertThat(RecurringScheduler.resumeAt(policy, 110 * MINUTE, now, maxAge, upcoming)).isEqualTo(110 * MINUTE);
+                assertThat(RecurringScheduler.resumeAt(policy, -1, now, maxAge, upcoming)).isEqualTo(upcoming);
+            }
+        }
+
+        @Test
+        @DisplayName("Should apply the policy to missed runs")
+        void shouldApplyPolicy() {
+            long missed = 70 * MINUTE;
+            assertThat(RecurringScheduler.resumeAt(RecurringScheduler.CatchUp.SKIP, missed, now, maxAge, upcoming)).isEqualTo(upcoming);
+            assertThat(RecurringScheduler.resumeAt(RecurringScheduler.CatchUp.ONCE, missed, now, maxAge, upcoming)).isEqualTo(now);
+            assertThat(RecurringScheduler.resumeAt(RecurringScheduler.CatchUp.ALL, missed, now, maxAge, upcoming)).isEqualTo(missed);
+        }
+
+        @Test
+        @DisplayName("Should not catch up runs older than the limit")
+        void shouldDropOldRuns() {
+            long missed = 10 * MINUTE;
+            assertThat(RecurringScheduler.resumeAt(RecurringScheduler.CatchUp.ONCE, missed, now, maxAge, upcoming)).isEqualTo(upcoming);
+            assertThat(RecurringScheduler.resumeAt(RecurringScheduler.CatchUp.ALL, missed, now, maxAge, upcoming)).isEqualTo(upcoming);
+        }
+
+        @Test
+        @DisplayName("Should default to ONCE for unknown policies")
+        void shouldParsePolicies() {
+            assertThat(RecurringScheduler.CatchUp.parse(" all ")).isEqualTo(RecurringScheduler.CatchUp.ALL);
+            assertThat(RecurringScheduler.CatchUp.parse("sometimes")).isEqualTo(RecurringScheduler.CatchUp.ONCE);
+            assertThat(RecurringScheduler.CatchUp.parse(null)).isEqualTo(RecurringScheduler.CatchUp.ONCE);
+        }
+    }
+
+    @Nested
+    @DisplayName("State Store")
+    class StateStoreTests {
+
+        @TempDir
+        File dataFolder;
+
+        @Test
+        @DisplayName("Should restore the last saved fire times after closing")
+        void shouldRoundTrip() {
+            // Given
+            ScheduleStateStore store = new ScheduleStateStore(dataFolder, Logger.getLogger("test"));
+            store.save(Map.of("random", 1L));
+            store.save(Map.of("random", 2L, "preset:pvp", 3L));
+            store.close();
+
+            // When
+            Map<String, Long> loaded = new ScheduleStateStore(dataFolder, Logger.getLogger("test")).load();
+
+            // Then
+            assertThat(loaded).containsOnlyKeys("random", "preset:pvp");
+            assertThat(loaded.get("random")).isEqualTo(2L);
+            assertThat(loaded.get("preset:pvp")).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Should start empty without a state file")
+        void shouldStartEmpty() {
+            assertThat(new ScheduleStateStore(dataFolder, Logger.getLogger("test")).load()).isEmpty();
+        }
+    }
+}
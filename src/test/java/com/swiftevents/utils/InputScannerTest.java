@@ -0,0 +1,116 @@
+package com.swiftevents.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InputScanner Tests")
+class InputScannerTest {
+
+    @Nested
+    @DisplayName("Removal")
+    class RemovalTests {
+
+        private final InputScanner scanner = InputScanner.builder()
+            .removeElement("script")
+            .remove("javascript:", "data:")
+            .removeAssignments("on")
+            .build();
+
+        @Test
+        @DisplayName("Should remove literals case-insensitively and trim")
+        void shouldRemoveLiterals() {
+            // When
+            InputScanner.Result result = scanner.scan("  Go to JavaScript:home or DATA:x  ");
+
+            // Then
+            assertThat(result.isRejected()).isFalse();
+            assertThat(result.getText()).isEqualTo("Go to home or x");
+        }
+
+        @Test
+        @DisplayName("Should remove what only forms a pattern after an inner removal")
+        void shouldRemoveNestedPatterns() {
+            // When / Then
+            assertThat(scanner.scan("javajavascript:script:alert").getText()).isEqualTo("alert");
+            assertThat(scanner.scan("onloaddata:=go").getText()).isEqualTo("go");
+        }
+
+        @Test
+        @DisplayName("Should remove elements with their content on one line only")
+        void shouldRemoveElements() {
+            // When / Then
+            assertThat(scanner.scan("a<script src=x>evil()</SCRIPT>b").getText()).isEqualTo("ab");
+            assertThat(scanner.scan("a<script>\nevil()</script>b").getText()).isEqualTo("a<script>\nevil()</script>b");
+        }
+
+        @Test
+        @DisplayName("Should remove handler assignments but keep plain words")
+        void shouldRemoveAssignments() {
+            // When / Then
+            assertThat(scanner.scan("x onclick = y").getText()).isEqualTo("x  y");
+            assertThat(scanner.scan("Button on = off").getText()).isEqualTo("Button on = off");
+        }
+
+        @Test
+        @DisplayName("Should return the input itself when nothing changes")
+        void shouldKeepUnchangedInput() {
+            // Given
+            String input = "Weekly PvP Tournament";
+
+            // When / Then
+            assertThat(scanner.scan(input).getText()).isSameAs(input);
+            assertThat(scanner.scan("   ").getText()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejection")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Should reject patterns in the input")
+        void shouldRejectInput() {
+            // Given
+            InputScanner scanner = InputScanner.builder()
+                .reject("document.cookie", "<script")
+                .remove("data:")
+                .build();
+
+            // When / Then
+            assertThat(scanner.scan("steal DOCUMENT.COOKIE").isRejected()).isTrue();
+            assertThat(scanner.scan("steal DOCUMENT.COOKIE").getText()).isNull();
+            assertThat(scanner.scan("<scrdata:ipt").isRejected()).isFalse();
+            assertThat(scanner.containsRejected("x <Script")).isTrue();
+            assertThat(scanner.containsRejected("plain")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject patterns left in the output only")
+        void shouldRejectOutput() {
+            // Given
+            InputScanner scanner = InputScanner.builder()
+                .removeTags()
+                .remove("script")
+                .removeControlCharacters()
+                .reject("script", "eval(")
+                .rejectOnOutput()
+                .build();
+
+            // When / Then
+            assertThat(scanner.scan("My script event").getText()).isEqualTo("My  event");
+            assertThat(scanner.scan("<b>eval(</b>").isRejected()).isTrue();
+            assertThat(scanner.scan("<eval(>ok").getText()).isEqualTo("ok");
+            assertThat(scanner.scan("ev\u0000al(").isRejected()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not accept non-ASCII patterns")
+        void shouldRejectNonAsciiPatterns() {
+            assertThatThrownBy(() -> InputScanner.builder().reject("é").build())
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.swiftevents.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    private long now;
+    private RateLimiter<String> limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000_000L;
+        // 5 permits per second, one refilled every 200 ms
+        limiter = new RateLimiter<>(5, 1000, () -> now);
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    @DisplayName("Should allow a full burst and then refuse")
+    void shouldAllowBurstThenRefuse() {
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("alice")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("alice")).isFalse();
+        assertThat(limiter.tryAcquire("bob")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should refill one permit per share of the window")
+    void shouldRefillSteadily() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice");
+        }
+
+        // When
+        advanceMillis(199);
+        boolean early = limiter.tryAcquire("alice");
+        advanceMillis(1);
+        boolean onTime = limiter.tryAcquire("alice");
+
+        // Then
+        assertThat(early).isFalse();
+        assertThat(onTime).isTrue();
+        assertThat(limiter.tryAcquire("alice")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report how long until the next permit")
+    void shouldReportRetryAfter() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice");
+        }
+        advanceMillis(50);
+
+        // When / Then
+        assertThat(limiter.getRetryAfterMillis("alice")).isEqualTo(150);
+        assertThat(limiter.getRetryAfterMillis("bob")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop keys whose bucket has refilled")
+    void shouldSweepIdleKeys() {
+        // Given
+        limiter.tryAcquire("alice");
+        limiter.tryAcquire("bob");
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // When - both idle past a sweep interval, then any key on each stripe is checked
+        advanceMillis(TimeUnit.SECONDS.toMillis(31));
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("player-" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            limiter.reset("player-" + i);
+        }
+
+        // Then
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give a key its permits back on reset")
+    void shouldResetKey() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice");
+        }
+
+        // When
+        limiter.reset("alice");
+
+        // Then
+        assertThat(limiter.tryAcquire("alice")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject limits without permits or window")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new RateLimiter<String>(0, 1000))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter<String>(1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}